@@ -0,0 +1,78 @@
+package com.example.taskmanagerproject.benchmarks;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.utils.kafka.BinaryEventDeserializer;
+import com.example.taskmanagerproject.utils.kafka.BinaryEventSerializer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Compares the binary event format with the JSON format previously used for achievement events.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializationBenchmark {
+
+  private static final String TOPIC = "achievement-topic";
+
+  private final KafkaTaskCompletionDto event = new KafkaTaskCompletionDto(98765L, 12345L, 5678L, 91011L, UUID.randomUUID());
+
+  private BinaryEventSerializer binarySerializer;
+  private BinaryEventDeserializer binaryDeserializer;
+  private JsonSerializer<KafkaTaskCompletionDto> jsonSerializer;
+  private JsonDeserializer<KafkaTaskCompletionDto> jsonDeserializer;
+
+  private byte[] binaryPayload;
+  private byte[] jsonPayload;
+
+  @Setup
+  public void setUp() {
+    binarySerializer = new BinaryEventSerializer();
+    binaryDeserializer = new BinaryEventDeserializer();
+    jsonSerializer = new JsonSerializer<>();
+    jsonDeserializer = new JsonDeserializer<>(KafkaTaskCompletionDto.class, false);
+
+    binaryPayload = binarySerializer.serialize(TOPIC, event);
+    jsonPayload = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+  }
+
+  @TearDown
+  public void tearDown() {
+    binaryDeserializer.close();
+    jsonDeserializer.close();
+    jsonSerializer.close();
+  }
+
+  @Benchmark
+  public byte[] serializeBinary() {
+    return binarySerializer.serialize(TOPIC, event);
+  }
+
+  @Benchmark
+  public byte[] serializeJson() {
+    return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+  }
+
+  @Benchmark
+  public Object deserializeBinary() {
+    return binaryDeserializer.deserialize(TOPIC, binaryPayload);
+  }
+
+  @Benchmark
+  public Object deserializeJson() {
+    return jsonDeserializer.deserialize(TOPIC, jsonPayload);
+  }
+}
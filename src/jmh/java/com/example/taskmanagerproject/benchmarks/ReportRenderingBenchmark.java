@@ -0,0 +1,121 @@
+package com.example.taskmanagerproject.benchmarks;
+
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.PROJECT_PERFORMANCE;
+import static org.jsoup.nodes.Document.OutputSettings.Syntax.xml;
+import static org.jsoup.nodes.Entities.EscapeMode.xhtml;
+
+import com.example.taskmanagerproject.configurations.minio.MinioProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportAssetProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportRenderingProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportTemplateProperties;
+import com.example.taskmanagerproject.utils.factories.PdfGenerationFactory;
+import com.example.taskmanagerproject.utils.reports.ReportAssetResolver;
+import com.example.taskmanagerproject.utils.reports.ReportRendererPool;
+import com.example.taskmanagerproject.utils.reports.ReportStylesheets;
+import com.example.taskmanagerproject.utils.reports.ReportTemplate;
+import com.example.taskmanagerproject.utils.reports.ReportTemplateRegistry;
+import com.example.taskmanagerproject.utils.reports.ReportUserAgent;
+import com.lowagie.text.DocumentException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioClient;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.xhtmlrenderer.layout.SharedContext;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+/**
+ * Compares rendering a project report with a new renderer and embedded CSS per report, as reports
+ * were rendered before, with the renderer pool and its linked, once-parsed template stylesheets.
+ * The per-report baseline is rebuilt here, since production only renders through the pool.
+ * The member rows carry no images, so no asset is fetched while measuring.
+ * Run with {@code ./gradlew jmh}; the GC profiler reports the allocation per report as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportRenderingBenchmark {
+
+  private static final int MEMBERS = 20;
+
+  private ReportAssetResolver assetResolver;
+  private ReportRendererPool rendererPool;
+  private String embeddedCssHtml;
+  private String linkedCssHtml;
+
+  @Setup
+  public void setUp() {
+    MinioProperties minioProperties = new MinioProperties();
+    minioProperties.setBucket("images");
+    MinioClient minioClient = MinioClient.builder().endpoint("http://localhost:9000").build();
+    assetResolver = new ReportAssetResolver(minioClient, minioProperties, new ReportAssetProperties());
+
+    ReportStylesheets stylesheets = new ReportStylesheets();
+    var registry = new ReportTemplateRegistry(new ReportTemplateProperties(), new SimpleMeterRegistry(), stylesheets);
+    rendererPool = new ReportRendererPool(assetResolver, stylesheets, new ReportRenderingProperties(), new SimpleMeterRegistry());
+
+    Map<String, String> values = Map.of(
+        "startDate", "01 Jan 2025",
+        "endDate", "31 Dec 2025",
+        "projectName", "Project Alpha",
+        "project_data", memberRows()
+    );
+    String source = PdfGenerationFactory.loadTemplate(PROJECT_PERFORMANCE.getPath());
+    embeddedCssHtml = ReportTemplate.compile(PROJECT_PERFORMANCE.getPath(), source).render(values);
+    linkedCssHtml = registry.get(PROJECT_PERFORMANCE).render(values);
+  }
+
+  @Benchmark
+  public byte[] rendererPerReport() throws DocumentException {
+    Document document = Jsoup.parse(embeddedCssHtml);
+    document.outputSettings().syntax(xml);
+    document.outputSettings().escapeMode(xhtml);
+
+    ITextRenderer renderer = new ITextRenderer();
+    SharedContext sharedContext = renderer.getSharedContext();
+    PdfGenerationFactory.installUserAgent(renderer,
+        new ReportUserAgent(renderer.getOutputDevice(), sharedContext.getDotsPerPixel(), assetResolver, null));
+    renderer.setDocumentFromString(document.html());
+    renderer.layout();
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    renderer.createPDF(outputStream);
+    return outputStream.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] pooledRenderer() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    rendererPool.writePdf(linkedCssHtml, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static String memberRows() {
+    StringBuilder rows = new StringBuilder();
+    for (int member = 1; member <= MEMBERS; member++) {
+      rows.append("""
+          <tr>
+              <td><strong>Member %d</strong></td>
+              <td>
+                  <div class="metric"><strong>Completed Tasks:</strong> %d/40</div>
+                  <div class="metric"><strong>On-Time Deliveries:</strong> %d/%d</div>
+              </td>
+              <td>
+                  <div class="metric"><strong>Total Defects:</strong> 2/5</div>
+                  <div class="metric"><strong>Key Achievements:</strong> 3</div>
+              </td>
+          </tr>
+          """.formatted(member, member + 10, member, member + 10));
+    }
+    return rows.toString();
+  }
+}
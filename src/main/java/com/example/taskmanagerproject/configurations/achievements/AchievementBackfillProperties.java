@@ -0,0 +1,17 @@
+package com.example.taskmanagerproject.configurations.achievements;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the achievement backfill job.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "achievement.backfill")
+public class AchievementBackfillProperties {
+
+  private int fetchSize = 1000;
+  private int checkpointInterval = 200;
+}
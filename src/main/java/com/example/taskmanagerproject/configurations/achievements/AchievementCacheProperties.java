@@ -0,0 +1,16 @@
+package com.example.taskmanagerproject.configurations.achievements;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the in-memory achievement caches.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "achievement.cache")
+public class AchievementCacheProperties {
+
+  private int maxCachedUsers = 10_000;
+}
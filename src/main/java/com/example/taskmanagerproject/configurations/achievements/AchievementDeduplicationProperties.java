@@ -0,0 +1,19 @@
+package com.example.taskmanagerproject.configurations.achievements;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for dropping redelivered achievement events.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "achievement.deduplication")
+public class AchievementDeduplicationProperties {
+
+  private int maxCachedEvents = 100_000;
+  private Duration retention = Duration.ofDays(7);
+  private Duration cleanupInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagerproject.configurations.achievements;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for achievement rule evaluation.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "achievement.evaluation")
+public class AchievementEvaluationProperties {
+
+  private boolean parallel = false;
+  private boolean virtualThreads = true;
+  private int maxConcurrency = 8;
+  private Duration timeout = Duration.ofSeconds(10);
+}
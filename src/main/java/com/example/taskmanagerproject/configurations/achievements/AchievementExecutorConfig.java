@@ -0,0 +1,52 @@
+package com.example.taskmanagerproject.configurations.achievements;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Configuration class for the executor that loads achievement data in parallel.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AchievementExecutorConfig {
+
+  public static final String ACHIEVEMENT_RULE_EXECUTOR = "achievementRuleExecutor";
+
+  private final AchievementEvaluationProperties evaluationProperties;
+
+  /**
+   * Creates the executor for achievement data. Virtual threads are used when the running JDK
+   * supports them, otherwise a platform pool limited to the configured concurrency is created.
+   *
+   * @return An ExecutorService for loading achievement data.
+   */
+  @Bean(name = ACHIEVEMENT_RULE_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService achievementRuleExecutor() {
+    if (evaluationProperties.isVirtualThreads()) {
+      Optional<ExecutorService> virtualExecutor = virtualThreadExecutor();
+      if (virtualExecutor.isPresent()) {
+        log.info("Loading achievement data on virtual threads.");
+        return virtualExecutor.get();
+      }
+    }
+    log.info("Loading achievement data on {} platform threads.", evaluationProperties.getMaxConcurrency());
+    return Executors.newFixedThreadPool(
+      evaluationProperties.getMaxConcurrency(), new CustomizableThreadFactory("achievement-rule-")
+    );
+  }
+
+  private static Optional<ExecutorService> virtualThreadExecutor() {
+    try {
+      return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+    } catch (ReflectiveOperationException e) {
+      return Optional.empty();
+    }
+  }
+}
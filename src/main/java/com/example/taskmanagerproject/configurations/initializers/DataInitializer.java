@@ -2,9 +2,14 @@ package com.example.taskmanagerproject.configurations.initializers;
 
 import static java.util.stream.IntStream.range;
 
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
 import com.example.taskmanagerproject.entities.projects.Project;
 import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.users.User;
+import com.example.taskmanagerproject.services.AchievementBackfillService;
+import com.example.taskmanagerproject.services.AchievementStatsService;
+import com.example.taskmanagerproject.services.TaskDailyStatsService;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -29,6 +34,9 @@ public class DataInitializer {
   private final ImageGeneratorService imageGeneratorService;
   private final ProjectGeneratorService projectGeneratorService;
   private final TaskStatusGeneratorService taskStatusGeneratorService;
+  private final AchievementStatsService achievementStatsService;
+  private final AchievementBackfillService achievementBackfillService;
+  private final TaskDailyStatsService taskDailyStatsService;
 
   /**
    * Updates task statuses for all users and generates images for them.
@@ -42,10 +50,45 @@ public class DataInitializer {
 
   /**
    * Generates achievements for users.
+   * Achievement statistics are rebuilt first, since generated tasks bypass the incremental counters.
    */
   public void generateAchievementsForUsers() {
-    int achievementsGenerated = taskStatusGeneratorService.generateAchievementsForUser();
-    log.info("Generated achievements for {} users.", achievementsGenerated);
+    rebuildAchievementStats();
+    backfillAchievements(false);
+  }
+
+  /**
+   * Recomputes achievements for all users from their approved tasks.
+   *
+   * @param resume whether to continue an incomplete previous run
+   */
+  public void backfillAchievements(boolean resume) {
+    AchievementBackfillProgress progress = achievementBackfillService.backfillAchievements(resume);
+    log.info("Awarded {} achievements across {} user, team and project combinations.",
+        progress.achievementsAwarded(), progress.groupsProcessed());
+  }
+
+  /**
+   * Returns the progress of the current or last achievement backfill.
+   *
+   * @return the progress, or an empty optional if the backfill never ran
+   */
+  public Optional<AchievementBackfillProgress> getAchievementBackfillProgress() {
+    return achievementBackfillService.getProgress();
+  }
+
+  /**
+   * Recomputes achievement statistics for all users from the approved tasks.
+   */
+  public void rebuildAchievementStats() {
+    achievementStatsService.rebuildStats();
+  }
+
+  /**
+   * Recomputes the daily task statistics read by the reports from the tasks and comments.
+   */
+  public void rebuildTaskDailyStats() {
+    taskDailyStatsService.rebuildStats();
   }
 
   /**
@@ -5,7 +5,6 @@ import static com.example.taskmanagerproject.entities.tasks.TaskStatus.ASSIGNED;
 import static com.example.taskmanagerproject.entities.tasks.TaskStatus.IN_PROGRESS;
 import static java.lang.Math.min;
 
-import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
 import com.example.taskmanagerproject.entities.tasks.Task;
 import com.example.taskmanagerproject.entities.tasks.TaskHistory;
 import com.example.taskmanagerproject.repositories.TaskHistoryRepository;
@@ -16,18 +15,15 @@ import java.util.List;
 import java.util.Random;
 import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 /**
- * Service for handling task status updates and generates achievement events for users.
+ * Service for handling task status updates and task history dates of generated tasks.
  */
 @Service
 @RequiredArgsConstructor
 public class TaskStatusGeneratorService {
 
-  private static final String ACHIEVEMENT_TOPIC = "achievement-topic";
-
   private static final Random RANDOM = new Random();
   private static final int MIN_EXPIRATION_DAYS = -3;
   private static final int MAX_EXPIRATION_DAYS = 3;
@@ -36,7 +32,6 @@ public class TaskStatusGeneratorService {
 
   private final TaskRepository taskRepository;
   private final TaskHistoryRepository taskHistoryRepository;
-  private final KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
 
   /**
    * Changes the status of tasks to APPROVED for tasks with even IDs and not in approved, assigned,
@@ -58,19 +53,6 @@ public class TaskStatusGeneratorService {
     return tasksToApprove.size();
   }
 
-  /**
-   * Generates achievement events for users based on approved tasks.
-   *
-   * @return the number of tasks for which achievements were generated
-   */
-  public int generateAchievementsForUser() {
-    List<Task> tasks = taskRepository.findRandomApprovedTasksForUserByTeamAndProject();
-    tasks.stream()
-      .map(this::toKafkaDto)
-        .forEach(taskDto -> kafkaTemplate.send(ACHIEVEMENT_TOPIC, taskDto));
-    return tasks.size();
-  }
-
   /**
    * Updates task history with the approved timestamp for all tasks that were approved.
    *
@@ -88,15 +70,6 @@ public class TaskStatusGeneratorService {
     return updatedHistories.size();
   }
 
-  private KafkaTaskCompletionDto toKafkaDto(Task task) {
-    return new KafkaTaskCompletionDto(
-      task.getId(),
-      task.getAssignedTo().getId(),
-      task.getTeam().getId(),
-      task.getProject().getId()
-    );
-  }
-
   private LocalDateTime calculateApprovedAt(Task task) {
     LocalDateTime approvedAt = task.getExpirationDate().plusDays((long) RANDOM.nextInt(MAX_EXPIRATION_DAYS) + MIN_EXPIRATION_DAYS);
     return approvedAt.isBefore(task.getCreatedAt().plusMinutes(MIN_APPROVED_TIME_DIFFERENCE))
@@ -0,0 +1,81 @@
+package com.example.taskmanagerproject.configurations.kafka;
+
+import static org.apache.kafka.clients.consumer.ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.FETCH_MIN_BYTES_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.MAX_POLL_RECORDS_CONFIG;
+import static org.springframework.kafka.listener.ContainerProperties.AckMode.BATCH;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+/**
+ * Configuration class for Kafka consumers.
+ *
+ * <p>Defines the batch listener container used for achievement events and the
+ * record listener container used to retry failed achievement evaluations.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class KafkaConsumerConfig {
+
+  public static final String ACHIEVEMENT_BATCH_FACTORY = "achievementBatchListenerContainerFactory";
+  public static final String ACHIEVEMENT_RETRY_FACTORY = "achievementRetryListenerContainerFactory";
+
+  private final KafkaProperties kafkaProperties;
+  private final KafkaConsumerProperties consumerProperties;
+  private final KafkaTopicProperties topicProperties;
+
+  /**
+   * Creates a consumer factory for achievement events that polls up to the configured batch size,
+   * waiting at most the configured time for a batch to fill.
+   *
+   * @return A ConsumerFactory for task completion events.
+   */
+  @Bean
+  public ConsumerFactory<String, KafkaTaskCompletionDto> achievementConsumerFactory() {
+    Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+    props.put(MAX_POLL_RECORDS_CONFIG, consumerProperties.getBatchSize());
+    props.put(FETCH_MAX_WAIT_MS_CONFIG, (int) consumerProperties.getMaxWait().toMillis());
+    props.put(FETCH_MIN_BYTES_CONFIG, consumerProperties.getMinBatchBytes());
+    return new DefaultKafkaConsumerFactory<>(props);
+  }
+
+  /**
+   * Creates a batch listener container factory whose offsets are committed once per processed batch.
+   * Runs one listener thread per partition unless configured otherwise; since events are keyed by user,
+   * all events of a user are consumed in order by a single thread.
+   *
+   * @return A listener container factory for achievement events.
+   */
+  @Bean(ACHIEVEMENT_BATCH_FACTORY)
+  public ConcurrentKafkaListenerContainerFactory<String, KafkaTaskCompletionDto> achievementBatchListenerContainerFactory() {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, KafkaTaskCompletionDto>();
+    factory.setConsumerFactory(achievementConsumerFactory());
+    factory.setBatchListener(true);
+    factory.setConcurrency(consumerProperties.getConcurrency() != null
+        ? consumerProperties.getConcurrency()
+        : topicProperties.getPartitions());
+    factory.getContainerProperties().setAckMode(BATCH);
+    return factory;
+  }
+
+  /**
+   * Creates a record listener container factory for the retry and dead-letter topics of achievement events.
+   * Retried events are rare, so a single listener thread is used.
+   *
+   * @return A listener container factory for retried achievement events.
+   */
+  @Bean(ACHIEVEMENT_RETRY_FACTORY)
+  public ConcurrentKafkaListenerContainerFactory<String, KafkaTaskCompletionDto> achievementRetryListenerContainerFactory() {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, KafkaTaskCompletionDto>();
+    factory.setConsumerFactory(achievementConsumerFactory());
+    return factory;
+  }
+}
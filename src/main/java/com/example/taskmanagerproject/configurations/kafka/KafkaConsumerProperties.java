@@ -0,0 +1,24 @@
+package com.example.taskmanagerproject.configurations.kafka;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the batch achievement event consumer.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.achievement.consumer")
+public class KafkaConsumerProperties {
+
+  private int batchSize = 500;
+  private Duration maxWait = Duration.ofMillis(500);
+  private int minBatchBytes = 1;
+
+  /**
+   * Number of listener threads per node; defaults to the number of topic partitions when not set.
+   */
+  private Integer concurrency;
+}
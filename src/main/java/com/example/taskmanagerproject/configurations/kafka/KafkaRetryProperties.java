@@ -0,0 +1,25 @@
+package com.example.taskmanagerproject.configurations.kafka;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for retrying failed achievement evaluations and re-driving the dead-letter topic.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.achievement.retry")
+public class KafkaRetryProperties {
+
+  /**
+   * Number of evaluations on the retry topics, including the first one, before an event is dead-lettered.
+   */
+  private int attempts = 4;
+  private Duration initialDelay = Duration.ofSeconds(1);
+  private double multiplier = 2.0;
+  private Duration maxDelay = Duration.ofMinutes(1);
+  private Duration sendTimeout = Duration.ofSeconds(10);
+  private Duration redrivePollTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagerproject.configurations.kafka;
+
+import static com.example.taskmanagerproject.configurations.kafka.KafkaConsumerConfig.ACHIEVEMENT_RETRY_FACTORY;
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.ACHIEVEMENT_RETRY_TOPIC;
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.DLT_SUFFIX;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+
+/**
+ * Configuration class for the non-blocking retries of achievement evaluations.
+ *
+ * <p>Events whose evaluation failed are forwarded to the retry topic. From there they are retried
+ * on delayed topics with exponential backoff and finally published to the dead-letter topic, so a
+ * failing user never blocks the partitions of the main topic.
+ */
+@Configuration
+@EnableKafkaRetryTopic
+@RequiredArgsConstructor
+public class KafkaRetryTopicConfig {
+
+  private final KafkaRetryProperties retryProperties;
+  private final KafkaTopicProperties topicProperties;
+
+  /**
+   * Creates the retry topic configuration of the achievement retry listener.
+   *
+   * @param kafkaTemplate The template used to forward events between the retry topics.
+   * @return The retry topic configuration.
+   */
+  @Bean
+  public RetryTopicConfiguration achievementRetryTopicConfiguration(KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate) {
+    return RetryTopicConfigurationBuilder.newInstance()
+      .includeTopic(ACHIEVEMENT_RETRY_TOPIC)
+      .maxAttempts(retryProperties.getAttempts())
+      .exponentialBackoff(
+        retryProperties.getInitialDelay().toMillis(),
+        retryProperties.getMultiplier(),
+        retryProperties.getMaxDelay().toMillis()
+      )
+      .retryTopicSuffix("-backoff")
+      .dltSuffix(DLT_SUFFIX)
+      .suffixTopicsWithIndexValues()
+      .autoCreateTopicsWith(topicProperties.getPartitions(), topicProperties.getReplicas())
+      .listenerFactory(ACHIEVEMENT_RETRY_FACTORY)
+      .dltHandlerMethod("achievementRetryConsumer", "handleDeadLetter")
+      .create(kafkaTemplate);
+  }
+}
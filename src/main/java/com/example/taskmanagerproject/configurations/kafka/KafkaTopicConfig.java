@@ -1,5 +1,6 @@
 package com.example.taskmanagerproject.configurations.kafka;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -12,18 +13,25 @@ import org.springframework.kafka.config.TopicBuilder;
  * <p>Defines the Kafka topics used in the application.
  */
 @Configuration
+@RequiredArgsConstructor
 public class KafkaTopicConfig {
 
   @Value("${spring.kafka.topic.name}")
   private String topic;
 
+  private final KafkaTopicProperties topicProperties;
+
   /**
-   * Creates a Kafka topic with the specified name.
+   * Creates a Kafka topic with the specified name and the configured number of partitions.
+   * Events are keyed by user, so the partition count bounds the parallelism of the consumers.
    *
    * @return A NewTopic instance representing the Kafka topic.
    */
   @Bean
   public NewTopic orderTopic() {
-    return TopicBuilder.name(topic).build();
+    return TopicBuilder.name(topic)
+      .partitions(topicProperties.getPartitions())
+      .replicas(topicProperties.getReplicas())
+      .build();
   }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.taskmanagerproject.configurations.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the achievement event topic.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kafka.achievement.topic")
+public class KafkaTopicProperties {
+
+  private int partitions = 6;
+  private short replicas = 1;
+}
@@ -0,0 +1,12 @@
+package com.example.taskmanagerproject.configurations.outbox;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling the scheduled outbox relay.
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+}
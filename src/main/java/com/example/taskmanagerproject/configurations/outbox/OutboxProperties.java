@@ -0,0 +1,24 @@
+package com.example.taskmanagerproject.configurations.outbox;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the outbox relay.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxProperties {
+
+  private boolean enabled = true;
+  private Duration interval = Duration.ofSeconds(1);
+  private int batchSize = 500;
+  private int maxBatchesPerRun = 20;
+  private Duration sendTimeout = Duration.ofSeconds(10);
+  private int maxAttempts = 10;
+  private Duration retryBackoff = Duration.ofSeconds(1);
+  private Duration maxRetryBackoff = Duration.ofMinutes(10);
+}
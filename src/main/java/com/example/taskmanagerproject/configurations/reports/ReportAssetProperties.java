@@ -0,0 +1,29 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the images embedded in generated reports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.assets")
+public class ReportAssetProperties {
+
+  /**
+   * URL prefix of user images in the report HTML; the rest of the URL is the MinIO object name.
+   */
+  private String minioUrlPrefix = "http://minio:9000/images/";
+  private DataSize maxCachedBytes = DataSize.ofMegabytes(16);
+  private int maxCachedImages = 256;
+  private Duration fetchTimeout = Duration.ofSeconds(5);
+
+  /**
+   * How long a URL that could not be loaded is answered as missing before it is tried again.
+   */
+  private Duration failureTtl = Duration.ofMinutes(1);
+}
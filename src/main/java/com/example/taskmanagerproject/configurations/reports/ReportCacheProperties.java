@@ -0,0 +1,21 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the cache of rendered reports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.cache")
+public class ReportCacheProperties {
+
+  private boolean enabled = true;
+  private DataSize maxCachedBytes = DataSize.ofMegabytes(64);
+  private int maxCachedReports = 256;
+  private Duration renderWaitTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Configuration class for the worker pool that renders the reports of bulk exports.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReportExportExecutorConfig {
+
+  public static final String REPORT_EXPORT_EXECUTOR = "reportExportExecutor";
+
+  private final ReportExportProperties exportProperties;
+
+  /**
+   * Creates a fixed pool of export workers in front of a bounded queue.
+   * When the queue is full the exporting request renders the report itself, which slows it down
+   * instead of failing an export that is already streaming.
+   *
+   * @return A ThreadPoolExecutor for bulk exports.
+   */
+  @Bean(name = REPORT_EXPORT_EXECUTOR, destroyMethod = "shutdown")
+  public ThreadPoolExecutor reportExportExecutor() {
+    return new ThreadPoolExecutor(
+      exportProperties.getWorkers(), exportProperties.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(exportProperties.getQueueCapacity()),
+      new CustomizableThreadFactory("report-export-"),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+  }
+}
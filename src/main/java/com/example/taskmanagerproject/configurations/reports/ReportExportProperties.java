@@ -0,0 +1,17 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk report exports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.export")
+public class ReportExportProperties {
+
+  private int workers = 4;
+  private int queueCapacity = 100;
+}
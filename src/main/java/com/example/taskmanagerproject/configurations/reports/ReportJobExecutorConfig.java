@@ -0,0 +1,54 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Configuration class for the worker pools that render asynchronous report jobs and upload their PDFs.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReportJobExecutorConfig {
+
+  public static final String REPORT_JOB_EXECUTOR = "reportJobExecutor";
+  public static final String REPORT_UPLOAD_EXECUTOR = "reportUploadExecutor";
+
+  private final ReportJobProperties jobProperties;
+
+  /**
+   * Creates a fixed pool of report workers in front of a bounded queue.
+   * Submissions beyond the queue capacity are rejected instead of piling up.
+   *
+   * @return A ThreadPoolExecutor for report jobs.
+   */
+  @Bean(name = REPORT_JOB_EXECUTOR, destroyMethod = "shutdown")
+  public ThreadPoolExecutor reportJobExecutor() {
+    return new ThreadPoolExecutor(
+      jobProperties.getWorkers(), jobProperties.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(jobProperties.getQueueCapacity()),
+      new CustomizableThreadFactory("report-job-"),
+      new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  /**
+   * Creates one uploader per report worker, each storing the PDF its worker renders while it is rendered.
+   * As every worker uploads at most one PDF at a time, uploads never wait for a free uploader.
+   *
+   * @return A ThreadPoolExecutor for report uploads.
+   */
+  @Bean(name = REPORT_UPLOAD_EXECUTOR, destroyMethod = "shutdown")
+  public ThreadPoolExecutor reportUploadExecutor() {
+    return new ThreadPoolExecutor(
+      jobProperties.getWorkers(), jobProperties.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(),
+      new CustomizableThreadFactory("report-upload-")
+    );
+  }
+}
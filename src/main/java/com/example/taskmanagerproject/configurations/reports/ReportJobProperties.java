@@ -0,0 +1,22 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for asynchronous report generation jobs.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.jobs")
+public class ReportJobProperties {
+
+  private int workers = 2;
+  private int queueCapacity = 50;
+  private String objectPrefix = "reports/";
+  private Duration resultTtl = Duration.ofHours(1);
+  private Duration jobTimeout = Duration.ofMinutes(15);
+  private Duration cleanupInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for machine-readable report metrics exports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.metrics")
+public class ReportMetricsProperties {
+
+  private int fetchSize = 500;
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the pool of PDF renderers.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.rendering")
+public class ReportRenderingProperties {
+
+  /**
+   * Maximum number of idle renderers kept for reuse; busier periods create extra renderers that are discarded after use.
+   */
+  private int poolSize = 4;
+
+  /**
+   * Directory of TrueType fonts registered with every renderer when it is created, or empty for the built-in PDF fonts.
+   */
+  private String fontDirectory;
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagerproject.configurations.reports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the report template registry.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "report.templates")
+public class ReportTemplateProperties {
+
+  /**
+   * Directory whose template files override the packaged ones and are reloaded when they change.
+   * Meant for development; leave empty to serve the templates loaded at startup only.
+   */
+  private String reloadDirectory;
+}
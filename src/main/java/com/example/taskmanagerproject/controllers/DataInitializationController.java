@@ -1,33 +1,53 @@
 package com.example.taskmanagerproject.controllers;
 
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_BACKFILL_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_BACKFILL_SUCCESS_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_DLT_REDRIVE_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_DLT_REDRIVE_SUCCESS_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_STATS_REBUILD_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_STATS_REBUILD_SUCCESS_MESSAGE;
 import static com.example.taskmanagerproject.utils.MessageUtil.DATA_INITIALIZATION_FAIL_MESSAGE;
 import static com.example.taskmanagerproject.utils.MessageUtil.DATA_INITIALIZATION_SUCCESS_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.TASK_DAILY_STATS_REBUILD_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.TASK_DAILY_STATS_REBUILD_SUCCESS_MESSAGE;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.OK;
 
 import com.example.taskmanagerproject.configurations.initializers.DataInitializer;
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
 import com.example.taskmanagerproject.exceptions.errorhandling.ErrorDetails;
+import com.example.taskmanagerproject.services.AchievementRetryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Controller responsible for handling data initialization operations.
  */
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v2/data-initialization")
 @Tag(name = "Data Initialization Controller", description = "Endpoints for user data initialization")
 public class DataInitializationController {
 
+  private static final int MAX_REDRIVE_BATCH_SIZE = 1000;
+
   private final DataInitializer dataInitializer;
+  private final AchievementRetryService achievementRetryService;
 
   /**
    * Initializes all necessary data (roles, users, projects) in the database.
@@ -58,4 +78,142 @@ public class DataInitializationController {
       return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(DATA_INITIALIZATION_FAIL_MESSAGE);
     }
   }
+
+  /**
+   * Recomputes achievement statistics for all users from the approved tasks.
+   *
+   * @return a message indicating the success or failure of the rebuild.
+   */
+  @PostMapping("/rebuild-achievement-stats")
+  @Operation(
+      summary = "Rebuild Achievement Statistics",
+      description = "Recomputes the per-user achievement counters from the approved tasks",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Achievement statistics rebuilt successfully",
+          content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<String> rebuildAchievementStats() {
+    try {
+      dataInitializer.rebuildAchievementStats();
+      return ResponseEntity.status(OK).body(ACHIEVEMENT_STATS_REBUILD_SUCCESS_MESSAGE);
+    } catch (Exception e) {
+      return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(ACHIEVEMENT_STATS_REBUILD_FAIL_MESSAGE);
+    }
+  }
+
+  /**
+   * Recomputes the daily task statistics read by the reports from the tasks and comments.
+   *
+   * @return a message indicating the success or failure of the rebuild.
+   */
+  @PostMapping("/rebuild-task-daily-stats")
+  @Operation(
+      summary = "Rebuild Daily Task Statistics",
+      description = "Recomputes the per-day task counters the reports are built from",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Daily task statistics rebuilt successfully",
+          content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<String> rebuildTaskDailyStats() {
+    try {
+      dataInitializer.rebuildTaskDailyStats();
+      return ResponseEntity.status(OK).body(TASK_DAILY_STATS_REBUILD_SUCCESS_MESSAGE);
+    } catch (Exception e) {
+      return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(TASK_DAILY_STATS_REBUILD_FAIL_MESSAGE);
+    }
+  }
+
+  /**
+   * Recomputes achievements for all users by streaming their approved tasks.
+   *
+   * @param resume whether to continue an incomplete previous run instead of starting over.
+   * @return a message indicating the success or failure of the backfill.
+   */
+  @PostMapping("/backfill-achievements")
+  @Operation(
+      summary = "Backfill Achievements",
+      description = "Evaluates the achievement rules for every user, team and project from the approved tasks",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Achievements backfilled successfully",
+          content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<String> backfillAchievements(@RequestParam(defaultValue = "true") boolean resume) {
+    try {
+      dataInitializer.backfillAchievements(resume);
+      return ResponseEntity.status(OK).body(ACHIEVEMENT_BACKFILL_SUCCESS_MESSAGE);
+    } catch (Exception e) {
+      return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(ACHIEVEMENT_BACKFILL_FAIL_MESSAGE);
+    }
+  }
+
+  /**
+   * Retrieves the progress of the current or last achievement backfill.
+   *
+   * @return the backfill progress, or 404 if the backfill never ran.
+   */
+  @GetMapping("/backfill-achievements")
+  @Operation(
+      summary = "Get Achievement Backfill Progress",
+      description = "Returns the checkpoint of the current or last achievement backfill",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Backfill progress retrieved successfully",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = AchievementBackfillProgress.class))),
+        @ApiResponse(responseCode = "404", description = "The backfill never ran"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<AchievementBackfillProgress> getAchievementBackfillProgress() {
+    return dataInitializer.getAchievementBackfillProgress()
+      .map(ResponseEntity::ok)
+      .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Moves a batch of achievement events that exhausted their retries from the dead-letter topic
+   * back to the retry topic.
+   *
+   * @param batchSize the maximum number of events to re-drive, between 1 and 1000.
+   * @return a message with the number of re-driven events, or a failure message.
+   */
+  @PostMapping("/redrive-achievement-dlt")
+  @Operation(
+      summary = "Re-drive Achievement Dead Letters",
+      description = "Moves a batch of failed achievement events from the dead-letter topic back to the retry topic",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Achievement events re-driven successfully",
+          content = @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "400", description = "Batch size out of range",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<String> redriveAchievementDeadLetters(
+      @RequestParam(defaultValue = "100") @Min(1) @Max(MAX_REDRIVE_BATCH_SIZE) int batchSize
+  ) {
+    try {
+      int redriven = achievementRetryService.redriveDeadLetters(batchSize);
+      return ResponseEntity.status(OK).body(ACHIEVEMENT_DLT_REDRIVE_SUCCESS_MESSAGE + redriven);
+    } catch (Exception e) {
+      return ResponseEntity.status(INTERNAL_SERVER_ERROR).body(ACHIEVEMENT_DLT_REDRIVE_FAIL_MESSAGE);
+    }
+  }
 }
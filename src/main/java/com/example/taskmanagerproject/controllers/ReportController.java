@@ -1,7 +1,22 @@
 package com.example.taskmanagerproject.controllers;
 
+import static com.example.taskmanagerproject.dtos.reports.ReportType.PROJECT;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TASK_PROGRESS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TEAM;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TOP_PERFORMERS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.USER;
+
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import com.example.taskmanagerproject.dtos.reports.ReportDataVersion;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
 import com.example.taskmanagerproject.exceptions.errorhandling.ErrorDetails;
+import com.example.taskmanagerproject.services.ReportCacheService;
+import com.example.taskmanagerproject.services.ReportExportService;
+import com.example.taskmanagerproject.services.ReportMetricsService;
 import com.example.taskmanagerproject.services.ReportService;
+import com.example.taskmanagerproject.utils.reports.MetricsExport;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import com.example.taskmanagerproject.utils.reports.ReportArchive;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -9,8 +24,11 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.ZoneId;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,17 +36,26 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller responsible for handling report-related operations.
+ * Reports carry the data version of their project as ETag and Last-Modified, so clients polling
+ * a report receive 304 Not Modified until a task, comment or achievement of the project changes.
+ * Every report also offers its metrics as JSON, NDJSON or CSV under {@code /metrics}, for integrations
+ * that need the numbers rather than the document.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v2/reports")
-@Tag(name = "Report Controller", description = "Endpoints for generating reports in PDF format")
+@Tag(name = "Report Controller", description = "Endpoints for generating reports in PDF format and exporting their metrics")
 public class ReportController {
 
   private final ReportService reportService;
+  private final ReportCacheService reportCacheService;
+  private final ReportExportService reportExportService;
+  private final ReportMetricsService reportMetricsService;
 
   /**
    * Generates a PDF report containing the user's task details and performance
@@ -47,8 +74,9 @@ public class ReportController {
    * @param projectName The name of the project the user is associated with.
    * @param startDate   The start date of the report's date range (inclusive).
    * @param endDate     The end date of the report's date range (inclusive).
+   * @param webRequest  The current request, checked for conditional headers.
    *
-   * @return A {@link ResponseEntity} containing the generated PDF report.
+   * @return A {@link ResponseEntity} streaming the generated PDF report.
    */
   @GetMapping("/user")
   @PreAuthorize("@expressionService.canAccessUserReport(#username, #teamName)")
@@ -70,6 +98,7 @@ public class ReportController {
       responses = {
         @ApiResponse(responseCode = "200", description = "PDF report generated successfully",
           content = @Content(mediaType = "application/pdf")),
+        @ApiResponse(responseCode = "304", description = "PDF report unchanged since the version the client holds"),
         @ApiResponse(responseCode = "400", description = "Invalid input parameters",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized access",
@@ -82,15 +111,15 @@ public class ReportController {
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
       }
   )
-  public ResponseEntity<byte[]> generateUserReport(
+  public ResponseEntity<StreamingResponseBody> generateUserReport(
       @RequestParam String username,
       @RequestParam String teamName,
       @RequestParam String projectName,
       @RequestParam String startDate,
-      @RequestParam String endDate
+      @RequestParam String endDate,
+      WebRequest webRequest
   ) {
-    byte[] pdfData = reportService.buildUserReport(username, teamName, projectName, startDate, endDate);
-    return buildPdfResponse(pdfData, formatFileName("user_report", username, teamName, projectName, startDate, endDate));
+    return buildPdfResponse(new ReportRequest(USER, username, teamName, projectName, startDate, endDate), webRequest);
   }
 
   /**
@@ -100,7 +129,8 @@ public class ReportController {
    * @param projectName The name of the project associated with the team.
    * @param startDate The start date (inclusive) of the date range for which the report is generated.
    * @param endDate   The end date (inclusive) of the date range for which the report is generated.
-   * @return A {@link ResponseEntity} containing the generated PDF report.
+   * @param webRequest The current request, checked for conditional headers.
+   * @return A {@link ResponseEntity} streaming the generated PDF report.
    */
   @GetMapping("/team-report")
   @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
@@ -120,6 +150,7 @@ public class ReportController {
       responses = {
         @ApiResponse(responseCode = "200", description = "PDF report generated successfully",
           content = @Content(mediaType = "application/pdf")),
+        @ApiResponse(responseCode = "304", description = "PDF report unchanged since the version the client holds"),
         @ApiResponse(responseCode = "400", description = "Invalid input parameters",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized access",
@@ -132,14 +163,69 @@ public class ReportController {
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
       }
   )
-  public ResponseEntity<byte[]> generateTeamReport(
+  public ResponseEntity<StreamingResponseBody> generateTeamReport(
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      WebRequest webRequest
+  ) {
+    return buildPdfResponse(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate), webRequest);
+  }
+
+  /**
+   * Generates the user performance reports of every team member with tasks in the date range
+   * and streams them as a ZIP archive while they are rendered.
+   *
+   * @param teamName    The name of the team whose members' reports are generated.
+   * @param projectName The name of the project the team is associated with.
+   * @param startDate   The start date of the report's date range (inclusive).
+   * @param endDate     The end date of the report's date range (inclusive).
+   * @return A {@link ResponseEntity} streaming a ZIP archive with one PDF report per member.
+   */
+  @GetMapping("/team-report/members")
+  @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
+  @Operation(
+      summary = "Generate the PDF reports of all team members",
+      description = "Generates a user performance report for every member of the team and streams them as a ZIP archive",
+      parameters = {
+        @Parameter(name = "teamName", description = "The name of the team",
+          required = true, in = ParameterIn.QUERY, example = "Team Alpha"),
+        @Parameter(name = "projectName", description = "The name of the project the team is associated with",
+          required = true, in = ParameterIn.QUERY, example = "Project Alpha"),
+        @Parameter(name = "startDate", description = "The start date of the report's date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-01-01"),
+        @Parameter(name = "endDate", description = "The end date of the report's date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-12-31")
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "ZIP archive of PDF reports streamed successfully",
+          content = @Content(mediaType = "application/zip")),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Resource not found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> generateTeamMemberReports(
       @RequestParam String teamName,
       @RequestParam String projectName,
       @RequestParam String startDate,
       @RequestParam String endDate
   ) {
-    byte[] pdfData = reportService.buildTeamReport(teamName, projectName, startDate, endDate);
-    return buildPdfResponse(pdfData, formatFileName("team_report", teamName, projectName, startDate, endDate));
+    ReportArchive archive = reportExportService.buildTeamMemberReports(teamName, projectName, startDate, endDate);
+    String fileName = String.join("_", "team_member_reports", teamName, projectName, startDate, endDate)
+        .replaceAll("\\s+", "_") + ".zip";
+    return ResponseEntity.ok()
+      .header(HttpHeaders.CONTENT_TYPE, "application/zip")
+      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+      .body(archive::writeTo);
   }
 
   /**
@@ -148,7 +234,8 @@ public class ReportController {
    * @param projectName The name of the project for which the report is generated.
    * @param startDate   The start date (inclusive) of the date range for which the report is generated.
    * @param endDate     The end date (inclusive) of the date range for which the report is generated.
-   * @return A {@link ResponseEntity} containing the generated PDF report.
+   * @param webRequest  The current request, checked for conditional headers.
+   * @return A {@link ResponseEntity} streaming the generated PDF report.
    */
   @GetMapping("/project-report")
   @PreAuthorize("@expressionService.canAccessProjectReport(#projectName)")
@@ -166,6 +253,7 @@ public class ReportController {
       responses = {
           @ApiResponse(responseCode = "200", description = "PDF report generated successfully",
             content = @Content(mediaType = "application/pdf")),
+        @ApiResponse(responseCode = "304", description = "PDF report unchanged since the version the client holds"),
           @ApiResponse(responseCode = "400", description = "Invalid input parameters",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
           @ApiResponse(responseCode = "401", description = "Unauthorized access",
@@ -178,13 +266,13 @@ public class ReportController {
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
       }
   )
-  public ResponseEntity<byte[]> generateProjectReport(
+  public ResponseEntity<StreamingResponseBody> generateProjectReport(
       @RequestParam String projectName,
       @RequestParam String startDate,
-      @RequestParam String endDate
+      @RequestParam String endDate,
+      WebRequest webRequest
   ) {
-    byte[] pdfData = reportService.buildProjectReport(projectName, startDate, endDate);
-    return buildPdfResponse(pdfData, formatFileName("project_report", projectName, startDate, endDate));
+    return buildPdfResponse(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate), webRequest);
   }
 
   /**
@@ -193,7 +281,8 @@ public class ReportController {
    * @param teamName  The name of the team.
    * @param startDate The start date of the report's date range.
    * @param endDate   The end date of the report's date range.
-   * @return A {@link ResponseEntity} containing the generated PDF report.
+   * @param webRequest The current request, checked for conditional headers.
+   * @return A {@link ResponseEntity} streaming the generated PDF report.
    */
   @GetMapping("/top-performers")
   @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
@@ -213,6 +302,7 @@ public class ReportController {
       responses = {
         @ApiResponse(responseCode = "200", description = "PDF report generated successfully",
           content = @Content(mediaType = "application/pdf")),
+        @ApiResponse(responseCode = "304", description = "PDF report unchanged since the version the client holds"),
         @ApiResponse(responseCode = "400", description = "Invalid input parameters",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized access",
@@ -225,14 +315,14 @@ public class ReportController {
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
       }
   )
-  public ResponseEntity<byte[]> generateTopPerformersInTeamReport(
+  public ResponseEntity<StreamingResponseBody> generateTopPerformersInTeamReport(
       @RequestParam String teamName,
       @RequestParam String projectName,
       @RequestParam String startDate,
-      @RequestParam String endDate
+      @RequestParam String endDate,
+      WebRequest webRequest
   ) {
-    byte[] pdfData = reportService.buildTopPerformersInTeamReport(teamName, projectName, startDate, endDate);
-    return buildPdfResponse(pdfData, formatFileName("top_performers_report", teamName, projectName, startDate, endDate));
+    return buildPdfResponse(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate), webRequest);
   }
 
   /**
@@ -243,8 +333,9 @@ public class ReportController {
    * @param projectName The name of the project associated with the task progress.
    * @param startDate   The start date (inclusive) of the date range for which the report is generated.
    * @param endDate     The end date (inclusive) of the date range for which the report is generated.
+   * @param webRequest  The current request, checked for conditional headers.
    *
-   * @return A {@link ResponseEntity} containing the generated PDF report.
+   * @return A {@link ResponseEntity} streaming the generated PDF report.
    */
   @GetMapping("/task-progress")
   @PreAuthorize("@expressionService.canAccessUserReport(#username, #teamName)")
@@ -266,6 +357,7 @@ public class ReportController {
       responses = {
         @ApiResponse(responseCode = "200", description = "PDF report generated successfully",
           content = @Content(mediaType = "application/pdf")),
+        @ApiResponse(responseCode = "304", description = "PDF report unchanged since the version the client holds"),
         @ApiResponse(responseCode = "400", description = "Invalid input parameters",
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized access",
@@ -278,26 +370,308 @@ public class ReportController {
           content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
       }
   )
-  public ResponseEntity<byte[]> generateTaskProgressReport(
+  public ResponseEntity<StreamingResponseBody> generateTaskProgressReport(
       @RequestParam String username,
       @RequestParam String teamName,
       @RequestParam String projectName,
       @RequestParam String startDate,
-      @RequestParam String endDate
+      @RequestParam String endDate,
+      WebRequest webRequest
+  ) {
+    return buildPdfResponse(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate), webRequest);
+  }
+
+  /**
+   * Exports the metrics behind the user report, without rendering the PDF.
+   *
+   * @param username    The email address of the user the metrics are about.
+   * @param teamName    The name of the team.
+   * @param projectName The name of the project.
+   * @param startDate   The start date of the date range (inclusive).
+   * @param endDate     The end date of the date range (inclusive).
+   * @param format      The format of the metrics.
+   * @return A {@link ResponseEntity} streaming the metrics.
+   */
+  @GetMapping("/user/metrics")
+  @PreAuthorize("@expressionService.canAccessUserReport(#username, #teamName)")
+  @Operation(
+      summary = "Export the metrics of the user report",
+      description = "Streams the task metrics of a user as JSON, NDJSON or CSV",
+      parameters = {
+        @Parameter(name = "username", description = "The username of the user the metrics are about",
+          required = true, in = ParameterIn.QUERY, example = "alice12345@gmail.com"),
+        @Parameter(name = "teamName", description = "The name of the team",
+          required = true, in = ParameterIn.QUERY, example = "Team Alpha"),
+        @Parameter(name = "projectName", description = "The name of the project",
+          required = true, in = ParameterIn.QUERY, example = "Project Alpha"),
+        @Parameter(name = "startDate", description = "The start date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-01-01"),
+        @Parameter(name = "endDate", description = "The end date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-12-01"),
+        @Parameter(name = "format", description = "The format of the metrics: JSON, NDJSON or CSV",
+          in = ParameterIn.QUERY, example = "CSV")
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Metrics exported successfully",
+          content = {@Content(mediaType = "application/json"), @Content(mediaType = "application/x-ndjson"),
+            @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Resource not found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> generateUserMetrics(
+      @RequestParam String username,
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      @RequestParam(defaultValue = "JSON") MetricsFormat format
+  ) {
+    return buildMetricsResponse(new ReportRequest(USER, username, teamName, projectName, startDate, endDate), format);
+  }
+
+  /**
+   * Exports the metrics behind the team report, one row per team member, without rendering the PDF.
+   *
+   * @param teamName    The name of the team.
+   * @param projectName The name of the project.
+   * @param startDate   The start date of the date range (inclusive).
+   * @param endDate     The end date of the date range (inclusive).
+   * @param format      The format of the metrics.
+   * @return A {@link ResponseEntity} streaming the metrics.
+   */
+  @GetMapping("/team-report/metrics")
+  @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
+  @Operation(
+      summary = "Export the metrics of the team report",
+      description = "Streams the metrics of every team member as JSON, NDJSON or CSV",
+      parameters = {
+        @Parameter(name = "teamName", description = "The name of the team",
+          required = true, in = ParameterIn.QUERY, example = "Team Alpha"),
+        @Parameter(name = "projectName", description = "The name of the project",
+          required = true, in = ParameterIn.QUERY, example = "Project Alpha"),
+        @Parameter(name = "startDate", description = "The start date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-01-01"),
+        @Parameter(name = "endDate", description = "The end date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-12-01"),
+        @Parameter(name = "format", description = "The format of the metrics: JSON, NDJSON or CSV",
+          in = ParameterIn.QUERY, example = "CSV")
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Metrics exported successfully",
+          content = {@Content(mediaType = "application/json"), @Content(mediaType = "application/x-ndjson"),
+            @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Resource not found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> generateTeamMetrics(
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      @RequestParam(defaultValue = "JSON") MetricsFormat format
+  ) {
+    return buildMetricsResponse(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate), format);
+  }
+
+  /**
+   * Exports the metrics behind the project report, one row per team, without rendering the PDF.
+   *
+   * @param projectName The name of the project.
+   * @param startDate   The start date of the date range (inclusive).
+   * @param endDate     The end date of the date range (inclusive).
+   * @param format      The format of the metrics.
+   * @return A {@link ResponseEntity} streaming the metrics.
+   */
+  @GetMapping("/project-report/metrics")
+  @PreAuthorize("@expressionService.canAccessProjectReport(#projectName)")
+  @Operation(
+      summary = "Export the metrics of the project report",
+      description = "Streams the metrics of every team of a project as JSON, NDJSON or CSV",
+      parameters = {
+        @Parameter(name = "projectName", description = "The name of the project",
+          required = true, in = ParameterIn.QUERY, example = "Project Alpha"),
+        @Parameter(name = "startDate", description = "The start date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-01-01"),
+        @Parameter(name = "endDate", description = "The end date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-12-01"),
+        @Parameter(name = "format", description = "The format of the metrics: JSON, NDJSON or CSV",
+          in = ParameterIn.QUERY, example = "CSV")
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Metrics exported successfully",
+          content = {@Content(mediaType = "application/json"), @Content(mediaType = "application/x-ndjson"),
+            @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Resource not found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> generateProjectMetrics(
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      @RequestParam(defaultValue = "JSON") MetricsFormat format
+  ) {
+    return buildMetricsResponse(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate), format);
+  }
+
+  /**
+   * Exports the metrics behind the top performers report, without rendering the PDF.
+   *
+   * @param teamName    The name of the team.
+   * @param projectName The name of the project.
+   * @param startDate   The start date of the date range (inclusive).
+   * @param endDate     The end date of the date range (inclusive).
+   * @param format      The format of the metrics.
+   * @return A {@link ResponseEntity} streaming the metrics.
+   */
+  @GetMapping("/top-performers/metrics")
+  @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
+  @Operation(
+      summary = "Export the metrics of the top performers report",
+      description = "Streams the metrics of the top performers of a team as JSON, NDJSON or CSV",
+      parameters = {
+        @Parameter(name = "teamName", description = "The name of the team",
+          required = true, in = ParameterIn.QUERY, example = "Team Alpha"),
+        @Parameter(name = "projectName", description = "The name of the project",
+          required = true, in = ParameterIn.QUERY, example = "Project Alpha"),
+        @Parameter(name = "startDate", description = "The start date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-01-01"),
+        @Parameter(name = "endDate", description = "The end date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-12-01"),
+        @Parameter(name = "format", description = "The format of the metrics: JSON, NDJSON or CSV",
+          in = ParameterIn.QUERY, example = "CSV")
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Metrics exported successfully",
+          content = {@Content(mediaType = "application/json"), @Content(mediaType = "application/x-ndjson"),
+            @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Resource not found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> generateTopPerformersMetrics(
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      @RequestParam(defaultValue = "JSON") MetricsFormat format
   ) {
-    byte[] pdfData = reportService.buildTaskProgressReport(username, teamName, projectName, startDate, endDate);
-    return buildPdfResponse(pdfData, formatFileName("task_progress_report", username, teamName, projectName, startDate, endDate));
+    return buildMetricsResponse(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate), format);
   }
 
+  /**
+   * Exports the metrics behind the task progress report, one row per day, week or month, without rendering the PDF.
+   *
+   * @param username    The email address of the user the metrics are about.
+   * @param teamName    The name of the team.
+   * @param projectName The name of the project.
+   * @param startDate   The start date of the date range (inclusive).
+   * @param endDate     The end date of the date range (inclusive).
+   * @param format      The format of the metrics.
+   * @return A {@link ResponseEntity} streaming the metrics.
+   */
+  @GetMapping("/task-progress/metrics")
+  @PreAuthorize("@expressionService.canAccessUserReport(#username, #teamName)")
+  @Operation(
+      summary = "Export the metrics of the task progress report",
+      description = "Streams the completion rate series of a user as JSON, NDJSON or CSV",
+      parameters = {
+        @Parameter(name = "username", description = "The username of the user the metrics are about",
+          required = true, in = ParameterIn.QUERY, example = "alice12345@gmail.com"),
+        @Parameter(name = "teamName", description = "The name of the team",
+          required = true, in = ParameterIn.QUERY, example = "Team Alpha"),
+        @Parameter(name = "projectName", description = "The name of the project",
+          required = true, in = ParameterIn.QUERY, example = "Project Alpha"),
+        @Parameter(name = "startDate", description = "The start date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-01-01"),
+        @Parameter(name = "endDate", description = "The end date of the date range (inclusive)",
+          required = true, in = ParameterIn.QUERY, example = "2025-12-01"),
+        @Parameter(name = "format", description = "The format of the metrics: JSON, NDJSON or CSV",
+          in = ParameterIn.QUERY, example = "CSV")
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Metrics exported successfully",
+          content = {@Content(mediaType = "application/json"), @Content(mediaType = "application/x-ndjson"),
+            @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Invalid input parameters",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized access",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Resource not found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> generateTaskProgressMetrics(
+      @RequestParam String username,
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      @RequestParam(defaultValue = "JSON") MetricsFormat format
+  ) {
+    return buildMetricsResponse(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate), format);
+  }
+
+  /**
+   * Builds the response for a report. Reports of projects with a data version carry it as their
+   * ETag and Last-Modified date, are answered with 304 when the client already holds that version,
+   * and are otherwise served from the report cache.
+   */
+  private ResponseEntity<StreamingResponseBody> buildPdfResponse(ReportRequest request, WebRequest webRequest) {
+    Optional<ReportDataVersion> version = reportCacheService.findDataVersion(request);
+    if (version.isEmpty()) {
+      PdfReport report = reportService.buildReport(request);
+      return pdfResponse(ResponseEntity.ok(), request).body(report::writeTo);
+    }
+
+    String etag = version.get().etag();
+    long lastModified = version.get().updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).lastModified(lastModified).build();
+    }
+    PdfReport report = reportCacheService.getReport(request, version.get());
+    return pdfResponse(ResponseEntity.ok().eTag(etag).lastModified(lastModified), request).body(report::writeTo);
+  }
 
-  private ResponseEntity<byte[]> buildPdfResponse(byte[] pdfData, String fileName) {
+  private ResponseEntity<StreamingResponseBody> buildMetricsResponse(ReportRequest request, MetricsFormat format) {
+    MetricsExport export = reportMetricsService.buildMetricsExport(request, format);
     return ResponseEntity.ok()
-      .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE)
-      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-      .body(pdfData);
+      .header(HttpHeaders.CONTENT_TYPE, format.getMediaType())
+      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + request.fileName(format.getFileExtension()) + "\"")
+      .body(export::writeTo);
   }
 
-  private String formatFileName(String prefix, String... parts) {
-    return prefix + "_" + String.join("_", parts).replaceAll("\\s+", "_") + ".pdf";
+  private ResponseEntity.BodyBuilder pdfResponse(ResponseEntity.BodyBuilder builder, ReportRequest request) {
+    return builder
+      .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE)
+      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + request.fileName() + "\"");
   }
 }
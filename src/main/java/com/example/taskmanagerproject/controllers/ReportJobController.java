@@ -0,0 +1,217 @@
+package com.example.taskmanagerproject.controllers;
+
+import static com.example.taskmanagerproject.dtos.reports.ReportType.PROJECT;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TASK_PROGRESS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TEAM;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TOP_PERFORMERS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.USER;
+
+import com.example.taskmanagerproject.dtos.reports.ReportJobDto;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.exceptions.errorhandling.ErrorDetails;
+import com.example.taskmanagerproject.services.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controller for generating PDF reports asynchronously.
+ * Submitting a report returns a job that can be polled until its PDF is ready for download.
+ * Submissions require the same access as the synchronous endpoints of {@link ReportController}.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v2/reports/jobs")
+@Tag(name = "Report Job Controller", description = "Endpoints for generating PDF reports asynchronously")
+public class ReportJobController {
+
+  private final ReportJobService reportJobService;
+
+  /**
+   * Submits a user performance report for generation.
+   *
+   * @param username    The email address of the user for whom the report is generated.
+   * @param teamName    The name of the team the user belongs to.
+   * @param projectName The name of the project the user is associated with.
+   * @param startDate   The start date of the report's date range (inclusive).
+   * @param endDate     The end date of the report's date range (inclusive).
+   * @param principal   The authenticated user.
+   * @return The submitted job.
+   */
+  @PostMapping("/user")
+  @PreAuthorize("@expressionService.canAccessUserReport(#username, #teamName)")
+  @Operation(summary = "Submit a user report", description = "Queues a user performance report for generation")
+  public ResponseEntity<ReportJobDto> submitUserReport(
+      @RequestParam String username,
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      Principal principal
+  ) {
+    return submit(new ReportRequest(USER, username, teamName, projectName, startDate, endDate), principal);
+  }
+
+  /**
+   * Submits a team performance report for generation.
+   *
+   * @param teamName    The name of the team for which the report is generated.
+   * @param projectName The name of the project associated with the team.
+   * @param startDate   The start date of the report's date range (inclusive).
+   * @param endDate     The end date of the report's date range (inclusive).
+   * @param principal   The authenticated user.
+   * @return The submitted job.
+   */
+  @PostMapping("/team-report")
+  @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
+  @Operation(summary = "Submit a team report", description = "Queues a team performance report for generation")
+  public ResponseEntity<ReportJobDto> submitTeamReport(
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      Principal principal
+  ) {
+    return submit(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate), principal);
+  }
+
+  /**
+   * Submits a project performance report for generation.
+   *
+   * @param projectName The name of the project for which the report is generated.
+   * @param startDate   The start date of the report's date range (inclusive).
+   * @param endDate     The end date of the report's date range (inclusive).
+   * @param principal   The authenticated user.
+   * @return The submitted job.
+   */
+  @PostMapping("/project-report")
+  @PreAuthorize("@expressionService.canAccessProjectReport(#projectName)")
+  @Operation(summary = "Submit a project report", description = "Queues a project performance report for generation")
+  public ResponseEntity<ReportJobDto> submitProjectReport(
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      Principal principal
+  ) {
+    return submit(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate), principal);
+  }
+
+  /**
+   * Submits a top performers report for generation.
+   *
+   * @param teamName    The name of the team.
+   * @param projectName The name of the project associated with the team.
+   * @param startDate   The start date of the report's date range (inclusive).
+   * @param endDate     The end date of the report's date range (inclusive).
+   * @param principal   The authenticated user.
+   * @return The submitted job.
+   */
+  @PostMapping("/top-performers")
+  @PreAuthorize("@expressionService.canAccessTeamReport(#teamName)")
+  @Operation(summary = "Submit a top performers report", description = "Queues a top performers report for generation")
+  public ResponseEntity<ReportJobDto> submitTopPerformersReport(
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      Principal principal
+  ) {
+    return submit(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate), principal);
+  }
+
+  /**
+   * Submits a task progress report for generation.
+   *
+   * @param username    The email address of the user for whom the report is generated.
+   * @param teamName    The name of the team the user belongs to.
+   * @param projectName The name of the project associated with the task progress.
+   * @param startDate   The start date of the report's date range (inclusive).
+   * @param endDate     The end date of the report's date range (inclusive).
+   * @param principal   The authenticated user.
+   * @return The submitted job.
+   */
+  @PostMapping("/task-progress")
+  @PreAuthorize("@expressionService.canAccessUserReport(#username, #teamName)")
+  @Operation(summary = "Submit a task progress report", description = "Queues a task progress report for generation")
+  public ResponseEntity<ReportJobDto> submitTaskProgressReport(
+      @RequestParam String username,
+      @RequestParam String teamName,
+      @RequestParam String projectName,
+      @RequestParam String startDate,
+      @RequestParam String endDate,
+      Principal principal
+  ) {
+    return submit(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate), principal);
+  }
+
+  /**
+   * Retrieves the state of a report job submitted by the current user.
+   *
+   * @param jobId     The ID of the job.
+   * @param principal The authenticated user.
+   * @return The state of the job.
+   */
+  @GetMapping("/{jobId}")
+  @Operation(
+      summary = "Get a report job",
+      description = "Returns the state of a report job submitted by the current user",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Job found",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportJobDto.class))),
+        @ApiResponse(responseCode = "404", description = "Job not found or expired",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ReportJobDto getJob(@PathVariable UUID jobId, Principal principal) {
+    return reportJobService.getJob(jobId, principal.getName());
+  }
+
+  /**
+   * Downloads the PDF generated by a completed report job.
+   *
+   * @param jobId     The ID of the job.
+   * @param principal The authenticated user.
+   * @return A {@link ResponseEntity} streaming the generated PDF report.
+   */
+  @GetMapping("/{jobId}/download")
+  @Operation(
+      summary = "Download a report",
+      description = "Streams the PDF generated by a completed report job",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "PDF report streamed successfully",
+          content = @Content(mediaType = "application/pdf")),
+        @ApiResponse(responseCode = "400", description = "Job has not completed",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class))),
+        @ApiResponse(responseCode = "404", description = "Job not found or expired",
+          content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDetails.class)))
+      }
+  )
+  public ResponseEntity<StreamingResponseBody> downloadReport(@PathVariable UUID jobId, Principal principal) {
+    ReportJobDto job = reportJobService.getJob(jobId, principal.getName());
+    StreamingResponseBody body = reportJobService.getResult(jobId, principal.getName())::writeTo;
+    return ResponseEntity.ok()
+      .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE)
+      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.fileName() + "\"")
+      .body(body);
+  }
+
+  private ResponseEntity<ReportJobDto> submit(ReportRequest request, Principal principal) {
+    return ResponseEntity.accepted().body(reportJobService.submit(request, principal.getName()));
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagerproject.dtos.achievements;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object representing the checkpoint of the achievement backfill job.
+ */
+@Schema(description = "Progress of the achievement backfill job")
+public record AchievementBackfillProgress(
+
+    @Schema(description = "ID of the user of the last completed group", example = "42")
+    long lastUserId,
+
+    @Schema(description = "ID of the team of the last completed group", example = "3")
+    long lastTeamId,
+
+    @Schema(description = "ID of the project of the last completed group", example = "7")
+    long lastProjectId,
+
+    @Schema(description = "Number of user, team and project groups evaluated", example = "1200")
+    long groupsProcessed,
+
+    @Schema(description = "Number of achievements awarded by the job", example = "350")
+    long achievementsAwarded,
+
+    @Schema(description = "Time the job was started", example = "2025-03-14T12:00:00")
+    LocalDateTime startedAt,
+
+    @Schema(description = "Time of the last checkpoint", example = "2025-03-14T12:03:10")
+    LocalDateTime updatedAt,
+
+    @Schema(description = "Time the job completed, or null while it is incomplete", example = "2025-03-14T12:05:00")
+    LocalDateTime completedAt
+) {
+
+  /**
+   * Creates the progress of a job starting from the first group.
+   *
+   * @param startedAt The time the job is started.
+   * @return The initial progress.
+   */
+  public static AchievementBackfillProgress start(LocalDateTime startedAt) {
+    return new AchievementBackfillProgress(0, 0, 0, 0, 0, startedAt, startedAt, null);
+  }
+
+  /**
+   * Checks whether the job ran to the end.
+   *
+   * @return True if the job completed, otherwise false.
+   */
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+}
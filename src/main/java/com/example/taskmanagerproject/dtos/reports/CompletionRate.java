@@ -0,0 +1,11 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+import java.time.LocalDate;
+
+/**
+ * The task completion rate of a bucket of days that has tasks.
+ *
+ * @param bucket The first day of the bucket.
+ * @param rate   The percentage of approved tasks, rounded to two decimals.
+ */
+public record CompletionRate(LocalDate bucket, double rate) {}
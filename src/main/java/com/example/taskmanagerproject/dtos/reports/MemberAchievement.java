@@ -0,0 +1,11 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+
+/**
+ * An achievement earned by a member of a team.
+ *
+ * @param userId      The ID of the member.
+ * @param achievement The earned achievement.
+ */
+public record MemberAchievement(Long userId, Achievement achievement) {}
@@ -0,0 +1,36 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * Enumeration of the machine-readable formats report metrics can be exported in.
+ */
+public enum MetricsFormat {
+  JSON("application/json", "json"),
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv", "csv");
+
+  private final String mediaType;
+  private final String fileExtension;
+
+  MetricsFormat(String mediaType, String fileExtension) {
+    this.mediaType = mediaType;
+    this.fileExtension = fileExtension;
+  }
+
+  /**
+   * Returns the media type of exports in this format.
+   *
+   * @return The media type.
+   */
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Returns the file extension of exports in this format.
+   *
+   * @return The file extension, without the dot.
+   */
+  public String getFileExtension() {
+    return fileExtension;
+  }
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * One bar of a task progress chart.
+ *
+ * @param label              The label of the bucket, see {@link com.example.taskmanagerproject.utils.reports.SeriesGranularity#label}.
+ * @param taskCompletionRate The percentage of approved tasks, or zero if the bucket has no tasks.
+ */
+public record ProgressMetrics(String label, double taskCompletionRate) {}
@@ -0,0 +1,18 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * The metrics of a team working on a project.
+ *
+ * @param teamName               The name of the team.
+ * @param achievements           The number of achievements earned in the team and project.
+ * @param totalTasks             The number of tasks of the team.
+ * @param completedTasks         The number of approved tasks.
+ * @param onTimeTasks            The number of tasks approved before they expired.
+ * @param totalCriticalTasks     The number of critical tasks.
+ * @param criticalTasksCompleted The number of approved critical tasks.
+ * @param totalBugs              The number of tasks with comments, counted as bugs.
+ * @param bugsCompleted          The number of approved bugs.
+ */
+public record ProjectTeamMetrics(String teamName, long achievements, long totalTasks, long completedTasks,
+                                 long onTimeTasks, long totalCriticalTasks, long criticalTasksCompleted,
+                                 long totalBugs, long bugsCompleted) {}
@@ -0,0 +1,24 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the version of the data a project's reports are built from.
+ * The version grows with every write to the project's tasks, comments, achievements and team members.
+ *
+ * @param projectId The ID of the project.
+ * @param version   The change counter of the project's data.
+ * @param updatedAt When the project's data last changed.
+ */
+public record ReportDataVersion(long projectId, long version, LocalDateTime updatedAt) {
+
+  /**
+   * Returns the entity tag of reports built from this version of the data.
+   * The tag is weak, as rendering the same data twice does not produce byte-identical PDFs.
+   *
+   * @return The weak entity tag.
+   */
+  public String etag() {
+    return "W/\"" + projectId + "-" + version + "\"";
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Represents the state of an asynchronous report generation job.
+ */
+@Schema(description = "DTO representing the state of an asynchronous report generation job")
+public record ReportJobDto(
+
+    @Schema(description = "The unique identifier of the job.", example = "3f1c2a9e-7b4d-4c1e-9a6f-2d8b5e0c4a71")
+    UUID id,
+
+    @Schema(description = "The state of the job.", example = "COMPLETED")
+    ReportJobStatus status,
+
+    @Schema(description = "The type of the generated report.", example = "PROJECT")
+    ReportType type,
+
+    @Schema(description = "The file name of the generated PDF.", example = "project_report_Project_Alpha_2025-01-01_2025-12-31.pdf")
+    String fileName,
+
+    @Schema(description = "When the job was submitted.", example = "2025-06-01T10:15:30")
+    LocalDateTime submittedAt,
+
+    @Schema(description = "When the job completed or failed; empty while it is pending.", example = "2025-06-01T10:15:34")
+    LocalDateTime completedAt,
+
+    @Schema(description = "The reason the job failed; empty unless it failed.")
+    String error
+) {}
@@ -0,0 +1,11 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * Enumeration representing the state of an asynchronous report job.
+ */
+public enum ReportJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The parameters of a report. Parameters a report type does not use are null,
+ * so two requests for the same report are equal.
+ *
+ * @param type        The type of the report.
+ * @param username    The user the report is about, for user and task progress reports.
+ * @param teamName    The team of the report, except for project reports.
+ * @param projectName The project of the report.
+ * @param startDate   The start date of the report's date range.
+ * @param endDate     The end date of the report's date range.
+ */
+public record ReportRequest(
+    ReportType type,
+    String username,
+    String teamName,
+    String projectName,
+    String startDate,
+    String endDate
+) {
+
+  /**
+   * Builds the file name of the generated PDF from the report type and its parameters.
+   *
+   * @return The file name.
+   */
+  public String fileName() {
+    return fileName("pdf");
+  }
+
+  /**
+   * Builds the file name of an export of the report from the report type and its parameters.
+   *
+   * @param extension The file extension, without the dot.
+   * @return The file name.
+   */
+  public String fileName(String extension) {
+    String parts = String.join("_", Stream.of(username, teamName, projectName, startDate, endDate)
+        .filter(Objects::nonNull)
+        .toList());
+    return type.getFileNamePrefix() + "_" + parts.replaceAll("\\s+", "_") + "." + extension;
+  }
+}
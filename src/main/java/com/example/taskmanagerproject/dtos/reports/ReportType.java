@@ -0,0 +1,27 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * Enumeration of the PDF reports that can be generated.
+ */
+public enum ReportType {
+  USER("user_report"),
+  TEAM("team_report"),
+  PROJECT("project_report"),
+  TOP_PERFORMERS("top_performers_report"),
+  TASK_PROGRESS("task_progress_report");
+
+  private final String fileNamePrefix;
+
+  ReportType(String fileNamePrefix) {
+    this.fileNamePrefix = fileNamePrefix;
+  }
+
+  /**
+   * Returns the prefix of the file names of this report.
+   *
+   * @return The file name prefix.
+   */
+  public String getFileNamePrefix() {
+    return fileNamePrefix;
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * The metrics of a member of a team, including members without tasks in the date range.
+ *
+ * @param name                       The full name of the member.
+ * @param image                      The image of the member, or a placeholder URL.
+ * @param role                       The name of the member's role in the team.
+ * @param allTasks                   The number of tasks assigned to the member.
+ * @param tasksCompleted             The number of approved tasks.
+ * @param onTimeTasks                The number of tasks approved before they expired.
+ * @param averageTaskDuration        The average time from creation to approval, in minutes.
+ * @param taskCompletionRate         The percentage of approved tasks.
+ * @param bugFixResolutionRate       The percentage of approved bugs.
+ * @param criticalTaskResolutionRate The percentage of approved critical tasks.
+ * @param achievements               The number of achievements the member earned in the team.
+ */
+public record TeamMemberMetrics(String name, String image, String role, long allTasks, long tasksCompleted,
+                                long onTimeTasks, double averageTaskDuration, double taskCompletionRate,
+                                double bugFixResolutionRate, double criticalTaskResolutionRate, long achievements) {}
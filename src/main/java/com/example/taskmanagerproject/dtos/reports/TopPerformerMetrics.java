@@ -0,0 +1,15 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * The metrics of one of the top performers of a team, or of an empty "No Data" rank.
+ *
+ * @param name               The full name of the member.
+ * @param image              The image of the member, or a placeholder URL.
+ * @param role               The name of the member's role in the team.
+ * @param allTasks           The number of tasks assigned to the member.
+ * @param tasksCompleted     The number of approved tasks.
+ * @param taskCompletionRate The percentage of approved tasks, rounded to two decimals.
+ * @param achievements       The number of achievements the member earned in the team.
+ */
+public record TopPerformerMetrics(String name, String image, String role, long allTasks, long tasksCompleted,
+                                  double taskCompletionRate, long achievements) {}
@@ -0,0 +1,22 @@
+package com.example.taskmanagerproject.dtos.reports;
+
+/**
+ * The task metrics of a user in a team and project within a date range, one row of the user metrics queries.
+ *
+ * @param projectId           The ID of the project.
+ * @param teamId              The ID of the team.
+ * @param role                The name of the user's role in the team.
+ * @param allTasks            The number of tasks assigned to the user.
+ * @param tasksCompleted      The number of approved tasks.
+ * @param taskCompletionRate  The percentage of approved tasks, rounded to two decimals.
+ * @param onTimeTasks         The number of tasks approved before they expired.
+ * @param allBugs             The number of tasks with comments, counted as bugs.
+ * @param bugFixesResolved    The number of approved bugs.
+ * @param allCriticalTasks    The number of critical tasks.
+ * @param criticalTasksSolved The number of approved critical tasks.
+ * @param averageTaskDuration The average time from creation to approval, in whole minutes.
+ * @param userId              The ID of the user.
+ */
+public record UserMetrics(long projectId, long teamId, String role, long allTasks, long tasksCompleted,
+                          double taskCompletionRate, long onTimeTasks, long allBugs, long bugFixesResolved,
+                          long allCriticalTasks, long criticalTasksSolved, double averageTaskDuration, long userId) {}
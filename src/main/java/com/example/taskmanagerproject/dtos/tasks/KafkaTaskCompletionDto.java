@@ -1,6 +1,7 @@
 package com.example.taskmanagerproject.dtos.tasks;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
 
 /**
  * Represents an event DTO for Kafka representing task completion details
@@ -19,5 +20,8 @@ public record KafkaTaskCompletionDto(
     Long teamId,
 
     @Schema(description = "The unique identifier of the project the task is associated with.", example = "91011")
-    Long projectId
+    Long projectId,
+
+    @Schema(description = "The unique identifier of the event, used to drop redelivered events.", example = "3f1c2a9e-7b4d-4c1e-9a6f-2d8b5e0c4a71")
+    UUID eventId
 ) {}
@@ -1,7 +1,9 @@
 package com.example.taskmanagerproject.entities.achievements;
 
+import com.example.taskmanagerproject.utils.achievements.AchievementCatalogListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -22,6 +24,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "achievements")
+@EntityListeners(AchievementCatalogListener.class)
 public class Achievement {
 
   @Id
@@ -0,0 +1,55 @@
+package com.example.taskmanagerproject.entities.achievements;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Incrementally maintained approval counters of a user within a team and project.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_achievement_stats")
+public class UserAchievementStats {
+
+  @EmbeddedId
+  private UserAchievementStatsId id;
+
+  @Column(name = "approved_count", nullable = false)
+  private long approvedCount;
+
+  @Column(name = "before_deadline_count", nullable = false)
+  private long beforeDeadlineCount;
+
+  @Column(name = "on_time_count", nullable = false)
+  private long onTimeCount;
+
+  @Column(name = "high_priority_count", nullable = false)
+  private long highPriorityCount;
+
+  @Column(name = "critical_count", nullable = false)
+  private long criticalCount;
+
+  @Column(name = "commented_count", nullable = false)
+  private long commentedCount;
+
+  @Column(name = "critical_commented_count", nullable = false)
+  private long criticalCommentedCount;
+
+  @Column(name = "long_duration_count", nullable = false)
+  private long longDurationCount;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanagerproject.entities.achievements;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Represents a composite primary key for the UserAchievementStats entity.
+ */
+@Embeddable
+public record UserAchievementStatsId(Long userId, Long teamId, Long projectId) {}
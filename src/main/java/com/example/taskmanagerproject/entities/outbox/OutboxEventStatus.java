@@ -0,0 +1,9 @@
+package com.example.taskmanagerproject.entities.outbox;
+
+/**
+ * Enumeration representing the publishing status of an outbox event.
+ */
+public enum OutboxEventStatus {
+  PENDING,  // Event is waiting to be published or retried
+  PARKED    // Event ran out of attempts and is kept for inspection, the relay skips it
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanagerproject.entities.reports;
+
+import com.example.taskmanagerproject.dtos.reports.ReportJobStatus;
+import com.example.taskmanagerproject.dtos.reports.ReportType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents an asynchronous report job and where its generated PDF is stored.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_jobs")
+public class ReportJob {
+
+  @Id
+  private UUID id;
+
+  @Column(name = "request_hash", nullable = false)
+  private String requestHash;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "report_type", nullable = false)
+  private ReportType type;
+
+  @Column(name = "file_name", nullable = false)
+  private String fileName;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private ReportJobStatus status;
+
+  @Column(name = "object_key", nullable = false)
+  private String objectKey;
+
+  @Column(name = "error", columnDefinition = "TEXT")
+  private String error;
+
+  @Column(name = "submitted_at", nullable = false)
+  private LocalDateTime submittedAt;
+
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
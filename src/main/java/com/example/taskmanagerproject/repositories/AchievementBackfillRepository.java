@@ -0,0 +1,187 @@
+package com.example.taskmanagerproject.repositories;
+
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.entities.tasks.TaskPriority;
+import com.example.taskmanagerproject.entities.teams.Team;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillAward;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillRow;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository backing the achievement backfill job. Approved tasks are streamed through a
+ * server-side cursor and awards are written in bulk, which keeps large recomputations out of the
+ * persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AchievementBackfillRepository {
+
+  public static final String JOB_NAME = "achievement-backfill";
+
+  private static final String APPROVED_TASKS_QUERY = """
+      SELECT t.id, t.assigned_to, t.team_id, t.project_id, t.priority, t.created_at, t.approved_at, t.expiration_date,
+             EXISTS (SELECT 1 FROM task_list.task_history th
+                     WHERE th.task_id = t.id AND th.previous_value = 'CANCELLED') AS cancelled,
+             EXISTS (SELECT 1 FROM task_list.task_comments c WHERE c.task_id = t.id) AS commented
+      FROM task_list.tasks t
+      WHERE t.task_status = 'APPROVED'
+        AND t.assigned_to IS NOT NULL
+        AND (t.assigned_to, t.team_id, t.project_id) > (?, ?, ?)
+      ORDER BY t.assigned_to, t.team_id, t.project_id, t.id
+      """;
+
+  private static final String INSERT_AWARD = """
+      INSERT INTO task_list.achievements_users (user_id, achievement_id, team_id, project_id)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT (user_id, achievement_id) DO NOTHING
+      """;
+
+  private static final String UPSERT_PROGRESS = """
+      INSERT INTO task_list.achievement_backfill_progress (job_name, last_user_id, last_team_id, last_project_id,
+          groups_processed, achievements_awarded, started_at, updated_at, completed_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (job_name) DO UPDATE SET
+          last_user_id = EXCLUDED.last_user_id,
+          last_team_id = EXCLUDED.last_team_id,
+          last_project_id = EXCLUDED.last_project_id,
+          groups_processed = EXCLUDED.groups_processed,
+          achievements_awarded = EXCLUDED.achievements_awarded,
+          started_at = EXCLUDED.started_at,
+          updated_at = EXCLUDED.updated_at,
+          completed_at = EXCLUDED.completed_at
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Streams the approved tasks that come after the given group, ordered by user, team, project and task.
+   * Must run inside a transaction, since PostgreSQL only honours the fetch size with auto-commit disabled.
+   *
+   * @param progress  the checkpoint after whose group reading starts
+   * @param fetchSize the number of rows fetched per round trip
+   * @param consumer  the callback receiving each task
+   */
+  public void streamApprovedTasks(AchievementBackfillProgress progress, int fetchSize, Consumer<AchievementBackfillRow> consumer) {
+    JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+    cursor.setFetchSize(fetchSize);
+    RowCallbackHandler handler = rs -> consumer.accept(mapRow(rs));
+    cursor.query(APPROVED_TASKS_QUERY, handler, progress.lastUserId(), progress.lastTeamId(), progress.lastProjectId());
+  }
+
+  /**
+   * Finds the IDs of the achievements a user has already earned.
+   *
+   * @param userId the ID of the user
+   * @return the IDs of the earned achievements
+   */
+  public Set<Long> findAwardedAchievementIds(long userId) {
+    return new HashSet<>(jdbcTemplate.queryForList(
+      "SELECT achievement_id FROM task_list.achievements_users WHERE user_id = ?", Long.class, userId
+    ));
+  }
+
+  /**
+   * Inserts awards in a single batch, skipping achievements the user already holds.
+   *
+   * @param awards the awards to insert
+   * @return the number of awards inserted
+   */
+  public int insertAwards(List<AchievementBackfillAward> awards) {
+    if (awards.isEmpty()) {
+      return 0;
+    }
+    int inserted = 0;
+    int[][] counts = jdbcTemplate.batchUpdate(INSERT_AWARD, awards, awards.size(), (ps, award) -> {
+      ps.setLong(1, award.userId());
+      ps.setLong(2, award.achievementId());
+      ps.setLong(3, award.teamId());
+      ps.setLong(4, award.projectId());
+    });
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        inserted += Math.max(count, 0);
+      }
+    }
+    return inserted;
+  }
+
+  /**
+   * Finds the checkpoint of the backfill job.
+   *
+   * @return the checkpoint, or an empty optional if the job never ran
+   */
+  public Optional<AchievementBackfillProgress> findProgress() {
+    return jdbcTemplate.query(
+      "SELECT * FROM task_list.achievement_backfill_progress WHERE job_name = ?",
+      (rs, rowNum) -> new AchievementBackfillProgress(
+        rs.getLong("last_user_id"),
+        rs.getLong("last_team_id"),
+        rs.getLong("last_project_id"),
+        rs.getLong("groups_processed"),
+        rs.getLong("achievements_awarded"),
+        toLocalDateTime(rs.getTimestamp("started_at")),
+        toLocalDateTime(rs.getTimestamp("updated_at")),
+        toLocalDateTime(rs.getTimestamp("completed_at"))
+      ),
+      JOB_NAME
+    ).stream().findFirst();
+  }
+
+  /**
+   * Stores the checkpoint of the backfill job.
+   *
+   * @param progress the checkpoint to store
+   */
+  public void saveProgress(AchievementBackfillProgress progress) {
+    jdbcTemplate.update(UPSERT_PROGRESS,
+        JOB_NAME,
+        progress.lastUserId(),
+        progress.lastTeamId(),
+        progress.lastProjectId(),
+        progress.groupsProcessed(),
+        progress.achievementsAwarded(),
+        Timestamp.valueOf(progress.startedAt()),
+        Timestamp.valueOf(progress.updatedAt()),
+        progress.completedAt() != null ? Timestamp.valueOf(progress.completedAt()) : null
+    );
+  }
+
+  private static AchievementBackfillRow mapRow(ResultSet rs) throws SQLException {
+    Team team = new Team();
+    team.setId(rs.getLong("team_id"));
+
+    Task task = new Task();
+    task.setId(rs.getLong("id"));
+    task.setTeam(team);
+    task.setPriority(TaskPriority.valueOf(rs.getString("priority")));
+    task.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+    task.setApprovedAt(toLocalDateTime(rs.getTimestamp("approved_at")));
+    task.setExpirationDate(toLocalDateTime(rs.getTimestamp("expiration_date")));
+
+    return new AchievementBackfillRow(
+      rs.getLong("assigned_to"),
+      team.getId(),
+      rs.getLong("project_id"),
+      task,
+      rs.getBoolean("cancelled"),
+      rs.getBoolean("commented")
+    );
+  }
+
+  private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toLocalDateTime() : null;
+  }
+}
@@ -1,10 +1,15 @@
 package com.example.taskmanagerproject.repositories;
 
+import com.example.taskmanagerproject.dtos.reports.MemberAchievement;
 import com.example.taskmanagerproject.entities.achievements.AchievementsUsers;
 import com.example.taskmanagerproject.entities.achievements.AchievementsUsersId;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for the Achievement entity.
@@ -29,4 +34,49 @@ public interface AchievementsUsersRepository extends JpaRepository<AchievementsU
    * @return a list of achievements for the specified user
    */
   List<AchievementsUsers> findAllByUserId(Long userId);
+
+  /**
+   * Retrieves the IDs of the achievements earned by a given user.
+   *
+   * @param userId the ID of the user
+   * @return the IDs of the earned achievements
+   */
+  @Query("SELECT au.id.achievementId FROM AchievementsUsers au WHERE au.id.userId = :userId")
+  List<Long> findAchievementIdsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Retrieves the achievements earned by all members of a team within a project.
+   * Only the user IDs and achievements are selected, so the eagerly fetched associations are not loaded per row.
+   *
+   * @param teamId    the team ID
+   * @param projectId the project ID
+   * @return the earned achievements with the IDs of the members who earned them
+   */
+  @Query("""
+      SELECT new com.example.taskmanagerproject.dtos.reports.MemberAchievement(au.id.userId, a)
+      FROM AchievementsUsers au JOIN au.achievement a
+      WHERE au.team.id = :teamId AND au.project.id = :projectId
+      """)
+  List<MemberAchievement> findAchievementsByTeamIdAndProjectId(@Param("teamId") Long teamId, @Param("projectId") Long projectId);
+
+  /**
+   * Awards an achievement to a user unless the user already holds it.
+   *
+   * @param userId        the user ID
+   * @param achievementId the achievement ID
+   * @param teamId        the team ID
+   * @param projectId     the project ID
+   * @return 1 if the achievement was awarded, 0 if the user already held it
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT INTO task_list.achievements_users (user_id, achievement_id, team_id, project_id)
+      VALUES (:userId, :achievementId, :teamId, :projectId)
+      ON CONFLICT (user_id, achievement_id) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("userId") Long userId,
+                     @Param("achievementId") Long achievementId,
+                     @Param("teamId") Long teamId,
+                     @Param("projectId") Long projectId);
 }
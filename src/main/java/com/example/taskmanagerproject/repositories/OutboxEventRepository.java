@@ -0,0 +1,33 @@
+package com.example.taskmanagerproject.repositories;
+
+import com.example.taskmanagerproject.entities.outbox.OutboxEvent;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the OutboxEvent entity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Locks the oldest pending events that are due for publishing. Parked events and events waiting
+   * for their retry are left out. Rows locked by another transaction are skipped,
+   * so several nodes can drain the outbox in parallel without publishing the same event twice.
+   *
+   * @param batchSize the maximum number of events to lock
+   * @return the locked events, oldest first
+   */
+  @Query(value = """
+      SELECT *
+      FROM task_list.outbox o
+      WHERE o.status = 'PENDING' AND o.next_attempt_at <= NOW()
+      ORDER BY o.id
+      LIMIT :batchSize
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<OutboxEvent> lockNextBatch(@Param("batchSize") int batchSize);
+}
@@ -0,0 +1,73 @@
+package com.example.taskmanagerproject.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository of the events already handled by the achievement consumer.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventRepository {
+
+  private static final String INSERT_PROCESSED_EVENT = """
+      INSERT INTO task_list.processed_events (event_id, processed_at)
+      VALUES (?, ?)
+      ON CONFLICT (event_id) DO NOTHING
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Finds which of the given events were already processed.
+   *
+   * @param eventIds the IDs of the events to look up
+   * @return the IDs of the processed events
+   */
+  public Set<UUID> findProcessed(Collection<UUID> eventIds) {
+    if (eventIds.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(jdbcTemplate.query(
+      con -> {
+        var statement = con.prepareStatement("SELECT event_id FROM task_list.processed_events WHERE event_id = ANY (?)");
+        statement.setArray(1, con.createArrayOf("uuid", eventIds.toArray()));
+        return statement;
+      },
+      (rs, rowNum) -> rs.getObject("event_id", UUID.class)
+    ));
+  }
+
+  /**
+   * Records events as processed in a single batch, ignoring events that are already recorded.
+   *
+   * @param eventIds    the IDs of the processed events
+   * @param processedAt the time the events were processed
+   */
+  public void markProcessed(Collection<UUID> eventIds, LocalDateTime processedAt) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    Timestamp timestamp = Timestamp.valueOf(processedAt);
+    List<Object[]> rows = eventIds.stream().map(eventId -> new Object[] {eventId, timestamp}).toList();
+    jdbcTemplate.batchUpdate(INSERT_PROCESSED_EVENT, rows);
+  }
+
+  /**
+   * Deletes the events processed before the given time.
+   *
+   * @param cutoff the time before which processed events are deleted
+   * @return the number of deleted events
+   */
+  public int deleteProcessedBefore(LocalDateTime cutoff) {
+    return jdbcTemplate.update("DELETE FROM task_list.processed_events WHERE processed_at < ?", Timestamp.valueOf(cutoff));
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanagerproject.repositories;
+
+import com.example.taskmanagerproject.dtos.reports.ReportDataVersion;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository of the per-project data versions, derived from the change log written by database triggers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectDataVersionRepository {
+
+  private static final String FIND_BY_PROJECT_NAME = """
+      SELECT c.project_id, SUM(c.changes) AS version, MAX(c.changed_at) AS updated_at
+      FROM task_list.project_data_changes c
+      JOIN task_list.projects p ON p.id = c.project_id
+      WHERE p.name = ?
+      GROUP BY c.project_id
+      """;
+
+  private static final String RECORD_CHANGE = """
+      INSERT INTO task_list.project_data_changes (project_id, changed_at)
+      VALUES (?, NOW())
+      """;
+
+  /**
+   * Replaces the changes of each project with a single row carrying their sum. Only rows visible when
+   * the statement starts are removed, so changes committed meanwhile are kept and versions never go back.
+   */
+  private static final String COMPACT_CHANGES = """
+      WITH removed AS (
+          DELETE FROM task_list.project_data_changes c
+          WHERE c.project_id IN (
+              SELECT project_id FROM task_list.project_data_changes GROUP BY project_id HAVING COUNT(*) > 1
+          )
+          RETURNING c.project_id, c.changes, c.changed_at
+      )
+      INSERT INTO task_list.project_data_changes (project_id, changes, changed_at)
+      SELECT r.project_id, SUM(r.changes), MAX(r.changed_at)
+      FROM removed r
+      WHERE EXISTS (SELECT 1 FROM task_list.projects p WHERE p.id = r.project_id)
+      GROUP BY r.project_id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Finds the data version of a project.
+   *
+   * @param projectName the name of the project
+   * @return the data version, or empty if the project does not exist or has no recorded changes
+   */
+  public Optional<ReportDataVersion> findByProjectName(String projectName) {
+    return jdbcTemplate.query(FIND_BY_PROJECT_NAME,
+      (rs, rowNum) -> new ReportDataVersion(
+        rs.getLong("project_id"),
+        rs.getLong("version"),
+        rs.getTimestamp("updated_at").toLocalDateTime()
+      ),
+      projectName
+    ).stream().findFirst();
+  }
+
+  /**
+   * Records a change to the report data of a project that no trigger sees, such as a statistics rebuild.
+   *
+   * @param projectId the ID of the project
+   */
+  public void recordChange(long projectId) {
+    jdbcTemplate.update(RECORD_CHANGE, projectId);
+  }
+
+  /**
+   * Compacts the change log to one row per project, keeping every project's data version.
+   *
+   * @return the number of rows written for the compacted projects
+   */
+  public int compactChanges() {
+    return jdbcTemplate.update(COMPACT_CHANGES);
+  }
+}
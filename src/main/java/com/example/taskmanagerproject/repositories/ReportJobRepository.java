@@ -0,0 +1,162 @@
+package com.example.taskmanagerproject.repositories;
+
+import com.example.taskmanagerproject.entities.reports.ReportJob;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository interface for the ReportJob entity.
+ * Expiry times are computed with the database clock, so they agree across nodes.
+ */
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+  /**
+   * Queues a job unless a job for the same request is already queued or running on any node.
+   *
+   * @param id             the ID of the job
+   * @param requestHash    the hash identifying the report request
+   * @param reportType     the type of the report
+   * @param fileName       the file name of the generated PDF
+   * @param objectKey      the storage key the PDF is written to
+   * @param timeoutSeconds how long the job may stay queued or running before it is considered abandoned
+   * @return 1 if the job was queued, 0 if a job for the same request is in flight
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT INTO task_list.report_jobs (id, request_hash, report_type, file_name, status, object_key, submitted_at, expires_at)
+      VALUES (:id, :requestHash, :reportType, :fileName, 'QUEUED', :objectKey, NOW(), NOW() + make_interval(secs => :timeoutSeconds))
+      ON CONFLICT (request_hash) WHERE status IN ('QUEUED', 'RUNNING') DO NOTHING
+      """, nativeQuery = true)
+  int insertQueued(@Param("id") UUID id,
+                   @Param("requestHash") String requestHash,
+                   @Param("reportType") String reportType,
+                   @Param("fileName") String fileName,
+                   @Param("objectKey") String objectKey,
+                   @Param("timeoutSeconds") long timeoutSeconds);
+
+  /**
+   * Finds the job queued or running for a request, unless it has been abandoned.
+   *
+   * @param requestHash the hash identifying the report request
+   * @return the job in flight, if any
+   */
+  @Query(value = """
+      SELECT *
+      FROM task_list.report_jobs j
+      WHERE j.request_hash = :requestHash AND j.status IN ('QUEUED', 'RUNNING') AND j.expires_at > NOW()
+      """, nativeQuery = true)
+  Optional<ReportJob> findInFlightByRequestHash(@Param("requestHash") String requestHash);
+
+  /**
+   * Makes a job visible to a user.
+   *
+   * @param jobId     the ID of the job
+   * @param requester the name of the user
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT INTO task_list.report_job_requesters (job_id, requester)
+      VALUES (:jobId, :requester)
+      ON CONFLICT (job_id, requester) DO NOTHING
+      """, nativeQuery = true)
+  void addRequester(@Param("jobId") UUID jobId, @Param("requester") String requester);
+
+  /**
+   * Finds a job if it is visible to a user.
+   *
+   * @param jobId     the ID of the job
+   * @param requester the name of the user
+   * @return the job, or empty if it does not exist or the user did not submit it
+   */
+  @Query(value = """
+      SELECT j.*
+      FROM task_list.report_jobs j
+      JOIN task_list.report_job_requesters r ON r.job_id = j.id
+      WHERE j.id = :jobId AND r.requester = :requester
+      """, nativeQuery = true)
+  Optional<ReportJob> findByIdAndRequester(@Param("jobId") UUID jobId, @Param("requester") String requester);
+
+  /**
+   * Marks a queued job as picked up by a worker.
+   *
+   * @param jobId the ID of the job
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE task_list.report_jobs SET status = 'RUNNING'
+      WHERE id = :jobId AND status = 'QUEUED'
+      """, nativeQuery = true)
+  void markRunning(@Param("jobId") UUID jobId);
+
+  /**
+   * Finishes a job in flight, keeping it until its result expires.
+   *
+   * @param jobId      the ID of the job
+   * @param status     the final status, either COMPLETED or FAILED
+   * @param error      the reason the job failed, or null
+   * @param ttlSeconds how long the finished job and its PDF are kept
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE task_list.report_jobs
+      SET status = :status, error = :error, completed_at = NOW(), expires_at = NOW() + make_interval(secs => :ttlSeconds)
+      WHERE id = :jobId AND status IN ('QUEUED', 'RUNNING')
+      """, nativeQuery = true)
+  void finish(@Param("jobId") UUID jobId,
+              @Param("status") String status,
+              @Param("error") String error,
+              @Param("ttlSeconds") long ttlSeconds);
+
+  /**
+   * Fails the jobs in flight whose node did not finish them in time, so their requests can be submitted again.
+   *
+   * @param ttlSeconds how long the failed jobs are kept
+   * @return the number of jobs failed
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      UPDATE task_list.report_jobs
+      SET status = 'FAILED', error = 'Abandoned before completion', completed_at = NOW(),
+          expires_at = NOW() + make_interval(secs => :ttlSeconds)
+      WHERE status IN ('QUEUED', 'RUNNING') AND expires_at <= NOW()
+      """, nativeQuery = true)
+  int failAbandoned(@Param("ttlSeconds") long ttlSeconds);
+
+  /**
+   * Finds the storage keys of the finished jobs whose results have expired.
+   *
+   * @return the storage keys
+   */
+  @Query(value = """
+      SELECT j.object_key
+      FROM task_list.report_jobs j
+      WHERE j.status IN ('COMPLETED', 'FAILED') AND j.expires_at <= NOW()
+      """, nativeQuery = true)
+  List<String> findExpiredObjectKeys();
+
+  /**
+   * Deletes the finished jobs whose results have expired.
+   *
+   * @return the number of jobs deleted
+   */
+  @Modifying
+  @Transactional
+  @Query(value = """
+      DELETE FROM task_list.report_jobs
+      WHERE status IN ('COMPLETED', 'FAILED') AND expires_at <= NOW()
+      """, nativeQuery = true)
+  int deleteExpired();
+}
@@ -0,0 +1,300 @@
+package com.example.taskmanagerproject.repositories;
+
+import com.example.taskmanagerproject.dtos.reports.CompletionRate;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository of the report queries. The find methods map every row by column name to a typed projection
+ * with primitive fields, which the report templates are populated from.
+ * The stream methods write the rows through a server-side cursor instead, so metrics exports are written row by row
+ * without loading the results or building report HTML. They must run inside a transaction, since PostgreSQL only
+ * honours the fetch size with auto-commit disabled, and rethrow a failure to write a row as an {@link UncheckedIOException}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportMetricsRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Finds the task metrics of a user in a team and project within a date range.
+   *
+   * @param assignedTo  the ID of the user
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param projectName the name of the project
+   * @param teamName    the name of the team
+   * @return the metrics of the user, or an empty list if the user has no tasks in the date range
+   */
+  public List<UserMetrics> findUserMetrics(Long assignedTo, LocalDateTime startDate, LocalDateTime endDate,
+                                           String projectName, String teamName) {
+    return query(ReportQueries.USER_METRICS, dateRange(startDate, endDate)
+        .addValue("assignedTo", assignedTo)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), ReportMetricsRepository::mapUserMetrics);
+  }
+
+  /**
+   * Finds the task metrics of every member of a team in a project within a date range, in one pass over the
+   * daily task statistics instead of one query per member.
+   *
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param projectName the name of the project
+   * @param teamName    the name of the team
+   * @return the metrics of the members with tasks in the date range, ordered by user ID
+   */
+  public List<UserMetrics> findTeamUserMetrics(LocalDateTime startDate, LocalDateTime endDate,
+                                               String projectName, String teamName) {
+    return query(ReportQueries.TEAM_USER_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), ReportMetricsRepository::mapUserMetrics);
+  }
+
+  /**
+   * Finds the metrics of the top three performers of a team in a project within a date range.
+   * Teams with fewer than three members are padded with "No Data" rows.
+   *
+   * @param teamName    the name of the team
+   * @param projectName the name of the project
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @return the metrics of the top performers, best first
+   */
+  public List<TopPerformerMetrics> findTopPerformerMetrics(String teamName, String projectName,
+                                                           LocalDateTime startDate, LocalDateTime endDate) {
+    return query(ReportQueries.TOP_PERFORMER_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), (rs, rowNum) -> new TopPerformerMetrics(
+          rs.getString("user_name"),
+          rs.getString("user_image"),
+          rs.getString("user_role"),
+          rs.getLong("all_tasks"),
+          rs.getLong("tasks_completed"),
+          rs.getDouble("task_completion_rate"),
+          rs.getLong("all_achievements")
+        ));
+  }
+
+  /**
+   * Finds the metrics of the teams of a project within a date range.
+   *
+   * @param projectName the name of the project
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @return the metrics of each team of the project
+   */
+  public List<ProjectTeamMetrics> findProjectMetrics(String projectName, LocalDateTime startDate, LocalDateTime endDate) {
+    return query(ReportQueries.PROJECT_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName), (rs, rowNum) -> new ProjectTeamMetrics(
+          rs.getString("team_name"),
+          rs.getLong("achievement_count"),
+          rs.getLong("total_tasks"),
+          rs.getLong("completed_tasks"),
+          rs.getLong("on_time_tasks"),
+          rs.getLong("total_critical_tasks"),
+          rs.getLong("critical_tasks_completed"),
+          rs.getLong("total_bugs"),
+          rs.getLong("bugs_completed")
+        ));
+  }
+
+  /**
+   * Finds the metrics of all members of a team in a project within a date range, including members without tasks.
+   *
+   * @param teamName    the name of the team
+   * @param projectName the name of the project
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @return the metrics of each member, by completed tasks and completion rate
+   */
+  public List<TeamMemberMetrics> findTeamMemberMetrics(String teamName, String projectName,
+                                                       LocalDateTime startDate, LocalDateTime endDate) {
+    return query(ReportQueries.TEAM_MEMBER_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), (rs, rowNum) -> new TeamMemberMetrics(
+          rs.getString("user_name"),
+          rs.getString("user_image"),
+          rs.getString("user_role"),
+          rs.getLong("all_tasks"),
+          rs.getLong("tasks_completed"),
+          rs.getLong("onTimeTasks"),
+          rs.getDouble("averageTaskDuration"),
+          rs.getDouble("task_completion_rate"),
+          rs.getDouble("bugFixResolutionRate"),
+          rs.getDouble("criticalTaskResolutionRate"),
+          rs.getLong("all_achievements")
+        ));
+  }
+
+  /**
+   * Finds the task completion rates of a user in a team and project, grouped into buckets within a date range.
+   * The rows are grouped once over the primary key range of the daily task statistics; buckets without tasks
+   * are left out and have to be filled by the caller.
+   *
+   * @param granularity the {@code date_trunc} field of the buckets, e.g. {@code day}, {@code week} or {@code month}
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param assignedTo  the ID of the user
+   * @param projectName the name of the project
+   * @param teamName    the name of the team
+   * @return the completion rates of the non-empty buckets, ordered by bucket
+   */
+  public List<CompletionRate> findCompletionRates(String granularity, LocalDateTime startDate, LocalDateTime endDate,
+                                                  Long assignedTo, String projectName, String teamName) {
+    return query(ReportQueries.COMPLETION_RATES, dateRange(startDate, endDate)
+        .addValue("granularity", granularity)
+        .addValue("assignedTo", assignedTo)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), (rs, rowNum) -> new CompletionRate(
+          rs.getDate("bucket").toLocalDate(),
+          rs.getDouble("taskCompletionRate")
+        ));
+  }
+
+  /**
+   * Streams the task metrics of a user in a team and project within a date range.
+   *
+   * @param assignedTo  the ID of the user
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param projectName the name of the project
+   * @param teamName    the name of the team
+   * @param fetchSize   the number of rows fetched per round trip
+   * @param writer      the writer receiving the columns and rows
+   */
+  public void streamUserMetrics(Long assignedTo, LocalDateTime startDate, LocalDateTime endDate, String projectName,
+                                String teamName, int fetchSize, MetricsWriter writer) {
+    stream(ReportQueries.USER_METRICS, dateRange(startDate, endDate)
+        .addValue("assignedTo", assignedTo)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), fetchSize, writer);
+  }
+
+  /**
+   * Streams the metrics of the top performers of a team in a project within a date range.
+   * Unlike {@link #findTopPerformerMetrics}, teams with fewer than three members are not padded with "No Data" rows.
+   *
+   * @param teamName    the name of the team
+   * @param projectName the name of the project
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param fetchSize   the number of rows fetched per round trip
+   * @param writer      the writer receiving the columns and rows
+   */
+  public void streamTopPerformerMetrics(String teamName, String projectName, LocalDateTime startDate,
+                                        LocalDateTime endDate, int fetchSize, MetricsWriter writer) {
+    stream(ReportQueries.STREAMED_TOP_PERFORMER_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), fetchSize, writer);
+  }
+
+  /**
+   * Streams the metrics of the teams of a project within a date range.
+   *
+   * @param projectName the name of the project
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param fetchSize   the number of rows fetched per round trip
+   * @param writer      the writer receiving the columns and rows
+   */
+  public void streamProjectMetrics(String projectName, LocalDateTime startDate, LocalDateTime endDate,
+                                   int fetchSize, MetricsWriter writer) {
+    stream(ReportQueries.PROJECT_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName), fetchSize, writer);
+  }
+
+  /**
+   * Streams the metrics of all members of a team in a project within a date range.
+   *
+   * @param teamName    the name of the team
+   * @param projectName the name of the project
+   * @param startDate   the start of the date range
+   * @param endDate     the end of the date range
+   * @param fetchSize   the number of rows fetched per round trip
+   * @param writer      the writer receiving the columns and rows
+   */
+  public void streamTeamMemberMetrics(String teamName, String projectName, LocalDateTime startDate,
+                                      LocalDateTime endDate, int fetchSize, MetricsWriter writer) {
+    stream(ReportQueries.TEAM_MEMBER_METRICS, dateRange(startDate, endDate)
+        .addValue("projectName", projectName)
+        .addValue("teamName", teamName), fetchSize, writer);
+  }
+
+  private <T> List<T> query(String sql, MapSqlParameterSource parameters, RowMapper<T> rowMapper) {
+    return new NamedParameterJdbcTemplate(jdbcTemplate).query(sql, parameters, rowMapper);
+  }
+
+  private void stream(String sql, MapSqlParameterSource parameters, int fetchSize, MetricsWriter writer) {
+    JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+    cursor.setFetchSize(fetchSize);
+    new NamedParameterJdbcTemplate(cursor).query(sql, parameters, (ResultSetExtractor<Void>) rs -> {
+      try {
+        writeRows(rs, writer);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    });
+  }
+
+  private static void writeRows(ResultSet rs, MetricsWriter writer) throws SQLException, IOException {
+    ResultSetMetaData metaData = rs.getMetaData();
+    int columnCount = metaData.getColumnCount();
+    List<String> columns = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      columns.add(metaData.getColumnLabel(i));
+    }
+    writer.writeColumns(columns);
+    while (rs.next()) {
+      Object[] row = new Object[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        row[i] = rs.getObject(i + 1);
+      }
+      writer.writeRow(row);
+    }
+  }
+
+  private static UserMetrics mapUserMetrics(ResultSet rs, int rowNum) throws SQLException {
+    return new UserMetrics(
+      rs.getLong("project_id"),
+      rs.getLong("team_id"),
+      rs.getString("user_role"),
+      rs.getLong("allTasks"),
+      rs.getLong("tasksCompleted"),
+      rs.getDouble("taskCompletionRate"),
+      rs.getLong("onTimeTasks"),
+      rs.getLong("allBugs"),
+      rs.getLong("bugFixesResolved"),
+      rs.getLong("allCriticalTasks"),
+      rs.getLong("criticalTasksSolved"),
+      rs.getDouble("averageTaskDuration"),
+      rs.getLong("user_id")
+    );
+  }
+
+  private static MapSqlParameterSource dateRange(LocalDateTime startDate, LocalDateTime endDate) {
+    return new MapSqlParameterSource()
+        .addValue("startDate", startDate)
+        .addValue("endDate", endDate);
+  }
+}
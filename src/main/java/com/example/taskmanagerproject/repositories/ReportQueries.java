@@ -0,0 +1,323 @@
+package com.example.taskmanagerproject.repositories;
+
+/**
+ * The native report queries of {@link ReportMetricsRepository}, which either maps their rows to typed
+ * projections or streams them through a JDBC cursor.
+ */
+final class ReportQueries {
+
+  /**
+   * The task metrics of a user in a team and project, see {@link ReportMetricsRepository#findUserMetrics}.
+   */
+  static final String USER_METRICS = """
+      SELECT
+          s.project_id,
+          s.team_id,
+          r.name AS user_role,
+
+          SUM(s.created_count) AS allTasks,
+
+          SUM(s.approved_count) AS tasksCompleted,
+
+          ROUND(
+              CASE
+                  WHEN SUM(s.created_count) > 0
+                      THEN (SUM(s.approved_count) * 100.0) / SUM(s.created_count)
+                  ELSE 0
+              END, 2) AS taskCompletionRate,
+
+          SUM(s.on_time_count) AS onTimeTasks,
+
+          SUM(s.bug_count) AS allBugs,
+
+          SUM(s.bug_approved_count) AS bugFixesResolved,
+
+          SUM(s.critical_count) AS allCriticalTasks,
+
+          SUM(s.critical_approved_count) AS criticalTasksSolved,
+
+          ROUND(COALESCE(SUM(s.duration_seconds) / NULLIF(SUM(s.duration_count), 0) / 60, 0), 0) AS averageTaskDuration,
+
+          s.user_id
+      FROM task_list.task_daily_stats s
+      JOIN task_list.projects p ON p.id = s.project_id
+      JOIN task_list.teams tm ON tm.id = s.team_id
+      JOIN task_list.teams_users tu ON tu.team_id = s.team_id AND tu.user_id = :assignedTo
+      JOIN task_list.roles r ON r.id = tu.role_id
+      WHERE s.user_id = :assignedTo
+        AND s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+        AND p.name = :projectName
+        AND tm.name = :teamName
+      GROUP BY s.user_id, s.project_id, s.team_id, r.name
+      HAVING SUM(s.created_count) > 0;
+      """;
+
+  /**
+   * The task metrics of every member of a team in a project, see {@link ReportMetricsRepository#findTeamUserMetrics}.
+   */
+  static final String TEAM_USER_METRICS = """
+      SELECT
+          s.project_id,
+          s.team_id,
+          r.name AS user_role,
+
+          SUM(s.created_count) AS allTasks,
+
+          SUM(s.approved_count) AS tasksCompleted,
+
+          ROUND(
+              CASE
+                  WHEN SUM(s.created_count) > 0
+                      THEN (SUM(s.approved_count) * 100.0) / SUM(s.created_count)
+                  ELSE 0
+              END, 2) AS taskCompletionRate,
+
+          SUM(s.on_time_count) AS onTimeTasks,
+
+          SUM(s.bug_count) AS allBugs,
+
+          SUM(s.bug_approved_count) AS bugFixesResolved,
+
+          SUM(s.critical_count) AS allCriticalTasks,
+
+          SUM(s.critical_approved_count) AS criticalTasksSolved,
+
+          ROUND(COALESCE(SUM(s.duration_seconds) / NULLIF(SUM(s.duration_count), 0) / 60, 0), 0) AS averageTaskDuration,
+
+          s.user_id
+      FROM task_list.task_daily_stats s
+      JOIN task_list.projects p ON p.id = s.project_id
+      JOIN task_list.teams tm ON tm.id = s.team_id
+      JOIN task_list.teams_users tu ON tu.team_id = s.team_id AND tu.user_id = s.user_id
+      JOIN task_list.roles r ON r.id = tu.role_id
+      WHERE s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+        AND p.name = :projectName
+        AND tm.name = :teamName
+      GROUP BY s.user_id, s.project_id, s.team_id, r.name
+      HAVING SUM(s.created_count) > 0
+      ORDER BY s.user_id;
+      """;
+
+  /**
+   * The members of a team ranked by their completed tasks, shared by the top performer queries.
+   */
+  private static final String RANKED_TEAM_MEMBERS = """
+      WITH TeamTasks AS (
+          SELECT
+              tu.user_id,
+              SUM(s.approved_count) AS tasks_completed,
+              SUM(s.created_count) AS total_tasks
+          FROM task_list.teams_users tu
+          JOIN task_list.task_daily_stats s ON s.user_id = tu.user_id AND s.team_id = tu.team_id
+          WHERE tu.team_id = (SELECT id FROM task_list.teams WHERE name = :teamName)
+            AND s.project_id = (SELECT id FROM task_list.projects WHERE name = :projectName)
+            AND s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+          GROUP BY tu.user_id
+      ),
+      UserAchievements AS (
+          SELECT
+              au.user_id,
+              COUNT(au.achievement_id) AS achievement_count
+          FROM task_list.achievements_users au
+          JOIN task_list.users u ON au.user_id = u.id
+          WHERE u.id IN (SELECT user_id FROM task_list.teams_users WHERE team_id = (SELECT id FROM task_list.teams WHERE name = :teamName))
+          AND au.team_id IN (SELECT team_id FROM task_list.teams_users WHERE team_id = (SELECT id FROM task_list.teams WHERE name = :teamName))
+          GROUP BY au.user_id
+      ),
+      RankedUsers AS (
+          SELECT
+              u.full_name AS user_name,
+              COALESCE(ui.image, 'https://dummyimage.com/150x150/000/fff&text=No+Data') AS user_image,
+              COALESCE(r.name, 'N/A') AS user_role,
+              COALESCE(tt.total_tasks, 0) AS all_tasks,
+              COALESCE(tt.tasks_completed, 0) AS tasks_completed,
+              ROUND(COALESCE(tt.tasks_completed * 100.0 / NULLIF(tt.total_tasks, 0), 0), 2) AS task_completion_rate,
+              COALESCE(ua.achievement_count, 0) AS all_achievements,
+              ROW_NUMBER() OVER (
+                      ORDER BY COALESCE(tt.tasks_completed, 0) DESC,
+                      ROUND(COALESCE(tt.tasks_completed * 100.0 / NULLIF(tt.total_tasks, 0), 0), 2) DESC
+                  ) AS rank
+          FROM task_list.teams_users tu
+          JOIN task_list.users u ON tu.user_id = u.id
+          LEFT JOIN task_list.roles r ON tu.role_id = r.id
+          LEFT JOIN task_list.users_images ui ON u.id = ui.user_id
+          LEFT JOIN TeamTasks tt ON tu.user_id = tt.user_id
+          LEFT JOIN UserAchievements ua ON tu.user_id = ua.user_id
+          WHERE tu.team_id = (SELECT id FROM task_list.teams WHERE name = :teamName)
+      )
+      """;
+
+  /**
+   * The metrics of the top performers of a team, see {@link ReportMetricsRepository#findTopPerformerMetrics}.
+   */
+  static final String TOP_PERFORMER_METRICS = RANKED_TEAM_MEMBERS + """
+      SELECT user_name, user_image, user_role, all_tasks, tasks_completed, task_completion_rate, all_achievements
+      FROM RankedUsers
+      WHERE rank <= 3
+      UNION ALL SELECT 'No Data', 'https://dummyimage.com/150x150/000/fff&text=No+Data', 'N/A', 0, 0, 0, 0
+      UNION ALL SELECT 'No Data', 'https://dummyimage.com/150x150/000/fff&text=No+Data', 'N/A', 0, 0, 0, 0
+      UNION ALL SELECT 'No Data', 'https://dummyimage.com/150x150/000/fff&text=No+Data', 'N/A', 0, 0, 0, 0
+      FROM (SELECT COUNT(*) FROM RankedUsers WHERE rank <= 3) AS subquery
+      WHERE (SELECT COUNT(*) FROM RankedUsers WHERE rank <= 3) < 3
+      ORDER BY tasks_completed DESC, task_completion_rate DESC;
+      """;
+
+  /**
+   * The metrics of the top performers of a team without the "No Data" rows padding the PDF podium,
+   * see {@link ReportMetricsRepository#streamTopPerformerMetrics}.
+   */
+  static final String STREAMED_TOP_PERFORMER_METRICS = RANKED_TEAM_MEMBERS + """
+      SELECT user_name, user_image, user_role, all_tasks, tasks_completed, task_completion_rate, all_achievements
+      FROM RankedUsers
+      WHERE rank <= 3
+      ORDER BY rank;
+      """;
+
+  /**
+   * The metrics of the teams of a project, see {@link ReportMetricsRepository#findProjectMetrics}.
+   */
+  static final String PROJECT_METRICS = """
+      SELECT
+          t.name AS team_name,
+          COALESCE(achievements.total_achievements, 0) AS achievement_count,
+          COALESCE(tasks.total_tasks, 0) AS total_tasks,
+          COALESCE(tasks.completed_tasks, 0) AS completed_tasks,
+          COALESCE(tasks.on_time_tasks, 0) AS on_time_tasks,
+          COALESCE(tasks.total_critical_tasks, 0) AS total_critical_tasks,
+          COALESCE(tasks.critical_tasks_completed, 0) AS critical_tasks_completed,
+          COALESCE(tasks.total_bugs, 0) AS total_bugs,
+          COALESCE(tasks.bugs_completed, 0) AS bugs_completed
+      FROM task_list.teams t
+      LEFT JOIN (
+          SELECT
+              t.name AS team_name,
+              COUNT(au.achievement_id) AS total_achievements
+          FROM task_list.teams t
+                   LEFT JOIN task_list.achievements_users au ON t.id = au.team_id
+              AND au.project_id IN (SELECT id FROM task_list.projects WHERE name = :projectName)
+          GROUP BY t.name
+      ) achievements ON t.name = achievements.team_name
+      LEFT JOIN (
+          SELECT
+              t1.name AS team_name,
+              SUM(s.created_count) AS total_tasks,
+              SUM(s.approved_count) AS completed_tasks,
+              SUM(s.on_time_count) AS on_time_tasks,
+              SUM(s.critical_count) AS total_critical_tasks,
+              SUM(s.critical_approved_count) AS critical_tasks_completed,
+              SUM(s.bug_count) AS total_bugs,
+              SUM(s.bug_approved_count) AS bugs_completed
+          FROM task_list.teams t1
+                   JOIN task_list.teams_users tu ON t1.id = tu.team_id
+                   JOIN task_list.task_daily_stats s ON s.user_id = tu.user_id AND s.team_id = t1.id
+          WHERE s.project_id = (SELECT id FROM task_list.projects WHERE name = :projectName)
+            AND s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+          GROUP BY t1.name
+      ) tasks ON t.name = tasks.team_name
+      WHERE t.id IN (
+          SELECT team_id
+          FROM task_list.projects_teams
+          WHERE project_id = (SELECT id FROM task_list.projects WHERE name = :projectName)
+      );
+      """;
+
+  /**
+   * The metrics of all members of a team, see {@link ReportMetricsRepository#findTeamMemberMetrics}.
+   */
+  static final String TEAM_MEMBER_METRICS = """
+      WITH TeamTasks AS (
+          SELECT
+              tu.user_id,
+              COALESCE(SUM(s.approved_count), 0) AS tasks_completed,
+              COALESCE(SUM(s.created_count), 0) AS total_tasks,
+              COALESCE(SUM(s.on_time_count), 0) AS on_time_tasks,
+              SUM(s.duration_seconds) / NULLIF(SUM(s.duration_count), 0) / 60 AS average_duration
+          FROM task_list.teams_users tu
+                   LEFT JOIN task_list.task_daily_stats s ON s.user_id = tu.user_id AND s.team_id = tu.team_id
+              AND s.project_id = (SELECT id FROM task_list.projects WHERE name = :projectName)
+              AND s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+          WHERE tu.team_id = (SELECT id FROM task_list.teams WHERE name = :teamName)
+          GROUP BY tu.user_id
+      ),
+      UserAchievements AS (
+          SELECT
+              au.user_id,
+              COUNT(au.achievement_id) AS achievement_count
+          FROM task_list.achievements_users au
+                  JOIN task_list.users u ON au.user_id = u.id
+          WHERE u.id IN (SELECT user_id FROM task_list.teams_users WHERE team_id = (SELECT id FROM task_list.teams WHERE name = :teamName))
+          AND au.team_id = (SELECT id FROM task_list.teams WHERE name = :teamName)
+          GROUP BY au.user_id
+      ),
+      UserProjectTasks AS (
+          SELECT
+              s.user_id,
+              SUM(s.bug_count) AS allBugs,
+              SUM(s.bug_approved_count) AS bugFixesResolved,
+              SUM(s.critical_count) AS allCriticalTasks,
+              SUM(s.critical_approved_count) AS criticalTasksSolved
+          FROM task_list.task_daily_stats s
+          WHERE s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+          AND s.project_id = (SELECT id FROM task_list.projects WHERE name = :projectName)
+          GROUP BY s.user_id
+      ),
+      UserTaskDetails AS (
+          SELECT
+              u.full_name AS user_name,
+              COALESCE(ui.image, 'https://dummyimage.com/150x150/000/fff&text=No+Data') AS user_image,
+              COALESCE(r.name, 'N/A') AS user_role,
+              tt.total_tasks AS all_tasks,
+              tt.tasks_completed AS tasks_completed,
+              ROUND(COALESCE(tt.tasks_completed * 100.0 / NULLIF(tt.total_tasks, 0), 0), 2) AS task_completion_rate,
+              COALESCE(ua.achievement_count, 0) AS all_achievements,
+              COALESCE(upt.allBugs, 0) AS allBugs,
+              COALESCE(upt.bugFixesResolved, 0) AS bugFixesResolved,
+              COALESCE(upt.allCriticalTasks, 0) AS allCriticalTasks,
+              COALESCE(upt.criticalTasksSolved, 0) AS criticalTasksSolved,
+              tt.on_time_tasks AS onTimeTasks,
+              ROUND(COALESCE(tt.average_duration, 0), 2) AS averageTaskDuration
+          FROM task_list.teams_users tu
+                  JOIN task_list.users u ON tu.user_id = u.id
+                  LEFT JOIN task_list.roles r ON tu.role_id = r.id
+                  LEFT JOIN task_list.users_images ui ON u.id = ui.user_id
+                  JOIN TeamTasks tt ON tu.user_id = tt.user_id
+                  LEFT JOIN UserAchievements ua ON tu.user_id = ua.user_id
+                  LEFT JOIN UserProjectTasks upt ON tu.user_id = upt.user_id
+          WHERE tu.team_id = (SELECT id FROM task_list.teams WHERE name = :teamName)
+      )
+      SELECT
+          user_name,
+          user_image,
+          user_role,
+          all_tasks,
+          tasks_completed,
+          onTimeTasks,
+          averageTaskDuration,
+          task_completion_rate,
+          ROUND(COALESCE(bugFixesResolved * 100.0 / NULLIF(allBugs, 0), 0), 2) AS bugFixResolutionRate,
+          ROUND(COALESCE(criticalTasksSolved * 100.0 / NULLIF(allCriticalTasks, 0), 0), 2) AS criticalTaskResolutionRate,
+          all_achievements
+      FROM UserTaskDetails
+      ORDER BY tasks_completed DESC, task_completion_rate DESC;
+      """;
+
+  /**
+   * The task completion rates of a user per non-empty bucket, see {@link ReportMetricsRepository#findCompletionRates}.
+   */
+  static final String COMPLETION_RATES = """
+      SELECT
+          CAST(date_trunc(:granularity, CAST(s.stat_date AS TIMESTAMP)) AS DATE) AS bucket,
+          ROUND((SUM(s.approved_count) * 100.0) / SUM(s.created_count), 2) AS taskCompletionRate
+      FROM task_list.task_daily_stats s
+      WHERE s.project_id = (SELECT id FROM task_list.projects WHERE name = :projectName)
+        AND s.team_id = (SELECT id FROM task_list.teams WHERE name = :teamName)
+        AND s.user_id = :assignedTo
+        AND s.stat_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+      GROUP BY bucket
+      HAVING SUM(s.created_count) > 0
+      ORDER BY bucket
+      """;
+
+  private ReportQueries() {
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanagerproject.repositories;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository of the leases that keep a scheduled job running on a single node at a time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledJobLockRepository {
+
+  private static final String TRY_LOCK = """
+      INSERT INTO task_list.scheduled_job_locks AS l (name, locked_at, locked_until, locked_by)
+      VALUES (?, NOW(), NOW() + make_interval(secs => ?), ?)
+      ON CONFLICT (name) DO UPDATE
+          SET locked_at = EXCLUDED.locked_at,
+              locked_until = EXCLUDED.locked_until,
+              locked_by = EXCLUDED.locked_by
+          WHERE l.locked_until <= NOW()
+      """;
+
+  private static final String UNLOCK = """
+      UPDATE task_list.scheduled_job_locks
+      SET locked_until = GREATEST(NOW(), locked_at + make_interval(secs => ?))
+      WHERE name = ? AND locked_by = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Takes the lease of a job if no other node holds it.
+   *
+   * @param name          the name of the job
+   * @param owner         the node taking the lease
+   * @param lockAtMostFor how long the lease is held if the node never releases it
+   * @return true if the lease was taken, false if another node holds it
+   */
+  public boolean tryLock(String name, String owner, Duration lockAtMostFor) {
+    return jdbcTemplate.update(TRY_LOCK, name, lockAtMostFor.toSeconds(), owner) == 1;
+  }
+
+  /**
+   * Releases the lease of a job, keeping it until its minimum hold time has passed
+   * so that nodes whose schedule fires a little later do not run the job again.
+   *
+   * @param name           the name of the job
+   * @param owner          the node holding the lease
+   * @param lockAtLeastFor how long after it was taken the lease is kept
+   */
+  public void unlock(String name, String owner, Duration lockAtLeastFor) {
+    jdbcTemplate.update(UNLOCK, lockAtLeastFor.toSeconds(), name, owner);
+  }
+}
@@ -4,6 +4,7 @@ import com.example.taskmanagerproject.entities.tasks.Task;
 import com.example.taskmanagerproject.entities.tasks.TaskComment;
 import com.example.taskmanagerproject.entities.users.User;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -44,6 +45,14 @@ public interface TaskCommentRepository extends JpaRepository<TaskComment, Long>
    */
   boolean existsByTaskId(Long taskId);
 
+  /**
+   * Counts the TaskComments of the given task ID.
+   *
+   * @param taskId The ID of the task whose comments are counted.
+   * @return The number of comments of the task.
+   */
+  long countByTaskId(Long taskId);
+
   /**
    * Find the distinct task ID associated with the given slug.
    *
@@ -61,4 +70,24 @@ public interface TaskCommentRepository extends JpaRepository<TaskComment, Long>
    */
   @Query("SELECT DISTINCT tc.task.id FROM TaskComment tc WHERE tc.id = :taskCommentId")
   Long findDistinctTaskIdById(@Param("taskCommentId") Long taskCommentId);
+
+  /**
+   * Finds the IDs of all approved tasks assigned to a user within a project and team that have comments.
+   *
+   * @param userId    The ID of the user to whom the tasks are assigned.
+   * @param projectId The ID of the project to which the tasks belong.
+   * @param teamId    The ID of the team to which the tasks belong.
+   * @return The set of IDs of commented tasks.
+   */
+  @Query("""
+      SELECT DISTINCT tc.task.id
+      FROM TaskComment tc
+      WHERE tc.task.taskStatus = 'APPROVED'
+        AND tc.task.assignedTo.id = :userId
+        AND tc.task.project.id = :projectId
+        AND tc.task.team.id = :teamId
+      """)
+  Set<Long> findCommentedTaskIds(@Param("userId") Long userId,
+                                 @Param("projectId") Long projectId,
+                                 @Param("teamId") Long teamId);
 }
@@ -0,0 +1,113 @@
+package com.example.taskmanagerproject.repositories;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository of the daily task statistics that the report queries read.
+ * The rows are kept current by database triggers on tasks and comments; this repository reconciles them
+ * with the tasks one project at a time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskDailyStatsRepository {
+
+  private static final String FIND_PROJECT_IDS = "SELECT p.id FROM task_list.projects p ORDER BY p.id";
+
+  /**
+   * Adds the difference between the recomputed and the stored rows of a project to the stored rows.
+   * Both sides are read from the same snapshot, so a concurrent task write is either in both or in neither,
+   * and its trigger update is kept. Only rows that differ are written and locked.
+   */
+  private static final String CORRECT_PROJECT_STATS = """
+      WITH fresh AS (
+          SELECT t.project_id,
+                 t.team_id,
+                 t.assigned_to AS user_id,
+                 CAST(t.created_at AS DATE) AS stat_date,
+                 COUNT(*) AS created_count,
+                 COUNT(*) FILTER (WHERE t.task_status = 'APPROVED') AS approved_count,
+                 COUNT(*) FILTER (WHERE t.task_status = 'APPROVED' AND t.expiration_date >= t.approved_at) AS on_time_count,
+                 COUNT(*) FILTER (WHERE t.priority = 'CRITICAL') AS critical_count,
+                 COUNT(*) FILTER (WHERE t.priority = 'CRITICAL' AND t.task_status = 'APPROVED') AS critical_approved_count,
+                 COUNT(*) FILTER (WHERE c.commented) AS bug_count,
+                 COUNT(*) FILTER (WHERE c.commented AND t.task_status = 'APPROVED') AS bug_approved_count,
+                 COUNT(t.approved_at) AS duration_count,
+                 COALESCE(SUM(EXTRACT(EPOCH FROM (t.approved_at - t.created_at))), 0) AS duration_seconds
+          FROM task_list.tasks t
+          CROSS JOIN LATERAL (
+              SELECT EXISTS (SELECT 1 FROM task_list.task_comments tc WHERE tc.task_id = t.id) AS commented
+          ) c
+          WHERE t.project_id = ? AND t.assigned_to IS NOT NULL
+          GROUP BY t.project_id, t.team_id, t.assigned_to, CAST(t.created_at AS DATE)
+      ),
+      stored AS (
+          SELECT * FROM task_list.task_daily_stats WHERE project_id = ?
+      ),
+      drift AS (
+          SELECT project_id,
+                 team_id,
+                 user_id,
+                 stat_date,
+                 COALESCE(f.created_count, 0) - COALESCE(st.created_count, 0) AS created_count,
+                 COALESCE(f.approved_count, 0) - COALESCE(st.approved_count, 0) AS approved_count,
+                 COALESCE(f.on_time_count, 0) - COALESCE(st.on_time_count, 0) AS on_time_count,
+                 COALESCE(f.critical_count, 0) - COALESCE(st.critical_count, 0) AS critical_count,
+                 COALESCE(f.critical_approved_count, 0) - COALESCE(st.critical_approved_count, 0) AS critical_approved_count,
+                 COALESCE(f.bug_count, 0) - COALESCE(st.bug_count, 0) AS bug_count,
+                 COALESCE(f.bug_approved_count, 0) - COALESCE(st.bug_approved_count, 0) AS bug_approved_count,
+                 COALESCE(f.duration_count, 0) - COALESCE(st.duration_count, 0) AS duration_count,
+                 COALESCE(f.duration_seconds, 0) - COALESCE(st.duration_seconds, 0) AS duration_seconds
+          FROM fresh f
+          FULL JOIN stored st USING (project_id, team_id, user_id, stat_date)
+      )
+      INSERT INTO task_list.task_daily_stats AS s
+          (project_id, team_id, user_id, stat_date, created_count, approved_count, on_time_count, critical_count,
+           critical_approved_count, bug_count, bug_approved_count, duration_count, duration_seconds)
+      SELECT * FROM drift d
+      WHERE (d.created_count, d.approved_count, d.on_time_count, d.critical_count, d.critical_approved_count,
+             d.bug_count, d.bug_approved_count, d.duration_count, d.duration_seconds)
+          <> (0, 0, 0, 0, 0, 0, 0, 0, 0)
+      ON CONFLICT (project_id, team_id, user_id, stat_date) DO UPDATE
+          SET created_count           = s.created_count + EXCLUDED.created_count,
+              approved_count          = s.approved_count + EXCLUDED.approved_count,
+              on_time_count           = s.on_time_count + EXCLUDED.on_time_count,
+              critical_count          = s.critical_count + EXCLUDED.critical_count,
+              critical_approved_count = s.critical_approved_count + EXCLUDED.critical_approved_count,
+              bug_count               = s.bug_count + EXCLUDED.bug_count,
+              bug_approved_count      = s.bug_approved_count + EXCLUDED.bug_approved_count,
+              duration_count          = s.duration_count + EXCLUDED.duration_count,
+              duration_seconds        = s.duration_seconds + EXCLUDED.duration_seconds
+      """;
+
+  private static final String DELETE_EMPTY_PROJECT_STATS = """
+      DELETE FROM task_list.task_daily_stats
+      WHERE project_id = ? AND created_count = 0
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Finds the IDs of all projects, in the order they are reconciled.
+   *
+   * @return the project IDs
+   */
+  public List<Long> findProjectIds() {
+    return jdbcTemplate.queryForList(FIND_PROJECT_IDS, Long.class);
+  }
+
+  /**
+   * Reconciles the daily task statistics of a project with its tasks and comments,
+   * then removes the rows no task is counted in anymore.
+   * Neither statement locks more than the rows it changes, so trigger updates of other rows carry on.
+   *
+   * @param projectId the ID of the project
+   * @return the number of statistics rows corrected or removed
+   */
+  public int rebuildProject(long projectId) {
+    int corrected = jdbcTemplate.update(CORRECT_PROJECT_STATS, projectId, projectId);
+    return corrected + jdbcTemplate.update(DELETE_EMPTY_PROJECT_STATS, projectId);
+  }
+}
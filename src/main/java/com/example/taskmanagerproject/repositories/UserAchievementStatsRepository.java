@@ -0,0 +1,355 @@
+package com.example.taskmanagerproject.repositories;
+
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStats;
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStatsId;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the UserAchievementStats entity and its approval buckets.
+ */
+@Repository
+public interface UserAchievementStatsRepository extends JpaRepository<UserAchievementStats, UserAchievementStatsId> {
+
+  /**
+   * Adds one approved task to the counters of a user, team and project, creating the row if needed.
+   * Each flag is either 0 or 1 depending on whether the approved task matches the counter.
+   *
+   * @param userId            the user ID
+   * @param teamId            the team ID
+   * @param projectId         the project ID
+   * @param beforeDeadline    1 if the task was approved strictly before its deadline
+   * @param onTime            1 if the task was approved no later than its deadline
+   * @param highPriority      1 if the task has HIGH priority
+   * @param critical          1 if the task has CRITICAL priority
+   * @param commented         1 if the task has comments
+   * @param criticalCommented 1 if the task has CRITICAL priority and comments
+   * @param longDuration      1 if the task took more than 7 days to approve
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO task_list.user_achievement_stats AS s
+          (user_id, team_id, project_id, approved_count, before_deadline_count, on_time_count, high_priority_count,
+           critical_count, commented_count, critical_commented_count, long_duration_count, updated_at)
+      VALUES (:userId, :teamId, :projectId, 1, :beforeDeadline, :onTime, :highPriority,
+              :critical, :commented, :criticalCommented, :longDuration, NOW())
+      ON CONFLICT (user_id, team_id, project_id) DO UPDATE SET
+          approved_count = s.approved_count + 1,
+          before_deadline_count = s.before_deadline_count + EXCLUDED.before_deadline_count,
+          on_time_count = s.on_time_count + EXCLUDED.on_time_count,
+          high_priority_count = s.high_priority_count + EXCLUDED.high_priority_count,
+          critical_count = s.critical_count + EXCLUDED.critical_count,
+          commented_count = s.commented_count + EXCLUDED.commented_count,
+          critical_commented_count = s.critical_commented_count + EXCLUDED.critical_commented_count,
+          long_duration_count = s.long_duration_count + EXCLUDED.long_duration_count,
+          updated_at = NOW()
+      """, nativeQuery = true)
+  void incrementApprovedTask(@Param("userId") Long userId,
+                             @Param("teamId") Long teamId,
+                             @Param("projectId") Long projectId,
+                             @Param("beforeDeadline") int beforeDeadline,
+                             @Param("onTime") int onTime,
+                             @Param("highPriority") int highPriority,
+                             @Param("critical") int critical,
+                             @Param("commented") int commented,
+                             @Param("criticalCommented") int criticalCommented,
+                             @Param("longDuration") int longDuration);
+
+  /**
+   * Adds one approved task to a day or month bucket of a user, team and project.
+   *
+   * @param userId      the user ID
+   * @param teamId      the team ID
+   * @param projectId   the project ID
+   * @param bucketType  the bucket granularity, either DAY or MONTH
+   * @param bucketStart the first day of the bucket
+   * @param critical    1 if the task has CRITICAL priority
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO task_list.user_achievement_stats_buckets AS b
+          (user_id, team_id, project_id, bucket_type, bucket_start, approved_count, critical_count)
+      VALUES (:userId, :teamId, :projectId, :bucketType, :bucketStart, 1, :critical)
+      ON CONFLICT (user_id, team_id, project_id, bucket_type, bucket_start) DO UPDATE SET
+          approved_count = b.approved_count + 1,
+          critical_count = b.critical_count + EXCLUDED.critical_count
+      """, nativeQuery = true)
+  void incrementBucket(@Param("userId") Long userId,
+                       @Param("teamId") Long teamId,
+                       @Param("projectId") Long projectId,
+                       @Param("bucketType") String bucketType,
+                       @Param("bucketStart") LocalDate bucketStart,
+                       @Param("critical") int critical);
+
+  /**
+   * Removes one task that is no longer approved from the counters of a user, team and project.
+   * Each flag is either 0 or 1 depending on whether the task was counted in the counter.
+   *
+   * @param userId            the user ID
+   * @param teamId            the team ID
+   * @param projectId         the project ID
+   * @param beforeDeadline    1 if the task was approved strictly before its deadline
+   * @param onTime            1 if the task was approved no later than its deadline
+   * @param highPriority      1 if the task has HIGH priority
+   * @param critical          1 if the task has CRITICAL priority
+   * @param commented         1 if the task has comments
+   * @param criticalCommented 1 if the task has CRITICAL priority and comments
+   * @param longDuration      1 if the task took more than 7 days to approve
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE task_list.user_achievement_stats
+      SET approved_count = approved_count - 1,
+          before_deadline_count = before_deadline_count - :beforeDeadline,
+          on_time_count = on_time_count - :onTime,
+          high_priority_count = high_priority_count - :highPriority,
+          critical_count = critical_count - :critical,
+          commented_count = commented_count - :commented,
+          critical_commented_count = critical_commented_count - :criticalCommented,
+          long_duration_count = long_duration_count - :longDuration,
+          updated_at = NOW()
+      WHERE user_id = :userId AND team_id = :teamId AND project_id = :projectId
+      """, nativeQuery = true)
+  void decrementApprovedTask(@Param("userId") Long userId,
+                             @Param("teamId") Long teamId,
+                             @Param("projectId") Long projectId,
+                             @Param("beforeDeadline") int beforeDeadline,
+                             @Param("onTime") int onTime,
+                             @Param("highPriority") int highPriority,
+                             @Param("critical") int critical,
+                             @Param("commented") int commented,
+                             @Param("criticalCommented") int criticalCommented,
+                             @Param("longDuration") int longDuration);
+
+  /**
+   * Removes one task that is no longer approved from a day or month bucket of a user, team and project.
+   *
+   * @param userId      the user ID
+   * @param teamId      the team ID
+   * @param projectId   the project ID
+   * @param bucketType  the bucket granularity, either DAY or MONTH
+   * @param bucketStart the first day of the bucket
+   * @param critical    1 if the task has CRITICAL priority
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE task_list.user_achievement_stats_buckets
+      SET approved_count = approved_count - 1,
+          critical_count = critical_count - :critical
+      WHERE user_id = :userId AND team_id = :teamId AND project_id = :projectId
+        AND bucket_type = :bucketType AND bucket_start = :bucketStart
+      """, nativeQuery = true)
+  void decrementBucket(@Param("userId") Long userId,
+                       @Param("teamId") Long teamId,
+                       @Param("projectId") Long projectId,
+                       @Param("bucketType") String bucketType,
+                       @Param("bucketStart") LocalDate bucketStart,
+                       @Param("critical") int critical);
+
+  /**
+   * Counts an approved task as commented (delta = 1) or uncommented (delta = -1)
+   * when its first comment is added or its last comment is removed.
+   *
+   * @param userId    the user ID
+   * @param teamId    the team ID
+   * @param projectId the project ID
+   * @param delta     1 if the task gained its first comment, -1 if it lost its last one
+   * @param critical  1 if the task has CRITICAL priority
+   */
+  @Modifying
+  @Query(value = """
+      UPDATE task_list.user_achievement_stats
+      SET commented_count = commented_count + :delta,
+          critical_commented_count = critical_commented_count + :delta * :critical,
+          updated_at = NOW()
+      WHERE user_id = :userId AND team_id = :teamId AND project_id = :projectId
+      """, nativeQuery = true)
+  void updateCommentedCount(@Param("userId") Long userId,
+                            @Param("teamId") Long teamId,
+                            @Param("projectId") Long projectId,
+                            @Param("delta") int delta,
+                            @Param("critical") int critical);
+
+  /**
+   * Finds the highest number of approved tasks in a single bucket of the given type.
+   *
+   * @param userId     the user ID
+   * @param teamId     the team ID
+   * @param projectId  the project ID
+   * @param bucketType the bucket granularity, either DAY or MONTH
+   * @return the largest approved count, or 0 if there are no buckets
+   */
+  @Query(value = """
+      SELECT COALESCE(MAX(b.approved_count), 0)
+      FROM task_list.user_achievement_stats_buckets b
+      WHERE b.user_id = :userId AND b.team_id = :teamId AND b.project_id = :projectId AND b.bucket_type = :bucketType
+      """, nativeQuery = true)
+  long findMaxApprovedCount(@Param("userId") Long userId,
+                            @Param("teamId") Long teamId,
+                            @Param("projectId") Long projectId,
+                            @Param("bucketType") String bucketType);
+
+  /**
+   * Finds the highest number of approved CRITICAL tasks in a single bucket of the given type.
+   *
+   * @param userId     the user ID
+   * @param teamId     the team ID
+   * @param projectId  the project ID
+   * @param bucketType the bucket granularity, either DAY or MONTH
+   * @return the largest critical count, or 0 if there are no buckets
+   */
+  @Query(value = """
+      SELECT COALESCE(MAX(b.critical_count), 0)
+      FROM task_list.user_achievement_stats_buckets b
+      WHERE b.user_id = :userId AND b.team_id = :teamId AND b.project_id = :projectId AND b.bucket_type = :bucketType
+      """, nativeQuery = true)
+  long findMaxCriticalCount(@Param("userId") Long userId,
+                            @Param("teamId") Long teamId,
+                            @Param("projectId") Long projectId,
+                            @Param("bucketType") String bucketType);
+
+  /**
+   * Finds the IDs of all projects, in the order their counters are reconciled.
+   *
+   * @return the project IDs
+   */
+  @Query(value = "SELECT p.id FROM task_list.projects p ORDER BY p.id", nativeQuery = true)
+  List<Long> findProjectIds();
+
+  /**
+   * Recomputes the counters of a project from its approved tasks and adds the difference to the stored counters.
+   * Both sides are read from the same snapshot, so an approval committed concurrently is either in both or in
+   * neither, and its incremental update is kept. Only counters that differ are written and locked.
+   *
+   * @param projectId the project ID
+   * @return the number of counter rows corrected
+   */
+  @Modifying
+  @Query(value = """
+      WITH fresh AS (
+          SELECT t.assigned_to AS user_id,
+                 t.team_id,
+                 t.project_id,
+                 COUNT(*) AS approved_count,
+                 COUNT(*) FILTER (WHERE t.expiration_date > t.approved_at) AS before_deadline_count,
+                 COUNT(*) FILTER (WHERE t.approved_at <= t.expiration_date) AS on_time_count,
+                 COUNT(*) FILTER (WHERE t.priority = 'HIGH') AS high_priority_count,
+                 COUNT(*) FILTER (WHERE t.priority = 'CRITICAL') AS critical_count,
+                 COUNT(*) FILTER (WHERE c.commented) AS commented_count,
+                 COUNT(*) FILTER (WHERE t.priority = 'CRITICAL' AND c.commented) AS critical_commented_count,
+                 COUNT(*) FILTER (WHERE t.approved_at - t.created_at >= INTERVAL '8 days') AS long_duration_count
+          FROM task_list.tasks t
+          CROSS JOIN LATERAL (
+              SELECT EXISTS (SELECT 1 FROM task_list.task_comments tc WHERE tc.task_id = t.id) AS commented
+          ) c
+          WHERE t.project_id = :projectId
+            AND t.task_status = 'APPROVED'
+            AND t.assigned_to IS NOT NULL
+            AND t.approved_at IS NOT NULL
+          GROUP BY t.assigned_to, t.team_id, t.project_id
+      ),
+      stored AS (
+          SELECT * FROM task_list.user_achievement_stats WHERE project_id = :projectId
+      ),
+      drift AS (
+          SELECT user_id,
+                 team_id,
+                 project_id,
+                 COALESCE(f.approved_count, 0) - COALESCE(st.approved_count, 0) AS approved_count,
+                 COALESCE(f.before_deadline_count, 0) - COALESCE(st.before_deadline_count, 0) AS before_deadline_count,
+                 COALESCE(f.on_time_count, 0) - COALESCE(st.on_time_count, 0) AS on_time_count,
+                 COALESCE(f.high_priority_count, 0) - COALESCE(st.high_priority_count, 0) AS high_priority_count,
+                 COALESCE(f.critical_count, 0) - COALESCE(st.critical_count, 0) AS critical_count,
+                 COALESCE(f.commented_count, 0) - COALESCE(st.commented_count, 0) AS commented_count,
+                 COALESCE(f.critical_commented_count, 0) - COALESCE(st.critical_commented_count, 0) AS critical_commented_count,
+                 COALESCE(f.long_duration_count, 0) - COALESCE(st.long_duration_count, 0) AS long_duration_count
+          FROM fresh f
+          FULL JOIN stored st USING (user_id, team_id, project_id)
+      )
+      INSERT INTO task_list.user_achievement_stats AS s
+          (user_id, team_id, project_id, approved_count, before_deadline_count, on_time_count, high_priority_count,
+           critical_count, commented_count, critical_commented_count, long_duration_count, updated_at)
+      SELECT d.*, NOW() FROM drift d
+      WHERE (d.approved_count, d.before_deadline_count, d.on_time_count, d.high_priority_count, d.critical_count,
+             d.commented_count, d.critical_commented_count, d.long_duration_count) <> (0, 0, 0, 0, 0, 0, 0, 0)
+      ON CONFLICT (user_id, team_id, project_id) DO UPDATE SET
+          approved_count = s.approved_count + EXCLUDED.approved_count,
+          before_deadline_count = s.before_deadline_count + EXCLUDED.before_deadline_count,
+          on_time_count = s.on_time_count + EXCLUDED.on_time_count,
+          high_priority_count = s.high_priority_count + EXCLUDED.high_priority_count,
+          critical_count = s.critical_count + EXCLUDED.critical_count,
+          commented_count = s.commented_count + EXCLUDED.commented_count,
+          critical_commented_count = s.critical_commented_count + EXCLUDED.critical_commented_count,
+          long_duration_count = s.long_duration_count + EXCLUDED.long_duration_count,
+          updated_at = NOW()
+      """, nativeQuery = true)
+  int rebuildProjectStats(@Param("projectId") Long projectId);
+
+  /**
+   * Recomputes the per-day and per-month approval buckets of a project from its approved tasks
+   * and adds the difference to the stored buckets, like {@link #rebuildProjectStats(Long)}.
+   * Must run after the counters of the project were rebuilt, as buckets reference them.
+   *
+   * @param projectId the project ID
+   * @return the number of bucket rows corrected
+   */
+  @Modifying
+  @Query(value = """
+      WITH fresh AS (
+          SELECT t.assigned_to AS user_id, t.team_id, t.project_id, 'DAY' AS bucket_type,
+                 CAST(t.approved_at AS DATE) AS bucket_start,
+                 COUNT(*) AS approved_count, COUNT(*) FILTER (WHERE t.priority = 'CRITICAL') AS critical_count
+          FROM task_list.tasks t
+          WHERE t.project_id = :projectId AND t.task_status = 'APPROVED'
+            AND t.assigned_to IS NOT NULL AND t.approved_at IS NOT NULL
+          GROUP BY t.assigned_to, t.team_id, t.project_id, CAST(t.approved_at AS DATE)
+          UNION ALL
+          SELECT t.assigned_to, t.team_id, t.project_id, 'MONTH', CAST(date_trunc('month', t.approved_at) AS DATE),
+                 COUNT(*), COUNT(*) FILTER (WHERE t.priority = 'CRITICAL')
+          FROM task_list.tasks t
+          WHERE t.project_id = :projectId AND t.task_status = 'APPROVED'
+            AND t.assigned_to IS NOT NULL AND t.approved_at IS NOT NULL
+          GROUP BY t.assigned_to, t.team_id, t.project_id, date_trunc('month', t.approved_at)
+      ),
+      stored AS (
+          SELECT * FROM task_list.user_achievement_stats_buckets WHERE project_id = :projectId
+      ),
+      drift AS (
+          SELECT user_id,
+                 team_id,
+                 project_id,
+                 bucket_type,
+                 bucket_start,
+                 COALESCE(f.approved_count, 0) - COALESCE(st.approved_count, 0) AS approved_count,
+                 COALESCE(f.critical_count, 0) - COALESCE(st.critical_count, 0) AS critical_count
+          FROM fresh f
+          FULL JOIN stored st USING (user_id, team_id, project_id, bucket_type, bucket_start)
+      )
+      INSERT INTO task_list.user_achievement_stats_buckets AS b
+          (user_id, team_id, project_id, bucket_type, bucket_start, approved_count, critical_count)
+      SELECT * FROM drift d
+      WHERE (d.approved_count, d.critical_count) <> (0, 0)
+      ON CONFLICT (user_id, team_id, project_id, bucket_type, bucket_start) DO UPDATE SET
+          approved_count = b.approved_count + EXCLUDED.approved_count,
+          critical_count = b.critical_count + EXCLUDED.critical_count
+      """, nativeQuery = true)
+  int rebuildProjectBuckets(@Param("projectId") Long projectId);
+
+  /**
+   * Removes the approval buckets of a project that no approved task falls into anymore.
+   *
+   * @param projectId the project ID
+   * @return the number of bucket rows removed
+   */
+  @Modifying
+  @Query(value = """
+      DELETE FROM task_list.user_achievement_stats_buckets
+      WHERE project_id = :projectId AND approved_count = 0
+      """, nativeQuery = true)
+  int deleteEmptyProjectBuckets(@Param("projectId") Long projectId);
+}
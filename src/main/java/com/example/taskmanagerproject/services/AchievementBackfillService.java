@@ -0,0 +1,28 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
+import java.util.Optional;
+
+/**
+ * Service interface for recomputing achievements of all users from their approved tasks.
+ * Unlike the event-driven evaluation, the backfill streams every approved task once and
+ * evaluates each user, team and project group in memory.
+ */
+public interface AchievementBackfillService {
+
+  /**
+   * Evaluates the achievement rules for every user, team and project group and awards the unlocked achievements.
+   * Progress is checkpointed periodically, so an interrupted run can resume after the last completed group.
+   *
+   * @param resume Whether to continue an incomplete previous run instead of starting over.
+   * @return The progress of the completed run.
+   */
+  AchievementBackfillProgress backfillAchievements(boolean resume);
+
+  /**
+   * Returns the checkpoint of the current or last backfill run.
+   *
+   * @return The progress, or an empty optional if the backfill never ran.
+   */
+  Optional<AchievementBackfillProgress> getProgress();
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import java.util.Collection;
+
+/**
+ * Service interface for retrying failed achievement evaluations.
+ * Failed events are handed over to the retry topics instead of being retried in place,
+ * and events that exhausted their retries can be re-driven from the dead-letter topic.
+ */
+public interface AchievementRetryService {
+
+  /**
+   * Publishes events whose evaluation failed to the retry topic and waits for the broker to acknowledge them.
+   *
+   * @param events The task completion events to retry.
+   */
+  void scheduleRetry(Collection<KafkaTaskCompletionDto> events);
+
+  /**
+   * Moves events from the dead-letter topic back to the retry topic, committing the
+   * dead-letter offsets once the events are acknowledged.
+   *
+   * @param maxEvents The maximum number of events to move.
+   * @return The number of events moved.
+   */
+  int redriveDeadLetters(int maxEvents);
+}
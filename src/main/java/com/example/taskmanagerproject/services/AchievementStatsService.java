@@ -0,0 +1,49 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.entities.tasks.Task;
+
+/**
+ * Service interface for maintaining the per-user achievement counters.
+ * The counters let achievement rules read aggregated values instead of
+ * re-scanning every approved task of a user on each event.
+ */
+public interface AchievementStatsService {
+
+  /**
+   * Adds a newly approved task to the counters and buckets of its assignee.
+   *
+   * @param task The task that has just transitioned to APPROVED.
+   */
+  void recordApprovedTask(Task task);
+
+  /**
+   * Removes an approved task from the counters and buckets of its assignee.
+   * Called with the values the task was counted with, before it leaves APPROVED or is deleted.
+   *
+   * @param task The approved task, as it was counted.
+   */
+  void removeApprovedTask(Task task);
+
+  /**
+   * Counts an approved task as commented once its first comment has been saved.
+   *
+   * @param task The task that has just received a comment.
+   */
+  void recordCommentAdded(Task task);
+
+  /**
+   * Stops counting an approved task as commented once its last comment has been deleted.
+   *
+   * @param task The task that has just lost a comment.
+   */
+  void recordCommentRemoved(Task task);
+
+  /**
+   * Recomputes the counters and buckets from the approved tasks, one project at a time,
+   * and corrects the stored values that differ.
+   * Used to reconcile the aggregates after bulk imports or concurrent first comments.
+   *
+   * @return The number of user, team and project combinations corrected.
+   */
+  int rebuildStats();
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+
+/**
+ * Service interface for the transactional outbox of Kafka events.
+ * Events are stored in the same transaction as the change that produced them
+ * and published to Kafka by a relay after the transaction commits.
+ */
+public interface OutboxService {
+
+  /**
+   * Stores an achievement event in the outbox as part of the current transaction.
+   *
+   * @param event The task completion event to publish once the transaction commits.
+   */
+  void enqueueAchievementEvent(KafkaTaskCompletionDto event);
+
+  /**
+   * Locks the next batch of due events, publishes them to Kafka and removes the acknowledged ones from the outbox.
+   * Each failed event records its error and is retried with a growing delay, until it runs out of attempts
+   * and is parked. Rows locked by another relay are skipped, so several nodes can drain the outbox in parallel.
+   *
+   * @return The number of events published.
+   */
+  int publishNextBatch();
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.dtos.reports.ReportDataVersion;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import java.util.Optional;
+
+/**
+ * Service interface for serving rendered PDF reports from a cache.
+ * Cached reports are tagged with the data version of their project and are rendered again
+ * once a write to the data the project's reports are built from has changed that version.
+ */
+public interface ReportCacheService {
+
+  /**
+   * Finds the current version of the data a report is built from.
+   *
+   * @param request The type and parameters of the report.
+   * @return The data version of the report's project, or empty if the report cannot be cached.
+   */
+  Optional<ReportDataVersion> findDataVersion(ReportRequest request);
+
+  /**
+   * Returns a report rendered from the given data version, rendering it only on a cache miss.
+   * Concurrent misses of the same report and version share a single render.
+   *
+   * @param request The type and parameters of the report.
+   * @param version The data version the report must have been rendered from.
+   * @return The report, streamed while it is rendered on a miss.
+   */
+  PdfReport getReport(ReportRequest request, ReportDataVersion version);
+}
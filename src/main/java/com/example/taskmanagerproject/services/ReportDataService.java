@@ -1,11 +1,21 @@
 package com.example.taskmanagerproject.services;
 
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportType;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
 import com.example.taskmanagerproject.entities.projects.Project;
 import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.users.User;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
+import com.example.taskmanagerproject.utils.reports.SeriesGranularity;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for fetching report-related data.
@@ -23,10 +33,10 @@ public interface ReportDataService {
    * @param startDate The start date of the time period for which the metrics are being retrieved.
    * @param endDate The end date of the time period for which the metrics are being retrieved.
    *
-   * @return An array of objects representing the task metrics for the specified user, team, project, and date range.
-   *         The array may include various metrics like completed tasks, completion rate, etc.
+   * @return The task metrics for the specified user, team, project, and date range,
+   *         such as completed tasks, completion rate, etc.
    */
-  Object[] fetchUserPerformanceMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
+  UserMetrics fetchUserPerformanceMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
 
   /**
    * Fetches the list of achievements for a user within a specified team and project.
@@ -40,6 +50,29 @@ public interface ReportDataService {
    */
   List<Achievement> fetchAchievements(User user, Team team, Project project);
 
+  /**
+   * Fetches the task metrics of every member of a team for a specified project and date range in one query.
+   * Each row has the metrics of {@link #fetchUserPerformanceMetrics} for one member.
+   *
+   * @param team The team whose members' task metrics are to be fetched.
+   * @param project The project in which the members worked.
+   * @param startDate The start date of the time period for which the metrics are being retrieved.
+   * @param endDate The end date of the time period for which the metrics are being retrieved.
+   *
+   * @return The metrics of each member with tasks in the specified period, ordered by user ID.
+   */
+  List<UserMetrics> fetchTeamMemberPerformanceMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
+
+  /**
+   * Fetches the achievements of every member of a team within a project in one query.
+   *
+   * @param team The team whose members' achievements are to be fetched.
+   * @param project The project within which the achievements were earned.
+   *
+   * @return The achievements earned in the team and project, keyed by user ID. Members without achievements have no entry.
+   */
+  Map<Long, List<Achievement>> fetchTeamMemberAchievements(Team team, Project project);
+
   /**
    * Fetches the task metrics for the top performers within a team during a specific date range.
    * This includes metrics for the highest-performing users, such as completed tasks, XP, and achievements unlocked.
@@ -49,14 +82,15 @@ public interface ReportDataService {
    * @param startDate The start date of the period to assess the top performers.
    * @param endDate The end date of the period to assess the top performers.
    *
-   * @return A list of Object arrays, where each array contains the task metrics for a top performer,
-   *         such as name, image, role, tasks completed, and performance metrics.
+   * @return The task metrics of each top performer, such as name, image, role, tasks completed,
+   *         and performance metrics.
    */
-  List<Object[]> fetchTopPerformersInTeamMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
+  List<TopPerformerMetrics> fetchTopPerformersInTeamMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
 
   /**
    * Fetches the progress metrics for a user within the context of a specified team, project, and date range.
    * This includes information such as the user's progress towards completing assigned tasks.
+   * The bucket size of the series follows the length of the range, see {@link SeriesGranularity#forRange}.
    *
    * @param user The user whose progress metrics are to be fetched.
    * @param team The team the user belongs to, for additional context.
@@ -64,10 +98,26 @@ public interface ReportDataService {
    * @param startDate The start date of the time period for which progress is being tracked.
    * @param endDate The end date of the time period for which progress is being tracked.
    *
-   * @return A list of Object arrays containing various progress metrics for the user within the specified time range.
-   *         These metrics may include task completion rates, milestones achieved, etc.
+   * @return The task completion rates of the user within the specified time range, one per bucket.
+   */
+  List<ProgressMetrics> fetchProgressMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
+
+  /**
+   * Fetches the task completion rates of a user in a team and project, one per bucket of the given size
+   * from the bucket containing the start date to the bucket containing the end date.
+   * Buckets without tasks have a zero rate.
+   *
+   * @param user The user whose completion rates are to be fetched.
+   * @param team The team the user belongs to.
+   * @param project The project the tasks belong to.
+   * @param startDate The start date of the time period.
+   * @param endDate The end date of the time period.
+   * @param granularity The bucket size of the series.
+   *
+   * @return The bucket labels and completion rates in date order; empty if the end date is before the start date.
    */
-  List<Object[]> fetchProgressMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
+  List<ProgressMetrics> fetchProgressMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate,
+                                             SeriesGranularity granularity);
 
   /**
    * Fetches the team performance metrics for a specified team, project, and date range.
@@ -79,9 +129,9 @@ public interface ReportDataService {
    * @param startDate The start date of the time period for which the team metrics are being calculated.
    * @param endDate The end date of the time period for which the team metrics are being calculated.
    *
-   * @return A list of Object arrays representing the team’s overall performance metrics during the specified period.
+   * @return The performance metrics of each team member during the specified period.
    */
-  List<Object[]> fetchTeamPerformanceMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
+  List<TeamMemberMetrics> fetchTeamPerformanceMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate);
 
   /**
    * Fetches the project performance metrics for a specified project and date range.
@@ -92,7 +142,19 @@ public interface ReportDataService {
    * @param startDate The start date of the time period for which the project metrics are being calculated.
    * @param endDate The end date of the time period for which the project metrics are being calculated.
    *
-   * @return A list of Object arrays containing various performance metrics for the project during the specified period.
+   * @return The performance metrics of each team of the project during the specified period.
+   */
+  List<ProjectTeamMetrics> fetchProjectPerformanceMetrics(Project project, LocalDateTime startDate, LocalDateTime endDate);
+
+  /**
+   * Streams the rows of the metrics query behind a report to a writer, without building the report.
+   * Rows are read through a JDBC cursor, so this must run inside a transaction.
+   * Task progress rows are the gap-filled completion rate series of {@link #fetchProgressMetrics}.
+   *
+   * @param type The type of the report whose metrics are streamed.
+   * @param reportData The validated user, team, project and date range of the report.
+   * @param writer The writer receiving the column names and rows.
+   * @throws java.io.UncheckedIOException if the writer fails.
    */
-  List<Object[]> fetchProjectPerformanceMetrics(Project project, LocalDateTime startDate, LocalDateTime endDate);
+  void streamMetrics(ReportType type, ReportData reportData, MetricsWriter writer);
 }
@@ -0,0 +1,21 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.utils.reports.ReportArchive;
+
+/**
+ * Service interface for exporting many reports at once.
+ */
+public interface ReportExportService {
+
+  /**
+   * Generates the user performance reports of every team member with tasks in a project within a specified date range.
+   * The metrics and achievements of all members are loaded up front, so errors surface before any output is written.
+   *
+   * @param teamName    The name of the team whose members' reports are generated.
+   * @param projectName The name of the project the reports should be associated with.
+   * @param startDate   The start date for the report period, formatted as "yyyy-MM-dd".
+   * @param endDate     The end date for the report period, formatted as "yyyy-MM-dd".
+   * @return The reports, ready to be written as a ZIP archive with one PDF per member.
+   */
+  ReportArchive buildTeamMemberReports(String teamName, String projectName, String startDate, String endDate);
+}
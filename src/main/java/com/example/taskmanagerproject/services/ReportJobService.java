@@ -0,0 +1,41 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.dtos.reports.ReportJobDto;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import java.util.UUID;
+
+/**
+ * Service interface for generating PDF reports asynchronously.
+ * Jobs are shared by all nodes and visible only to the users who submitted them.
+ */
+public interface ReportJobService {
+
+  /**
+   * Queues a report for generation. A request identical to one still queued or running on any node
+   * joins that job instead of rendering the report again.
+   *
+   * @param request   The type and parameters of the report.
+   * @param requester The name of the user submitting the job.
+   * @return The state of the new or joined job.
+   */
+  ReportJobDto submit(ReportRequest request, String requester);
+
+  /**
+   * Retrieves the state of a job.
+   *
+   * @param jobId     The ID of the job.
+   * @param requester The name of the user asking for the job.
+   * @return The state of the job.
+   */
+  ReportJobDto getJob(UUID jobId, String requester);
+
+  /**
+   * Retrieves the PDF generated by a completed job.
+   *
+   * @param jobId     The ID of the job.
+   * @param requester The name of the user asking for the result.
+   * @return The stored PDF, streamed from storage when written.
+   */
+  PdfReport getResult(UUID jobId, String requester);
+}
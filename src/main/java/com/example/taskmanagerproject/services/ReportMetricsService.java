@@ -0,0 +1,21 @@
+package com.example.taskmanagerproject.services;
+
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.utils.reports.MetricsExport;
+
+/**
+ * Service interface for exporting the metrics behind reports in machine-readable formats.
+ * Exports skip template population and PDF rendering, so integrations can read report numbers cheaply.
+ */
+public interface ReportMetricsService {
+
+  /**
+   * Validates the parameters of a report and prepares the export of its metrics.
+   *
+   * @param request The type and parameters of the report.
+   * @param format  The format to export the metrics in.
+   * @return The export, querying and writing the metrics when written.
+   */
+  MetricsExport buildMetricsExport(ReportRequest request, MetricsFormat format);
+}
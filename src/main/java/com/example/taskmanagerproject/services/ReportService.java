@@ -1,7 +1,12 @@
 package com.example.taskmanagerproject.services;
 
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+
 /**
  * Service interface for generating various reports in PDF format.
+ * Validation, data loading and HTML rendering happen when a report is built, so their errors
+ * surface before any output is written; the PDF itself is rendered when the report is written.
  */
 public interface ReportService {
 
@@ -13,9 +18,9 @@ public interface ReportService {
    * @param projectName The name of the project the report should be associated with.
    * @param startDate  The start date for the report period, formatted as "yyyy-MM-dd".
    * @param endDate    The end date for the report period, formatted as "yyyy-MM-dd".
-   * @return A byte array containing the generated PDF report.
+   * @return The report, ready to be written as a PDF.
    */
-  byte[] buildUserReport(String username, String teamName, String projectName, String startDate, String endDate);
+  PdfReport buildUserReport(String username, String teamName, String projectName, String startDate, String endDate);
 
   /**
    * Generates a PDF report displaying the top performers in a team within a specified date range.
@@ -24,9 +29,9 @@ public interface ReportService {
    * @param projectName The name of the project the report should be associated with.
    * @param startDate  The start date for the report period, formatted as "yyyy-MM-dd".
    * @param endDate    The end date for the report period, formatted as "yyyy-MM-dd".
-   * @return A byte array containing the generated PDF report.
+   * @return The report, ready to be written as a PDF.
    */
-  byte[] buildTopPerformersInTeamReport(String teamName, String projectName, String startDate, String endDate);
+  PdfReport buildTopPerformersInTeamReport(String teamName, String projectName, String startDate, String endDate);
 
   /**
    * Generates a PDF report displaying task progress for a user within a specific team and project in a given date range.
@@ -36,9 +41,9 @@ public interface ReportService {
    * @param projectName The name of the project the report should be associated with.
    * @param startDate  The start date for the report period, formatted as "yyyy-MM-dd".
    * @param endDate    The end date for the report period, formatted as "yyyy-MM-dd".
-   * @return A byte array containing the generated PDF report.
+   * @return The report, ready to be written as a PDF.
    */
-  byte[] buildTaskProgressReport(String username, String teamName, String projectName, String startDate, String endDate);
+  PdfReport buildTaskProgressReport(String username, String teamName, String projectName, String startDate, String endDate);
 
   /**
    * Generates a PDF report displaying the overall performance and progress of a team within a specified date range.
@@ -47,9 +52,9 @@ public interface ReportService {
    * @param projectName The name of the project the report should be associated with.
    * @param startDate  The start date for the report period, formatted as "yyyy-MM-dd".
    * @param endDate    The end date for the report period, formatted as "yyyy-MM-dd".
-   * @return A byte array containing the generated PDF report.
+   * @return The report, ready to be written as a PDF.
    */
-  byte[] buildTeamReport(String teamName, String projectName, String startDate, String endDate);
+  PdfReport buildTeamReport(String teamName, String projectName, String startDate, String endDate);
 
   /**
    * Generates a PDF report displaying the overall performance and progress of a project within a specified date range.
@@ -57,7 +62,15 @@ public interface ReportService {
    * @param projectName The name of the project for which the report is being generated.
    * @param startDate   The start date for the report period, formatted as "yyyy-MM-dd".
    * @param endDate     The end date for the report period, formatted as "yyyy-MM-dd".
-   * @return A byte array containing the generated PDF report.
+   * @return The report, ready to be written as a PDF.
+   */
+  PdfReport buildProjectReport(String projectName, String startDate, String endDate);
+
+  /**
+   * Generates the PDF report described by a request, dispatching on its report type.
+   *
+   * @param request The type and parameters of the report.
+   * @return The report, ready to be written as a PDF.
    */
-  byte[] buildProjectReport(String projectName, String startDate, String endDate);
+  PdfReport buildReport(ReportRequest request);
 }
@@ -0,0 +1,17 @@
+package com.example.taskmanagerproject.services;
+
+/**
+ * Service interface for maintaining the daily task statistics the report queries read.
+ * Database triggers keep the statistics current on every task and comment write;
+ * this service recomputes them to reconcile any drift.
+ */
+public interface TaskDailyStatsService {
+
+  /**
+   * Recomputes the daily task statistics from the tasks and comments, one project at a time,
+   * and corrects the stored rows that differ.
+   *
+   * @return The number of day, project, team and user combinations corrected or removed.
+   */
+  int rebuildStats();
+}
@@ -0,0 +1,234 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static java.time.LocalDateTime.now;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementBackfillProperties;
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.repositories.AchievementBackfillRepository;
+import com.example.taskmanagerproject.services.AchievementBackfillService;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillAward;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillRow;
+import com.example.taskmanagerproject.utils.achievements.AchievementCatalog;
+import com.example.taskmanagerproject.utils.achievements.AchievementDataLoader;
+import com.example.taskmanagerproject.utils.achievements.AchievementEvaluationContext;
+import com.example.taskmanagerproject.utils.achievements.AchievementRule;
+import com.example.taskmanagerproject.utils.achievements.AchievementRuleExecutor;
+import com.example.taskmanagerproject.utils.achievements.EarnedAchievementCache;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the AchievementBackfillService interface.
+ */
+@Slf4j
+@Service
+public class AchievementBackfillServiceImpl implements AchievementBackfillService {
+
+  private final AchievementCatalog achievementCatalog;
+  private final AchievementRuleExecutor achievementRuleExecutor;
+  private final EarnedAchievementCache earnedAchievementCache;
+  private final AchievementBackfillProperties backfillProperties;
+  private final AchievementBackfillRepository achievementBackfillRepository;
+  private final TransactionTemplate readTransaction;
+  private final TransactionTemplate checkpointTransaction;
+
+  /**
+   * Creates the service with a read-only transaction for the task cursor and a separate
+   * transaction for each checkpoint, so checkpoints are committed while the cursor stays open.
+   *
+   * @param achievementCatalog            The catalog of achievements and their rules.
+   * @param achievementRuleExecutor       The executor evaluating the rules of a group.
+   * @param earnedAchievementCache        The cache of earned achievements, cleared after a run.
+   * @param backfillProperties            The backfill configuration.
+   * @param achievementBackfillRepository The repository streaming tasks and storing awards.
+   * @param transactionManager            The transaction manager.
+   */
+  public AchievementBackfillServiceImpl(AchievementCatalog achievementCatalog,
+                                        AchievementRuleExecutor achievementRuleExecutor,
+                                        EarnedAchievementCache earnedAchievementCache,
+                                        AchievementBackfillProperties backfillProperties,
+                                        AchievementBackfillRepository achievementBackfillRepository,
+                                        PlatformTransactionManager transactionManager) {
+    this.achievementCatalog = achievementCatalog;
+    this.achievementRuleExecutor = achievementRuleExecutor;
+    this.earnedAchievementCache = earnedAchievementCache;
+    this.backfillProperties = backfillProperties;
+    this.achievementBackfillRepository = achievementBackfillRepository;
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+    this.checkpointTransaction = new TransactionTemplate(transactionManager);
+    this.checkpointTransaction.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public AchievementBackfillProgress backfillAchievements(boolean resume) {
+    AchievementBackfillProgress start = resume
+        ? achievementBackfillRepository.findProgress()
+          .filter(progress -> !progress.isCompleted())
+          .orElseGet(() -> AchievementBackfillProgress.start(now()))
+        : AchievementBackfillProgress.start(now());
+    log.info("Starting achievement backfill after user {}, team {}, project {}.",
+        start.lastUserId(), start.lastTeamId(), start.lastProjectId());
+
+    BackfillRun run = new BackfillRun(start, loadRules());
+    readTransaction.executeWithoutResult(status ->
+        achievementBackfillRepository.streamApprovedTasks(start, backfillProperties.getFetchSize(), run::accept)
+    );
+    AchievementBackfillProgress progress = run.complete();
+    earnedAchievementCache.invalidateAll();
+    return progress;
+  }
+
+  @Override
+  public Optional<AchievementBackfillProgress> getProgress() {
+    return achievementBackfillRepository.findProgress();
+  }
+
+  private Map<Long, AchievementRule> loadRules() {
+    Map<Long, AchievementRule> rules = new LinkedHashMap<>();
+    achievementCatalog.getEntries().forEach(entry -> rules.put(entry.achievementId(), entry.rule()));
+    return rules;
+  }
+
+  /**
+   * State of a single backfill run. Rows arrive ordered by user, team and project, so each group
+   * is complete when the key changes; awards are buffered and written together with the checkpoint.
+   */
+  private final class BackfillRun {
+
+    private final Map<Long, AchievementRule> rules;
+    private final List<AchievementBackfillAward> pendingAwards = new ArrayList<>();
+
+    private AchievementBackfillProgress progress;
+    private long groupsProcessed;
+    private int groupsSinceCheckpoint;
+
+    private long userId;
+    private long teamId;
+    private long projectId;
+    private Set<Long> awardedToUser;
+    private List<Task> tasks = new ArrayList<>();
+    private Set<Long> cancelledTaskIds = new HashSet<>();
+    private Set<Long> commentedTaskIds = new HashSet<>();
+
+    private BackfillRun(AchievementBackfillProgress start, Map<Long, AchievementRule> rules) {
+      this.progress = start;
+      this.rules = rules;
+      this.groupsProcessed = start.groupsProcessed();
+      this.userId = start.lastUserId();
+      this.teamId = start.lastTeamId();
+      this.projectId = start.lastProjectId();
+      this.awardedToUser = userId > 0 ? achievementBackfillRepository.findAwardedAchievementIds(userId) : new HashSet<>();
+    }
+
+    private void accept(AchievementBackfillRow row) {
+      if (row.userId() != userId || row.teamId() != teamId || row.projectId() != projectId) {
+        finishGroup();
+        if (row.userId() != userId) {
+          awardedToUser = achievementBackfillRepository.findAwardedAchievementIds(row.userId());
+        }
+        userId = row.userId();
+        teamId = row.teamId();
+        projectId = row.projectId();
+      }
+
+      tasks.add(row.task());
+      if (row.cancelled()) {
+        cancelledTaskIds.add(row.task().getId());
+      }
+      if (row.commented()) {
+        commentedTaskIds.add(row.task().getId());
+      }
+    }
+
+    private void finishGroup() {
+      if (tasks.isEmpty()) {
+        return;
+      }
+
+      Map<String, Long> candidates = new LinkedHashMap<>();
+      rules.forEach((achievementId, rule) -> {
+        if (!awardedToUser.contains(achievementId)) {
+          candidates.put(rule.title(), achievementId);
+        }
+      });
+      if (!candidates.isEmpty()) {
+        var context = new AchievementEvaluationContext(new TaskGroupDataLoader(tasks, cancelledTaskIds, commentedTaskIds));
+        var candidateRules = candidates.values().stream().map(rules::get).toList();
+        Set<String> unlocked = achievementRuleExecutor.findUnlocked(context, candidateRules);
+        candidates.forEach((title, achievementId) -> {
+          if (unlocked.contains(title)) {
+            pendingAwards.add(new AchievementBackfillAward(userId, achievementId, teamId, projectId));
+            awardedToUser.add(achievementId);
+          }
+        });
+      }
+
+      tasks = new ArrayList<>();
+      cancelledTaskIds = new HashSet<>();
+      commentedTaskIds = new HashSet<>();
+      groupsProcessed++;
+      if (++groupsSinceCheckpoint >= backfillProperties.getCheckpointInterval()) {
+        checkpoint(null);
+      }
+    }
+
+    private AchievementBackfillProgress complete() {
+      finishGroup();
+      checkpoint(now());
+      log.info("Achievement backfill completed: {} groups evaluated, {} achievements awarded.",
+          progress.groupsProcessed(), progress.achievementsAwarded());
+      return progress;
+    }
+
+    private void checkpoint(LocalDateTime completedAt) {
+      checkpointTransaction.executeWithoutResult(status -> {
+        int inserted = achievementBackfillRepository.insertAwards(List.copyOf(pendingAwards));
+        progress = new AchievementBackfillProgress(
+            userId, teamId, projectId, groupsProcessed, progress.achievementsAwarded() + inserted,
+            progress.startedAt(), now(), completedAt
+        );
+        achievementBackfillRepository.saveProgress(progress);
+      });
+      pendingAwards.clear();
+      groupsSinceCheckpoint = 0;
+      log.info("Achievement backfill progress: {} groups evaluated, {} achievements awarded, at user {}.",
+          progress.groupsProcessed(), progress.achievementsAwarded(), userId);
+    }
+  }
+
+  /**
+   * Serves a group's data from the rows already read by the cursor. It loads no counters,
+   * so the evaluation context derives counters and buckets from the task snapshot.
+   */
+  private record TaskGroupDataLoader(List<Task> tasks, Set<Long> cancelledTaskIds, Set<Long> commentedTaskIds)
+      implements AchievementDataLoader {
+
+    @Override
+    public List<Task> loadApprovedTasks() {
+      return tasks;
+    }
+
+    @Override
+    public Set<Long> loadCancelledTaskIds() {
+      return cancelledTaskIds;
+    }
+
+    @Override
+    public Set<Long> loadCommentedTaskIds() {
+      return commentedTaskIds;
+    }
+  }
+}
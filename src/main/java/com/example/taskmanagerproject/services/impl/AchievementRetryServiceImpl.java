@@ -0,0 +1,131 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.ACHIEVEMENT_DLT;
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.ACHIEVEMENT_RETRY_TOPIC;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.MAX_POLL_RECORDS_CONFIG;
+
+import com.example.taskmanagerproject.configurations.kafka.KafkaRetryProperties;
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.services.AchievementRetryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the AchievementRetryService interface.
+ */
+@Slf4j
+@Service
+public class AchievementRetryServiceImpl implements AchievementRetryService {
+
+  private static final String REDRIVE_GROUP = "achievement-dlt-redrive";
+
+  private final KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
+  private final ConsumerFactory<String, KafkaTaskCompletionDto> consumerFactory;
+  private final KafkaRetryProperties retryProperties;
+  private final Counter failedEvents;
+  private final Counter redrivenEvents;
+
+  /**
+   * Creates the service and registers its metrics.
+   *
+   * @param kafkaTemplate   The template used to publish events to the retry topic.
+   * @param consumerFactory The factory of the consumer reading the dead-letter topic.
+   * @param retryProperties The retry configuration.
+   * @param meterRegistry   The registry the retry metrics are published to.
+   */
+  public AchievementRetryServiceImpl(KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate,
+                                     ConsumerFactory<String, KafkaTaskCompletionDto> consumerFactory,
+                                     KafkaRetryProperties retryProperties,
+                                     MeterRegistry meterRegistry) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.consumerFactory = consumerFactory;
+    this.retryProperties = retryProperties;
+    this.failedEvents = Counter.builder("achievement.events.failed")
+      .description("Task completion events handed over to the retry topics after a failed evaluation")
+      .register(meterRegistry);
+    this.redrivenEvents = Counter.builder("achievement.events.redriven")
+      .description("Task completion events moved from the dead-letter topic back to the retry topic")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public void scheduleRetry(Collection<KafkaTaskCompletionDto> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    publish(events);
+    failedEvents.increment(events.size());
+  }
+
+  @Override
+  public int redriveDeadLetters(int maxEvents) {
+    Properties overrides = new Properties();
+    overrides.put(MAX_POLL_RECORDS_CONFIG, maxEvents);
+    overrides.put(ENABLE_AUTO_COMMIT_CONFIG, false);
+
+    try (Consumer<String, KafkaTaskCompletionDto> consumer = consumerFactory.createConsumer(REDRIVE_GROUP, null, null, overrides)) {
+      consumer.assign(consumer.partitionsFor(ACHIEVEMENT_DLT).stream()
+          .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+          .toList());
+
+      List<KafkaTaskCompletionDto> events = new ArrayList<>();
+      Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+      while (events.size() < maxEvents) {
+        ConsumerRecords<String, KafkaTaskCompletionDto> records = consumer.poll(retryProperties.getRedrivePollTimeout());
+        if (records.isEmpty()) {
+          break;
+        }
+        for (ConsumerRecord<String, KafkaTaskCompletionDto> record : records) {
+          if (events.size() == maxEvents) {
+            break;
+          }
+          events.add(record.value());
+          offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+        }
+      }
+
+      if (!events.isEmpty()) {
+        publish(events);
+        consumer.commitSync(offsets);
+        redrivenEvents.increment(events.size());
+        log.info("Re-drove {} achievement events from {}.", events.size(), ACHIEVEMENT_DLT);
+      }
+      return events.size();
+    }
+  }
+
+  private void publish(Collection<KafkaTaskCompletionDto> events) {
+    CompletableFuture<?>[] sends = events.stream()
+        .map(event -> kafkaTemplate.send(ACHIEVEMENT_RETRY_TOPIC, String.valueOf(event.userId()), event))
+        .toArray(CompletableFuture[]::new);
+    kafkaTemplate.flush();
+    try {
+      CompletableFuture.allOf(sends).get(retryProperties.getSendTimeout().toMillis(), MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while publishing achievement events for retry", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Failed to publish achievement events for retry", e);
+    }
+  }
+}
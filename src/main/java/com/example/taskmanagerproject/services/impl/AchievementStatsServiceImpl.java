@@ -0,0 +1,191 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.CRITICAL;
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.HIGH;
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.APPROVED;
+import static java.time.Duration.between;
+
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.repositories.TaskCommentRepository;
+import com.example.taskmanagerproject.repositories.UserAchievementStatsRepository;
+import com.example.taskmanagerproject.services.AchievementStatsService;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the AchievementStatsService interface.
+ * Besides on demand, the counters are reconciled on a schedule to fix drift left by writes
+ * that bypass this service, such as generated data or concurrent first comments.
+ */
+@Slf4j
+@Service
+public class AchievementStatsServiceImpl implements AchievementStatsService {
+
+  public static final String DAY_BUCKET = "DAY";
+  public static final String MONTH_BUCKET = "MONTH";
+
+  private static final String REBUILD_JOB = "achievement-stats-rebuild";
+  private static final Duration REBUILD_LOCK_AT_MOST_FOR = Duration.ofHours(1);
+  private static final Duration REBUILD_LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+  private final TaskCommentRepository taskCommentRepository;
+  private final UserAchievementStatsRepository userAchievementStatsRepository;
+  private final ScheduledJobLock scheduledJobLock;
+  private final TransactionTemplate projectTransaction;
+
+  /**
+   * Creates the service, reconciling the counters of each project in its own transaction.
+   *
+   * @param taskCommentRepository          The repository checking whether tasks have comments.
+   * @param userAchievementStatsRepository The repository of the counters and buckets.
+   * @param scheduledJobLock               The lock keeping the scheduled rebuild on a single node.
+   * @param transactionManager             The transaction manager.
+   */
+  public AchievementStatsServiceImpl(TaskCommentRepository taskCommentRepository,
+                                     UserAchievementStatsRepository userAchievementStatsRepository,
+                                     ScheduledJobLock scheduledJobLock,
+                                     PlatformTransactionManager transactionManager) {
+    this.taskCommentRepository = taskCommentRepository;
+    this.userAchievementStatsRepository = userAchievementStatsRepository;
+    this.scheduledJobLock = scheduledJobLock;
+    this.projectTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  @Transactional
+  public void recordApprovedTask(Task task) {
+    if (!isCounted(task)) {
+      return;
+    }
+
+    Long userId = task.getAssignedTo().getId();
+    Long teamId = task.getTeam().getId();
+    Long projectId = task.getProject().getId();
+    LocalDate approvedOn = task.getApprovedAt().toLocalDate();
+    TaskFlags flags = flags(task);
+
+    userAchievementStatsRepository.incrementApprovedTask(
+        userId, teamId, projectId,
+        flags.beforeDeadline(), flags.onTime(), flags.highPriority(), flags.critical(),
+        flags.commented(), flags.criticalCommented(), flags.longDuration()
+    );
+    userAchievementStatsRepository.incrementBucket(userId, teamId, projectId, DAY_BUCKET, approvedOn, flags.critical());
+    userAchievementStatsRepository.incrementBucket(
+        userId, teamId, projectId, MONTH_BUCKET, approvedOn.withDayOfMonth(1), flags.critical()
+    );
+  }
+
+  @Override
+  @Transactional
+  public void removeApprovedTask(Task task) {
+    if (!isCounted(task)) {
+      return;
+    }
+
+    Long userId = task.getAssignedTo().getId();
+    Long teamId = task.getTeam().getId();
+    Long projectId = task.getProject().getId();
+    LocalDate approvedOn = task.getApprovedAt().toLocalDate();
+    TaskFlags flags = flags(task);
+
+    userAchievementStatsRepository.decrementApprovedTask(
+        userId, teamId, projectId,
+        flags.beforeDeadline(), flags.onTime(), flags.highPriority(), flags.critical(),
+        flags.commented(), flags.criticalCommented(), flags.longDuration()
+    );
+    userAchievementStatsRepository.decrementBucket(userId, teamId, projectId, DAY_BUCKET, approvedOn, flags.critical());
+    userAchievementStatsRepository.decrementBucket(
+        userId, teamId, projectId, MONTH_BUCKET, approvedOn.withDayOfMonth(1), flags.critical()
+    );
+  }
+
+  @Override
+  @Transactional
+  public void recordCommentAdded(Task task) {
+    if (isCounted(task) && taskCommentRepository.countByTaskId(task.getId()) == 1) {
+      updateCommentedCount(task, 1);
+    }
+  }
+
+  @Override
+  @Transactional
+  public void recordCommentRemoved(Task task) {
+    if (isCounted(task) && !taskCommentRepository.existsByTaskId(task.getId())) {
+      updateCommentedCount(task, -1);
+    }
+  }
+
+  @Override
+  public int rebuildStats() {
+    int statsRebuilt = 0;
+    int bucketsRebuilt = 0;
+    for (Long projectId : userAchievementStatsRepository.findProjectIds()) {
+      int[] rebuilt = projectTransaction.execute(status -> new int[] {
+          userAchievementStatsRepository.rebuildProjectStats(projectId),
+          userAchievementStatsRepository.rebuildProjectBuckets(projectId)
+              + userAchievementStatsRepository.deleteEmptyProjectBuckets(projectId)
+      });
+      if (rebuilt != null) {
+        statsRebuilt += rebuilt[0];
+        bucketsRebuilt += rebuilt[1];
+      }
+    }
+    log.info("Rebuilt achievement stats with {} corrected user groups and {} corrected buckets.", statsRebuilt, bucketsRebuilt);
+    return statsRebuilt;
+  }
+
+  /**
+   * Rebuilds the achievement counters on the configured schedule, on one node of the cluster.
+   */
+  @Scheduled(cron = "${achievement.stats.rebuild-cron:0 30 3 * * *}")
+  public void rebuildStatsOnSchedule() {
+    scheduledJobLock.runExclusively(REBUILD_JOB, REBUILD_LOCK_AT_MOST_FOR, REBUILD_LOCK_AT_LEAST_FOR, this::rebuildStats);
+  }
+
+  private void updateCommentedCount(Task task, int delta) {
+    userAchievementStatsRepository.updateCommentedCount(
+        task.getAssignedTo().getId(), task.getTeam().getId(), task.getProject().getId(),
+        delta, flag(task.getPriority() == CRITICAL)
+    );
+  }
+
+  private TaskFlags flags(Task task) {
+    LocalDateTime approvedAt = task.getApprovedAt();
+    LocalDateTime expirationDate = task.getExpirationDate();
+    boolean critical = task.getPriority() == CRITICAL;
+    boolean commented = taskCommentRepository.existsByTaskId(task.getId());
+    return new TaskFlags(
+        flag(expirationDate != null && expirationDate.isAfter(approvedAt)),
+        flag(expirationDate != null && !approvedAt.isAfter(expirationDate)),
+        flag(task.getPriority() == HIGH),
+        flag(critical),
+        flag(commented),
+        flag(critical && commented),
+        flag(between(task.getCreatedAt(), approvedAt).toDays() > 7)
+    );
+  }
+
+  private static boolean isCounted(Task task) {
+    return task != null && APPROVED.equals(task.getTaskStatus())
+        && task.getAssignedTo() != null && task.getApprovedAt() != null;
+  }
+
+  private static int flag(boolean condition) {
+    return condition ? 1 : 0;
+  }
+
+  /**
+   * The counters an approved task is counted in, each either 0 or 1.
+   */
+  private record TaskFlags(int beforeDeadline, int onTime, int highPriority, int critical,
+                           int commented, int criticalCommented, int longDuration) {
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.entities.outbox.OutboxEventStatus.PARKED;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+import com.example.taskmanagerproject.configurations.outbox.OutboxProperties;
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.entities.outbox.OutboxEvent;
+import com.example.taskmanagerproject.repositories.OutboxEventRepository;
+import com.example.taskmanagerproject.services.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the OutboxService interface.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+  public static final String ACHIEVEMENT_TOPIC = "achievement-topic";
+
+  private final ObjectMapper objectMapper;
+  private final OutboxProperties outboxProperties;
+  private final OutboxEventRepository outboxEventRepository;
+  private final KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
+
+  @Override
+  @Transactional(propagation = MANDATORY)
+  public void enqueueAchievementEvent(KafkaTaskCompletionDto event) {
+    LocalDateTime now = LocalDateTime.now();
+    outboxEventRepository.save(OutboxEvent.builder()
+        .topic(ACHIEVEMENT_TOPIC)
+        .messageKey(String.valueOf(event.userId()))
+        .payload(writePayload(event))
+        .createdAt(now)
+        .nextAttemptAt(now)
+        .build());
+  }
+
+  @Override
+  @Transactional
+  public int publishNextBatch() {
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(outboxProperties.getBatchSize());
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    List<CompletableFuture<?>> sends = batch.stream().map(this::send).toList();
+    kafkaTemplate.flush();
+
+    long deadline = System.nanoTime() + outboxProperties.getSendTimeout().toNanos();
+    List<OutboxEvent> published = new ArrayList<>(batch.size());
+    List<OutboxEvent> failed = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      Throwable failure = awaitAcknowledgement(sends.get(i), deadline);
+      if (failure == null) {
+        published.add(batch.get(i));
+      } else {
+        recordFailure(batch.get(i), failure);
+        failed.add(batch.get(i));
+      }
+    }
+
+    if (!published.isEmpty()) {
+      outboxEventRepository.deleteAllInBatch(published);
+    }
+    if (!failed.isEmpty()) {
+      outboxEventRepository.saveAll(failed);
+    }
+    log.debug("Published {} outbox events, {} failed.", published.size(), failed.size());
+    return published.size();
+  }
+
+  private CompletableFuture<?> send(OutboxEvent event) {
+    try {
+      return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), readPayload(event));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private Throwable awaitAcknowledgement(CompletableFuture<?> send, long deadline) {
+    try {
+      send.get(Math.max(deadline - System.nanoTime(), 0), NANOSECONDS);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while publishing outbox events", e);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (TimeoutException e) {
+      return new TimeoutException("Not acknowledged within " + outboxProperties.getSendTimeout());
+    }
+  }
+
+  private void recordFailure(OutboxEvent event, Throwable failure) {
+    int attempts = event.getAttempts() + 1;
+    event.setAttempts(attempts);
+    event.setLastError(failure.getClass().getSimpleName() + ": " + failure.getMessage());
+    if (attempts >= outboxProperties.getMaxAttempts()) {
+      event.setStatus(PARKED);
+      log.error("Parked outbox event {} after {} failed attempts: {}", event.getId(), attempts, event.getLastError());
+    } else {
+      event.setNextAttemptAt(LocalDateTime.now().plus(retryDelay(attempts)));
+      log.warn("Failed to publish outbox event {}, attempt {}: {}", event.getId(), attempts, event.getLastError());
+    }
+  }
+
+  private Duration retryDelay(int attempts) {
+    Duration delay = outboxProperties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(outboxProperties.getMaxRetryBackoff()) > 0 ? outboxProperties.getMaxRetryBackoff() : delay;
+  }
+
+  private String writePayload(KafkaTaskCompletionDto event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Failed to serialize outbox event", e);
+    }
+  }
+
+  private KafkaTaskCompletionDto readPayload(OutboxEvent event) {
+    try {
+      return objectMapper.readValue(event.getPayload(), KafkaTaskCompletionDto.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to deserialize outbox event " + event.getId(), e);
+    }
+  }
+}
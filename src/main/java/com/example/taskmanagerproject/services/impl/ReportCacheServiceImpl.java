@@ -0,0 +1,278 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.example.taskmanagerproject.configurations.reports.ReportCacheProperties;
+import com.example.taskmanagerproject.dtos.reports.ReportDataVersion;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.repositories.ProjectDataVersionRepository;
+import com.example.taskmanagerproject.services.ReportCacheService;
+import com.example.taskmanagerproject.services.ReportService;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the ReportCacheService interface.
+ * Each report request keeps only the PDF of the latest data version it was rendered from, in an
+ * LRU cache bounded by both the number of reports and their total size. Concurrent misses of the same
+ * report and version are rendered once: the first request streams the PDF while it is rendered,
+ * and the others wait for its copy.
+ */
+@Slf4j
+@Service
+public class ReportCacheServiceImpl implements ReportCacheService {
+
+  private static final String COMPACT_JOB = "project-data-changes-compaction";
+  private static final Duration COMPACT_LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+  private static final Duration COMPACT_LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+  private final ReportService reportService;
+  private final ProjectDataVersionRepository projectDataVersionRepository;
+  private final ReportCacheProperties cacheProperties;
+  private final ScheduledJobLock scheduledJobLock;
+  private final LinkedHashMap<ReportRequest, CachedReport> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private final ConcurrentMap<RenderKey, CompletableFuture<byte[]>> renders = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter coalesced;
+  private long cachedBytes;
+
+  /**
+   * Creates the service and registers its metrics.
+   *
+   * @param reportService                The service rendering the reports.
+   * @param projectDataVersionRepository The repository of the project data versions.
+   * @param cacheProperties              The report cache configuration.
+   * @param scheduledJobLock             The lock keeping the scheduled compaction on a single node.
+   * @param meterRegistry                The registry the cache metrics are published to.
+   */
+  public ReportCacheServiceImpl(ReportService reportService, ProjectDataVersionRepository projectDataVersionRepository,
+                                ReportCacheProperties cacheProperties, ScheduledJobLock scheduledJobLock,
+                                MeterRegistry meterRegistry) {
+    this.reportService = reportService;
+    this.projectDataVersionRepository = projectDataVersionRepository;
+    this.cacheProperties = cacheProperties;
+    this.scheduledJobLock = scheduledJobLock;
+    this.hits = Counter.builder("report.cache.requests")
+      .description("Report requests served from the cache")
+      .tag("result", "hit")
+      .register(meterRegistry);
+    this.misses = Counter.builder("report.cache.requests")
+      .description("Report requests that rendered the report")
+      .tag("result", "miss")
+      .register(meterRegistry);
+    this.coalesced = Counter.builder("report.cache.requests")
+      .description("Report requests that waited for the same report to be rendered by another request")
+      .tag("result", "coalesced")
+      .register(meterRegistry);
+    Gauge.builder("report.cache.size", this, service -> service.cachedBytes())
+      .description("Total size of the cached reports in bytes")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public Optional<ReportDataVersion> findDataVersion(ReportRequest request) {
+    if (!cacheProperties.isEnabled()) {
+      return Optional.empty();
+    }
+    return projectDataVersionRepository.findByProjectName(request.projectName());
+  }
+
+  @Override
+  public PdfReport getReport(ReportRequest request, ReportDataVersion version) {
+    synchronized (cache) {
+      CachedReport cached = cache.get(request);
+      if (cached != null && cached.isOf(version)) {
+        hits.increment();
+        byte[] pdf = cached.pdf();
+        return outputStream -> outputStream.write(pdf);
+      }
+    }
+
+    RenderKey key = new RenderKey(request, version.projectId(), version.version());
+    CompletableFuture<byte[]> render = new CompletableFuture<>();
+    CompletableFuture<byte[]> leader = renders.putIfAbsent(key, render);
+    if (leader != null) {
+      coalesced.increment();
+      return outputStream -> outputStream.write(awaitRender(key, leader));
+    }
+
+    misses.increment();
+    PdfReport report;
+    try {
+      report = reportService.buildReport(request);
+    } catch (RuntimeException e) {
+      finishRender(key, render, null, e);
+      throw e;
+    }
+    return outputStream -> {
+      CopyingOutputStream copying = new CopyingOutputStream(outputStream);
+      try {
+        report.writeTo(copying);
+      } catch (IOException | RuntimeException e) {
+        finishRender(key, render, null, e);
+        throw e;
+      }
+      byte[] pdf = copying.toByteArray();
+      store(request, new CachedReport(version.projectId(), version.version(), pdf));
+      finishRender(key, render, pdf, null);
+      copying.rethrowClientFailure();
+    };
+  }
+
+  /**
+   * Compacts the change log behind the project data versions on the configured schedule, on one node of the cluster.
+   */
+  @Scheduled(cron = "${report.cache.compact-cron:0 15 * * * *}")
+  public void compactDataVersionsOnSchedule() {
+    scheduledJobLock.runExclusively(COMPACT_JOB, COMPACT_LOCK_AT_MOST_FOR, COMPACT_LOCK_AT_LEAST_FOR, () ->
+        log.debug("Compacted project data changes of {} projects.", projectDataVersionRepository.compactChanges())
+    );
+  }
+
+  /**
+   * Waits for the PDF rendered by another request. If that render fails or takes too long,
+   * the report is rendered again for this request alone.
+   */
+  private byte[] awaitRender(RenderKey key, CompletableFuture<byte[]> leader) {
+    try {
+      return leader.get(cacheProperties.getRenderWaitTimeout().toMillis(), MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for report " + key.request().fileName(), e);
+    } catch (ExecutionException | TimeoutException e) {
+      renders.remove(key, leader);
+      log.debug("Rendering report {} again, the shared render did not complete: {}", key.request().fileName(), e.toString());
+      return reportService.buildReport(key.request()).toByteArray();
+    }
+  }
+
+  private void finishRender(RenderKey key, CompletableFuture<byte[]> render, byte[] pdf, Throwable failure) {
+    renders.remove(key, render);
+    if (failure != null) {
+      render.completeExceptionally(failure);
+    } else {
+      render.complete(pdf);
+    }
+  }
+
+  private void store(ReportRequest request, CachedReport report) {
+    long maxCachedBytes = cacheProperties.getMaxCachedBytes().toBytes();
+    if (report.pdf().length > maxCachedBytes) {
+      return;
+    }
+    synchronized (cache) {
+      CachedReport previous = cache.get(request);
+      if (previous != null && previous.version() > report.version() && previous.projectId() == report.projectId()) {
+        return;
+      }
+      cache.put(request, report);
+      cachedBytes += report.pdf().length - (previous != null ? previous.pdf().length : 0);
+      Iterator<CachedReport> eldest = cache.values().iterator();
+      while (cachedBytes > maxCachedBytes || cache.size() > cacheProperties.getMaxCachedReports()) {
+        cachedBytes -= eldest.next().pdf().length;
+        eldest.remove();
+      }
+    }
+  }
+
+  private long cachedBytes() {
+    synchronized (cache) {
+      return cachedBytes;
+    }
+  }
+
+  /**
+   * A rendered PDF and the data version it was rendered from.
+   */
+  private record CachedReport(long projectId, long version, byte[] pdf) {
+
+    private boolean isOf(ReportDataVersion dataVersion) {
+      return projectId == dataVersion.projectId() && version == dataVersion.version();
+    }
+  }
+
+  /**
+   * A report request and the data version it is rendered from, identifying renders that can be shared.
+   */
+  private record RenderKey(ReportRequest request, long projectId, long version) {
+  }
+
+  /**
+   * Streams a PDF to the client while keeping a copy of it. Once the client fails, it receives nothing more,
+   * but the copy is still completed for the cache and the waiting requests.
+   */
+  private static final class CopyingOutputStream extends OutputStream {
+
+    private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    private final OutputStream client;
+    private IOException clientFailure;
+
+    private CopyingOutputStream(OutputStream client) {
+      this.client = client;
+    }
+
+    @Override
+    public void write(int b) {
+      copy.write(b);
+      if (clientFailure == null) {
+        try {
+          client.write(b);
+        } catch (IOException e) {
+          clientFailure = e;
+        }
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      copy.write(b, off, len);
+      if (clientFailure == null) {
+        try {
+          client.write(b, off, len);
+        } catch (IOException e) {
+          clientFailure = e;
+        }
+      }
+    }
+
+    @Override
+    public void flush() {
+      if (clientFailure == null) {
+        try {
+          client.flush();
+        } catch (IOException e) {
+          clientFailure = e;
+        }
+      }
+    }
+
+    private byte[] toByteArray() {
+      return copy.toByteArray();
+    }
+
+    private void rethrowClientFailure() throws IOException {
+      if (clientFailure != null) {
+        throw clientFailure;
+      }
+    }
+  }
+}
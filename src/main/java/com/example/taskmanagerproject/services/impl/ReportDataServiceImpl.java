@@ -1,15 +1,35 @@
 package com.example.taskmanagerproject.services.impl;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import com.example.taskmanagerproject.configurations.reports.ReportMetricsProperties;
+import com.example.taskmanagerproject.dtos.reports.CompletionRate;
+import com.example.taskmanagerproject.dtos.reports.MemberAchievement;
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportType;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
 import com.example.taskmanagerproject.entities.projects.Project;
 import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.users.User;
 import com.example.taskmanagerproject.repositories.AchievementRepository;
-import com.example.taskmanagerproject.repositories.TaskRepository;
+import com.example.taskmanagerproject.repositories.AchievementsUsersRepository;
+import com.example.taskmanagerproject.repositories.ReportMetricsRepository;
 import com.example.taskmanagerproject.services.ReportDataService;
+import com.example.taskmanagerproject.utils.reports.CompletionRateSeries;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
+import com.example.taskmanagerproject.utils.reports.SeriesGranularity;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -20,12 +40,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReportDataServiceImpl implements ReportDataService {
 
-  private final TaskRepository taskRepository;
+  private static final List<String> PROGRESS_COLUMNS = List.of("bucket", "taskCompletionRate");
+
   private final AchievementRepository achievementRepository;
+  private final AchievementsUsersRepository achievementsUsersRepository;
+  private final ReportMetricsRepository reportMetricsRepository;
+  private final ReportMetricsProperties metricsProperties;
 
   @Override
-  public Object[] fetchUserPerformanceMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
-    List<Object[]> taskMetricsList = taskRepository.getTaskMetricsByAssignedUser(user.getId(), startDate, endDate, project.getName(), team.getName());
+  public UserMetrics fetchUserPerformanceMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
+    List<UserMetrics> taskMetricsList = reportMetricsRepository.findUserMetrics(user.getId(), startDate, endDate, project.getName(), team.getName());
     return taskMetricsList.get(0);
   }
 
@@ -35,28 +59,74 @@ public class ReportDataServiceImpl implements ReportDataService {
   }
 
   @Override
-  public List<Object[]> fetchTopPerformersInTeamMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
-    return taskRepository.getTopPerformerMetricsByTeamName(team.getName(), project.getName(), startDate, endDate);
+  public List<UserMetrics> fetchTeamMemberPerformanceMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
+    return reportMetricsRepository.findTeamUserMetrics(startDate, endDate, project.getName(), team.getName());
+  }
+
+  @Override
+  public Map<Long, List<Achievement>> fetchTeamMemberAchievements(Team team, Project project) {
+    return achievementsUsersRepository.findAchievementsByTeamIdAndProjectId(team.getId(), project.getId()).stream()
+      .collect(groupingBy(MemberAchievement::userId, mapping(MemberAchievement::achievement, toList())));
   }
 
   @Override
-  public List<Object[]> fetchProgressMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
-    long daysDifference = ChronoUnit.DAYS.between(startDate.toLocalDate(), endDate.toLocalDate());
+  public List<TopPerformerMetrics> fetchTopPerformersInTeamMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
+    return reportMetricsRepository.findTopPerformerMetrics(team.getName(), project.getName(), startDate, endDate);
+  }
+
+  @Override
+  public List<ProgressMetrics> fetchProgressMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
+    SeriesGranularity granularity = SeriesGranularity.forRange(startDate.toLocalDate(), endDate.toLocalDate());
+    return fetchProgressMetrics(user, team, project, startDate, endDate, granularity);
+  }
 
-    if (daysDifference > 31) {
-      return taskRepository.getMonthlyCompletionRates(startDate, endDate, user.getId(), project.getName(), team.getName());
-    } else {
-      return taskRepository.getDailyCompletionRates(startDate, endDate, user.getId(), project.getName(), team.getName());
+  @Override
+  public List<ProgressMetrics> fetchProgressMetrics(User user, Team team, Project project, LocalDateTime startDate, LocalDateTime endDate,
+                                                    SeriesGranularity granularity) {
+    if (startDate.isAfter(endDate)) {
+      return List.of();
     }
+    List<CompletionRate> rates = reportMetricsRepository.findCompletionRates(granularity.getTruncField(), startDate, endDate,
+        user.getId(), project.getName(), team.getName());
+    return CompletionRateSeries.fill(rates, startDate.toLocalDate(), endDate.toLocalDate(), granularity);
+  }
+
+  @Override
+  public List<TeamMemberMetrics> fetchTeamPerformanceMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
+    return reportMetricsRepository.findTeamMemberMetrics(team.getName(), project.getName(), startDate, endDate);
   }
 
   @Override
-  public List<Object[]> fetchTeamPerformanceMetrics(Team team, Project project, LocalDateTime startDate, LocalDateTime endDate) {
-    return taskRepository.getAllTeamMemberMetricsByTeamName(team.getName(), project.getName(), startDate, endDate);
+  public List<ProjectTeamMetrics> fetchProjectPerformanceMetrics(Project project, LocalDateTime startDate, LocalDateTime endDate) {
+    return reportMetricsRepository.findProjectMetrics(project.getName(), startDate, endDate);
   }
 
   @Override
-  public List<Object[]> fetchProjectPerformanceMetrics(Project project, LocalDateTime startDate, LocalDateTime endDate) {
-    return taskRepository.getProjectMetricsByProjectName(project.getName(), startDate, endDate);
+  public void streamMetrics(ReportType type, ReportData reportData, MetricsWriter writer) {
+    int fetchSize = metricsProperties.getFetchSize();
+    switch (type) {
+      case USER -> reportMetricsRepository.streamUserMetrics(reportData.user().getId(), reportData.startDate(), reportData.endDate(),
+          reportData.project().getName(), reportData.team().getName(), fetchSize, writer);
+      case TEAM -> reportMetricsRepository.streamTeamMemberMetrics(reportData.team().getName(), reportData.project().getName(),
+          reportData.startDate(), reportData.endDate(), fetchSize, writer);
+      case PROJECT -> reportMetricsRepository.streamProjectMetrics(reportData.project().getName(),
+          reportData.startDate(), reportData.endDate(), fetchSize, writer);
+      case TOP_PERFORMERS -> reportMetricsRepository.streamTopPerformerMetrics(reportData.team().getName(), reportData.project().getName(),
+          reportData.startDate(), reportData.endDate(), fetchSize, writer);
+      case TASK_PROGRESS -> writeProgressMetrics(reportData, writer);
+    }
+  }
+
+  private void writeProgressMetrics(ReportData reportData, MetricsWriter writer) {
+    List<ProgressMetrics> rates = fetchProgressMetrics(reportData.user(), reportData.team(), reportData.project(),
+        reportData.startDate(), reportData.endDate());
+    try {
+      writer.writeColumns(PROGRESS_COLUMNS);
+      for (ProgressMetrics rate : rates) {
+        writer.writeRow(new Object[]{rate.label(), rate.taskCompletionRate()});
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 }
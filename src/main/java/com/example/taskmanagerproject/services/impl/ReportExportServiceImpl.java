@@ -0,0 +1,180 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.configurations.reports.ReportExportExecutorConfig.REPORT_EXPORT_EXECUTOR;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.USER;
+import static com.example.taskmanagerproject.utils.MessageUtil.PDF_GENERATION_ERROR;
+import static com.example.taskmanagerproject.utils.MessageUtil.TEAM_PERFORMANCE_NOT_FOUND_ERROR;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.USER_PERFORMANCE;
+import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import com.example.taskmanagerproject.configurations.reports.ReportExportProperties;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import com.example.taskmanagerproject.entities.users.User;
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import com.example.taskmanagerproject.repositories.UserRepository;
+import com.example.taskmanagerproject.services.ReportDataService;
+import com.example.taskmanagerproject.services.ReportExportService;
+import com.example.taskmanagerproject.utils.reports.ReportArchive;
+import com.example.taskmanagerproject.utils.reports.ReportRendererPool;
+import com.example.taskmanagerproject.utils.reports.ReportTemplate;
+import com.example.taskmanagerproject.utils.reports.ReportTemplateProcessor;
+import com.example.taskmanagerproject.utils.reports.ReportTemplateRegistry;
+import com.example.taskmanagerproject.utils.validators.ReportValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the ReportExportService interface.
+ * The metrics, users and achievements of a whole team are loaded with one query each. The PDFs are
+ * rendered on a bounded worker pool, at most one per worker at a time for each export, and every PDF
+ * is written into the archive as soon as it is ready, so only the PDFs in flight are held in memory.
+ */
+@Slf4j
+@Service
+public class ReportExportServiceImpl implements ReportExportService {
+
+  private final ReportValidator reportValidator;
+  private final ReportDataService reportDataService;
+  private final UserRepository userRepository;
+  private final ReportTemplateProcessor htmlProcessor;
+  private final ReportTemplateRegistry reportTemplateRegistry;
+  private final ReportRendererPool reportRendererPool;
+  private final ReportExportProperties exportProperties;
+  private final ThreadPoolExecutor reportExportExecutor;
+  private final Counter exportedReports;
+
+  /**
+   * Creates the service and registers its metrics.
+   *
+   * @param reportValidator        The validator of the report parameters.
+   * @param reportDataService      The service loading the report data.
+   * @param userRepository         The repository the team members are loaded from.
+   * @param htmlProcessor          The processor populating the report templates.
+   * @param reportTemplateRegistry The registry of compiled report templates.
+   * @param reportRendererPool     The pool of PDF renderers.
+   * @param exportProperties       The bulk export configuration.
+   * @param reportExportExecutor   The worker pool rendering the reports.
+   * @param meterRegistry          The registry the export metrics are published to.
+   */
+  public ReportExportServiceImpl(ReportValidator reportValidator, ReportDataService reportDataService,
+                                 UserRepository userRepository, ReportTemplateProcessor htmlProcessor,
+                                 ReportTemplateRegistry reportTemplateRegistry, ReportRendererPool reportRendererPool,
+                                 ReportExportProperties exportProperties,
+                                 @Qualifier(REPORT_EXPORT_EXECUTOR) ThreadPoolExecutor reportExportExecutor,
+                                 MeterRegistry meterRegistry) {
+    this.reportValidator = reportValidator;
+    this.reportDataService = reportDataService;
+    this.userRepository = userRepository;
+    this.htmlProcessor = htmlProcessor;
+    this.reportTemplateRegistry = reportTemplateRegistry;
+    this.reportRendererPool = reportRendererPool;
+    this.exportProperties = exportProperties;
+    this.reportExportExecutor = reportExportExecutor;
+    this.exportedReports = Counter.builder("report.export.reports")
+      .description("Reports rendered into bulk export archives")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public ReportArchive buildTeamMemberReports(String teamName, String projectName, String startDate, String endDate) {
+    ReportData teamData = reportValidator.validateTeamData(teamName, projectName, startDate, endDate);
+    List<UserMetrics> metrics = reportDataService.fetchTeamMemberPerformanceMetrics(
+        teamData.team(), teamData.project(), teamData.startDate(), teamData.endDate());
+    if (metrics.isEmpty()) {
+      throw new PdfGenerationException(format(TEAM_PERFORMANCE_NOT_FOUND_ERROR, teamName, startDate, endDate));
+    }
+
+    Map<Long, User> users = userRepository.findAllById(metrics.stream().map(UserMetrics::userId).toList())
+      .stream()
+      .collect(toMap(User::getId, identity()));
+    Map<Long, List<Achievement>> achievements = reportDataService.fetchTeamMemberAchievements(teamData.team(), teamData.project());
+    ReportTemplate template = reportTemplateRegistry.get(USER_PERFORMANCE);
+
+    List<MemberReport> reports = new ArrayList<>(metrics.size());
+    for (UserMetrics row : metrics) {
+      User user = users.get(row.userId());
+      if (user == null) {
+        continue;
+      }
+      ReportData reportData = new ReportData(user, teamData.team(), teamData.project(), teamData.startDate(), teamData.endDate());
+      String html = htmlProcessor.populateUserPerformanceTemplate(template, reportData, row,
+          achievements.getOrDefault(user.getId(), List.of()));
+      String fileName = new ReportRequest(USER, user.getUsername(), teamName, projectName, startDate, endDate).fileName();
+      reports.add(new MemberReport(fileName, html));
+    }
+    return outputStream -> writeArchive(reports, outputStream);
+  }
+
+  private void writeArchive(List<MemberReport> reports, OutputStream outputStream) throws IOException {
+    CompletionService<RenderedReport> completionService = new ExecutorCompletionService<>(reportExportExecutor);
+    List<Future<RenderedReport>> futures = new ArrayList<>(reports.size());
+    int window = Math.max(1, exportProperties.getWorkers());
+    int submitted = 0;
+    ZipOutputStream zip = new ZipOutputStream(outputStream);
+    try {
+      for (int written = 0; written < reports.size(); written++) {
+        while (submitted < reports.size() && submitted - written < window) {
+          MemberReport report = reports.get(submitted++);
+          futures.add(completionService.submit(() -> render(report)));
+        }
+        RenderedReport rendered = completionService.take().get();
+        zip.putNextEntry(new ZipEntry(rendered.fileName()));
+        zip.write(rendered.pdf());
+        zip.closeEntry();
+        zip.flush();
+        exportedReports.increment();
+      }
+      zip.finish();
+      zip.flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while exporting reports");
+    } catch (ExecutionException e) {
+      log.warn("Failed to render exported report: {}", e.getCause().getMessage());
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new PdfGenerationException(PDF_GENERATION_ERROR);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+
+  private RenderedReport render(MemberReport report) {
+    ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+    reportRendererPool.writePdf(report.html(), pdf);
+    return new RenderedReport(report.fileName(), pdf.toByteArray());
+  }
+
+  /**
+   * The populated HTML of a member's report and the name of its archive entry.
+   */
+  private record MemberReport(String fileName, String html) {}
+
+  /**
+   * The rendered PDF of a member's report and the name of its archive entry.
+   */
+  private record RenderedReport(String fileName, byte[] pdf) {}
+}
@@ -0,0 +1,304 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.configurations.reports.ReportJobExecutorConfig.REPORT_JOB_EXECUTOR;
+import static com.example.taskmanagerproject.configurations.reports.ReportJobExecutorConfig.REPORT_UPLOAD_EXECUTOR;
+import static com.example.taskmanagerproject.utils.MessageUtil.REPORT_JOB_NOT_COMPLETED_ERROR;
+import static com.example.taskmanagerproject.utils.MessageUtil.REPORT_JOB_NOT_FOUND_ERROR;
+import static com.example.taskmanagerproject.utils.MessageUtil.REPORT_JOB_QUEUE_FULL_ERROR;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+
+import com.example.taskmanagerproject.configurations.minio.MinioProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportJobProperties;
+import com.example.taskmanagerproject.dtos.reports.ReportJobDto;
+import com.example.taskmanagerproject.dtos.reports.ReportJobStatus;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.dtos.reports.ReportType;
+import com.example.taskmanagerproject.entities.reports.ReportJob;
+import com.example.taskmanagerproject.exceptions.RateLimitExceededException;
+import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
+import com.example.taskmanagerproject.repositories.ReportJobRepository;
+import com.example.taskmanagerproject.services.ReportJobService;
+import com.example.taskmanagerproject.services.ReportService;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the ReportJobService interface.
+ * Jobs are rendered by a bounded worker pool and their PDFs are streamed into MinIO under the
+ * configured prefix while they are rendered. Job states are stored in the database, so identical
+ * submissions on any node join the same job and any node can serve its state and result.
+ * Finished jobs and their stored PDFs are removed once the result TTL has passed.
+ */
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+  private static final int MAX_SUBMIT_ATTEMPTS = 3;
+  private static final int UPLOAD_BUFFER_SIZE = 64 * 1024;
+  private static final long UPLOAD_PART_SIZE = 5L * 1024 * 1024;
+  private static final String CLEANUP_JOB = "report-jobs-cleanup";
+  private static final Duration CLEANUP_LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+  private final ReportService reportService;
+  private final ReportJobRepository reportJobRepository;
+  private final MinioClient minioClient;
+  private final MinioProperties minioProperties;
+  private final ReportJobProperties jobProperties;
+  private final ScheduledJobLock scheduledJobLock;
+  private final ThreadPoolExecutor reportJobExecutor;
+  private final ThreadPoolExecutor reportUploadExecutor;
+  private final Counter deduplicatedJobs;
+  private final Map<ReportType, Timer> waitTimers = new EnumMap<>(ReportType.class);
+  private final Map<ReportType, Timer> renderTimers = new EnumMap<>(ReportType.class);
+
+  /**
+   * Creates the service and registers its metrics.
+   *
+   * @param reportService        The service rendering the reports.
+   * @param reportJobRepository  The repository of the job states.
+   * @param minioClient          The client the generated PDFs are stored with.
+   * @param minioProperties      The MinIO configuration.
+   * @param jobProperties        The report job configuration.
+   * @param scheduledJobLock     The lock keeping the scheduled cleanup on a single node.
+   * @param reportJobExecutor    The worker pool rendering the reports.
+   * @param reportUploadExecutor The pool uploading the PDFs while they are rendered.
+   * @param meterRegistry        The registry the job metrics are published to.
+   */
+  public ReportJobServiceImpl(ReportService reportService, ReportJobRepository reportJobRepository,
+                              MinioClient minioClient, MinioProperties minioProperties,
+                              ReportJobProperties jobProperties, ScheduledJobLock scheduledJobLock,
+                              @Qualifier(REPORT_JOB_EXECUTOR) ThreadPoolExecutor reportJobExecutor,
+                              @Qualifier(REPORT_UPLOAD_EXECUTOR) ThreadPoolExecutor reportUploadExecutor,
+                              MeterRegistry meterRegistry) {
+    this.reportService = reportService;
+    this.reportJobRepository = reportJobRepository;
+    this.minioClient = minioClient;
+    this.minioProperties = minioProperties;
+    this.jobProperties = jobProperties;
+    this.scheduledJobLock = scheduledJobLock;
+    this.reportJobExecutor = reportJobExecutor;
+    this.reportUploadExecutor = reportUploadExecutor;
+    Gauge.builder("report.jobs.queue.depth", reportJobExecutor, executor -> executor.getQueue().size())
+      .description("Report jobs waiting for a worker")
+      .register(meterRegistry);
+    this.deduplicatedJobs = Counter.builder("report.jobs.deduplicated")
+      .description("Report submissions that joined an identical job in flight")
+      .register(meterRegistry);
+    for (ReportType type : ReportType.values()) {
+      String tag = type.name().toLowerCase();
+      waitTimers.put(type, Timer.builder("report.jobs.wait")
+        .description("Time report jobs spent queued before a worker picked them up")
+        .tag("type", tag)
+        .register(meterRegistry));
+      renderTimers.put(type, Timer.builder("report.jobs.render")
+        .description("Time spent rendering and storing a report")
+        .tag("type", tag)
+        .register(meterRegistry));
+    }
+  }
+
+  @Override
+  public ReportJobDto submit(ReportRequest request, String requester) {
+    String requestHash = requestHash(request);
+    for (int attempt = 1; attempt <= MAX_SUBMIT_ATTEMPTS; attempt++) {
+      UUID jobId = UUID.randomUUID();
+      if (reportJobRepository.insertQueued(jobId, requestHash, request.type().name(), request.fileName(),
+          objectName(jobId), jobProperties.getJobTimeout().toSeconds()) == 1) {
+        reportJobRepository.addRequester(jobId, requester);
+        queue(jobId, request);
+        return getJob(jobId, requester);
+      }
+
+      Optional<ReportJob> existing = reportJobRepository.findInFlightByRequestHash(requestHash);
+      if (existing.isPresent()) {
+        reportJobRepository.addRequester(existing.get().getId(), requester);
+        deduplicatedJobs.increment();
+        return toDto(existing.get());
+      }
+      reportJobRepository.failAbandoned(jobProperties.getResultTtl().toSeconds());
+    }
+    throw new IllegalStateException("Failed to queue report job for " + request.fileName());
+  }
+
+  @Override
+  public ReportJobDto getJob(UUID jobId, String requester) {
+    return toDto(findJob(jobId, requester));
+  }
+
+  @Override
+  public PdfReport getResult(UUID jobId, String requester) {
+    ReportJob job = findJob(jobId, requester);
+    if (job.getStatus() != ReportJobStatus.COMPLETED) {
+      throw new IllegalStateException(format(REPORT_JOB_NOT_COMPLETED_ERROR, jobId, job.getStatus()));
+    }
+    return outputStream -> {
+      try (InputStream inputStream = minioClient.getObject(
+          GetObjectArgs.builder().bucket(minioProperties.getBucket()).object(job.getObjectKey()).build())) {
+        inputStream.transferTo(outputStream);
+      } catch (IOException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException("Failed to read report " + job.getId() + " from storage", e);
+      }
+    };
+  }
+
+  /**
+   * Fails the jobs abandoned by their node, then deletes the finished jobs whose results have expired
+   * together with their stored PDFs, on one node of the cluster.
+   */
+  @Scheduled(fixedDelayString = "${report.jobs.cleanup-interval:PT5M}")
+  public void deleteExpired() {
+    scheduledJobLock.runExclusively(CLEANUP_JOB, jobProperties.getCleanupInterval(), CLEANUP_LOCK_AT_LEAST_FOR, () -> {
+      reportJobRepository.failAbandoned(jobProperties.getResultTtl().toSeconds());
+      try {
+        for (String objectKey : reportJobRepository.findExpiredObjectKeys()) {
+          minioClient.removeObject(RemoveObjectArgs.builder().bucket(minioProperties.getBucket()).object(objectKey).build());
+        }
+        reportJobRepository.deleteExpired();
+      } catch (Exception e) {
+        log.warn("Failed to delete expired reports from storage: {}", e.getMessage());
+      }
+    });
+  }
+
+  private void queue(UUID jobId, ReportRequest request) {
+    long submittedNanos = System.nanoTime();
+    try {
+      reportJobExecutor.execute(() -> run(jobId, request, submittedNanos));
+    } catch (RejectedExecutionException e) {
+      reportJobRepository.deleteById(jobId);
+      throw new RateLimitExceededException(REPORT_JOB_QUEUE_FULL_ERROR);
+    }
+    log.info("Queued report job {} for {}", jobId, request.fileName());
+  }
+
+  private void run(UUID jobId, ReportRequest request, long submittedNanos) {
+    ReportType type = request.type();
+    waitTimers.get(type).record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+    long started = System.nanoTime();
+    try {
+      reportJobRepository.markRunning(jobId);
+      store(jobId, reportService.buildReport(request));
+      reportJobRepository.finish(jobId, ReportJobStatus.COMPLETED.name(), null, jobProperties.getResultTtl().toSeconds());
+      log.info("Report job {} completed", jobId);
+    } catch (Exception e) {
+      log.warn("Report job {} failed: {}", jobId, e.getMessage());
+      reportJobRepository.finish(jobId, ReportJobStatus.FAILED.name(), e.getMessage(), jobProperties.getResultTtl().toSeconds());
+    } finally {
+      renderTimers.get(type).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Uploads the PDF while it is rendered, through a pipe between this worker and an uploader,
+   * so only the pipe buffer and the upload part are held in memory. A failed render closes the pipe
+   * from the reading end and interrupts the uploader, which aborts the upload instead of storing a truncated PDF.
+   */
+  private void store(UUID jobId, PdfReport report) throws Exception {
+    String bucket = minioProperties.getBucket();
+    if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build())) {
+      minioClient.makeBucket(MakeBucketArgs.builder().bucket(bucket).build());
+    }
+
+    PipedInputStream pdf = new PipedInputStream(UPLOAD_BUFFER_SIZE);
+    PipedOutputStream pdfWriter = new PipedOutputStream(pdf);
+    Future<?> upload = reportUploadExecutor.submit(() -> {
+      try (pdf) {
+        minioClient.putObject(PutObjectArgs.builder()
+            .bucket(bucket)
+            .object(objectName(jobId))
+            .stream(pdf, -1, UPLOAD_PART_SIZE)
+            .contentType(APPLICATION_PDF_VALUE)
+            .build());
+      }
+      return null;
+    });
+
+    try {
+      report.writeTo(pdfWriter);
+    } catch (IOException | RuntimeException e) {
+      if (upload.isDone()) {
+        awaitUpload(upload);
+      }
+      pdf.close();
+      upload.cancel(true);
+      throw e;
+    }
+    pdfWriter.close();
+    awaitUpload(upload);
+  }
+
+  private static void awaitUpload(Future<?> upload) throws Exception {
+    try {
+      upload.get();
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception cause ? cause : e;
+    }
+  }
+
+  private ReportJob findJob(UUID jobId, String requester) {
+    return reportJobRepository.findByIdAndRequester(jobId, requester)
+      .orElseThrow(() -> new ResourceNotFoundException(REPORT_JOB_NOT_FOUND_ERROR + jobId));
+  }
+
+  private String objectName(UUID jobId) {
+    return jobProperties.getObjectPrefix() + jobId + ".pdf";
+  }
+
+  private static ReportJobDto toDto(ReportJob job) {
+    return new ReportJobDto(job.getId(), job.getStatus(), job.getType(), job.getFileName(),
+      job.getSubmittedAt(), job.getCompletedAt(), job.getError());
+  }
+
+  /**
+   * Hashes the parameters of a request, so identical requests share a job on every node.
+   */
+  private static String requestHash(ReportRequest request) {
+    String parameters = Stream.of(request.type().name(), request.username(), request.teamName(),
+        request.projectName(), request.startDate(), request.endDate())
+      .map(parameter -> Objects.toString(parameter, ""))
+      .collect(Collectors.joining("\u001F"));
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(parameters.getBytes(UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
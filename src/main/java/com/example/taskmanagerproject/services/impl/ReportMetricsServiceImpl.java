@@ -0,0 +1,67 @@
+package com.example.taskmanagerproject.services.impl;
+
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.services.ReportDataService;
+import com.example.taskmanagerproject.services.ReportMetricsService;
+import com.example.taskmanagerproject.utils.reports.MetricsExport;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
+import com.example.taskmanagerproject.utils.validators.ReportValidator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the ReportMetricsService interface.
+ * The report parameters are validated up front, so invalid requests fail before the response starts;
+ * the rows are then streamed from a read-only transaction while the response is written.
+ */
+@Service
+public class ReportMetricsServiceImpl implements ReportMetricsService {
+
+  private final ReportValidator reportValidator;
+  private final ReportDataService reportDataService;
+  private final TransactionTemplate readTransaction;
+
+  /**
+   * Creates the service with a read-only transaction for the metrics cursor.
+   *
+   * @param reportValidator    The validator of the report parameters.
+   * @param reportDataService  The service streaming the report metrics.
+   * @param transactionManager The transaction manager.
+   */
+  public ReportMetricsServiceImpl(ReportValidator reportValidator, ReportDataService reportDataService,
+                                  PlatformTransactionManager transactionManager) {
+    this.reportValidator = reportValidator;
+    this.reportDataService = reportDataService;
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setReadOnly(true);
+  }
+
+  @Override
+  public MetricsExport buildMetricsExport(ReportRequest request, MetricsFormat format) {
+    ReportData reportData = switch (request.type()) {
+      case USER, TASK_PROGRESS -> reportValidator.validateUserData(request.username(), request.teamName(),
+          request.projectName(), request.startDate(), request.endDate());
+      case TEAM, TOP_PERFORMERS -> reportValidator.validateTeamData(request.teamName(), request.projectName(),
+          request.startDate(), request.endDate());
+      case PROJECT -> reportValidator.validateProjectData(request.projectName(), request.startDate(), request.endDate());
+    };
+    return outputStream -> writeMetrics(request, reportData, format, outputStream);
+  }
+
+  private void writeMetrics(ReportRequest request, ReportData reportData, MetricsFormat format,
+                            OutputStream outputStream) throws IOException {
+    MetricsWriter writer = MetricsWriter.create(format, outputStream);
+    try {
+      readTransaction.executeWithoutResult(status -> reportDataService.streamMetrics(request.type(), reportData, writer));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.finish();
+  }
+}
@@ -3,15 +3,22 @@ package com.example.taskmanagerproject.services.impl;
 import static com.example.taskmanagerproject.utils.MessageUtil.PROJECT_PERFORMANCE_NOT_FOUND_ERROR;
 import static com.example.taskmanagerproject.utils.MessageUtil.TASK_METRICS_NOT_FOUND_ERROR;
 import static com.example.taskmanagerproject.utils.MessageUtil.TEAM_PERFORMANCE_NOT_FOUND_ERROR;
-import static com.example.taskmanagerproject.utils.factories.PdfGenerationFactory.loadTemplate;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.PROJECT_PERFORMANCE;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.TASK_PROGRESS;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.TEAM_PERFORMANCE;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.TOP_PERFORMERS;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.USER_PERFORMANCE;
 import static java.lang.String.format;
 
 import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
 import com.example.taskmanagerproject.exceptions.PdfGenerationException;
 import com.example.taskmanagerproject.services.ReportDataService;
 import com.example.taskmanagerproject.services.ReportService;
-import com.example.taskmanagerproject.utils.factories.PdfGenerationFactory;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import com.example.taskmanagerproject.utils.reports.ReportRendererPool;
 import com.example.taskmanagerproject.utils.reports.ReportTemplateProcessor;
+import com.example.taskmanagerproject.utils.reports.ReportTemplateRegistry;
 import com.example.taskmanagerproject.utils.validators.ReportValidator;
 import java.util.Optional;
 import java.util.function.Function;
@@ -26,78 +33,85 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
 
-  private static final String USER_PERFORMANCE_TEMPLATE_PATH = "report_templates/user_performance_template.html";
-  private static final String TOP_PERFORMERS_TEMPLATE_PATH = "report_templates/top_performers_template.html";
-  private static final String TASK_PROGRESS_TEMPLATE_PATH = "report_templates/task_progress_template.html";
-  private static final String TEAM_PERFORMANCE_TEMPLATE_PATH = "report_templates/team_performance_template.html";
-  private static final String PROJECT_PERFORMANCE_TEMPLATE_PATH = "report_templates/project_performance_template.html";
-
   private final ReportValidator reportValidator;
   private final ReportDataService reportDataService;
   private final ReportTemplateProcessor htmlProcessor;
+  private final ReportTemplateRegistry reportTemplateRegistry;
+  private final ReportRendererPool reportRendererPool;
 
   @Override
-  public byte[] buildUserReport(String username, String teamName, String projectName, String startDate, String endDate) {
+  public PdfReport buildUserReport(String username, String teamName, String projectName, String startDate, String endDate) {
     ReportData reportData = reportValidator.validateUserData(username, teamName, projectName, startDate, endDate);
     return generateReport(
       () -> reportDataService.fetchUserPerformanceMetrics(reportData.user(), reportData.team(), reportData.project(), reportData.startDate(), reportData.endDate()),
-      taskMetrics -> htmlProcessor.populateUserPerformanceTemplate(loadTemplate(USER_PERFORMANCE_TEMPLATE_PATH), reportData, taskMetrics),
+      taskMetrics -> htmlProcessor.populateUserPerformanceTemplate(reportTemplateRegistry.get(USER_PERFORMANCE), reportData, taskMetrics),
       format(TASK_METRICS_NOT_FOUND_ERROR, username, projectName, startDate, endDate)
     );
   }
 
   @Override
-  public byte[] buildTopPerformersInTeamReport(String teamName, String projectName, String startDate, String endDate) {
+  public PdfReport buildTopPerformersInTeamReport(String teamName, String projectName, String startDate, String endDate) {
     ReportData reportData = reportValidator.validateTeamData(teamName, projectName, startDate, endDate);
     return generateReport(
       () -> reportDataService.fetchTopPerformersInTeamMetrics(reportData.team(), reportData.project(), reportData.startDate(), reportData.endDate()),
-      metrics -> htmlProcessor.populateTopPerformersInTeamTemplate(loadTemplate(TOP_PERFORMERS_TEMPLATE_PATH), reportData, metrics),
+      metrics -> htmlProcessor.populateTopPerformersInTeamTemplate(reportTemplateRegistry.get(TOP_PERFORMERS), reportData, metrics),
       format(TEAM_PERFORMANCE_NOT_FOUND_ERROR, teamName, startDate, endDate)
     );
   }
 
   @Override
-  public byte[] buildTaskProgressReport(String username, String teamName, String projectName, String startDate, String endDate) {
+  public PdfReport buildTaskProgressReport(String username, String teamName, String projectName, String startDate, String endDate) {
     ReportData reportData = reportValidator.validateUserData(username, teamName, projectName, startDate, endDate);
     return generateReport(
       () -> reportDataService.fetchProgressMetrics(reportData.user(), reportData.team(), reportData.project(), reportData.startDate(), reportData.endDate()),
-      metrics -> htmlProcessor.populateTaskProgressTemplate(loadTemplate(TASK_PROGRESS_TEMPLATE_PATH), reportData, metrics),
+      metrics -> htmlProcessor.populateTaskProgressTemplate(reportTemplateRegistry.get(TASK_PROGRESS), reportData, metrics),
       format(TASK_METRICS_NOT_FOUND_ERROR, username, projectName, startDate, endDate)
     );
   }
 
   @Override
-  public byte[] buildTeamReport(String teamName, String projectName, String startDate, String endDate) {
+  public PdfReport buildTeamReport(String teamName, String projectName, String startDate, String endDate) {
     ReportData reportData = reportValidator.validateTeamData(teamName, projectName, startDate, endDate);
     return generateReport(
       () -> reportDataService.fetchTeamPerformanceMetrics(reportData.team(), reportData.project(), reportData.startDate(), reportData.endDate()),
-      metrics -> htmlProcessor.populateTeamPerformanceTemplate(loadTemplate(TEAM_PERFORMANCE_TEMPLATE_PATH), reportData, metrics),
+      metrics -> htmlProcessor.populateTeamPerformanceTemplate(reportTemplateRegistry.get(TEAM_PERFORMANCE), reportData, metrics),
       format(TEAM_PERFORMANCE_NOT_FOUND_ERROR, teamName, startDate, endDate)
     );
   }
 
   @Override
-  public byte[] buildProjectReport(String projectName, String startDate, String endDate) {
+  public PdfReport buildProjectReport(String projectName, String startDate, String endDate) {
     ReportData reportData = reportValidator.validateProjectData(projectName, startDate, endDate);
     return generateReport(
       () -> reportDataService.fetchProjectPerformanceMetrics(reportData.project(), reportData.startDate(), reportData.endDate()),
-      metrics -> htmlProcessor.populateProjectPerformanceTemplate(loadTemplate(PROJECT_PERFORMANCE_TEMPLATE_PATH), reportData, metrics),
+      metrics -> htmlProcessor.populateProjectPerformanceTemplate(reportTemplateRegistry.get(PROJECT_PERFORMANCE), reportData, metrics),
       format(PROJECT_PERFORMANCE_NOT_FOUND_ERROR, projectName, startDate, endDate)
     );
   }
 
+  @Override
+  public PdfReport buildReport(ReportRequest request) {
+    return switch (request.type()) {
+      case USER -> buildUserReport(request.username(), request.teamName(), request.projectName(), request.startDate(), request.endDate());
+      case TEAM -> buildTeamReport(request.teamName(), request.projectName(), request.startDate(), request.endDate());
+      case PROJECT -> buildProjectReport(request.projectName(), request.startDate(), request.endDate());
+      case TOP_PERFORMERS -> buildTopPerformersInTeamReport(request.teamName(), request.projectName(), request.startDate(), request.endDate());
+      case TASK_PROGRESS -> buildTaskProgressReport(request.username(), request.teamName(), request.projectName(), request.startDate(), request.endDate());
+    };
+  }
+
   /**
    * Generalized method to generate a report.
    *
    * @param dataSupplier  Supplier function to fetch report data.
    * @param htmlPopulator Function to populate the template with data.
    * @param errorMessage  Error message if data is not found.
-   * @return Generated PDF as a byte array.
+   * @return The report, rendering the PDF from the populated template when written.
    */
-  private <T> byte[] generateReport(Supplier<T> dataSupplier, Function<T, String> htmlPopulator, String errorMessage) {
-    return Optional.ofNullable(dataSupplier.get())
+  private <T> PdfReport generateReport(Supplier<T> dataSupplier, Function<T, String> htmlPopulator, String errorMessage) {
+    String html = Optional.ofNullable(dataSupplier.get())
       .map(htmlPopulator)
-      .map(PdfGenerationFactory::generatePdfFromHtml)
       .orElseThrow(() -> new PdfGenerationException(errorMessage));
+    return outputStream -> reportRendererPool.writePdf(html, outputStream);
   }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import com.example.taskmanagerproject.dtos.tasks.TaskCommentDto;
 import com.example.taskmanagerproject.entities.tasks.TaskComment;
 import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
 import com.example.taskmanagerproject.repositories.TaskCommentRepository;
+import com.example.taskmanagerproject.services.AchievementStatsService;
 import com.example.taskmanagerproject.services.TaskCommentService;
 import com.example.taskmanagerproject.utils.factories.TaskCommentFactory;
 import com.example.taskmanagerproject.utils.mappers.TaskCommentMapper;
@@ -28,6 +29,7 @@ public class TaskCommentServiceImpl implements TaskCommentService {
   private final TaskCommentFactory taskCommentFactory;
   private final TaskCommentValidator taskCommentValidator;
   private final TaskCommentRepository taskCommentRepository;
+  private final AchievementStatsService achievementStatsService;
 
   @Override
   @Transactional
@@ -35,6 +37,7 @@ public class TaskCommentServiceImpl implements TaskCommentService {
     taskCommentValidator.validateTaskCommentDto(taskCommentDto);
     TaskComment createdTaskComment = taskCommentFactory.createTaskCommentFromDto(taskCommentDto);
     taskCommentRepository.save(createdTaskComment);
+    achievementStatsService.recordCommentAdded(createdTaskComment.getTask());
     return taskCommentMapper.toDto(createdTaskComment);
   }
 
@@ -53,9 +56,10 @@ public class TaskCommentServiceImpl implements TaskCommentService {
   @Override
   @Transactional
   public void deleteTaskComment(Long id) {
-    taskCommentRepository.findById(id)
+    TaskComment comment = taskCommentRepository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException(TASK_COMMENT_FOUND_WITH_ID + id));
     taskCommentRepository.deleteById(id);
+    achievementStatsService.recordCommentRemoved(comment.getTask());
   }
 
   @Override
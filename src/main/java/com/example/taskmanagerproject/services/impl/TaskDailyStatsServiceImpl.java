@@ -0,0 +1,76 @@
+package com.example.taskmanagerproject.services.impl;
+
+import com.example.taskmanagerproject.repositories.ProjectDataVersionRepository;
+import com.example.taskmanagerproject.repositories.TaskDailyStatsRepository;
+import com.example.taskmanagerproject.services.TaskDailyStatsService;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the TaskDailyStatsService interface.
+ * Besides on demand, the statistics are rebuilt on a schedule to fix the rare double count
+ * left by first comments written concurrently to the same task.
+ */
+@Slf4j
+@Service
+public class TaskDailyStatsServiceImpl implements TaskDailyStatsService {
+
+  private static final String REBUILD_JOB = "task-daily-stats-rebuild";
+  private static final Duration REBUILD_LOCK_AT_MOST_FOR = Duration.ofHours(1);
+  private static final Duration REBUILD_LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+  private final TaskDailyStatsRepository taskDailyStatsRepository;
+  private final ProjectDataVersionRepository projectDataVersionRepository;
+  private final ScheduledJobLock scheduledJobLock;
+  private final TransactionTemplate projectTransaction;
+
+  /**
+   * Creates the service, reconciling each project in its own transaction.
+   *
+   * @param taskDailyStatsRepository     The repository of the daily task statistics.
+   * @param projectDataVersionRepository The repository recording changes to the data of cached reports.
+   * @param scheduledJobLock             The lock keeping the scheduled rebuild on a single node.
+   * @param transactionManager           The transaction manager.
+   */
+  public TaskDailyStatsServiceImpl(TaskDailyStatsRepository taskDailyStatsRepository,
+                                   ProjectDataVersionRepository projectDataVersionRepository,
+                                   ScheduledJobLock scheduledJobLock,
+                                   PlatformTransactionManager transactionManager) {
+    this.taskDailyStatsRepository = taskDailyStatsRepository;
+    this.projectDataVersionRepository = projectDataVersionRepository;
+    this.scheduledJobLock = scheduledJobLock;
+    this.projectTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public int rebuildStats() {
+    int rowsRebuilt = 0;
+    for (Long projectId : taskDailyStatsRepository.findProjectIds()) {
+      Integer projectRows = projectTransaction.execute(status -> rebuildProject(projectId));
+      rowsRebuilt += projectRows != null ? projectRows : 0;
+    }
+    log.info("Rebuilt daily task stats with {} corrected rows.", rowsRebuilt);
+    return rowsRebuilt;
+  }
+
+  private int rebuildProject(long projectId) {
+    int projectRows = taskDailyStatsRepository.rebuildProject(projectId);
+    if (projectRows > 0) {
+      projectDataVersionRepository.recordChange(projectId);
+    }
+    return projectRows;
+  }
+
+  /**
+   * Rebuilds the daily task statistics on the configured schedule, on one node of the cluster.
+   */
+  @Scheduled(cron = "${report.daily-stats.rebuild-cron:0 0 3 * * *}")
+  public void rebuildStatsOnSchedule() {
+    scheduledJobLock.runExclusively(REBUILD_JOB, REBUILD_LOCK_AT_MOST_FOR, REBUILD_LOCK_AT_LEAST_FOR, this::rebuildStats);
+  }
+}
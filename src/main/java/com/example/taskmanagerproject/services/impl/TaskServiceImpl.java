@@ -10,10 +10,13 @@ import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
 import com.example.taskmanagerproject.dtos.tasks.TaskDto;
 import com.example.taskmanagerproject.dtos.tasks.TaskImageDto;
 import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.entities.tasks.TaskStatus;
 import com.example.taskmanagerproject.exceptions.ImageProcessingException;
 import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
 import com.example.taskmanagerproject.repositories.TaskRepository;
+import com.example.taskmanagerproject.services.AchievementStatsService;
 import com.example.taskmanagerproject.services.ImageService;
+import com.example.taskmanagerproject.services.OutboxService;
 import com.example.taskmanagerproject.services.TaskService;
 import com.example.taskmanagerproject.services.UserService;
 import com.example.taskmanagerproject.utils.factories.TaskFactory;
@@ -22,13 +25,13 @@ import com.example.taskmanagerproject.utils.validators.TaskValidator;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,15 +42,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
-  private final KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
-  private static final String ACHIEVEMENT_TOPIC = "achievement-topic";
-
   private final TaskMapper taskMapper;
   private final UserService userService;
   private final TaskFactory taskFactory;
   private final ImageService imageService;
+  private final OutboxService outboxService;
   private final TaskValidator taskValidator;
   private final TaskRepository taskRepository;
+  private final AchievementStatsService achievementStatsService;
 
   @Override
   @Transactional(readOnly = true)
@@ -65,25 +67,36 @@ public class TaskServiceImpl implements TaskService {
     taskValidator.validateTaskDto(taskDto);
     Task task = taskRepository.findById(taskId)
         .orElseThrow(() -> new ResourceNotFoundException(TASK_NOT_FOUND_WITH_ID + taskId));
+    TaskStatus previousStatus = task.getTaskStatus();
+    if (APPROVED.equals(previousStatus)) {
+      achievementStatsService.removeApprovedTask(task);
+    }
 
+    TaskStatus status = taskDto.taskStatus() != null ? taskDto.taskStatus() : previousStatus;
     task.setTitle(taskDto.title());
     task.setDescription(taskDto.description());
-    task.setTaskStatus(taskDto.taskStatus() != null ? taskDto.taskStatus() : task.getTaskStatus());
+    task.setTaskStatus(status);
     task.setPriority(taskDto.priority() != null ? taskDto.priority() : task.getPriority());
     task.setExpirationDate(taskDto.expirationDate());
-    task.setApprovedAt(taskDto.taskStatus() == APPROVED ? now() : null);
+    if (status != previousStatus) {
+      task.setApprovedAt(status == APPROVED ? now() : null);
+    }
 
     if (task.getTaskStatus().equals(APPROVED)) {
       KafkaTaskCompletionDto event = new KafkaTaskCompletionDto(
           task.getId(),
           task.getAssignedTo().getId(),
           task.getTeam().getId(),
-          task.getProject().getId()
+          task.getProject().getId(),
+          UUID.randomUUID()
       );
-      kafkaTemplate.send(ACHIEVEMENT_TOPIC, event);
+      outboxService.enqueueAchievementEvent(event);
     }
 
     Task updatedTask = taskRepository.save(task);
+    if (APPROVED.equals(updatedTask.getTaskStatus())) {
+      achievementStatsService.recordApprovedTask(updatedTask);
+    }
     return taskMapper.toDto(updatedTask);
   }
 
@@ -102,6 +115,7 @@ public class TaskServiceImpl implements TaskService {
   public void deleteTaskById(Long taskId) {
     Task task = taskRepository.findById(taskId)
         .orElseThrow(() -> new ResourceNotFoundException(TASK_NOT_FOUND_WITH_ID + taskId));
+    achievementStatsService.removeApprovedTask(task);
     taskRepository.delete(task);
   }
 
@@ -49,8 +49,18 @@ public class MessageUtil {
       = "Failed to load HTML template from file: ";
   public static final String TEMPLATE_NOT_FOUND_ERROR
       = "Template not found: ";
+  public static final String TEMPLATE_PLACEHOLDER_ERROR
+      = "Template %s has unknown placeholders %s and is missing placeholders %s.";
+  public static final String TEMPLATE_VALUE_MISSING_ERROR
+      = "No value for placeholder {%s} in template %s.";
   public static final String PDF_GENERATION_ERROR
       = "Failed to generate PDF.";
+  public static final String REPORT_JOB_NOT_FOUND_ERROR
+      = "Report job not found: ";
+  public static final String REPORT_JOB_QUEUE_FULL_ERROR
+      = "Too many reports are queued for generation, please try again later.";
+  public static final String REPORT_JOB_NOT_COMPLETED_ERROR
+      = "Report job %s is %s and has no result to download.";
   public static final String TASK_METRICS_NOT_FOUND_ERROR
       = "No task metrics found for user %s in project %s in the date range from %s to %s.";
   public static final String TEAM_PERFORMANCE_NOT_FOUND_ERROR
@@ -97,6 +107,22 @@ public class MessageUtil {
       = "Data initialization completed successfully!";
   public static final String DATA_INITIALIZATION_FAIL_MESSAGE
       = "Data initialization completed with errors!";
+  public static final String ACHIEVEMENT_STATS_REBUILD_SUCCESS_MESSAGE
+      = "Achievement statistics rebuilt successfully!";
+  public static final String ACHIEVEMENT_STATS_REBUILD_FAIL_MESSAGE
+      = "Achievement statistics rebuild failed!";
+  public static final String TASK_DAILY_STATS_REBUILD_SUCCESS_MESSAGE
+      = "Daily task statistics rebuilt successfully!";
+  public static final String TASK_DAILY_STATS_REBUILD_FAIL_MESSAGE
+      = "Daily task statistics rebuild failed!";
+  public static final String ACHIEVEMENT_BACKFILL_SUCCESS_MESSAGE
+      = "Achievement backfill completed successfully!";
+  public static final String ACHIEVEMENT_BACKFILL_FAIL_MESSAGE
+      = "Achievement backfill failed and can be resumed!";
+  public static final String ACHIEVEMENT_DLT_REDRIVE_SUCCESS_MESSAGE
+      = "Achievement events re-driven from the dead-letter topic: ";
+  public static final String ACHIEVEMENT_DLT_REDRIVE_FAIL_MESSAGE
+      = "Re-driving achievement events from the dead-letter topic failed!";
   public static final String RATE_LIMIT_EXCEEDED
       = "Request rate exceeded. Please slow down and try again shortly.";
   public static final String RATE_LIMIT_EXECUTION_ERROR
@@ -0,0 +1,17 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+/**
+ * An achievement unlocked by the backfill job and buffered until the next checkpoint writes it.
+ *
+ * @param userId        The ID of the user who earned the achievement.
+ * @param achievementId The ID of the earned achievement.
+ * @param teamId        The ID of the team the achievement was earned in.
+ * @param projectId     The ID of the project the achievement was earned in.
+ */
+public record AchievementBackfillAward(
+    long userId,
+    long achievementId,
+    long teamId,
+    long projectId
+) {
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import com.example.taskmanagerproject.entities.tasks.Task;
+
+/**
+ * An approved task read by the achievement backfill cursor, with the history and comment
+ * flags the achievement rules need, so a group can be evaluated without further queries.
+ *
+ * @param userId    The ID of the user the task is assigned to.
+ * @param teamId    The ID of the team of the task.
+ * @param projectId The ID of the project of the task.
+ * @param task      The task, populated with the fields the rules read.
+ * @param cancelled Whether the task was cancelled before it was approved.
+ * @param commented Whether the task has comments.
+ */
+public record AchievementBackfillRow(
+    long userId,
+    long teamId,
+    long projectId,
+    Task task,
+    boolean cancelled,
+    boolean commented
+) {
+}
@@ -0,0 +1,94 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static java.util.Comparator.comparing;
+
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import com.example.taskmanagerproject.repositories.AchievementRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory catalog of the achievements that have a rule, loaded once and kept until an
+ * achievement changes. Entries are immutable and ordered from the cheapest rule to the
+ * costliest, so evaluations can iterate them without touching the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AchievementCatalog {
+
+  private final AchievementRepository achievementRepository;
+  private final AchievementRuleRegistry achievementRuleRegistry;
+
+  private volatile List<Entry> entries;
+  private volatile long generation;
+
+  /**
+   * Returns the catalog entries, loading them on first use or after an invalidation.
+   *
+   * @return The achievements bound to a rule, cheapest rule first.
+   */
+  public List<Entry> getEntries() {
+    List<Entry> current = entries;
+    return current != null ? current : load();
+  }
+
+  /**
+   * Discards the loaded entries, so the next call to {@link #getEntries()} reloads them.
+   */
+  public void invalidate() {
+    synchronized (this) {
+      generation++;
+      entries = null;
+    }
+    log.info("Achievement catalog invalidated.");
+  }
+
+  private List<Entry> load() {
+    long loadGeneration;
+    synchronized (this) {
+      if (entries != null) {
+        return entries;
+      }
+      loadGeneration = generation;
+    }
+
+    List<Entry> loaded = achievementRepository.findAll().stream()
+        .flatMap(achievement -> achievementRuleRegistry.findRule(achievement.getTitle())
+          .map(rule -> Entry.of(achievement, rule))
+          .stream())
+        .sorted(comparing(entry -> entry.rule().costliestData()))
+        .toList();
+
+    synchronized (this) {
+      // An invalidation while loading means the loaded rows may already be stale.
+      if (generation == loadGeneration) {
+        entries = loaded;
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * An achievement bound to the rule that unlocks it.
+   *
+   * @param achievementId The ID of the achievement.
+   * @param title         The title of the achievement.
+   * @param rule          The rule that unlocks the achievement.
+   */
+  public record Entry(Long achievementId, String title, AchievementRule rule) {
+
+    /**
+     * Creates an entry for an achievement and its rule.
+     *
+     * @param achievement The achievement.
+     * @param rule        The rule that unlocks the achievement.
+     * @return The entry.
+     */
+    public static Entry of(Achievement achievement, AchievementRule rule) {
+      return new Entry(achievement.getId(), achievement.getTitle(), rule);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Entity listener invalidating the {@link AchievementCatalog} when an achievement is created,
+ * updated or deleted. Inside a transaction the catalog is invalidated after commit, so it is
+ * never reloaded with uncommitted rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class AchievementCatalogListener {
+
+  private final ObjectProvider<AchievementCatalog> achievementCatalog;
+
+  /**
+   * Invalidates the catalog after an achievement changed.
+   *
+   * @param achievement The changed achievement.
+   */
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onAchievementChanged(Achievement achievement) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          achievementCatalog.ifAvailable(AchievementCatalog::invalidate);
+        }
+      });
+    } else {
+      achievementCatalog.ifAvailable(AchievementCatalog::invalidate);
+    }
+  }
+}
@@ -1,37 +1,134 @@
 package com.example.taskmanagerproject.utils.achievements;
 
+import static com.example.taskmanagerproject.configurations.kafka.KafkaConsumerConfig.ACHIEVEMENT_BATCH_FACTORY;
+
 import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.services.AchievementRetryService;
 import com.example.taskmanagerproject.utils.factories.AchievementFactory;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
 /**
  * Consumer service that listens to task completion events from Kafka.
- * This service processes task completion events and evaluates corresponding achievements
- * using the AchievementFactory.
+ * This service receives task completion events in batches, drops events that were already
+ * processed, coalesces the rest per user, team and project, and evaluates corresponding
+ * achievements once per key using the AchievementFactory. Events whose evaluation fails are
+ * handed over to the retry topics, so they do not hold back the rest of the partition.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public final class AchievementConsumer {
 
   private static final String ACHIEVEMENT_TOPIC = "achievement-topic";
   private static final String ACHIEVEMENT_GROUP = "achievement-group";
 
   private final AchievementFactory achievementFactory;
+  private final ProcessedEventStore processedEventStore;
+  private final AchievementRetryService achievementRetryService;
+  private final Counter receivedEvents;
+  private final Counter duplicateEvents;
+  private final Counter evaluatedEvents;
+  private final DistributionSummary coalescingRatio;
+
+  /**
+   * Creates the consumer and registers its coalescing metrics.
+   *
+   * @param achievementFactory  The factory used to evaluate achievements.
+   * @param processedEventStore     The store of the events already processed.
+   * @param achievementRetryService The service retrying failed evaluations.
+   * @param meterRegistry           The registry the coalescing metrics are published to.
+   */
+  public AchievementConsumer(AchievementFactory achievementFactory, ProcessedEventStore processedEventStore,
+                             AchievementRetryService achievementRetryService, MeterRegistry meterRegistry) {
+    this.achievementFactory = achievementFactory;
+    this.processedEventStore = processedEventStore;
+    this.achievementRetryService = achievementRetryService;
+    this.receivedEvents = Counter.builder("achievement.events.received")
+      .description("Task completion events received from Kafka")
+      .register(meterRegistry);
+    this.duplicateEvents = Counter.builder("achievement.events.duplicates")
+      .description("Redelivered task completion events dropped before evaluation")
+      .register(meterRegistry);
+    this.evaluatedEvents = Counter.builder("achievement.events.evaluated")
+      .description("Achievement evaluations performed after coalescing")
+      .register(meterRegistry);
+    this.coalescingRatio = DistributionSummary.builder("achievement.events.coalescing.ratio")
+      .description("Received events per achievement evaluation in a single batch")
+      .register(meterRegistry);
+  }
 
   /**
-   * Processes the task completion events received from the Kafka topic.
-   * Upon receiving the task completion event, this method delegates the task to the
-   * AchievementFactory to evaluate potential achievements.
+   * Processes a batch of task completion events received from the Kafka topic.
+   * Events that were already processed are dropped, the rest are collapsed to distinct user,
+   * team and project keys, and achievements are evaluated once per key. Failed evaluations are
+   * published to the retry topic; the events are then recorded as processed and offsets are
+   * committed after the whole batch is processed.
    *
-   * @param event The Kafka event containing details about the completed task.
+   * @param events The Kafka events containing details about the completed tasks.
    */
-  @KafkaListener(topics = ACHIEVEMENT_TOPIC, groupId = ACHIEVEMENT_GROUP)
-  public void processTaskCompletion(KafkaTaskCompletionDto event) {
-    log.info("Received task completion event for user: {}", event.userId());
-    achievementFactory.evaluateAchievements(event);
+  @KafkaListener(topics = ACHIEVEMENT_TOPIC, groupId = ACHIEVEMENT_GROUP, containerFactory = ACHIEVEMENT_BATCH_FACTORY)
+  public void processTaskCompletions(List<KafkaTaskCompletionDto> events) {
+    Set<UUID> eventIds = collectEventIds(events);
+    Set<UUID> processed = eventIds.isEmpty() ? Set.of() : processedEventStore.findProcessed(eventIds);
+    List<KafkaTaskCompletionDto> newEvents = events.stream()
+        .filter(event -> event.eventId() == null || !processed.contains(event.eventId()))
+        .toList();
+
+    Collection<KafkaTaskCompletionDto> distinctEvents = coalesce(newEvents);
+    log.info("Received {} task completion events ({} duplicates) for {} users.",
+        events.size(), events.size() - newEvents.size(), distinctEvents.size());
+
+    List<KafkaTaskCompletionDto> failedEvents = new ArrayList<>();
+    for (KafkaTaskCompletionDto event : distinctEvents) {
+      try {
+        achievementFactory.evaluateAchievements(event);
+      } catch (RuntimeException e) {
+        log.warn("Achievement evaluation failed for user {}, scheduling a retry: {}", event.userId(), e.getMessage());
+        failedEvents.add(event);
+      }
+    }
+    achievementRetryService.scheduleRetry(failedEvents);
+    eventIds.removeAll(processed);
+    processedEventStore.markProcessed(eventIds);
+
+    receivedEvents.increment(events.size());
+    duplicateEvents.increment(events.size() - newEvents.size());
+    evaluatedEvents.increment(distinctEvents.size());
+    if (!distinctEvents.isEmpty()) {
+      coalescingRatio.record((double) newEvents.size() / distinctEvents.size());
+    }
+  }
+
+  private static Set<UUID> collectEventIds(List<KafkaTaskCompletionDto> events) {
+    Set<UUID> eventIds = new LinkedHashSet<>();
+    for (KafkaTaskCompletionDto event : events) {
+      if (event.eventId() != null) {
+        eventIds.add(event.eventId());
+      }
+    }
+    return eventIds;
+  }
+
+  private static Collection<KafkaTaskCompletionDto> coalesce(List<KafkaTaskCompletionDto> events) {
+    Map<EvaluationKey, KafkaTaskCompletionDto> latestByKey = new LinkedHashMap<>();
+    for (KafkaTaskCompletionDto event : events) {
+      latestByKey.put(new EvaluationKey(event.userId(), event.teamId(), event.projectId()), event);
+    }
+    return latestByKey.values();
+  }
+
+  private record EvaluationKey(Long userId, Long teamId, Long projectId) {
   }
 }
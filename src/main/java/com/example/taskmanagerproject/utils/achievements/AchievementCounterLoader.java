@@ -0,0 +1,32 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStats;
+import java.util.Optional;
+
+/**
+ * Loads the incrementally maintained counters and buckets of one user, team and project.
+ * Evaluations without a counter loader derive the same values from the task snapshot.
+ */
+public interface AchievementCounterLoader {
+
+  /**
+   * Loads the incrementally maintained counters, if they exist.
+   *
+   * @return The counters, or an empty optional when they have not been built yet.
+   */
+  Optional<UserAchievementStats> loadStats();
+
+  /**
+   * Loads the highest number of tasks approved on a single day.
+   *
+   * @return The largest daily approved count.
+   */
+  long loadMaxDailyApprovedCount();
+
+  /**
+   * Loads the highest number of CRITICAL tasks approved in a single month.
+   *
+   * @return The largest monthly critical count.
+   */
+  long loadMaxMonthlyCriticalCount();
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+/**
+ * Data slices an achievement rule may need, ordered from the cheapest to the most expensive to load.
+ */
+public enum AchievementData {
+
+  /**
+   * The incrementally maintained counters of the user, a single row.
+   */
+  COUNTERS,
+
+  /**
+   * The per-day and per-month approval buckets, aggregated in the database.
+   */
+  BUCKETS,
+
+  /**
+   * Every approved task of the user.
+   */
+  TASKS,
+
+  /**
+   * The IDs of the approved tasks that have comments.
+   */
+  COMMENTS,
+
+  /**
+   * The IDs of the approved tasks that were cancelled at some point.
+   */
+  HISTORY
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import com.example.taskmanagerproject.entities.tasks.Task;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads the task data slices an achievement evaluation needs for one user, team and project.
+ * Each method is called at most once per evaluation and only when a rule requires it.
+ * Loaders that can also read the incrementally maintained counters implement {@link AchievementCounterLoader}.
+ */
+public interface AchievementDataLoader {
+
+  /**
+   * Loads every approved task of the user.
+   *
+   * @return The approved tasks.
+   */
+  List<Task> loadApprovedTasks();
+
+  /**
+   * Loads the IDs of the approved tasks that have ever been cancelled.
+   *
+   * @return The IDs of the cancelled tasks.
+   */
+  Set<Long> loadCancelledTaskIds();
+
+  /**
+   * Loads the IDs of the approved tasks that have comments.
+   *
+   * @return The IDs of the commented tasks.
+   */
+  Set<Long> loadCommentedTaskIds();
+}
@@ -0,0 +1,467 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.CRITICAL;
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.HIGH;
+import static java.time.Duration.between;
+import static java.time.LocalDateTime.now;
+
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStats;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-event view of a user's achievement data for a single team and project.
+ *
+ * <p>Counter-based rules read the incrementally maintained {@link UserAchievementStats}
+ * when a counter loader is given and they exist; otherwise the counters and buckets are
+ * derived from the task snapshot. Rules that depend on individual tasks use a snapshot of the approved
+ * tasks, which is loaded at most once and processed in a single pass. Task history and
+ * comments are loaded lazily as sets of task IDs, one query each, and tested in memory.
+ * The metric accessors back the rules of {@link AchievementRuleRegistry}, and each predicate
+ * checks the achievement of the same name.
+ *
+ * <p>Each data slice is loaded under its own lock, so independent slices may be loaded concurrently.
+ * {@link #prefetch(Set, Executor)} loads the slices the rules need on an executor before they are evaluated.
+ */
+public final class AchievementEvaluationContext {
+
+  private static final int CONTINUITY_MONTHS = 12;
+
+  private final AchievementDataLoader loader;
+  private final AchievementCounterLoader counterLoader;
+  private final LocalDateTime evaluatedAt;
+
+  private final Slice<Optional<UserAchievementStats>> stats;
+  private final Slice<TaskSnapshot> snapshot;
+  private final Slice<Set<Long>> cancelledTaskIds;
+  private final Slice<Set<Long>> commentedTaskIds;
+  private final Slice<Long> maxApprovedPerDay;
+  private final Slice<Long> maxCriticalPerMonth;
+
+  /**
+   * Creates a context that derives every value from the task data of the given loader.
+   *
+   * @param loader The loader bound to the user, team and project being evaluated.
+   */
+  public AchievementEvaluationContext(AchievementDataLoader loader) {
+    this(loader, null);
+  }
+
+  /**
+   * Creates a context whose data slices are fetched on demand from the given loaders.
+   * Counter-based values are read from the counter loader once counters exist.
+   *
+   * @param loader        The loader of the task data of the user, team and project being evaluated.
+   * @param counterLoader The loader of the counters of the same user, team and project,
+   *                      or null to derive them from the task data.
+   */
+  public AchievementEvaluationContext(AchievementDataLoader loader, AchievementCounterLoader counterLoader) {
+    this.loader = loader;
+    this.counterLoader = counterLoader;
+    this.evaluatedAt = now();
+    this.stats = new Slice<>(() -> counterLoader != null ? counterLoader.loadStats() : Optional.empty());
+    this.snapshot = new Slice<>(() -> new TaskSnapshot(loader.loadApprovedTasks(), evaluatedAt));
+    this.cancelledTaskIds = new Slice<>(loader::loadCancelledTaskIds);
+    this.commentedTaskIds = new Slice<>(loader::loadCommentedTaskIds);
+    this.maxApprovedPerDay = new Slice<>(() ->
+      stats().isPresent() ? counterLoader.loadMaxDailyApprovedCount() : snapshot().maxApprovedPerDay);
+    this.maxCriticalPerMonth = new Slice<>(() ->
+      stats().isPresent() ? counterLoader.loadMaxMonthlyCriticalCount() : snapshot().maxCriticalPerMonth);
+  }
+
+  /**
+   * Loads the given data slices concurrently on the executor. The counters, the task snapshot and
+   * the task history are loaded at once; the buckets, or the task snapshot and comment IDs the counters
+   * fall back to, are loaded as soon as it is known whether counters exist.
+   *
+   * @param data     The data slices the rules read.
+   * @param executor The executor the slices are loaded on.
+   * @return A future completing once every slice is loaded, or exceptionally if a load failed.
+   */
+  public CompletableFuture<Void> prefetch(Set<AchievementData> data, Executor executor) {
+    List<CompletableFuture<?>> loads = new ArrayList<>();
+    CompletableFuture<Boolean> hasStats = CompletableFuture.supplyAsync(() -> stats().isPresent(), executor);
+    if (data.contains(AchievementData.TASKS)) {
+      loads.add(CompletableFuture.runAsync(this::snapshot, executor));
+    }
+    if (data.contains(AchievementData.HISTORY)) {
+      loads.add(CompletableFuture.runAsync(this::cancelledTaskIds, executor));
+    }
+    loads.add(hasStats.thenCompose(present -> {
+      List<CompletableFuture<?>> dependentLoads = new ArrayList<>();
+      if (present && data.contains(AchievementData.BUCKETS)) {
+        dependentLoads.add(CompletableFuture.runAsync(this::maxApprovedPerDay, executor));
+        dependentLoads.add(CompletableFuture.runAsync(this::maxCriticalPerMonth, executor));
+      }
+      if (!present && !data.contains(AchievementData.TASKS)) {
+        dependentLoads.add(CompletableFuture.runAsync(this::snapshot, executor));
+      }
+      if (!present && data.contains(AchievementData.COMMENTS)) {
+        dependentLoads.add(CompletableFuture.runAsync(this::commentedTaskIds, executor));
+      }
+      return CompletableFuture.allOf(dependentLoads.toArray(CompletableFuture[]::new));
+    }));
+    return CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Returns the number of approved tasks of the user.
+   *
+   * @return The approved task count.
+   */
+  public long approvedCount() {
+    return counter(UserAchievementStats::getApprovedCount, tasks -> tasks.tasks.size());
+  }
+
+  public long approvedInLast30DaysCount() {
+    return snapshot().approvedLast30Days;
+  }
+
+  public long approvedBeforeDeadlineCount() {
+    return counter(UserAchievementStats::getBeforeDeadlineCount, tasks -> tasks.approvedBeforeDeadline);
+  }
+
+  public long highPriorityCount() {
+    return counter(UserAchievementStats::getHighPriorityCount, tasks -> tasks.highPriority);
+  }
+
+  public long criticalCount() {
+    return counter(UserAchievementStats::getCriticalCount, tasks -> tasks.critical);
+  }
+
+  /**
+   * Returns the highest number of tasks approved on a single day.
+   *
+   * @return The largest daily approved count.
+   */
+  public long maxApprovedPerDay() {
+    return maxApprovedPerDay.get();
+  }
+
+  /**
+   * Returns the highest number of CRITICAL tasks approved in a single month.
+   *
+   * @return The largest monthly critical count.
+   */
+  public long maxCriticalPerMonth() {
+    return maxCriticalPerMonth.get();
+  }
+
+  public long cancelledCount() {
+    Set<Long> cancelled = cancelledTaskIds();
+    return snapshot().tasks.stream().filter(task -> cancelled.contains(task.getId())).count();
+  }
+
+  public long commentedCount() {
+    return counter(UserAchievementStats::getCommentedCount,
+      tasks -> tasks.tasks.stream().filter(this::hasComments).count());
+  }
+
+  public long criticalCommentedCount() {
+    return counter(UserAchievementStats::getCriticalCommentedCount,
+      tasks -> tasks.tasks.stream().filter(task -> task.getPriority() == CRITICAL && hasComments(task)).count());
+  }
+
+  /**
+   * Returns the number of tasks approved at least 10% faster than the average approval time.
+   *
+   * @return The count of faster than average tasks.
+   */
+  public long fasterThanAverageCount() {
+    long[] durations = snapshot().durationsMillis;
+    if (durations.length == 0) {
+      return 0;
+    }
+    long total = 0;
+    for (long duration : durations) {
+      total += duration;
+    }
+    double threshold = (double) total / durations.length * 0.9;
+    long faster = 0;
+    for (long duration : durations) {
+      if (duration <= threshold) {
+        faster++;
+      }
+    }
+    return faster;
+  }
+
+  /**
+   * Returns the share of approved tasks that were approved no later than their deadline.
+   *
+   * @return The on-time percentage, or 0 when no tasks were approved.
+   */
+  public long onTimePercentage() {
+    long approved = approvedCount();
+    return approved == 0
+      ? 0
+      : counter(UserAchievementStats::getOnTimeCount, tasks -> tasks.approvedOnTime) * 100 / approved;
+  }
+
+  public long teamCount() {
+    return snapshot().teamIds.size();
+  }
+
+  public long longDurationCount() {
+    return counter(UserAchievementStats::getLongDurationCount, tasks -> tasks.longDuration);
+  }
+
+  /**
+   * Checks whether the user created tasks in each of the given number of most recent months
+   * and has been working for at least that long.
+   *
+   * @param months The number of months, at most 12.
+   * @return True if the user worked continuously, otherwise false.
+   */
+  public boolean hasWorkedContinuouslyFor(int months) {
+    TaskSnapshot tasks = snapshot();
+    return tasks.earliestCreatedAt != null
+      && !tasks.earliestCreatedAt.isAfter(evaluatedAt.minusMonths(months))
+      && tasks.activeInEachOfLastMonths(months);
+  }
+
+  /**
+   * Checks whether the user created tasks in each of the last 12 months and the given share
+   * of approved tasks was created within that period.
+   *
+   * @param percentage The minimum share of tasks created in the last 12 months.
+   * @return True if the completion consistency is reached, otherwise false.
+   */
+  public boolean hasCompletionConsistencyFor12Months(long percentage) {
+    TaskSnapshot tasks = snapshot();
+    return !tasks.tasks.isEmpty()
+      && tasks.activeInEachOfLastMonths(CONTINUITY_MONTHS)
+      && tasks.createdLast12Months * 100 / tasks.tasks.size() >= percentage;
+  }
+
+  public boolean hasApprovedTasksInLast30Days() {
+    return approvedInLast30DaysCount() >= 30;
+  }
+
+  public boolean hasApprovedTasksBeforeDeadline() {
+    return approvedBeforeDeadlineCount() >= 20;
+  }
+
+  public boolean hasApprovedHighPriorityTasks() {
+    return highPriorityCount() >= 20;
+  }
+
+  public boolean hasApprovedCriticalPriorityTasks() {
+    return criticalCount() >= 40;
+  }
+
+  public boolean hasApprovedTasksDaily() {
+    return maxApprovedPerDay() >= 5;
+  }
+
+  public boolean hasTasksApprovedAfterRejection() {
+    return cancelledCount() >= 10;
+  }
+
+  public boolean hasFixedCriticalBugsInOneMonth() {
+    return maxCriticalPerMonth() >= 20;
+  }
+
+  public boolean hasFixedBugs() {
+    return commentedCount() >= 100;
+  }
+
+  public boolean hasReportedBugs() {
+    return criticalCommentedCount() >= 25;
+  }
+
+  public boolean hasResolvedReviewComments() {
+    return commentedCount() >= 30;
+  }
+
+  public boolean hasApprovedTasks10PercentFaster() {
+    return fasterThanAverageCount() >= 20;
+  }
+
+  public boolean hasMaintained90PercentOnTimeApprovalRate() {
+    return approvedCount() > 0 && onTimePercentage() >= 90;
+  }
+
+  public boolean hasApprovedCriticalTaskWithin24Hours() {
+    return snapshot().criticalWithin24Hours;
+  }
+
+  public boolean hasSavedProjectByApprovingTaskJustBeforeDeadline() {
+    return snapshot().approvedJustBeforeDeadline;
+  }
+
+  public boolean hasCollaboratedWithMultipleTeams() {
+    return teamCount() >= 5;
+  }
+
+  public boolean hasWorkedContinuouslyFor6Months() {
+    return hasWorkedContinuouslyFor(6);
+  }
+
+  public boolean hasCompletedLongDurationTasks() {
+    return longDurationCount() >= 50;
+  }
+
+  public boolean hasMaintained90PercentCompletionFor12Months() {
+    return hasCompletionConsistencyFor12Months(90);
+  }
+
+  private boolean hasComments(Task task) {
+    return commentedTaskIds().contains(task.getId());
+  }
+
+  private Set<Long> cancelledTaskIds() {
+    return cancelledTaskIds.get();
+  }
+
+  private Set<Long> commentedTaskIds() {
+    return commentedTaskIds.get();
+  }
+
+  private long counter(ToLongFunction<UserAchievementStats> fromStats, ToLongFunction<TaskSnapshot> fromTasks) {
+    Optional<UserAchievementStats> current = stats();
+    return current.isPresent() ? fromStats.applyAsLong(current.get()) : fromTasks.applyAsLong(snapshot());
+  }
+
+  private Optional<UserAchievementStats> stats() {
+    return stats.get();
+  }
+
+  private TaskSnapshot snapshot() {
+    return snapshot.get();
+  }
+
+  /**
+   * A data slice loaded on first access under its own lock, so loading one slice never waits for another
+   * unless it is derived from it. A failed load is attempted again on the next access.
+   */
+  private static final class Slice<T> {
+
+    private final Supplier<T> source;
+    private T value;
+
+    private Slice(Supplier<T> source) {
+      this.source = source;
+    }
+
+    private synchronized T get() {
+      if (value == null) {
+        value = source.get();
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Counters computed in a single pass over the loaded approved tasks.
+   */
+  private static final class TaskSnapshot {
+
+    private final List<Task> tasks;
+    private final LocalDateTime evaluatedAt;
+    private final long[] durationsMillis;
+    private final boolean[] activeMonths = new boolean[CONTINUITY_MONTHS];
+    private final Set<Long> teamIds = new HashSet<>();
+
+    private long approvedLast30Days;
+    private long approvedBeforeDeadline;
+    private long approvedOnTime;
+    private long highPriority;
+    private long critical;
+    private long longDuration;
+    private long createdLast12Months;
+    private long maxApprovedPerDay;
+    private long maxCriticalPerMonth;
+    private boolean criticalWithin24Hours;
+    private boolean approvedJustBeforeDeadline;
+    private LocalDateTime earliestCreatedAt;
+
+    private TaskSnapshot(List<Task> tasks, LocalDateTime evaluatedAt) {
+      this.tasks = tasks;
+      this.evaluatedAt = evaluatedAt;
+      this.durationsMillis = new long[tasks.size()];
+      collect();
+    }
+
+    private void collect() {
+      Map<LocalDate, Long> approvedPerDay = new HashMap<>();
+      Map<YearMonth, Long> criticalPerMonth = new HashMap<>();
+      LocalDateTime last30Days = evaluatedAt.minusDays(30);
+      LocalDateTime last12Months = evaluatedAt.minusMonths(CONTINUITY_MONTHS);
+
+      for (int i = 0; i < tasks.size(); i++) {
+        Task task = tasks.get(i);
+        LocalDateTime createdAt = task.getCreatedAt();
+        LocalDateTime approvedAt = task.getApprovedAt();
+        LocalDateTime expirationDate = task.getExpirationDate();
+
+        durationsMillis[i] = between(createdAt, approvedAt).toMillis();
+
+        if (approvedAt.isAfter(last30Days)) {
+          approvedLast30Days++;
+        }
+        if (expirationDate.isAfter(approvedAt)) {
+          approvedBeforeDeadline++;
+        }
+        if (!approvedAt.isAfter(expirationDate)) {
+          approvedOnTime++;
+        }
+        if (task.getPriority() == HIGH) {
+          highPriority++;
+        }
+        if (task.getPriority() == CRITICAL) {
+          critical++;
+          maxCriticalPerMonth = Math.max(maxCriticalPerMonth,
+            criticalPerMonth.merge(YearMonth.from(approvedAt), 1L, Long::sum));
+          criticalWithin24Hours |= between(createdAt, approvedAt).toHours() <= 24;
+        }
+        if (between(createdAt, approvedAt).toDays() > 7) {
+          longDuration++;
+        }
+        if (createdAt.isAfter(last12Months)) {
+          createdLast12Months++;
+        }
+        if (earliestCreatedAt == null || createdAt.isBefore(earliestCreatedAt)) {
+          earliestCreatedAt = createdAt;
+        }
+
+        maxApprovedPerDay = Math.max(maxApprovedPerDay,
+          approvedPerDay.merge(approvedAt.toLocalDate(), 1L, Long::sum));
+        approvedJustBeforeDeadline |= between(expirationDate, approvedAt).toMinutes() <= 5;
+        teamIds.add(task.getTeam().getId());
+        markActiveMonth(createdAt);
+      }
+    }
+
+    private void markActiveMonth(LocalDateTime createdAt) {
+      for (int month = 0; month < CONTINUITY_MONTHS; month++) {
+        if (createdAt.isAfter(evaluatedAt.minusMonths(month + 1L))
+            && createdAt.isBefore(evaluatedAt.minusMonths(month))) {
+          activeMonths[month] = true;
+        }
+      }
+    }
+
+    private boolean activeInEachOfLastMonths(int months) {
+      for (int month = 0; month < months; month++) {
+        if (!activeMonths[month]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.configurations.kafka.KafkaConsumerConfig.ACHIEVEMENT_RETRY_FACTORY;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.utils.factories.AchievementFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+/**
+ * Consumer service that retries task completion events whose achievement evaluation failed.
+ * Each event is evaluated on its own; failures are retried on delayed topics with exponential
+ * backoff and end up on the dead-letter topic once the configured attempts are exhausted.
+ */
+@Slf4j
+@Service
+public class AchievementRetryConsumer {
+
+  public static final String ACHIEVEMENT_RETRY_TOPIC = "achievement-retry-topic";
+  public static final String DLT_SUFFIX = "-dlt";
+  public static final String ACHIEVEMENT_DLT = ACHIEVEMENT_RETRY_TOPIC + DLT_SUFFIX;
+
+  private static final String ACHIEVEMENT_RETRY_GROUP = "achievement-retry-group";
+
+  private final AchievementFactory achievementFactory;
+  private final Counter retriedEvents;
+  private final Counter recoveredEvents;
+  private final Counter deadLetteredEvents;
+
+  /**
+   * Creates the consumer and registers its retry metrics.
+   *
+   * @param achievementFactory The factory used to evaluate achievements.
+   * @param meterRegistry      The registry the retry metrics are published to.
+   */
+  public AchievementRetryConsumer(AchievementFactory achievementFactory, MeterRegistry meterRegistry) {
+    this.achievementFactory = achievementFactory;
+    this.retriedEvents = Counter.builder("achievement.events.retries")
+      .description("Achievement evaluations attempted from the retry topics")
+      .register(meterRegistry);
+    this.recoveredEvents = Counter.builder("achievement.events.recovered")
+      .description("Task completion events evaluated successfully after a retry")
+      .register(meterRegistry);
+    this.deadLetteredEvents = Counter.builder("achievement.events.dead.lettered")
+      .description("Task completion events published to the dead-letter topic")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Evaluates achievements for a single task completion event taken from a retry topic.
+   * An exception hands the event over to the next retry topic or the dead-letter topic.
+   *
+   * @param event The task completion event to evaluate again.
+   */
+  @KafkaListener(topics = ACHIEVEMENT_RETRY_TOPIC, groupId = ACHIEVEMENT_RETRY_GROUP, containerFactory = ACHIEVEMENT_RETRY_FACTORY)
+  public void retryTaskCompletion(KafkaTaskCompletionDto event) {
+    retriedEvents.increment();
+    achievementFactory.evaluateAchievements(event);
+    recoveredEvents.increment();
+  }
+
+  /**
+   * Records a task completion event that exhausted its retries. The event stays on the
+   * dead-letter topic until it is re-driven.
+   *
+   * @param event The task completion event that could not be evaluated.
+   * @param topic The dead-letter topic the event was read from.
+   */
+  public void handleDeadLetter(KafkaTaskCompletionDto event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+    deadLetteredEvents.increment();
+    log.error("Achievement evaluation for task {} of user {} failed after all retries and was moved to {}.",
+        event.taskId(), event.userId(), topic);
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A rule that decides whether an achievement is unlocked.
+ *
+ * <p>The minimum approved task count is a cheap precondition: no rule can pass while the user has
+ * approved fewer tasks, so the rule is skipped without loading any of its required data.
+ *
+ * @param title            The title of the achievement this rule is bound to.
+ * @param minApprovedTasks The number of approved tasks the user needs before the rule can pass.
+ * @param requiredData     The data slices the condition reads.
+ * @param condition        The check performed once the precondition holds.
+ */
+public record AchievementRule(
+    String title,
+    long minApprovedTasks,
+    Set<AchievementData> requiredData,
+    Predicate<AchievementEvaluationContext> condition
+) {
+
+  /**
+   * Creates a rule that is unlocked once a metric reaches the given threshold.
+   * Every metric counts approved tasks, so the threshold is also the minimum approved task count.
+   *
+   * @param title     The title of the achievement.
+   * @param threshold The value the metric has to reach.
+   * @param metric    The metric read from the evaluation context.
+   * @param data      The data slices the metric reads.
+   * @return The threshold rule.
+   */
+  public static AchievementRule threshold(String title, long threshold,
+                                          ToLongFunction<AchievementEvaluationContext> metric,
+                                          AchievementData... data) {
+    return new AchievementRule(title, threshold, dataOf(data), context -> metric.applyAsLong(context) >= threshold);
+  }
+
+  /**
+   * Creates a rule with a custom condition.
+   *
+   * @param title            The title of the achievement.
+   * @param minApprovedTasks The number of approved tasks the user needs before the rule can pass.
+   * @param condition        The check performed once the precondition holds.
+   * @param data             The data slices the condition reads.
+   * @return The rule.
+   */
+  public static AchievementRule of(String title, long minApprovedTasks,
+                                   Predicate<AchievementEvaluationContext> condition,
+                                   AchievementData... data) {
+    return new AchievementRule(title, minApprovedTasks, dataOf(data), condition);
+  }
+
+  /**
+   * Checks the cheap precondition of the rule.
+   *
+   * @param context The evaluation context of the event.
+   * @return True if the rule can possibly pass, otherwise false.
+   */
+  public boolean isApplicable(AchievementEvaluationContext context) {
+    return minApprovedTasks <= 0 || context.approvedCount() >= minApprovedTasks;
+  }
+
+  /**
+   * Checks whether the achievement is unlocked.
+   *
+   * @param context The evaluation context of the event.
+   * @return True if the achievement is unlocked, otherwise false.
+   */
+  public boolean isUnlocked(AchievementEvaluationContext context) {
+    return isApplicable(context) && condition.test(context);
+  }
+
+  /**
+   * Returns the most expensive data slice the rule reads, used to evaluate cheap rules first.
+   *
+   * @return The costliest required data slice.
+   */
+  public AchievementData costliestData() {
+    return requiredData.stream().max(Enum::compareTo).orElse(AchievementData.COUNTERS);
+  }
+
+  private static Set<AchievementData> dataOf(AchievementData... data) {
+    Set<AchievementData> set = EnumSet.of(AchievementData.COUNTERS, data);
+    return Collections.unmodifiableSet(set);
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.configurations.achievements.AchievementExecutorConfig.ACHIEVEMENT_RULE_EXECUTOR;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toSet;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementEvaluationProperties;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates achievement rules for a single event on the calling thread, optionally loading the data
+ * slices they need concurrently on the bounded achievement rule executor first.
+ *
+ * <p>In parallel mode the independent slices, such as the counters, the task snapshot and the task history,
+ * are loaded at the same time, so an event waits for its slowest query rather than for the sum of them.
+ * Only the slices of the rules that apply to the user are loaded; checking which rules apply reads
+ * just the counters. If the slices are not loaded within the per-event timeout, the evaluation fails,
+ * so the event is retried rather than its awards being lost.
+ */
+@Slf4j
+@Component
+public class AchievementRuleExecutor {
+
+  private final ExecutorService executor;
+  private final AchievementEvaluationProperties evaluationProperties;
+  private final Semaphore permits;
+
+  /**
+   * Creates the rule executor.
+   *
+   * @param executor             The executor data slices are loaded on in parallel mode.
+   * @param evaluationProperties The evaluation mode, concurrency limit and timeout.
+   */
+  public AchievementRuleExecutor(@Qualifier(ACHIEVEMENT_RULE_EXECUTOR) ExecutorService executor,
+                                 AchievementEvaluationProperties evaluationProperties) {
+    this.executor = executor;
+    this.evaluationProperties = evaluationProperties;
+    this.permits = new Semaphore(evaluationProperties.getMaxConcurrency());
+  }
+
+  /**
+   * Finds the rules that are unlocked for the event the context belongs to.
+   *
+   * @param context The evaluation context of the event.
+   * @param rules   The rules of the achievements the user has not earned yet.
+   * @return The titles of the unlocked achievements.
+   * @throws IllegalStateException if the data of the rules could not be loaded within the timeout in parallel mode.
+   */
+  public Set<String> findUnlocked(AchievementEvaluationContext context, Collection<AchievementRule> rules) {
+    List<AchievementRule> applicable = rules.stream().filter(rule -> rule.isApplicable(context)).toList();
+    if (evaluationProperties.isParallel() && !applicable.isEmpty()) {
+      Set<AchievementData> requiredData = EnumSet.of(AchievementData.COUNTERS);
+      applicable.forEach(rule -> requiredData.addAll(rule.requiredData()));
+      prefetch(context, requiredData);
+    }
+    return applicable.stream()
+      .filter(rule -> rule.condition().test(context))
+      .map(AchievementRule::title)
+      .collect(toSet());
+  }
+
+  /**
+   * Loads the required data slices concurrently. A slice that failed to load is loaded again
+   * when a rule reads it, so its failure surfaces as in sequential mode.
+   */
+  private void prefetch(AchievementEvaluationContext context, Set<AchievementData> requiredData) {
+    Duration timeout = evaluationProperties.getTimeout();
+    try {
+      context.prefetch(requiredData, this::executeWithPermit).get(timeout.toMillis(), MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException("Achievement data " + requiredData + " was not loaded within " + timeout, e);
+    } catch (ExecutionException e) {
+      log.debug("Loading achievement data {} failed, loading it on demand: {}", requiredData, e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading achievement data " + requiredData, e);
+    }
+  }
+
+  private void executeWithPermit(Runnable load) {
+    executor.execute(() -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting to load achievement data", e);
+      }
+      try {
+        load.run();
+      } finally {
+        permits.release();
+      }
+    });
+  }
+}
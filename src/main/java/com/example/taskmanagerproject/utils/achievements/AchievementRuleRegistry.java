@@ -0,0 +1,85 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.BUCKETS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.COMMENTS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.COUNTERS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.HISTORY;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.TASKS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementRule.of;
+import static com.example.taskmanagerproject.utils.achievements.AchievementRule.threshold;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the rules that unlock achievements, bound to achievements by title.
+ * Adding an achievement only requires inserting its row and registering a rule here.
+ */
+@Component
+public class AchievementRuleRegistry {
+
+  private final Map<String, AchievementRule> rules = new LinkedHashMap<>();
+
+  /**
+   * Creates the registry with the built-in achievement rules.
+   */
+  public AchievementRuleRegistry() {
+    List.of(
+      // Milestone Achievements
+      of("First Milestone", 10, context -> true),
+      of("Second Milestone", 100, context -> true),
+      of("Third Milestone", 500, context -> true),
+      of("Master of Tasks", 1000, context -> true),
+      of("Legendary Contributor", 2000, context -> true),
+
+      // Task-Based Achievements
+      threshold("Consistent Closer", 30, AchievementEvaluationContext::approvedInLast30DaysCount, TASKS),
+      threshold("Deadline Crusher", 20, AchievementEvaluationContext::approvedBeforeDeadlineCount, COUNTERS),
+      threshold("Critical Thinker", 20, AchievementEvaluationContext::highPriorityCount, COUNTERS),
+      threshold("Stability Savior", 40, AchievementEvaluationContext::criticalCount, COUNTERS),
+      threshold("Task Warrior", 5, AchievementEvaluationContext::maxApprovedPerDay, BUCKETS),
+      threshold("Rejection Survivor", 10, AchievementEvaluationContext::cancelledCount, TASKS, HISTORY),
+
+      // Bug Fixing & Issue Resolution
+      threshold("Bug Slayer", 20, AchievementEvaluationContext::maxCriticalPerMonth, BUCKETS),
+      threshold("Code Doctor", 100, AchievementEvaluationContext::commentedCount, COUNTERS, COMMENTS),
+      threshold("Bug Bounty Hunter", 25, AchievementEvaluationContext::criticalCommentedCount, COUNTERS, COMMENTS),
+      threshold("Quality Champion", 30, AchievementEvaluationContext::commentedCount, COUNTERS, COMMENTS),
+
+      // Time Management
+      threshold("Time Wizard", 20, AchievementEvaluationContext::fasterThanAverageCount, TASKS),
+      of("On-Time Achiever", 1, context -> context.onTimePercentage() >= 90, COUNTERS),
+      of("Deadline Hero", 1, AchievementEvaluationContext::hasApprovedCriticalTaskWithin24Hours, TASKS),
+      of("Last-Minute Savior", 1, AchievementEvaluationContext::hasSavedProjectByApprovingTaskJustBeforeDeadline, TASKS),
+
+      // Teamwork & Advanced Achievements
+      threshold("Team Player", 5, AchievementEvaluationContext::teamCount, TASKS),
+      of("Long-Term Strategist", 6, context -> context.hasWorkedContinuouslyFor(6), TASKS),
+      threshold("Marathon Worker", 50, AchievementEvaluationContext::longDurationCount, COUNTERS),
+      of("Task Champion", 12, context -> context.hasCompletionConsistencyFor12Months(90), TASKS)
+    ).forEach(rule -> rules.put(rule.title(), rule));
+  }
+
+  /**
+   * Finds the rule bound to an achievement.
+   *
+   * @param title The title of the achievement.
+   * @return The rule, or an empty optional if the achievement has no rule.
+   */
+  public Optional<AchievementRule> findRule(String title) {
+    return Optional.ofNullable(rules.get(title));
+  }
+
+  /**
+   * Returns all registered rules.
+   *
+   * @return The registered rules.
+   */
+  public Collection<AchievementRule> getRules() {
+    return rules.values();
+  }
+}
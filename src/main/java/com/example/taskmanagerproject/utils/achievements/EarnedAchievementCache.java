@@ -0,0 +1,89 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementCacheProperties;
+import com.example.taskmanagerproject.repositories.AchievementsUsersRepository;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user cache of earned achievements, stored as bit sets indexed by achievement ID.
+ * The least recently used users are evicted once the configured number of users is cached.
+ *
+ * <p>The cache only saves work: awards are still guarded by the database, so a stale entry
+ * at worst causes an achievement to be evaluated again.
+ */
+@Component
+public class EarnedAchievementCache {
+
+  private final AchievementsUsersRepository achievementsUsersRepository;
+  private final Map<Long, BitSet> earnedByUser;
+
+  /**
+   * Creates the cache bounded to the configured number of users.
+   *
+   * @param achievementsUsersRepository The repository the earned achievements are loaded from.
+   * @param cacheProperties             The cache configuration.
+   */
+  public EarnedAchievementCache(AchievementsUsersRepository achievementsUsersRepository,
+                                AchievementCacheProperties cacheProperties) {
+    this.achievementsUsersRepository = achievementsUsersRepository;
+    int maxCachedUsers = cacheProperties.getMaxCachedUsers();
+    this.earnedByUser = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, BitSet> eldest) {
+        return size() > maxCachedUsers;
+      }
+    };
+  }
+
+  /**
+   * Returns the achievements earned by a user, loading them on a cache miss.
+   *
+   * @param userId The ID of the user.
+   * @return A copy of the user's earned achievements, indexed by achievement ID.
+   */
+  public BitSet getEarned(Long userId) {
+    synchronized (earnedByUser) {
+      BitSet cached = earnedByUser.get(userId);
+      if (cached != null) {
+        return (BitSet) cached.clone();
+      }
+    }
+
+    BitSet loaded = new BitSet();
+    achievementsUsersRepository.findAchievementIdsByUserId(userId).forEach(id -> loaded.set(id.intValue()));
+    synchronized (earnedByUser) {
+      BitSet current = earnedByUser.merge(userId, loaded, (existing, fresh) -> {
+        existing.or(fresh);
+        return existing;
+      });
+      return (BitSet) current.clone();
+    }
+  }
+
+  /**
+   * Records that a user earned an achievement. Users that are not cached are left to load on next use.
+   *
+   * @param userId        The ID of the user.
+   * @param achievementId The ID of the achievement.
+   */
+  public void markEarned(Long userId, Long achievementId) {
+    synchronized (earnedByUser) {
+      BitSet cached = earnedByUser.get(userId);
+      if (cached != null) {
+        cached.set(achievementId.intValue());
+      }
+    }
+  }
+
+  /**
+   * Discards all cached users, e.g. after achievements were awarded outside the event flow.
+   */
+  public void invalidateAll() {
+    synchronized (earnedByUser) {
+      earnedByUser.clear();
+    }
+  }
+}
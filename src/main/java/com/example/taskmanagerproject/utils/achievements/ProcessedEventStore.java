@@ -0,0 +1,111 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static java.time.LocalDateTime.now;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementDeduplicationProperties;
+import com.example.taskmanagerproject.repositories.ProcessedEventRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Store of the events already handled by the achievement consumer. Recently seen event IDs are
+ * kept in a bounded in-memory LRU in front of the {@code processed_events} table, so most
+ * redeliveries are dropped without a query. Rows older than the retention are deleted periodically.
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+  private final ProcessedEventRepository processedEventRepository;
+  private final AchievementDeduplicationProperties deduplicationProperties;
+  private final Map<UUID, Boolean> recentEvents;
+
+  /**
+   * Creates the store with an LRU bounded to the configured number of events.
+   *
+   * @param processedEventRepository The repository the processed events are persisted to.
+   * @param deduplicationProperties  The deduplication configuration.
+   */
+  public ProcessedEventStore(ProcessedEventRepository processedEventRepository,
+                             AchievementDeduplicationProperties deduplicationProperties) {
+    this.processedEventRepository = processedEventRepository;
+    this.deduplicationProperties = deduplicationProperties;
+    int maxCachedEvents = deduplicationProperties.getMaxCachedEvents();
+    this.recentEvents = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+        return size() > maxCachedEvents;
+      }
+    };
+  }
+
+  /**
+   * Finds which of the given events were already processed, checking the database only for
+   * events missing from the in-memory cache.
+   *
+   * @param eventIds The IDs of the events to look up.
+   * @return The IDs of the processed events.
+   */
+  public Set<UUID> findProcessed(Collection<UUID> eventIds) {
+    Set<UUID> processed = new HashSet<>();
+    List<UUID> unknown = new ArrayList<>();
+    synchronized (recentEvents) {
+      for (UUID eventId : eventIds) {
+        if (recentEvents.get(eventId) != null) {
+          processed.add(eventId);
+        } else {
+          unknown.add(eventId);
+        }
+      }
+    }
+    if (unknown.isEmpty()) {
+      return processed;
+    }
+
+    Set<UUID> stored = processedEventRepository.findProcessed(unknown);
+    remember(stored);
+    processed.addAll(stored);
+    return processed;
+  }
+
+  /**
+   * Records events as processed.
+   *
+   * @param eventIds The IDs of the processed events.
+   */
+  public void markProcessed(Collection<UUID> eventIds) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    processedEventRepository.markProcessed(eventIds, now());
+    remember(eventIds);
+  }
+
+  /**
+   * Deletes the processed events older than the configured retention.
+   */
+  @Scheduled(fixedDelayString = "${achievement.deduplication.cleanup-interval:PT1H}")
+  public void deleteExpired() {
+    try {
+      int deleted = processedEventRepository.deleteProcessedBefore(now().minus(deduplicationProperties.getRetention()));
+      log.debug("Deleted {} expired processed events.", deleted);
+    } catch (RuntimeException e) {
+      log.warn("Failed to delete expired processed events, retrying on next run: {}", e.getMessage());
+    }
+  }
+
+  private void remember(Collection<UUID> eventIds) {
+    synchronized (recentEvents) {
+      eventIds.forEach(eventId -> recentEvents.put(eventId, Boolean.TRUE));
+    }
+  }
+}
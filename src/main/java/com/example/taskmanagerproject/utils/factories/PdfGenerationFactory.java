@@ -8,14 +8,19 @@ import static org.jsoup.nodes.Document.OutputSettings.Syntax.xml;
 import static org.jsoup.nodes.Entities.EscapeMode.xhtml;
 
 import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import com.example.taskmanagerproject.utils.reports.ReportUserAgent;
 import com.lowagie.text.DocumentException;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
 import org.jsoup.nodes.Document;
+import org.xhtmlrenderer.layout.SharedContext;
 import org.xhtmlrenderer.pdf.ITextRenderer;
 
 /**
@@ -56,21 +61,85 @@ public class PdfGenerationFactory {
    */
   public static byte[] generatePdfFromHtml(String htmlContent) {
     log.info("Generating PDF from HTML...");
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      Document document = Jsoup.parse(htmlContent);
-      document.outputSettings().syntax(xml);
-      document.outputSettings().escapeMode(xhtml);
+    Document document = Jsoup.parse(htmlContent);
+    document.outputSettings().syntax(xml);
+    document.outputSettings().escapeMode(xhtml);
 
-      ITextRenderer renderer = new ITextRenderer();
-      renderer.setDocumentFromString(document.html());
+    ITextRenderer renderer = new ITextRenderer();
+    renderer.setDocumentFromString(document.html());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writePdf(renderer, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Parses HTML content into the DOM a renderer lays out, without serializing it as XHTML first.
+   *
+   * @param htmlContent the HTML content to be converted into a PDF
+   * @return the parsed document
+   */
+  public static org.w3c.dom.Document parseHtml(String htmlContent) {
+    return W3CDom.convert(Jsoup.parse(htmlContent));
+  }
+
+  /**
+   * Renders a parsed document with the given renderer straight into a stream.
+   * The stream is flushed but left open, so it can be part of a larger response or archive.
+   *
+   * @param renderer     the renderer, which must not be used by another thread meanwhile
+   * @param document     the document parsed by {@link #parseHtml(String)}
+   * @param outputStream the stream the PDF is written to
+   * @throws PdfGenerationException if the PDF generation fails
+   */
+  public static void writePdf(ITextRenderer renderer, org.w3c.dom.Document document, OutputStream outputStream) {
+    log.info("Generating PDF from HTML...");
+    renderer.setDocument(document, null);
+    writePdf(renderer, outputStream);
+  }
+
+  /**
+   * Makes a renderer load its resources through the given user agent.
+   *
+   * @param renderer  the renderer
+   * @param userAgent the user agent created for the renderer's output device
+   */
+  public static void installUserAgent(ITextRenderer renderer, ReportUserAgent userAgent) {
+    SharedContext sharedContext = renderer.getSharedContext();
+    userAgent.setSharedContext(sharedContext);
+    sharedContext.setUserAgentCallback(userAgent);
+  }
+
+  private static void writePdf(ITextRenderer renderer, OutputStream outputStream) {
+    try {
       renderer.layout();
-      renderer.createPDF(outputStream);
+      OutputStream target = new NonClosingOutputStream(outputStream);
+      renderer.createPDF(target);
+      target.flush();
 
       log.info("PDF generation completed successfully.");
-      return outputStream.toByteArray();
     } catch (IOException | DocumentException e) {
       log.error("Error occurred while generating PDF", e);
       throw new PdfGenerationException(PDF_GENERATION_ERROR);
     }
   }
+
+  /**
+   * Keeps the renderer from closing a stream it does not own when it finishes the document.
+   */
+  private static final class NonClosingOutputStream extends FilterOutputStream {
+
+    private NonClosingOutputStream(OutputStream outputStream) {
+      super(outputStream);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
 }
@@ -0,0 +1,63 @@
+package com.example.taskmanagerproject.utils.kafka;
+
+import static com.example.taskmanagerproject.utils.kafka.BinaryEventSerializer.FORMAT_VERSION;
+import static com.example.taskmanagerproject.utils.kafka.BinaryEventSerializer.HEADER_SIZE;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * Kafka deserializer reading events written by {@link BinaryEventSerializer}.
+ * Records still in the JSON format are delegated to a {@link JsonDeserializer}
+ * configured with the same properties, so topics can be migrated without draining them.
+ * The JSON fallback trusts the package of the task events, which were the only events
+ * written as JSON.
+ */
+public class BinaryEventDeserializer implements Deserializer<Object> {
+
+  private static final byte JSON_OBJECT_START = '{';
+
+  private final JsonDeserializer<Object> jsonDeserializer =
+      new JsonDeserializer<>().trustedPackages(KafkaTaskCompletionDto.class.getPackageName());
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    jsonDeserializer.configure(configs, isKey);
+  }
+
+  @Override
+  public Object deserialize(String topic, byte[] data) {
+    return deserialize(topic, null, data);
+  }
+
+  @Override
+  public Object deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (data.length > 0 && data[0] == JSON_OBJECT_START) {
+      return headers != null ? jsonDeserializer.deserialize(topic, headers, data) : jsonDeserializer.deserialize(topic, data);
+    }
+    if (data.length < HEADER_SIZE || data[0] != FORMAT_VERSION) {
+      throw new SerializationException("Unsupported binary event format in topic " + topic);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(data, HEADER_SIZE, data.length - HEADER_SIZE);
+    try {
+      return EventCodecs.forTypeId(data[1]).read(buffer);
+    } catch (BufferUnderflowException e) {
+      throw new SerializationException("Truncated binary event in topic " + topic, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    jsonDeserializer.close();
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanagerproject.utils.kafka;
+
+import java.nio.ByteBuffer;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka serializer writing events in the compact binary wire format.
+ * Each record starts with the format version and the event type identifier,
+ * followed by the body written by the event's {@link EventCodec}.
+ */
+public class BinaryEventSerializer implements Serializer<Object> {
+
+  public static final byte FORMAT_VERSION = 1;
+  static final int HEADER_SIZE = 2;
+
+  @Override
+  public byte[] serialize(String topic, Object event) {
+    if (event == null) {
+      return null;
+    }
+    return encode(EventCodecs.forType(event.getClass()), event);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> byte[] encode(EventCodec<T> codec, Object event) {
+    T typedEvent = (T) event;
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + codec.size(typedEvent));
+    buffer.put(FORMAT_VERSION);
+    buffer.put(codec.typeId());
+    codec.write(typedEvent, buffer);
+    return buffer.array();
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.taskmanagerproject.utils.kafka;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a single event type to and from the compact binary wire format.
+ * Each codec owns a type identifier that is written after the format version,
+ * so several event types can share a topic.
+ *
+ * @param <T> The type of the event.
+ */
+public interface EventCodec<T> {
+
+  /**
+   * Returns the identifier written to the wire for this event type.
+   *
+   * @return The type identifier, unique among the registered codecs.
+   */
+  byte typeId();
+
+  /**
+   * Returns the event type handled by this codec.
+   *
+   * @return The event class.
+   */
+  Class<T> type();
+
+  /**
+   * Returns the number of bytes needed to encode the event body.
+   *
+   * @param event The event to encode.
+   * @return The encoded body size in bytes.
+   */
+  int size(T event);
+
+  /**
+   * Writes the event body to the buffer.
+   *
+   * @param event  The event to encode.
+   * @param buffer The buffer to write to, with at least {@link #size(Object)} bytes remaining.
+   */
+  void write(T event, ByteBuffer buffer);
+
+  /**
+   * Reads an event body from the buffer.
+   *
+   * @param buffer The buffer positioned at the start of the event body.
+   * @return The decoded event.
+   */
+  T read(ByteBuffer buffer);
+}
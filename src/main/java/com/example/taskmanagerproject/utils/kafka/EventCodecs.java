@@ -0,0 +1,64 @@
+package com.example.taskmanagerproject.utils.kafka;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Registry of the binary event codecs, looked up by event type when serializing
+ * and by type identifier when deserializing. New event types are supported by
+ * adding their codec to the list below.
+ */
+@UtilityClass
+public class EventCodecs {
+
+  private static final List<EventCodec<?>> CODECS = List.of(
+      new TaskCompletionEventCodec()
+  );
+
+  private static final Map<Class<?>, EventCodec<?>> BY_TYPE = new HashMap<>();
+  private static final Map<Byte, EventCodec<?>> BY_TYPE_ID = new HashMap<>();
+
+  static {
+    for (EventCodec<?> codec : CODECS) {
+      BY_TYPE.put(codec.type(), codec);
+      if (BY_TYPE_ID.put(codec.typeId(), codec) != null) {
+        throw new IllegalStateException("Duplicate event codec type id: " + codec.typeId());
+      }
+    }
+  }
+
+  /**
+   * Finds the codec for an event type.
+   *
+   * @param type The event class.
+   * @param <T>  The type of the event.
+   * @return The codec for the event type.
+   * @throws SerializationException if no codec is registered for the type.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> EventCodec<T> forType(Class<T> type) {
+    EventCodec<?> codec = BY_TYPE.get(type);
+    if (codec == null) {
+      throw new SerializationException("No binary codec registered for " + type.getName());
+    }
+    return (EventCodec<T>) codec;
+  }
+
+  /**
+   * Finds the codec for a type identifier read from the wire.
+   *
+   * @param typeId The type identifier.
+   * @return The codec for the type identifier.
+   * @throws SerializationException if no codec is registered for the identifier.
+   */
+  public static EventCodec<?> forTypeId(byte typeId) {
+    EventCodec<?> codec = BY_TYPE_ID.get(typeId);
+    if (codec == null) {
+      throw new SerializationException("No binary codec registered for type id " + typeId);
+    }
+    return codec;
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.taskmanagerproject.utils.kafka;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Binary codec for task completion events.
+ * The body is a null mask byte followed by the four identifiers as fixed-width longs
+ * and the event ID as two longs. Bodies written before events carried an ID end after
+ * the identifiers and are read with a null event ID.
+ */
+public final class TaskCompletionEventCodec implements EventCodec<KafkaTaskCompletionDto> {
+
+  private static final byte TYPE_ID = 1;
+  private static final int FIELD_COUNT = 4;
+  private static final int EVENT_ID_BIT = FIELD_COUNT;
+  private static final int EVENT_ID_SIZE = 2 * Long.BYTES;
+
+  @Override
+  public byte typeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Class<KafkaTaskCompletionDto> type() {
+    return KafkaTaskCompletionDto.class;
+  }
+
+  @Override
+  public int size(KafkaTaskCompletionDto event) {
+    return Byte.BYTES + FIELD_COUNT * Long.BYTES + EVENT_ID_SIZE;
+  }
+
+  @Override
+  public void write(KafkaTaskCompletionDto event, ByteBuffer buffer) {
+    Long[] fields = {event.taskId(), event.userId(), event.teamId(), event.projectId()};
+    UUID eventId = event.eventId();
+    byte nullMask = 0;
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      if (fields[i] == null) {
+        nullMask |= (byte) (1 << i);
+      }
+    }
+    if (eventId == null) {
+      nullMask |= (byte) (1 << EVENT_ID_BIT);
+    }
+    buffer.put(nullMask);
+    for (Long field : fields) {
+      buffer.putLong(field != null ? field : 0L);
+    }
+    buffer.putLong(eventId != null ? eventId.getMostSignificantBits() : 0L);
+    buffer.putLong(eventId != null ? eventId.getLeastSignificantBits() : 0L);
+  }
+
+  @Override
+  public KafkaTaskCompletionDto read(ByteBuffer buffer) {
+    byte nullMask = buffer.get();
+    Long[] fields = new Long[FIELD_COUNT];
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      long value = buffer.getLong();
+      fields[i] = (nullMask & (1 << i)) != 0 ? null : value;
+    }
+    UUID eventId = null;
+    if (buffer.hasRemaining()) {
+      long mostSignificantBits = buffer.getLong();
+      long leastSignificantBits = buffer.getLong();
+      eventId = (nullMask & (1 << EVENT_ID_BIT)) != 0 ? null : new UUID(mostSignificantBits, leastSignificantBits);
+    }
+    return new KafkaTaskCompletionDto(fields[0], fields[1], fields[2], fields[3], eventId);
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanagerproject.utils.outbox;
+
+import com.example.taskmanagerproject.configurations.outbox.OutboxProperties;
+import com.example.taskmanagerproject.services.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled relay that drains the outbox and publishes pending events to Kafka.
+ * Each batch is published in its own transaction; the relay keeps draining while
+ * full batches are returned, up to the configured number of batches per run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+  private final OutboxService outboxService;
+  private final OutboxProperties outboxProperties;
+
+  /**
+   * Publishes due outbox events. Events that fail stay in the outbox and are retried once their delay has passed.
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}")
+  public void relay() {
+    if (!outboxProperties.isEnabled()) {
+      return;
+    }
+
+    try {
+      int batches = 0;
+      int published;
+      do {
+        published = outboxService.publishNextBatch();
+        batches++;
+      } while (published == outboxProperties.getBatchSize() && batches < outboxProperties.getMaxBatchesPerRun());
+    } catch (RuntimeException e) {
+      log.warn("Failed to relay outbox events, retrying on next run: {}", e.getMessage());
+    }
+  }
+}
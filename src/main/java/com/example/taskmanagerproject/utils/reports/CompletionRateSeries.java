@@ -0,0 +1,43 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import com.example.taskmanagerproject.dtos.reports.CompletionRate;
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Builds gap-free completion rate series from the buckets the database returned.
+ * The database groups only the buckets that have tasks; every other bucket of the range gets a zero rate here.
+ */
+@UtilityClass
+public class CompletionRateSeries {
+
+  /**
+   * Fills the buckets of a date range with the rates of the matching rows, or zero.
+   *
+   * @param rows        The completion rates of the non-empty buckets, ordered by bucket.
+   * @param startDate   The first day of the range.
+   * @param endDate     The last day of the range.
+   * @param granularity The bucket size.
+   * @return One row per bucket in date order: the bucket label and the completion rate;
+   *         empty if the range ends before it starts.
+   */
+  public List<ProgressMetrics> fill(List<CompletionRate> rows, LocalDate startDate, LocalDate endDate, SeriesGranularity granularity) {
+    if (startDate.isAfter(endDate)) {
+      return List.of();
+    }
+
+    List<ProgressMetrics> series = new ArrayList<>();
+    int row = 0;
+    for (LocalDate bucket = granularity.truncate(startDate); !bucket.isAfter(endDate); bucket = granularity.next(bucket)) {
+      while (row < rows.size() && rows.get(row).bucket().isBefore(bucket)) {
+        row++;
+      }
+      boolean matched = row < rows.size() && rows.get(row).bucket().equals(bucket);
+      series.add(new ProgressMetrics(granularity.label(bucket), matched ? rows.get(row).rate() : 0));
+    }
+    return series;
+  }
+}
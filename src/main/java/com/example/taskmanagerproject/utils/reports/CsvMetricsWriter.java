@@ -0,0 +1,53 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes report metrics as RFC 4180 CSV with a header row. Null values are written as empty fields.
+ */
+final class CsvMetricsWriter implements MetricsWriter {
+
+  private static final String LINE_SEPARATOR = "\r\n";
+
+  private final Writer writer;
+
+  CsvMetricsWriter(OutputStream outputStream) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void writeColumns(List<String> columns) throws IOException {
+    writeRow(columns.toArray());
+  }
+
+  @Override
+  public void writeRow(Object[] row) throws IOException {
+    for (int i = 0; i < row.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      if (row[i] != null) {
+        writer.write(escape(MetricsWriter.toText(row[i])));
+      }
+    }
+    writer.write(LINE_SEPARATOR);
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+
+  private static String escape(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Writes report metrics as JSON objects keyed by column name: either one JSON array of all rows,
+ * or newline-delimited JSON with one object per line.
+ */
+final class JsonMetricsWriter implements MetricsWriter {
+
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+      .build();
+
+  private final JsonGenerator generator;
+  private final boolean delimited;
+  private List<String> columns = List.of();
+
+  JsonMetricsWriter(OutputStream outputStream, boolean delimited) throws IOException {
+    this.generator = JSON_FACTORY.createGenerator(outputStream);
+    this.delimited = delimited;
+  }
+
+  @Override
+  public void writeColumns(List<String> columns) throws IOException {
+    this.columns = List.copyOf(columns);
+    if (!delimited) {
+      generator.writeStartArray();
+    }
+  }
+
+  @Override
+  public void writeRow(Object[] row) throws IOException {
+    generator.writeStartObject();
+    for (int i = 0; i < row.length; i++) {
+      generator.writeFieldName(columns.get(i));
+      writeValue(row[i]);
+    }
+    generator.writeEndObject();
+    if (delimited) {
+      generator.writeRaw('\n');
+    }
+  }
+
+  @Override
+  public void finish() throws IOException {
+    if (!delimited) {
+      generator.writeEndArray();
+    }
+    generator.flush();
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof BigDecimal number) {
+      generator.writeNumber(number);
+    } else if (value instanceof BigInteger number) {
+      generator.writeNumber(number);
+    } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+      generator.writeNumber(((Number) value).longValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      generator.writeNumber(((Number) value).doubleValue());
+    } else if (value instanceof Boolean bool) {
+      generator.writeBoolean(bool);
+    } else {
+      generator.writeString(MetricsWriter.toText(value));
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The metrics of a validated report, ready to be written in a machine-readable format.
+ * The rows are queried while the export is written, and each row is written as soon as it is read.
+ */
+@FunctionalInterface
+public interface MetricsExport {
+
+  /**
+   * Queries the metrics and writes them into a stream. The stream is flushed but not closed.
+   *
+   * @param outputStream The stream to write the metrics to.
+   * @throws IOException if writing to the stream fails.
+   */
+  void writeTo(OutputStream outputStream) throws IOException;
+}
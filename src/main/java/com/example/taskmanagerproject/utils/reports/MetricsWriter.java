@@ -0,0 +1,68 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes the rows of a report metrics query to a stream in a machine-readable format, one row at a time.
+ * The column names are written first, then every row, then {@link #finish()} completes the document.
+ */
+public interface MetricsWriter {
+
+  /**
+   * Writes the names of the columns of the following rows.
+   *
+   * @param columns The column names, in row order.
+   * @throws IOException if writing to the stream fails.
+   */
+  void writeColumns(List<String> columns) throws IOException;
+
+  /**
+   * Writes one row.
+   *
+   * @param row The values of the row, in column order.
+   * @throws IOException if writing to the stream fails.
+   */
+  void writeRow(Object[] row) throws IOException;
+
+  /**
+   * Completes the document and flushes it. The stream is not closed.
+   *
+   * @throws IOException if writing to the stream fails.
+   */
+  void finish() throws IOException;
+
+  /**
+   * Creates a writer of a format.
+   *
+   * @param format       The format to write.
+   * @param outputStream The stream to write to.
+   * @return The writer.
+   * @throws IOException if the writer cannot be created.
+   */
+  static MetricsWriter create(MetricsFormat format, OutputStream outputStream) throws IOException {
+    return switch (format) {
+      case JSON -> new JsonMetricsWriter(outputStream, false);
+      case NDJSON -> new JsonMetricsWriter(outputStream, true);
+      case CSV -> new CsvMetricsWriter(outputStream);
+    };
+  }
+
+  /**
+   * Converts a JDBC value to the text written for it. Dates and timestamps are written in ISO-8601.
+   *
+   * @param value The value, not null.
+   * @return The text of the value.
+   */
+  static String toText(Object value) {
+    if (value instanceof java.sql.Timestamp timestamp) {
+      return timestamp.toLocalDateTime().toString();
+    }
+    if (value instanceof java.sql.Date date) {
+      return date.toLocalDate().toString();
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,37 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A report whose data has been loaded and whose HTML has been rendered, ready to be written as a PDF.
+ * Writing renders the PDF straight into the target stream, so it is never held in memory as a whole
+ * unless {@link #toByteArray()} is used.
+ */
+@FunctionalInterface
+public interface PdfReport {
+
+  /**
+   * Renders the PDF into a stream. The stream is flushed but not closed.
+   *
+   * @param outputStream The stream to write the PDF to.
+   * @throws IOException if writing to the stream fails.
+   */
+  void writeTo(OutputStream outputStream) throws IOException;
+
+  /**
+   * Renders the PDF into memory, for callers that need the whole document, such as caches or storage.
+   *
+   * @return The PDF as a byte array.
+   */
+  default byte[] toByteArray() {
+    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+      writeTo(outputStream);
+      return outputStream.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
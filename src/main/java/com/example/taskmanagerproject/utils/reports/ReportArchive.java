@@ -0,0 +1,20 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A set of reports whose data has been loaded, ready to be written as a ZIP archive of PDFs.
+ * The PDFs are rendered while the archive is written, and each entry is written as soon as its PDF is ready.
+ */
+@FunctionalInterface
+public interface ReportArchive {
+
+  /**
+   * Renders the reports and writes them into a stream as a ZIP archive. The stream is flushed but not closed.
+   *
+   * @param outputStream The stream to write the archive to.
+   * @throws IOException if writing to the stream fails.
+   */
+  void writeTo(OutputStream outputStream) throws IOException;
+}
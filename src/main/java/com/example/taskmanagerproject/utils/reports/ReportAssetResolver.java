@@ -0,0 +1,233 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import com.example.taskmanagerproject.configurations.minio.MinioProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportAssetProperties;
+import com.lowagie.text.Image;
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the images referenced by report HTML without going through Flying Saucer's URL fetching.
+ * A URL is served from the first of these sources that has it:
+ * <ol>
+ *   <li>the byte cache,</li>
+ *   <li>a bundled classpath copy under {@code report_assets/}, if the original file is shipped there,
+ *       named after the URL's host and path with the query appended as a path segment whose
+ *       non-alphanumeric characters become underscores, e.g. {@code report_assets/img.icons8.com/id_7856} for
+ *       {@code https://img.icons8.com/?id=7856},</li>
+ *   <li>MinIO, for URLs under the configured user image prefix,</li>
+ *   <li>an HTTP fetch, for anything else.</li>
+ * </ol>
+ *
+ * <p>Fetched bytes are kept in an LRU cache bounded by their total size, and decoded images in an
+ * LRU cache bounded by their count. Decoded images are handed out as copies, as the renderer scales them.
+ * A URL no source could load is not tried again for the configured failure TTL, so an unreachable host
+ * costs a report one fetch timeout rather than one per image.
+ */
+@Slf4j
+@Component
+public class ReportAssetResolver {
+
+  private static final String BUNDLED_LOCATION = "report_assets/";
+
+  private final MinioClient minioClient;
+  private final MinioProperties minioProperties;
+  private final ReportAssetProperties assetProperties;
+  private final HttpClient httpClient;
+  private final LinkedHashMap<String, byte[]> bytesCache = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, Image> imageCache;
+  private final Map<String, Long> failedLoads = new ConcurrentHashMap<>();
+  private long cachedBytes;
+
+  /**
+   * Creates the resolver with caches bounded by the configured limits.
+   *
+   * @param minioClient     The client user images are read with.
+   * @param minioProperties The MinIO configuration.
+   * @param assetProperties The report asset configuration.
+   */
+  public ReportAssetResolver(MinioClient minioClient, MinioProperties minioProperties,
+                             ReportAssetProperties assetProperties) {
+    this.minioClient = minioClient;
+    this.minioProperties = minioProperties;
+    this.assetProperties = assetProperties;
+    this.httpClient = HttpClient.newBuilder()
+      .connectTimeout(assetProperties.getFetchTimeout())
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .build();
+    int maxCachedImages = assetProperties.getMaxCachedImages();
+    this.imageCache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+        return size() > maxCachedImages;
+      }
+    };
+  }
+
+  /**
+   * Checks whether a URL is resolved here rather than by the renderer.
+   *
+   * @param uri The absolute URL.
+   * @return True for HTTP and HTTPS URLs.
+   */
+  public boolean supports(String uri) {
+    return uri != null && (uri.startsWith("http://") || uri.startsWith("https://"));
+  }
+
+  /**
+   * Returns the content behind a URL.
+   *
+   * @param uri The absolute URL.
+   * @return The content, or null if no source has it.
+   */
+  public byte[] getBytes(String uri) {
+    synchronized (bytesCache) {
+      byte[] cached = bytesCache.get(uri);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    if (hasRecentlyFailed(uri)) {
+      return null;
+    }
+    byte[] loaded = load(uri);
+    if (loaded != null) {
+      cacheBytes(uri, loaded);
+    } else {
+      recordFailure(uri);
+    }
+    return loaded;
+  }
+
+  /**
+   * Returns the image behind a URL, decoding it only on a cache miss.
+   *
+   * @param uri The absolute URL.
+   * @return A copy of the decoded image the caller may scale, or null if it is unavailable or not an image.
+   */
+  public Image getImage(String uri) {
+    Image cached;
+    synchronized (imageCache) {
+      cached = imageCache.get(uri);
+    }
+    if (cached == null) {
+      byte[] bytes = getBytes(uri);
+      if (bytes == null) {
+        return null;
+      }
+      try {
+        cached = Image.getInstance(bytes);
+      } catch (Exception e) {
+        log.warn("Failed to decode report image {}: {}", uri, e.getMessage());
+        return null;
+      }
+      synchronized (imageCache) {
+        imageCache.put(uri, cached);
+      }
+    }
+    return Image.getInstance(cached);
+  }
+
+  private byte[] load(String uri) {
+    try {
+      URI parsed = URI.create(uri);
+      byte[] bundled = loadBundled(parsed);
+      if (bundled != null) {
+        return bundled;
+      }
+      String minioPrefix = assetProperties.getMinioUrlPrefix();
+      if (minioPrefix != null && !minioPrefix.isBlank() && uri.startsWith(minioPrefix)) {
+        return loadFromMinio(uri.substring(minioPrefix.length()));
+      }
+      return fetch(parsed);
+    } catch (Exception e) {
+      log.warn("Failed to load report asset {}: {}", uri, e.getMessage());
+      return null;
+    }
+  }
+
+  private byte[] loadBundled(URI uri) throws IOException {
+    try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(bundledLocation(uri))) {
+      return inputStream != null ? inputStream.readAllBytes() : null;
+    }
+  }
+
+  private byte[] loadFromMinio(String objectName) throws Exception {
+    try (InputStream inputStream = minioClient.getObject(
+        GetObjectArgs.builder().bucket(minioProperties.getBucket()).object(objectName).build())) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  private byte[] fetch(URI uri) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(uri).timeout(assetProperties.getFetchTimeout()).GET().build();
+    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      log.warn("Fetching report asset {} returned status {}", uri, response.statusCode());
+      return null;
+    }
+    return response.body();
+  }
+
+  private boolean hasRecentlyFailed(String uri) {
+    Long retryAt = failedLoads.get(uri);
+    if (retryAt == null) {
+      return false;
+    }
+    if (System.nanoTime() - retryAt < 0) {
+      return true;
+    }
+    failedLoads.remove(uri, retryAt);
+    return false;
+  }
+
+  private void recordFailure(String uri) {
+    long ttl = assetProperties.getFailureTtl().toNanos();
+    if (ttl <= 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    failedLoads.values().removeIf(retryAt -> now - retryAt >= 0);
+    failedLoads.put(uri, now + ttl);
+  }
+
+  private void cacheBytes(String uri, byte[] bytes) {
+    long maxCachedBytes = assetProperties.getMaxCachedBytes().toBytes();
+    if (bytes.length > maxCachedBytes) {
+      return;
+    }
+    synchronized (bytesCache) {
+      byte[] previous = bytesCache.put(uri, bytes);
+      cachedBytes += bytes.length - (previous != null ? previous.length : 0);
+      Iterator<byte[]> eldest = bytesCache.values().iterator();
+      while (cachedBytes > maxCachedBytes) {
+        cachedBytes -= eldest.next().length;
+        eldest.remove();
+      }
+    }
+  }
+
+  static String bundledLocation(URI uri) {
+    StringBuilder location = new StringBuilder(BUNDLED_LOCATION).append(uri.getHost()).append(uri.getPath());
+    if (uri.getQuery() != null) {
+      if (location.charAt(location.length() - 1) != '/') {
+        location.append('/');
+      }
+      location.append(uri.getQuery().replaceAll("[^A-Za-z0-9]", "_"));
+    }
+    return location.toString();
+  }
+}
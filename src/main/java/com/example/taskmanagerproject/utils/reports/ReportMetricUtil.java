@@ -1,7 +1,6 @@
 package com.example.taskmanagerproject.utils.reports;
 
 import static java.lang.Character.toUpperCase;
-import static java.lang.Double.parseDouble;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 
@@ -22,10 +21,8 @@ public class ReportMetricUtil {
    * @param denominator The denominator value.
    * @return The calculated percentage, or 0 if the denominator is zero.
    */
-  public double calculatePercentage(Object numerator, Object denominator) {
-    double num = parseDouble(numerator.toString());
-    double denom = parseDouble(denominator.toString());
-    return denom == 0 ? 0 : (num / denom) * 100;
+  public double calculatePercentage(long numerator, long denominator) {
+    return denominator == 0 ? 0 : ((double) numerator / denominator) * 100;
   }
 
   /**
@@ -68,15 +65,24 @@ public class ReportMetricUtil {
     return format(Locale.US, "%.1f", value);
   }
 
+  /**
+   * Formats a rate with the two decimal places the report queries round it to.
+   *
+   * @param value The rate value.
+   * @return The formatted rate.
+   */
+  public String formatRate(double value) {
+    return format(Locale.US, "%.2f", value);
+  }
+
   /**
    * Formats a duration (in minutes) into a string representing hours and minutes.
    * The duration is first converted from minutes to hours and minutes.
    *
-   * @param duration The duration to be formatted, expected to be in minutes.
+   * @param totalMinutes The duration to be formatted, in minutes.
    * @return A string representing the formatted duration in hours and minutes.
    */
-  public static String formatDuration(Object duration) {
-    double totalMinutes = parseDouble(duration.toString());
+  public static String formatDuration(double totalMinutes) {
     int wholeHours = (int) (totalMinutes / 60);
     double remainingMinutes = totalMinutes % 60;
 
@@ -89,8 +95,8 @@ public class ReportMetricUtil {
    * @param roleName The role name to be formatted.
    * @return The formatted role name.
    */
-  public String formatRoleName(Object roleName) {
-    String role = roleName.toString().toLowerCase();
+  public String formatRoleName(String roleName) {
+    String role = roleName.toLowerCase();
     return Arrays.stream(role.split("_"))
       .filter(word -> !word.isEmpty()) // skip empty words
       .map(word -> toUpperCase(word.charAt(0)) + word.substring(1))
@@ -102,14 +108,13 @@ public class ReportMetricUtil {
    * The format of the date is expected to be at least "yyyy-MM-dd" (or a similar pattern).
    * The method extracts and returns a substring representing the month and day (i.e., "MM-dd").
    *
-   * @param date The date object to format. It is expected to be convertible to a string.
+   * @param date The date string to format.
    * @return A formatted string representing the month and day in "MM-dd" format, or the
    *         substring starting from the 5th character if the date string is shorter.
    */
-  public String formatChartDate(Object date) {
-    String dateString = date.toString();
-    return (dateString.length() >= 10) ? dateString.substring(5, 10)
-      : (dateString.length() >= 5) ? dateString.substring(5)
-      : dateString;
+  public String formatChartDate(String date) {
+    return (date.length() >= 10) ? date.substring(5, 10)
+      : (date.length() >= 5) ? date.substring(5)
+      : date;
   }
 }
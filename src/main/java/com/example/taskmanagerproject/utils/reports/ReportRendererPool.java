@@ -0,0 +1,117 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static com.example.taskmanagerproject.utils.MessageUtil.PDF_GENERATION_ERROR;
+
+import com.example.taskmanagerproject.configurations.reports.ReportRenderingProperties;
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import com.example.taskmanagerproject.utils.factories.PdfGenerationFactory;
+import com.lowagie.text.DocumentException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+/**
+ * Pool of Flying Saucer renderers, each set up once with the configured fonts and a
+ * {@link ReportUserAgent}, so its font context and parsed template stylesheets survive
+ * from one report to the next.
+ *
+ * <p>A renderer is used by one report at a time. Renders never wait for the pool: when no idle
+ * renderer is left a new one is created, and renderers beyond the pool size are discarded
+ * after use. A renderer whose report failed is discarded too, since it may have been left
+ * halfway through a document; a successful one has its per-document image cache cleared before
+ * it is returned, while its document state is replaced by the next report.
+ */
+@Slf4j
+@Component
+public class ReportRendererPool {
+
+  private final ReportAssetResolver assetResolver;
+  private final ReportStylesheets stylesheets;
+  private final ReportRenderingProperties renderingProperties;
+  private final BlockingQueue<PooledRenderer> idle;
+  private final Counter created;
+
+  /**
+   * Creates an empty pool and registers its metrics.
+   *
+   * @param assetResolver       The resolver report images are loaded with.
+   * @param stylesheets         The template stylesheets.
+   * @param renderingProperties The rendering configuration.
+   * @param meterRegistry       The registry the pool metrics are published to.
+   */
+  public ReportRendererPool(ReportAssetResolver assetResolver, ReportStylesheets stylesheets,
+                            ReportRenderingProperties renderingProperties, MeterRegistry meterRegistry) {
+    this.assetResolver = assetResolver;
+    this.stylesheets = stylesheets;
+    this.renderingProperties = renderingProperties;
+    this.idle = new ArrayBlockingQueue<>(Math.max(1, renderingProperties.getPoolSize()));
+    this.created = Counter.builder("report.renderer.created")
+      .description("PDF renderers created, initially and whenever every pooled renderer was busy")
+      .register(meterRegistry);
+    Gauge.builder("report.renderer.idle", idle, BlockingQueue::size)
+      .description("Idle PDF renderers in the pool")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Renders HTML content as a PDF straight into a stream with a pooled renderer.
+   * The stream is flushed but left open.
+   *
+   * @param htmlContent  the HTML content to be converted into a PDF
+   * @param outputStream the stream the PDF is written to
+   * @throws PdfGenerationException if the PDF generation fails
+   */
+  public void writePdf(String htmlContent, OutputStream outputStream) {
+    org.w3c.dom.Document document = PdfGenerationFactory.parseHtml(htmlContent);
+    PooledRenderer renderer = borrow();
+    boolean reusable = false;
+    try {
+      PdfGenerationFactory.writePdf(renderer.renderer(), document, outputStream);
+      reusable = true;
+    } finally {
+      if (reusable) {
+        renderer.userAgent().clearImageCache();
+        idle.offer(renderer);
+      }
+    }
+  }
+
+  private PooledRenderer borrow() {
+    PooledRenderer renderer = idle.poll();
+    return renderer != null ? renderer : create();
+  }
+
+  private PooledRenderer create() {
+    ITextRenderer renderer = new ITextRenderer();
+    ReportUserAgent userAgent = new ReportUserAgent(renderer.getOutputDevice(),
+        renderer.getSharedContext().getDotsPerPixel(), assetResolver, stylesheets);
+    PdfGenerationFactory.installUserAgent(renderer, userAgent);
+    String fontDirectory = renderingProperties.getFontDirectory();
+    if (fontDirectory != null && !fontDirectory.isBlank()) {
+      try {
+        renderer.getFontResolver().addFontDirectory(fontDirectory, true);
+      } catch (IOException | DocumentException e) {
+        log.error("Failed to register report fonts from {}", fontDirectory, e);
+        throw new PdfGenerationException(PDF_GENERATION_ERROR);
+      }
+    }
+    created.increment();
+    return new PooledRenderer(renderer, userAgent);
+  }
+
+  /**
+   * A renderer and the user agent installed in it.
+   *
+   * @param renderer  The renderer.
+   * @param userAgent The user agent of the renderer.
+   */
+  private record PooledRenderer(ITextRenderer renderer, ReportUserAgent userAgent) {
+  }
+}
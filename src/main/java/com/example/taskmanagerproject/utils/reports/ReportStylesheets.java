@@ -0,0 +1,65 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the stylesheets embedded in report templates.
+ * Style elements are moved out of the templates and replaced by links to a URI that includes
+ * a hash of the CSS. Flying Saucer caches parsed stylesheets by URI, so a pooled renderer parses
+ * each template's CSS once instead of on every report, and a changed stylesheet gets a new URI.
+ */
+@Component
+public class ReportStylesheets {
+
+  private static final String URI_SCHEME = "report-css:";
+  private static final Pattern STYLE_ELEMENT = Pattern.compile("<style[^>]*>(.*?)</style>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+
+  private final Map<String, String> stylesheets = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the style elements of a template source and links them instead.
+   *
+   * @param templateName The name of the template, used in the stylesheet URIs.
+   * @param source       The template source.
+   * @return The template source with each style element replaced by a stylesheet link.
+   */
+  public String externalize(String templateName, String source) {
+    String baseName = Path.of(templateName).getFileName().toString().replaceFirst("\\.html?$", "");
+    Matcher matcher = STYLE_ELEMENT.matcher(source);
+    StringBuilder result = new StringBuilder(source.length());
+    int index = 0;
+    while (matcher.find()) {
+      String css = matcher.group(1);
+      String uri = URI_SCHEME + baseName + "-" + index++ + "-" + Integer.toHexString(css.hashCode()) + ".css";
+      stylesheets.put(uri, css);
+      matcher.appendReplacement(result, Matcher.quoteReplacement("<link rel=\"stylesheet\" type=\"text/css\" href=\"" + uri + "\" />"));
+    }
+    matcher.appendTail(result);
+    return result.toString();
+  }
+
+  /**
+   * Checks whether a URI refers to a registered template stylesheet.
+   *
+   * @param uri The URI.
+   * @return True for URIs created by {@link #externalize(String, String)}.
+   */
+  public static boolean isStylesheetUri(String uri) {
+    return uri != null && uri.startsWith(URI_SCHEME);
+  }
+
+  /**
+   * Returns the CSS of a registered stylesheet.
+   *
+   * @param uri The URI of the stylesheet.
+   * @return The CSS, or null if the URI is unknown.
+   */
+  public String find(String uri) {
+    return stylesheets.get(uri);
+  }
+}
@@ -0,0 +1,141 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static com.example.taskmanagerproject.utils.MessageUtil.TEMPLATE_PLACEHOLDER_ERROR;
+import static com.example.taskmanagerproject.utils.MessageUtil.TEMPLATE_VALUE_MISSING_ERROR;
+import static java.lang.String.format;
+
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An HTML report template compiled into alternating literal and placeholder segments.
+ * A placeholder is a name of letters, digits and underscores in braces, e.g. {@code {startDate}};
+ * any other brace, such as those of inline CSS rules, is kept as literal text.
+ *
+ * <p>Compiled templates are immutable. Rendering writes every segment once into a builder
+ * sized for the result, instead of copying the whole template for each replaced placeholder.
+ */
+public final class ReportTemplate {
+
+  private final String name;
+  private final String[] literals;
+  private final String[] placeholders;
+  private final int literalLength;
+
+  private ReportTemplate(String name, List<String> literals, List<String> placeholders) {
+    this.name = name;
+    this.literals = literals.toArray(String[]::new);
+    this.placeholders = placeholders.toArray(String[]::new);
+    this.literalLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  /**
+   * Compiles a template without checking which placeholders it uses.
+   *
+   * @param name   The name of the template, used in error messages.
+   * @param source The HTML source of the template.
+   * @return The compiled template.
+   */
+  public static ReportTemplate compile(String name, String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> placeholders = new ArrayList<>();
+    int literalStart = 0;
+    int open = source.indexOf('{');
+    while (open >= 0) {
+      int close = placeholderEnd(source, open);
+      if (close < 0) {
+        open = source.indexOf('{', open + 1);
+        continue;
+      }
+      literals.add(source.substring(literalStart, open));
+      placeholders.add(source.substring(open + 1, close));
+      literalStart = close + 1;
+      open = source.indexOf('{', literalStart);
+    }
+    literals.add(source.substring(literalStart));
+    return new ReportTemplate(name, literals, placeholders);
+  }
+
+  /**
+   * Compiles a template and checks that it uses exactly the expected placeholders.
+   *
+   * @param name                 The name of the template, used in error messages.
+   * @param source               The HTML source of the template.
+   * @param expectedPlaceholders The placeholders the template must use.
+   * @return The compiled template.
+   * @throws PdfGenerationException if the template uses an unknown placeholder or misses an expected one.
+   */
+  public static ReportTemplate compile(String name, String source, Set<String> expectedPlaceholders) {
+    ReportTemplate template = compile(name, source);
+    Set<String> unknown = new TreeSet<>(template.getPlaceholders());
+    unknown.removeAll(expectedPlaceholders);
+    Set<String> missing = new TreeSet<>(expectedPlaceholders);
+    missing.removeAll(template.getPlaceholders());
+    if (!unknown.isEmpty() || !missing.isEmpty()) {
+      throw new PdfGenerationException(format(TEMPLATE_PLACEHOLDER_ERROR, name, unknown, missing));
+    }
+    return template;
+  }
+
+  /**
+   * Returns the name of the template.
+   *
+   * @return The template name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the distinct placeholders used by the template, in order of first use.
+   *
+   * @return The placeholder names, without braces.
+   */
+  public Set<String> getPlaceholders() {
+    return new LinkedHashSet<>(List.of(placeholders));
+  }
+
+  /**
+   * Renders the template in a single pass.
+   *
+   * @param values The value of each placeholder, keyed by placeholder name without braces.
+   *               Values for placeholders the template does not use are ignored.
+   * @return The rendered HTML.
+   * @throws PdfGenerationException if a placeholder used by the template has no value.
+   */
+  public String render(Map<String, String> values) {
+    String[] resolved = new String[placeholders.length];
+    int length = literalLength;
+    for (int i = 0; i < placeholders.length; i++) {
+      resolved[i] = values.get(placeholders[i]);
+      if (resolved[i] == null) {
+        throw new PdfGenerationException(format(TEMPLATE_VALUE_MISSING_ERROR, placeholders[i], name));
+      }
+      length += resolved[i].length();
+    }
+
+    StringBuilder html = new StringBuilder(length);
+    for (int i = 0; i < resolved.length; i++) {
+      html.append(literals[i]).append(resolved[i]);
+    }
+    return html.append(literals[resolved.length]).toString();
+  }
+
+  private static int placeholderEnd(String source, int open) {
+    int index = open + 1;
+    while (index < source.length() && isPlaceholderChar(source.charAt(index))) {
+      index++;
+    }
+    boolean closed = index < source.length() && source.charAt(index) == '}';
+    return closed && index > open + 1 ? index : -1;
+  }
+
+  private static boolean isPlaceholderChar(char c) {
+    return c == '_' || (c < 128 && Character.isLetterOrDigit(c));
+  }
+}
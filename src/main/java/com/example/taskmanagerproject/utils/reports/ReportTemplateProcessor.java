@@ -1,13 +1,18 @@
 package com.example.taskmanagerproject.utils.reports;
 
-import static java.lang.Double.parseDouble;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.TOP_PERFORMERS;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.topPerformerPlaceholder;
 import static java.util.stream.Collectors.joining;
 
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
 import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
 import com.example.taskmanagerproject.repositories.TeamUserRepository;
 import com.example.taskmanagerproject.services.ReportDataService;
-import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
@@ -33,139 +38,158 @@ public final class ReportTemplateProcessor {
    * Populates the user performance template with relevant data including tasks completed, task completion rate,
    * bug fixes, critical task resolution, and user achievements.
    *
-   * @param template The HTML template to populate with data.
+   * @param template The compiled HTML template to populate with data.
    * @param reportData The report data containing the user and team information.
    * @param metrics The metrics data for the user, including task counts and performance metrics.
    * @return The populated HTML template.
    */
-  public String populateUserPerformanceTemplate(String template, ReportData reportData, Object[] metrics) {
+  public String populateUserPerformanceTemplate(ReportTemplate template, ReportData reportData, UserMetrics metrics) {
     List<Achievement> achievements = reportDataService.fetchAchievements(reportData.user(), reportData.team(), reportData.project());
-    double completionRate = ReportMetricUtil.calculatePercentage(metrics[4], metrics[3]);
-    double bugFixRate = ReportMetricUtil.calculatePercentage(metrics[8], metrics[7]);
-    double averageTaskDuration = parseDouble(metrics[11].toString());
-    double approvalRate = ReportMetricUtil.calculatePercentage(metrics[6], metrics[4]);
-    double criticalResolution = ReportMetricUtil.calculatePercentage(metrics[10], metrics[9]);
+    return populateUserPerformanceTemplate(template, reportData, metrics, achievements);
+  }
+
+  /**
+   * Populates the user performance template with achievements that have already been loaded,
+   * such as when the reports of a whole team are generated at once.
+   *
+   * @param template The compiled HTML template to populate with data.
+   * @param reportData The report data containing the user and team information.
+   * @param metrics The metrics data for the user, including task counts and performance metrics.
+   * @param achievements The achievements of the user in the team and project.
+   * @return The populated HTML template.
+   */
+  public String populateUserPerformanceTemplate(ReportTemplate template, ReportData reportData, UserMetrics metrics,
+                                                List<Achievement> achievements) {
+    double completionRate = ReportMetricUtil.calculatePercentage(metrics.tasksCompleted(), metrics.allTasks());
+    double bugFixRate = ReportMetricUtil.calculatePercentage(metrics.bugFixesResolved(), metrics.allBugs());
+    double approvalRate = ReportMetricUtil.calculatePercentage(metrics.onTimeTasks(), metrics.tasksCompleted());
+    double criticalResolution = ReportMetricUtil.calculatePercentage(metrics.criticalTasksSolved(), metrics.allCriticalTasks());
     int userLevel = ReportMetricUtil.determineUserLevel(completionRate, bugFixRate, approvalRate, criticalResolution);
     String userLevelName = ReportMetricUtil.getUserLevelName(userLevel);
     String performanceStars = ReportTemplateUtil.generateStarsHtml(userLevel);
 
-    return template.replace("{startDate}", reportData.startDate().format(DATE_FORMATTER))
-      .replace("{endDate}", reportData.endDate().format(DATE_FORMATTER))
-      .replace("{fullName}", reportData.user().getFullName())
-      .replace("{email}", reportData.user().getUsername())
-      .replace("{role}", ReportMetricUtil.formatRoleName(metrics[2]))
-      .replace("{teamName}", reportData.team().getName())
-      .replace("{teamObjective}", reportData.team().getDescription())
-      .replace("{projectName}", reportData.project().getName())
-      .replace("{projectDescription}", reportData.project().getDescription())
-      .replace("{tasksCompleted}", metrics[4] + "/" + metrics[3])
-      .replace("{taskCompletionRate}", metrics[5].toString())
-      .replace("{onTimeTasks}", metrics[6] + "/" + metrics[4])
-      .replace("{averageTaskDuration}", ReportMetricUtil.formatDuration(averageTaskDuration))
-      .replace("{bugFixesResolved}", metrics[8] + "/" + metrics[7])
-      .replace("{criticalTasksSolved}", metrics[10] + "/" + metrics[9])
-      .replace("{achievements}", ReportTemplateUtil.generateAchievementsHtml(achievements))
-      .replace("{taskCompletionProgress}", ReportMetricUtil.formatPercentage(completionRate))
-      .replace("{bugFixProgress}", ReportMetricUtil.formatPercentage(bugFixRate))
-      .replace("{criticalTaskResolution}", ReportMetricUtil.formatPercentage(criticalResolution))
-      .replace("{onTimeApprovalRate}", ReportMetricUtil.formatPercentage(approvalRate))
-      .replace("{userLevelName}", userLevelName)
-      .replace("{performanceStars}", performanceStars);
+    Map<String, String> placeholders = new HashMap<>(32);
+    placeholders.put("startDate", reportData.startDate().format(DATE_FORMATTER));
+    placeholders.put("endDate", reportData.endDate().format(DATE_FORMATTER));
+    placeholders.put("fullName", reportData.user().getFullName());
+    placeholders.put("email", reportData.user().getUsername());
+    placeholders.put("role", ReportMetricUtil.formatRoleName(metrics.role()));
+    placeholders.put("teamName", reportData.team().getName());
+    placeholders.put("teamObjective", reportData.team().getDescription());
+    placeholders.put("projectName", reportData.project().getName());
+    placeholders.put("projectDescription", reportData.project().getDescription());
+    placeholders.put("tasksCompleted", metrics.tasksCompleted() + "/" + metrics.allTasks());
+    placeholders.put("taskCompletionRate", ReportMetricUtil.formatRate(metrics.taskCompletionRate()));
+    placeholders.put("onTimeTasks", metrics.onTimeTasks() + "/" + metrics.tasksCompleted());
+    placeholders.put("averageTaskDuration", ReportMetricUtil.formatDuration(metrics.averageTaskDuration()));
+    placeholders.put("bugFixesResolved", metrics.bugFixesResolved() + "/" + metrics.allBugs());
+    placeholders.put("criticalTasksSolved", metrics.criticalTasksSolved() + "/" + metrics.allCriticalTasks());
+    placeholders.put("achievements", ReportTemplateUtil.generateAchievementsHtml(achievements));
+    placeholders.put("taskCompletionProgress", ReportMetricUtil.formatPercentage(completionRate));
+    placeholders.put("bugFixProgress", ReportMetricUtil.formatPercentage(bugFixRate));
+    placeholders.put("criticalTaskResolution", ReportMetricUtil.formatPercentage(criticalResolution));
+    placeholders.put("onTimeApprovalRate", ReportMetricUtil.formatPercentage(approvalRate));
+    placeholders.put("userLevelName", userLevelName);
+    placeholders.put("performanceStars", performanceStars);
+
+    return template.render(placeholders);
   }
 
   /**
    * Populates the template for top performers in the team with data for each member, including name, role,
    * tasks completed, achievements, and experience percentage.
    *
-   * @param template The HTML template to populate with data.
+   * @param template The compiled HTML template to populate with data.
    * @param reportData The report data containing the team information.
    * @param metrics The metrics for each team member, including their performance and achievements.
    * @return The populated HTML template.
    */
-  public String populateTopPerformersInTeamTemplate(String template, ReportData reportData, List<Object[]> metrics) {
+  public String populateTopPerformersInTeamTemplate(ReportTemplate template, ReportData reportData, List<TopPerformerMetrics> metrics) {
     Map<String, String> placeholders = new HashMap<>();
-    placeholders.put("{startDate}", reportData.startDate().format(DATE_FORMATTER));
-    placeholders.put("{endDate}", reportData.endDate().format(DATE_FORMATTER));
-    placeholders.put("{team_name}", reportData.team().getName());
+    placeholders.put("startDate", reportData.startDate().format(DATE_FORMATTER));
+    placeholders.put("endDate", reportData.endDate().format(DATE_FORMATTER));
+    placeholders.put("team_name", reportData.team().getName());
 
     for (int i = 0; i < metrics.size(); i++) {
-      Object[] data = metrics.get(i);
-      placeholders.put("{top" + (i + 1) + "_name}", (String) data[0]);
-      placeholders.put("{top" + (i + 1) + "_role}", ReportMetricUtil.formatRoleName(data[2]));
-      placeholders.put("{top" + (i + 1) + "_image}", ReportTemplateUtil.generateImageUser((String) data[1]));
-      placeholders.put("{top" + (i + 1) + "_tasks}", data[4] + "/" + data[3]);
-      placeholders.put("{top" + (i + 1) + "_xp}", ReportMetricUtil.formatPercentage(((BigDecimal) data[5]).doubleValue()));
-      placeholders.put("{top" + (i + 1) + "_achievements}", String.valueOf(data[6]));
+      TopPerformerMetrics data = metrics.get(i);
+      placeholders.put(topPerformerPlaceholder(i + 1, "name"), data.name());
+      placeholders.put(topPerformerPlaceholder(i + 1, "role"), ReportMetricUtil.formatRoleName(data.role()));
+      placeholders.put(topPerformerPlaceholder(i + 1, "image"), ReportTemplateUtil.generateImageUser(data.image()));
+      placeholders.put(topPerformerPlaceholder(i + 1, "tasks"), data.tasksCompleted() + "/" + data.allTasks());
+      placeholders.put(topPerformerPlaceholder(i + 1, "xp"), ReportMetricUtil.formatPercentage(data.taskCompletionRate()));
+      placeholders.put(topPerformerPlaceholder(i + 1, "achievements"), String.valueOf(data.achievements()));
     }
+    // Teams with fewer ranked members than the template shows leave the remaining ranks empty.
+    TOP_PERFORMERS.getPlaceholders().forEach(placeholder -> placeholders.putIfAbsent(placeholder, ""));
 
-    return ReportTemplateUtil.replacePlaceholders(template, placeholders);
+    return template.render(placeholders);
   }
 
   /**
    * Populates the task progress template with data related to the task progress of a user or team,
    * including chart bars and other relevant metrics.
    *
-   * @param template The HTML template to populate with data.
+   * @param template The compiled HTML template to populate with data.
    * @param reportData The report data containing the user or team information.
    * @param metrics The task progress data for the user or team.
    * @return The populated HTML template.
    */
-  public String populateTaskProgressTemplate(String template, ReportData reportData, List<Object[]> metrics) {
+  public String populateTaskProgressTemplate(ReportTemplate template, ReportData reportData, List<ProgressMetrics> metrics) {
     String role = teamUserRepository
         .findRoleByTeamNameAndUsername(reportData.team().getName(), reportData.user().getUsername())
         .getName();
 
     Map<String, String> placeholders = Map.of(
-        "{startDate}", reportData.startDate().format(DATE_FORMATTER),
-        "{endDate}", reportData.endDate().format(DATE_FORMATTER),
-        "{teamName}", reportData.team().getName(),
-        "{projectName}", reportData.project().getName(),
-        "{fullName}", reportData.user().getFullName(),
-        "{email}", reportData.user().getUsername(),
-        "{role}", ReportMetricUtil.formatRoleName(role),
-        "{chart_bars}", ReportTemplateUtil.generateChartHtml(metrics)
+        "startDate", reportData.startDate().format(DATE_FORMATTER),
+        "endDate", reportData.endDate().format(DATE_FORMATTER),
+        "teamName", reportData.team().getName(),
+        "projectName", reportData.project().getName(),
+        "fullName", reportData.user().getFullName(),
+        "email", reportData.user().getUsername(),
+        "role", ReportMetricUtil.formatRoleName(role),
+        "chart_bars", ReportTemplateUtil.generateChartHtml(metrics)
     );
 
-    return ReportTemplateUtil.replacePlaceholders(template, placeholders);
+    return template.render(placeholders);
   }
 
   /**
    * Populates the team performance template with data for the entire team,
    * including member performance metrics and team information.
    *
-   * @param template The HTML template to populate with data.
+   * @param template The compiled HTML template to populate with data.
    * @param reportData The report data containing the team information.
    * @param metrics The performance metrics for each team member.
    * @return The populated HTML template.
    */
-  public String populateTeamPerformanceTemplate(String template, ReportData reportData, List<Object[]> metrics) {
+  public String populateTeamPerformanceTemplate(ReportTemplate template, ReportData reportData, List<TeamMemberMetrics> metrics) {
     Map<String, String> placeholders = Map.of(
-        "{startDate}", reportData.startDate().format(DATE_FORMATTER),
-        "{endDate}", reportData.endDate().format(DATE_FORMATTER),
-        "{teamName}", reportData.team().getName(),
-        "{team_members}", metrics.stream().map(ReportTemplateUtil::generateTeamMemberHtml).collect(joining())
+        "startDate", reportData.startDate().format(DATE_FORMATTER),
+        "endDate", reportData.endDate().format(DATE_FORMATTER),
+        "teamName", reportData.team().getName(),
+        "team_members", metrics.stream().map(ReportTemplateUtil::generateTeamMemberHtml).collect(joining())
     );
 
-    return ReportTemplateUtil.replacePlaceholders(template, placeholders);
+    return template.render(placeholders);
   }
 
   /**
    * Populates the project performance template with project and member metrics.
    * Replaces placeholders in the template with project data, including member performance.
    *
-   * @param template The HTML template.
+   * @param template The compiled HTML template.
    * @param reportData The project report data.
    * @param metrics The performance metrics for project members.
    * @return The populated HTML template.
    */
-  public String populateProjectPerformanceTemplate(String template, ReportData reportData, List<Object[]> metrics) {
+  public String populateProjectPerformanceTemplate(ReportTemplate template, ReportData reportData, List<ProjectTeamMetrics> metrics) {
     Map<String, String> placeholders = Map.of(
-        "{startDate}", reportData.startDate().format(DATE_FORMATTER),
-        "{endDate}", reportData.endDate().format(DATE_FORMATTER),
-        "{projectName}", reportData.project().getName(),
-        "{project_data}", ReportTemplateUtil.generateProjectMemberHtml(metrics)
+        "startDate", reportData.startDate().format(DATE_FORMATTER),
+        "endDate", reportData.endDate().format(DATE_FORMATTER),
+        "projectName", reportData.project().getName(),
+        "project_data", ReportTemplateUtil.generateProjectMemberHtml(metrics)
     );
 
-    return ReportTemplateUtil.replacePlaceholders(template, placeholders);
+    return template.render(placeholders);
   }
 }
@@ -0,0 +1,143 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static com.example.taskmanagerproject.utils.MessageUtil.TEMPLATE_LOAD_ERROR;
+import static com.example.taskmanagerproject.utils.factories.PdfGenerationFactory.loadTemplate;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.example.taskmanagerproject.configurations.reports.ReportTemplateProperties;
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the report templates, loaded and compiled once at startup and kept in memory.
+ * A template that cannot be loaded or whose placeholders do not match
+ * {@link ReportTemplateType#getPlaceholders()} fails the application start.
+ *
+ * <p>When a reload directory is configured, a template file found there replaces the packaged
+ * one and is recompiled whenever its modification time changes. A reloaded template that does
+ * not compile is logged and the previous version keeps being served.
+ *
+ * <p>The style elements of each template are registered with {@link ReportStylesheets} and
+ * linked from the compiled template, so renderers can reuse their parsed form.
+ */
+@Slf4j
+@Component
+public class ReportTemplateRegistry {
+
+  private final Path reloadDirectory;
+  private final ReportStylesheets stylesheets;
+  private final Map<ReportTemplateType, LoadedTemplate> templates = new ConcurrentHashMap<>();
+  private final Map<ReportTemplateType, Counter> renders = new EnumMap<>(ReportTemplateType.class);
+
+  /**
+   * Loads and compiles every report template.
+   *
+   * @param templateProperties The template configuration.
+   * @param meterRegistry      The registry the render counts are published to.
+   * @param stylesheets        The registry the template stylesheets are moved to.
+   */
+  public ReportTemplateRegistry(ReportTemplateProperties templateProperties, MeterRegistry meterRegistry,
+                                ReportStylesheets stylesheets) {
+    this.stylesheets = stylesheets;
+    String directory = templateProperties.getReloadDirectory();
+    this.reloadDirectory = directory == null || directory.isBlank() ? null : Path.of(directory);
+    for (ReportTemplateType type : ReportTemplateType.values()) {
+      templates.put(type, load(type));
+      renders.put(type, Counter.builder("report.template.renders")
+        .description("Reports rendered from a template")
+        .tag("template", type.name().toLowerCase())
+        .register(meterRegistry));
+    }
+    log.info("Compiled {} report templates{}.", templates.size(),
+        reloadDirectory != null ? ", reloading from " + reloadDirectory.toAbsolutePath() : "");
+  }
+
+  /**
+   * Returns the compiled template to render a report with and counts the render.
+   *
+   * @param type The report template.
+   * @return The compiled template.
+   */
+  public ReportTemplate get(ReportTemplateType type) {
+    LoadedTemplate loaded = reloadDirectory != null
+        ? templates.compute(type, (key, current) -> reloadIfModified(key, current))
+        : templates.get(type);
+    renders.get(type).increment();
+    return loaded.template();
+  }
+
+  private LoadedTemplate load(ReportTemplateType type) {
+    Path file = overrideFile(type);
+    if (file == null) {
+      return new LoadedTemplate(compile(type, loadTemplate(type.getPath())), null);
+    }
+    FileTime modified = lastModified(file);
+    return new LoadedTemplate(compile(type, readFile(file)), modified);
+  }
+
+  private LoadedTemplate reloadIfModified(ReportTemplateType type, LoadedTemplate current) {
+    Path file = overrideFile(type);
+    if (file == null) {
+      return current;
+    }
+    FileTime modified = lastModified(file);
+    if (modified.equals(current.modified())) {
+      return current;
+    }
+    try {
+      LoadedTemplate reloaded = new LoadedTemplate(compile(type, readFile(file)), modified);
+      log.info("Reloaded report template {}", file);
+      return reloaded;
+    } catch (PdfGenerationException e) {
+      log.warn("Keeping previous report template {}: {}", type.getPath(), e.getMessage());
+      return new LoadedTemplate(current.template(), modified);
+    }
+  }
+
+  private Path overrideFile(ReportTemplateType type) {
+    if (reloadDirectory == null) {
+      return null;
+    }
+    Path file = reloadDirectory.resolve(Path.of(type.getPath()).getFileName());
+    return Files.isRegularFile(file) ? file : null;
+  }
+
+  private ReportTemplate compile(ReportTemplateType type, String source) {
+    return ReportTemplate.compile(type.getPath(), stylesheets.externalize(type.getPath(), source), type.getPlaceholders());
+  }
+
+  private static String readFile(Path file) {
+    try {
+      return Files.readString(file, UTF_8);
+    } catch (IOException e) {
+      throw new PdfGenerationException(TEMPLATE_LOAD_ERROR + file);
+    }
+  }
+
+  private static FileTime lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      throw new PdfGenerationException(TEMPLATE_LOAD_ERROR + file);
+    }
+  }
+
+  /**
+   * A compiled template with the modification time of the file it was reloaded from, if any.
+   *
+   * @param template The compiled template.
+   * @param modified The modification time of the override file, or null for a packaged template.
+   */
+  private record LoadedTemplate(ReportTemplate template, FileTime modified) {
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * The report templates under {@code report_templates/} and the placeholders each must use.
+ */
+public enum ReportTemplateType {
+
+  USER_PERFORMANCE("report_templates/user_performance_template.html", Set.of(
+      "startDate", "endDate", "fullName", "email", "role", "teamName", "teamObjective",
+      "projectName", "projectDescription", "tasksCompleted", "taskCompletionRate", "onTimeTasks",
+      "averageTaskDuration", "bugFixesResolved", "criticalTasksSolved", "achievements",
+      "taskCompletionProgress", "bugFixProgress", "criticalTaskResolution", "onTimeApprovalRate",
+      "userLevelName", "performanceStars"
+  )),
+  TOP_PERFORMERS("report_templates/top_performers_template.html", topPerformersPlaceholders()),
+  TASK_PROGRESS("report_templates/task_progress_template.html", Set.of(
+      "startDate", "endDate", "teamName", "projectName", "fullName", "email", "role", "chart_bars"
+  )),
+  TEAM_PERFORMANCE("report_templates/team_performance_template.html", Set.of(
+      "startDate", "endDate", "teamName", "team_members"
+  )),
+  PROJECT_PERFORMANCE("report_templates/project_performance_template.html", Set.of(
+      "startDate", "endDate", "projectName", "project_data"
+  ));
+
+  /**
+   * The number of ranked members shown by the top performers template.
+   */
+  public static final int TOP_PERFORMER_COUNT = 3;
+
+  private final String path;
+  private final Set<String> placeholders;
+
+  ReportTemplateType(String path, Set<String> placeholders) {
+    this.path = path;
+    this.placeholders = placeholders;
+  }
+
+  /**
+   * Returns the classpath location of the template.
+   *
+   * @return The template path.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the placeholders the template must use.
+   *
+   * @return The placeholder names, without braces.
+   */
+  public Set<String> getPlaceholders() {
+    return placeholders;
+  }
+
+  /**
+   * Returns the placeholder of a field of a ranked member in the top performers template.
+   *
+   * @param rank  The rank of the member, starting at 1.
+   * @param field The field, e.g. {@code name} or {@code xp}.
+   * @return The placeholder name.
+   */
+  public static String topPerformerPlaceholder(int rank, String field) {
+    return "top" + rank + "_" + field;
+  }
+
+  private static Set<String> topPerformersPlaceholders() {
+    Set<String> placeholders = new HashSet<>(List.of("startDate", "endDate", "team_name"));
+    IntStream.rangeClosed(1, TOP_PERFORMER_COUNT).forEach(rank -> List.of("name", "role", "image", "tasks", "xp", "achievements")
+        .forEach(field -> placeholders.add(topPerformerPlaceholder(rank, field))));
+    return Set.copyOf(placeholders);
+  }
+}
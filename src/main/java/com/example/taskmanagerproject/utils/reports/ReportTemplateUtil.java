@@ -1,12 +1,12 @@
 package com.example.taskmanagerproject.utils.reports;
 
-import static java.lang.Double.parseDouble;
 import static java.util.stream.Collectors.joining;
 
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 import java.util.StringJoiner;
 import lombok.experimental.UtilityClass;
 
@@ -74,11 +74,10 @@ public class ReportTemplateUtil {
    * The chart is generated with bars representing the completion percentage of each task.
    * Additionally, the highest and lowest completion rates are highlighted.
    *
-   * @param metrics A list of Object arrays representing task metrics. The first element of the array is the date,
-   *                and the second element is the task completion percentage.
+   * @param metrics The bars of the chart, each with the bucket label and the task completion percentage.
    * @return The HTML string representing the task completion chart.
    */
-  public static String generateChartHtml(List<Object[]> metrics) {
+  public static String generateChartHtml(List<ProgressMetrics> metrics) {
     StringJoiner chartHtml = new StringJoiner("", "", "");
     StringBuilder currentChartHtml = new StringBuilder();
     int barCount = 0;
@@ -88,7 +87,7 @@ public class ReportTemplateUtil {
     double lowestPercentage = Double.MAX_VALUE;
 
     for (int i = 0; i < metrics.size(); i++) {
-      double completion = parseDouble(metrics.get(i)[1].toString());
+      double completion = metrics.get(i).taskCompletionRate();
       if (completion > highestPercentage) {
         highestPercentage = completion;
         highestIndex = i;
@@ -100,9 +99,9 @@ public class ReportTemplateUtil {
     }
 
     for (int i = 0; i < metrics.size(); i++) {
-      Object[] data = metrics.get(i);
-      String date = ReportMetricUtil.formatChartDate(data[0].toString());
-      double completion = parseDouble(data[1].toString());
+      ProgressMetrics data = metrics.get(i);
+      String date = ReportMetricUtil.formatChartDate(data.label());
+      double completion = data.taskCompletionRate();
       String percentage = ReportMetricUtil.formatPercentage(completion);
 
       if (barCount % 12 == 0 && !currentChartHtml.isEmpty()) {
@@ -149,10 +148,10 @@ public class ReportTemplateUtil {
    * Generates HTML for a team member's report, including image, name, role, task metrics,
    * progress bars for task completion, bug fixes, critical tasks, and achievements count.
    *
-   * @param data An array of team member metrics.
+   * @param data The metrics of the team member.
    * @return A String representing the HTML content for the team member's report.
    */
-  public String generateTeamMemberHtml(Object[] data) {
+  public String generateTeamMemberHtml(TeamMemberMetrics data) {
     return String.format("""
         <div class="team-member">
             %s
@@ -175,21 +174,21 @@ public class ReportTemplateUtil {
             </div>
         </div>
         """,
-      ReportTemplateUtil.generateImageUser((String) data[1]),
-      data[0], // Member Name
-      ReportMetricUtil.formatRoleName(data[2]),
-      data[4] + "/" + data[3], // Tasks Completed
-      data[5] + "/" + data[4], // On-Time Tasks
-      ReportMetricUtil.formatDuration(Double.parseDouble(data[6].toString())), // Avg Task Duration
-      generateProgressBar("Task Completion", "task-progress", data[7]),
-      generateProgressBar("Bugfix Progress", "bug-progress", data[8]),
-      generateProgressBar("Critical Task Completion", "critical-progress", data[9]),
-      data[10] // Number of Achievements
+      ReportTemplateUtil.generateImageUser(data.image()),
+      data.name(),
+      ReportMetricUtil.formatRoleName(data.role()),
+      data.tasksCompleted() + "/" + data.allTasks(),
+      data.onTimeTasks() + "/" + data.tasksCompleted(),
+      ReportMetricUtil.formatDuration(data.averageTaskDuration()),
+      generateProgressBar("Task Completion", "task-progress", data.taskCompletionRate()),
+      generateProgressBar("Bugfix Progress", "bug-progress", data.bugFixResolutionRate()),
+      generateProgressBar("Critical Task Completion", "critical-progress", data.criticalTaskResolutionRate()),
+      data.achievements()
     );
   }
 
-  private String generateProgressBar(String title, String cssClass, Object percentage) {
-    String progress = ReportMetricUtil.formatPercentage(((BigDecimal) percentage).doubleValue());
+  private String generateProgressBar(String title, String cssClass, double percentage) {
+    String progress = ReportMetricUtil.formatPercentage(percentage);
     return String.format("""
         <div class="metric">
             <h3>%s</h3>
@@ -205,13 +204,13 @@ public class ReportTemplateUtil {
    * The metrics include completed tasks, on-time deliveries, critical issues,
    * total defects, and key achievements.
    *
-   * @param memberData a list of object arrays where each array contains metrics for a team member.
+   * @param memberData the metrics of each team of the project.
    * @return a string of HTML table rows for all team members.
    */
-  public String generateProjectMemberHtml(List<Object[]> memberData) {
+  public String generateProjectMemberHtml(List<ProjectTeamMetrics> memberData) {
     StringBuilder html = new StringBuilder();
 
-    for (Object[] data : memberData) {
+    for (ProjectTeamMetrics data : memberData) {
       html.append(String.format("""
           <tr>
               <td><strong>%s</strong></td>
@@ -226,26 +225,15 @@ public class ReportTemplateUtil {
               </td>
           </tr>
           """,
-          data[0], data[3] + "/" + data[2], data[4] + "/" + data[3], data[6] + "/" + data[5], data[8] + "/" + data[7], data[1]
+          data.teamName(),
+          data.completedTasks() + "/" + data.totalTasks(),
+          data.onTimeTasks() + "/" + data.completedTasks(),
+          data.criticalTasksCompleted() + "/" + data.totalCriticalTasks(),
+          data.bugsCompleted() + "/" + data.totalBugs(),
+          data.achievements()
         )
       );
     }
     return html.toString();
   }
-
-  /**
-   * Replaces placeholders in the given template string with values from a map.
-   * The placeholders are expected to be in the form of keys in the template, which will be replaced with corresponding
-   * values from the provided map.
-   *
-   * @param template The template string containing placeholders.
-   * @param placeholders A map of placeholder keys and their corresponding values.
-   * @return The template string with the placeholders replaced by their values.
-   */
-  public static String replacePlaceholders(String template, Map<String, String> placeholders) {
-    for (var entry : placeholders.entrySet()) {
-      template = template.replace(entry.getKey(), entry.getValue());
-    }
-    return template;
-  }
 }
@@ -0,0 +1,72 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.lowagie.text.Image;
+import java.io.ByteArrayInputStream;
+import org.xhtmlrenderer.pdf.ITextFSImage;
+import org.xhtmlrenderer.pdf.ITextOutputDevice;
+import org.xhtmlrenderer.pdf.ITextUserAgent;
+import org.xhtmlrenderer.resource.CSSResource;
+import org.xhtmlrenderer.resource.ImageResource;
+
+/**
+ * Flying Saucer user agent that loads HTTP resources through the {@link ReportAssetResolver}
+ * instead of opening a connection per resource and render, and serves the template stylesheets
+ * registered with {@link ReportStylesheets}. Other URLs, such as data URIs, are handled by the
+ * default user agent.
+ */
+public class ReportUserAgent extends ITextUserAgent {
+
+  private final ReportAssetResolver assetResolver;
+  private final ReportStylesheets stylesheets;
+
+  /**
+   * Creates a user agent for a single renderer.
+   *
+   * @param outputDevice  The output device of the renderer.
+   * @param dotsPerPixel  The dots per pixel of the renderer.
+   * @param assetResolver The resolver resources are loaded with.
+   * @param stylesheets   The template stylesheets, or null if templates embed their CSS.
+   */
+  public ReportUserAgent(ITextOutputDevice outputDevice, int dotsPerPixel, ReportAssetResolver assetResolver,
+                         ReportStylesheets stylesheets) {
+    super(outputDevice, dotsPerPixel);
+    this.assetResolver = assetResolver;
+    this.stylesheets = stylesheets;
+  }
+
+  @Override
+  public String resolveURI(String uri) {
+    return ReportStylesheets.isStylesheetUri(uri) ? uri : super.resolveURI(uri);
+  }
+
+  @Override
+  public CSSResource getCSSResource(String uri) {
+    String css = stylesheets != null && ReportStylesheets.isStylesheetUri(uri) ? stylesheets.find(uri) : null;
+    return css != null ? new CSSResource(new ByteArrayInputStream(css.getBytes(UTF_8))) : super.getCSSResource(uri);
+  }
+
+  @Override
+  public ImageResource getImageResource(String uri) {
+    String resolved = resolveURI(uri);
+    if (!assetResolver.supports(resolved)) {
+      return super.getImageResource(uri);
+    }
+    Image image = assetResolver.getImage(resolved);
+    if (image == null) {
+      return new ImageResource(resolved, null);
+    }
+    float factor = getSharedContext().getDotsPerPixel();
+    if (factor != 1.0f) {
+      image.scaleAbsolute(image.getPlainWidth() * factor, image.getPlainHeight() * factor);
+    }
+    return new ImageResource(resolved, new ITextFSImage(image));
+  }
+
+  @Override
+  public byte[] getBinaryResource(String uri) {
+    String resolved = resolveURI(uri);
+    return assetResolver.supports(resolved) ? assetResolver.getBytes(resolved) : super.getBinaryResource(uri);
+  }
+}
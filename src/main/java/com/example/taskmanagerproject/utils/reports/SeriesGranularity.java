@@ -0,0 +1,93 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.format.TextStyle.SHORT;
+import static java.time.temporal.TemporalAdjusters.previousOrSame;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * The bucket size of a time series in the reports.
+ * Buckets start where PostgreSQL's {@code date_trunc} puts them: at midnight, on ISO Mondays and on the first of the month.
+ */
+public enum SeriesGranularity {
+
+  DAY("day"),
+  WEEK("week"),
+  MONTH("month");
+
+  private static final long MAX_DAILY_RANGE_DAYS = 31;
+  private static final long MAX_WEEKLY_RANGE_DAYS = 91;
+
+  private final String truncField;
+
+  SeriesGranularity(String truncField) {
+    this.truncField = truncField;
+  }
+
+  /**
+   * Returns the field name passed to {@code date_trunc}.
+   *
+   * @return The field name, e.g. {@code week}.
+   */
+  public String getTruncField() {
+    return truncField;
+  }
+
+  /**
+   * Returns the start of the bucket containing a date.
+   *
+   * @param date The date.
+   * @return The first day of its bucket.
+   */
+  public LocalDate truncate(LocalDate date) {
+    return switch (this) {
+      case DAY -> date;
+      case WEEK -> date.with(previousOrSame(MONDAY));
+      case MONTH -> date.withDayOfMonth(1);
+    };
+  }
+
+  /**
+   * Returns the start of the bucket following a bucket.
+   *
+   * @param bucket The first day of a bucket.
+   * @return The first day of the next bucket.
+   */
+  public LocalDate next(LocalDate bucket) {
+    return switch (this) {
+      case DAY -> bucket.plusDays(1);
+      case WEEK -> bucket.plusWeeks(1);
+      case MONTH -> bucket.plusMonths(1);
+    };
+  }
+
+  /**
+   * Returns the chart label of a bucket: its ISO date, or {@code 2025-Jan} for months.
+   *
+   * @param bucket The first day of a bucket.
+   * @return The label.
+   */
+  public String label(LocalDate bucket) {
+    return this == MONTH
+      ? bucket.getYear() + "-" + bucket.getMonth().getDisplayName(SHORT, Locale.ENGLISH)
+      : bucket.toString();
+  }
+
+  /**
+   * Chooses the granularity of a date range: days up to a month, weeks up to a quarter and months beyond.
+   *
+   * @param startDate The first day of the range.
+   * @param endDate   The last day of the range.
+   * @return The granularity.
+   */
+  public static SeriesGranularity forRange(LocalDate startDate, LocalDate endDate) {
+    long days = ChronoUnit.DAYS.between(startDate, endDate);
+    if (days <= MAX_DAILY_RANGE_DAYS) {
+      return DAY;
+    }
+    return days <= MAX_WEEKLY_RANGE_DAYS ? WEEK : MONTH;
+  }
+}
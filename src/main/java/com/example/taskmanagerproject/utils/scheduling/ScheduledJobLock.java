@@ -0,0 +1,44 @@
+package com.example.taskmanagerproject.utils.scheduling;
+
+import com.example.taskmanagerproject.repositories.ScheduledJobLockRepository;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs scheduled jobs on one node of the cluster at a time.
+ * The lease is a database row, so it must be taken outside of any surrounding transaction
+ * for other nodes to see it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLock {
+
+  private final String owner = UUID.randomUUID().toString();
+  private final ScheduledJobLockRepository scheduledJobLockRepository;
+
+  /**
+   * Runs a job if no other node is running it or ran it within the minimum hold time.
+   *
+   * @param name           The name of the job.
+   * @param lockAtMostFor  How long the lease is held if this node dies while running the job.
+   * @param lockAtLeastFor How long after it started the lease is kept once the job finished.
+   * @param job            The job to run.
+   * @return True if the job ran on this node, otherwise false.
+   */
+  public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+    if (!scheduledJobLockRepository.tryLock(name, owner, lockAtMostFor)) {
+      log.debug("Skipped scheduled job {}, another node holds its lock.", name);
+      return false;
+    }
+    try {
+      job.run();
+      return true;
+    } finally {
+      scheduledJobLockRepository.unlock(name, owner, lockAtLeastFor);
+    }
+  }
+}
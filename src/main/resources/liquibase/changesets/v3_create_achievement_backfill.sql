@@ -0,0 +1,18 @@
+-- Checkpoint of the achievement backfill job, so an interrupted run resumes after the last completed group.
+CREATE TABLE IF NOT EXISTS achievement_backfill_progress
+(
+    job_name             VARCHAR(100) PRIMARY KEY,
+    last_user_id         BIGINT       NOT NULL DEFAULT 0,
+    last_team_id         BIGINT       NOT NULL DEFAULT 0,
+    last_project_id      BIGINT       NOT NULL DEFAULT 0,
+    groups_processed     BIGINT       NOT NULL DEFAULT 0,
+    achievements_awarded BIGINT       NOT NULL DEFAULT 0,
+    started_at           TIMESTAMP    NOT NULL,
+    updated_at           TIMESTAMP    NOT NULL,
+    completed_at         TIMESTAMP    NULL
+);
+
+-- Serves the backfill cursor, which reads approved tasks in (assignee, team, project) order.
+CREATE INDEX IF NOT EXISTS idx_tasks_approved_assignee_team_project
+    ON tasks (assigned_to, team_id, project_id, id)
+    WHERE task_status = 'APPROVED';
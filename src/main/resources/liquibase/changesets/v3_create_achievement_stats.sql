@@ -0,0 +1,76 @@
+CREATE TABLE IF NOT EXISTS user_achievement_stats
+(
+    user_id                  BIGINT    NOT NULL,
+    team_id                  BIGINT    NOT NULL,
+    project_id               BIGINT    NOT NULL,
+    approved_count           BIGINT    NOT NULL DEFAULT 0,
+    before_deadline_count    BIGINT    NOT NULL DEFAULT 0,
+    on_time_count            BIGINT    NOT NULL DEFAULT 0,
+    high_priority_count      BIGINT    NOT NULL DEFAULT 0,
+    critical_count           BIGINT    NOT NULL DEFAULT 0,
+    commented_count          BIGINT    NOT NULL DEFAULT 0,
+    critical_commented_count BIGINT    NOT NULL DEFAULT 0,
+    long_duration_count      BIGINT    NOT NULL DEFAULT 0,
+    updated_at               TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, team_id, project_id),
+    CONSTRAINT fk_user_achievement_stats_user FOREIGN KEY (user_id) REFERENCES users (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION,
+    CONSTRAINT fk_user_achievement_stats_team FOREIGN KEY (team_id) REFERENCES teams (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION,
+    CONSTRAINT fk_user_achievement_stats_project FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION
+);
+
+-- Per-day and per-month approval buckets backing the "Task Warrior" and "Bug Slayer" rules.
+CREATE TABLE IF NOT EXISTS user_achievement_stats_buckets
+(
+    user_id        BIGINT      NOT NULL,
+    team_id        BIGINT      NOT NULL,
+    project_id     BIGINT      NOT NULL,
+    bucket_type    VARCHAR(10) NOT NULL,
+    bucket_start   DATE        NOT NULL,
+    approved_count BIGINT      NOT NULL DEFAULT 0,
+    critical_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, team_id, project_id, bucket_type, bucket_start),
+    CONSTRAINT fk_user_achievement_stats_buckets_stats FOREIGN KEY (user_id, team_id, project_id)
+        REFERENCES user_achievement_stats (user_id, team_id, project_id)
+        ON DELETE CASCADE ON UPDATE NO ACTION
+);
+
+-- Seeds the counters and buckets from the tasks approved before they were maintained incrementally,
+-- so that existing users keep their history once the first incremental update creates their row.
+INSERT INTO user_achievement_stats
+    (user_id, team_id, project_id, approved_count, before_deadline_count, on_time_count, high_priority_count,
+     critical_count, commented_count, critical_commented_count, long_duration_count, updated_at)
+SELECT t.assigned_to,
+       t.team_id,
+       t.project_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE t.expiration_date > t.approved_at),
+       COUNT(*) FILTER (WHERE t.approved_at <= t.expiration_date),
+       COUNT(*) FILTER (WHERE t.priority = 'HIGH'),
+       COUNT(*) FILTER (WHERE t.priority = 'CRITICAL'),
+       COUNT(*) FILTER (WHERE tc.task_id IS NOT NULL),
+       COUNT(*) FILTER (WHERE t.priority = 'CRITICAL' AND tc.task_id IS NOT NULL),
+       COUNT(*) FILTER (WHERE t.approved_at - t.created_at >= INTERVAL '8 days'),
+       NOW()
+FROM tasks t
+LEFT JOIN (SELECT DISTINCT task_id FROM task_comments) tc ON tc.task_id = t.id
+WHERE t.task_status = 'APPROVED'
+  AND t.assigned_to IS NOT NULL
+  AND t.approved_at IS NOT NULL
+GROUP BY t.assigned_to, t.team_id, t.project_id;
+
+INSERT INTO user_achievement_stats_buckets
+    (user_id, team_id, project_id, bucket_type, bucket_start, approved_count, critical_count)
+SELECT t.assigned_to, t.team_id, t.project_id, 'DAY', CAST(t.approved_at AS DATE),
+       COUNT(*), COUNT(*) FILTER (WHERE t.priority = 'CRITICAL')
+FROM tasks t
+WHERE t.task_status = 'APPROVED' AND t.assigned_to IS NOT NULL AND t.approved_at IS NOT NULL
+GROUP BY t.assigned_to, t.team_id, t.project_id, CAST(t.approved_at AS DATE)
+UNION ALL
+SELECT t.assigned_to, t.team_id, t.project_id, 'MONTH', CAST(date_trunc('month', t.approved_at) AS DATE),
+       COUNT(*), COUNT(*) FILTER (WHERE t.priority = 'CRITICAL')
+FROM tasks t
+WHERE t.task_status = 'APPROVED' AND t.assigned_to IS NOT NULL AND t.approved_at IS NOT NULL
+GROUP BY t.assigned_to, t.team_id, t.project_id, date_trunc('month', t.approved_at);
@@ -0,0 +1,9 @@
+-- Task completion events already handled by the achievement consumer, so redelivered events are dropped.
+CREATE TABLE IF NOT EXISTS processed_events
+(
+    event_id     UUID PRIMARY KEY,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Serves the cleanup of events older than the deduplication window.
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events (processed_at);
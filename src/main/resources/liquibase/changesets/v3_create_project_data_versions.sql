@@ -0,0 +1,252 @@
+-- Append-only log of changes to the data reports are built from, one row per project and writing statement.
+-- The data version of a project is the sum of its changes, so it grows with every commit whatever order
+-- concurrent transactions commit in. Writers only insert, so they never wait on each other's rows.
+-- A scheduled job compacts the log to one row per project without changing the sums.
+CREATE TABLE IF NOT EXISTS project_data_changes
+(
+    id         BIGSERIAL PRIMARY KEY,
+    project_id BIGINT    NOT NULL,
+    changes    BIGINT    NOT NULL DEFAULT 1,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_project_data_changes_project FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_data_changes_project ON project_data_changes (project_id);
+
+INSERT INTO project_data_changes (project_id)
+SELECT id
+FROM projects;
+
+-- Records one change for each of the given projects.
+-- Projects that are being deleted are skipped, as their changes cascade away with them.
+CREATE OR REPLACE FUNCTION record_project_data_changes(changed_project_ids BIGINT[])
+    RETURNS VOID AS
+'
+    BEGIN
+        INSERT INTO task_list.project_data_changes (project_id, changed_at)
+        SELECT p.id, NOW()
+        FROM task_list.projects p
+        WHERE p.id = ANY (changed_project_ids);
+    END;
+' LANGUAGE plpgsql;
+
+-- Records one change for each project the given teams work on.
+CREATE OR REPLACE FUNCTION record_team_project_data_changes(changed_team_ids BIGINT[])
+    RETURNS VOID AS
+'
+    BEGIN
+        PERFORM task_list.record_project_data_changes(ARRAY(
+            SELECT DISTINCT pt.project_id
+            FROM task_list.projects_teams pt
+            WHERE pt.team_id = ANY (changed_team_ids)
+        ));
+    END;
+' LANGUAGE plpgsql;
+
+-- Records the projects of the tasks written by a statement, including the previous project of moved tasks.
+CREATE OR REPLACE FUNCTION record_task_project_data_changes()
+    RETURNS TRIGGER AS
+'
+    BEGIN
+        IF TG_OP = ''INSERT'' THEN
+            PERFORM task_list.record_project_data_changes(ARRAY(SELECT DISTINCT project_id FROM new_rows));
+        ELSIF TG_OP = ''UPDATE'' THEN
+            PERFORM task_list.record_project_data_changes(ARRAY(
+                SELECT project_id FROM new_rows UNION SELECT project_id FROM old_rows
+            ));
+        ELSE
+            PERFORM task_list.record_project_data_changes(ARRAY(SELECT DISTINCT project_id FROM old_rows));
+        END IF;
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+-- Records the projects of the tasks whose comments were written by a statement.
+CREATE OR REPLACE FUNCTION record_comment_project_data_changes()
+    RETURNS TRIGGER AS
+'
+    BEGIN
+        IF TG_OP = ''INSERT'' THEN
+            PERFORM task_list.record_project_data_changes(ARRAY(
+                SELECT DISTINCT t.project_id FROM new_rows c JOIN task_list.tasks t ON t.id = c.task_id
+            ));
+        ELSIF TG_OP = ''UPDATE'' THEN
+            PERFORM task_list.record_project_data_changes(ARRAY(
+                SELECT t.project_id FROM new_rows c JOIN task_list.tasks t ON t.id = c.task_id
+                UNION
+                SELECT t.project_id FROM old_rows c JOIN task_list.tasks t ON t.id = c.task_id
+            ));
+        ELSE
+            PERFORM task_list.record_project_data_changes(ARRAY(
+                SELECT DISTINCT t.project_id FROM old_rows c JOIN task_list.tasks t ON t.id = c.task_id
+            ));
+        END IF;
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+-- Records the projects achievements were awarded or revoked in, and every project of the awarded teams,
+-- as team reports count a member's achievements across all projects of the team.
+CREATE OR REPLACE FUNCTION record_achievement_project_data_changes()
+    RETURNS TRIGGER AS
+'
+    BEGIN
+        IF TG_OP IN (''INSERT'', ''UPDATE'') THEN
+            PERFORM task_list.record_project_data_changes(ARRAY(SELECT DISTINCT project_id FROM new_rows));
+            PERFORM task_list.record_team_project_data_changes(ARRAY(SELECT DISTINCT team_id FROM new_rows));
+        END IF;
+        IF TG_OP IN (''UPDATE'', ''DELETE'') THEN
+            PERFORM task_list.record_project_data_changes(ARRAY(SELECT DISTINCT project_id FROM old_rows));
+            PERFORM task_list.record_team_project_data_changes(ARRAY(SELECT DISTINCT team_id FROM old_rows));
+        END IF;
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+-- Records the projects of the teams whose members or member roles were written by a statement.
+CREATE OR REPLACE FUNCTION record_team_user_project_data_changes()
+    RETURNS TRIGGER AS
+'
+    BEGIN
+        IF TG_OP = ''INSERT'' THEN
+            PERFORM task_list.record_team_project_data_changes(ARRAY(SELECT DISTINCT team_id FROM new_rows));
+        ELSIF TG_OP = ''UPDATE'' THEN
+            PERFORM task_list.record_team_project_data_changes(ARRAY(
+                SELECT team_id FROM new_rows UNION SELECT team_id FROM old_rows
+            ));
+        ELSE
+            PERFORM task_list.record_team_project_data_changes(ARRAY(SELECT DISTINCT team_id FROM old_rows));
+        END IF;
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+-- Records the projects of every team of the users whose images were written by a statement.
+CREATE OR REPLACE FUNCTION record_user_image_project_data_changes()
+    RETURNS TRIGGER AS
+'
+    BEGIN
+        IF TG_OP = ''INSERT'' THEN
+            PERFORM task_list.record_team_project_data_changes(ARRAY(
+                SELECT DISTINCT tu.team_id FROM new_rows ui JOIN task_list.teams_users tu ON tu.user_id = ui.user_id
+            ));
+        ELSIF TG_OP = ''UPDATE'' THEN
+            PERFORM task_list.record_team_project_data_changes(ARRAY(
+                SELECT tu.team_id FROM new_rows ui JOIN task_list.teams_users tu ON tu.user_id = ui.user_id
+                UNION
+                SELECT tu.team_id FROM old_rows ui JOIN task_list.teams_users tu ON tu.user_id = ui.user_id
+            ));
+        ELSE
+            PERFORM task_list.record_team_project_data_changes(ARRAY(
+                SELECT DISTINCT tu.team_id FROM old_rows ui JOIN task_list.teams_users tu ON tu.user_id = ui.user_id
+            ));
+        END IF;
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER task_project_data_insert_trigger
+    AFTER INSERT
+    ON task_list.tasks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_task_project_data_changes();
+
+CREATE TRIGGER task_project_data_update_trigger
+    AFTER UPDATE
+    ON task_list.tasks
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_task_project_data_changes();
+
+CREATE TRIGGER task_project_data_delete_trigger
+    AFTER DELETE
+    ON task_list.tasks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_task_project_data_changes();
+
+CREATE TRIGGER comment_project_data_insert_trigger
+    AFTER INSERT
+    ON task_list.task_comments
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_comment_project_data_changes();
+
+CREATE TRIGGER comment_project_data_update_trigger
+    AFTER UPDATE
+    ON task_list.task_comments
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_comment_project_data_changes();
+
+CREATE TRIGGER comment_project_data_delete_trigger
+    AFTER DELETE
+    ON task_list.task_comments
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_comment_project_data_changes();
+
+CREATE TRIGGER achievement_project_data_insert_trigger
+    AFTER INSERT
+    ON task_list.achievements_users
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_achievement_project_data_changes();
+
+CREATE TRIGGER achievement_project_data_update_trigger
+    AFTER UPDATE
+    ON task_list.achievements_users
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_achievement_project_data_changes();
+
+CREATE TRIGGER achievement_project_data_delete_trigger
+    AFTER DELETE
+    ON task_list.achievements_users
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_achievement_project_data_changes();
+
+CREATE TRIGGER team_user_project_data_insert_trigger
+    AFTER INSERT
+    ON task_list.teams_users
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_team_user_project_data_changes();
+
+CREATE TRIGGER team_user_project_data_update_trigger
+    AFTER UPDATE
+    ON task_list.teams_users
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_team_user_project_data_changes();
+
+CREATE TRIGGER team_user_project_data_delete_trigger
+    AFTER DELETE
+    ON task_list.teams_users
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_team_user_project_data_changes();
+
+CREATE TRIGGER user_image_project_data_insert_trigger
+    AFTER INSERT
+    ON task_list.users_images
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_user_image_project_data_changes();
+
+CREATE TRIGGER user_image_project_data_update_trigger
+    AFTER UPDATE
+    ON task_list.users_images
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_user_image_project_data_changes();
+
+CREATE TRIGGER user_image_project_data_delete_trigger
+    AFTER DELETE
+    ON task_list.users_images
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+EXECUTE FUNCTION record_user_image_project_data_changes();
@@ -0,0 +1,31 @@
+-- Asynchronous report jobs, shared by all nodes. At most one job per request is queued or running,
+-- so identical submissions on any node join it. Jobs in flight expire when the node running them dies,
+-- finished jobs expire with their stored PDF.
+CREATE TABLE IF NOT EXISTS report_jobs
+(
+    id           UUID         PRIMARY KEY,
+    request_hash VARCHAR(64)  NOT NULL,
+    report_type  VARCHAR(32)  NOT NULL,
+    file_name    VARCHAR(512) NOT NULL,
+    status       VARCHAR(16)  NOT NULL,
+    object_key   VARCHAR(255) NOT NULL,
+    error        TEXT,
+    submitted_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    expires_at   TIMESTAMP    NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_report_jobs_in_flight
+    ON report_jobs (request_hash) WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_expires_at ON report_jobs (expires_at);
+
+-- The users a job is visible to: the user who submitted it and every user whose submission joined it.
+CREATE TABLE IF NOT EXISTS report_job_requesters
+(
+    job_id    UUID         NOT NULL,
+    requester VARCHAR(255) NOT NULL,
+    PRIMARY KEY (job_id, requester),
+    CONSTRAINT fk_report_job_requesters_job FOREIGN KEY (job_id) REFERENCES report_jobs (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION
+);
@@ -0,0 +1,9 @@
+-- Leases of scheduled jobs that must run on a single node at a time.
+-- A node runs a job only after taking over a lease whose locked_until has passed.
+CREATE TABLE IF NOT EXISTS scheduled_job_locks
+(
+    name         VARCHAR(64)  PRIMARY KEY,
+    locked_at    TIMESTAMP    NOT NULL,
+    locked_until TIMESTAMP    NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL
+);
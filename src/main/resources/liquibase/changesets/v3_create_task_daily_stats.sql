@@ -0,0 +1,176 @@
+-- Per-day task counters of a user, team and project, keyed by the day the task was created.
+-- Report queries sum these rows instead of scanning tasks and comments, so their cost grows with the days in range.
+CREATE TABLE IF NOT EXISTS task_daily_stats
+(
+    project_id              BIGINT  NOT NULL,
+    team_id                 BIGINT  NOT NULL,
+    user_id                 BIGINT  NOT NULL,
+    stat_date               DATE    NOT NULL,
+    created_count           INTEGER NOT NULL DEFAULT 0,
+    approved_count          INTEGER NOT NULL DEFAULT 0,
+    on_time_count           INTEGER NOT NULL DEFAULT 0,
+    critical_count          INTEGER NOT NULL DEFAULT 0,
+    critical_approved_count INTEGER NOT NULL DEFAULT 0,
+    bug_count               INTEGER NOT NULL DEFAULT 0,
+    bug_approved_count      INTEGER NOT NULL DEFAULT 0,
+    duration_count          INTEGER NOT NULL DEFAULT 0,
+    duration_seconds        NUMERIC NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, team_id, user_id, stat_date),
+    CONSTRAINT fk_task_daily_stats_project FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION,
+    CONSTRAINT fk_task_daily_stats_team FOREIGN KEY (team_id) REFERENCES teams (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION,
+    CONSTRAINT fk_task_daily_stats_user FOREIGN KEY (user_id) REFERENCES users (id)
+        ON DELETE CASCADE ON UPDATE NO ACTION
+);
+
+INSERT INTO task_daily_stats
+    (project_id, team_id, user_id, stat_date, created_count, approved_count, on_time_count, critical_count,
+     critical_approved_count, bug_count, bug_approved_count, duration_count, duration_seconds)
+SELECT t.project_id,
+       t.team_id,
+       t.assigned_to,
+       CAST(t.created_at AS DATE),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE t.task_status = 'APPROVED'),
+       COUNT(*) FILTER (WHERE t.task_status = 'APPROVED' AND t.expiration_date >= t.approved_at),
+       COUNT(*) FILTER (WHERE t.priority = 'CRITICAL'),
+       COUNT(*) FILTER (WHERE t.priority = 'CRITICAL' AND t.task_status = 'APPROVED'),
+       COUNT(ct.task_id),
+       COUNT(ct.task_id) FILTER (WHERE t.task_status = 'APPROVED'),
+       COUNT(t.approved_at),
+       COALESCE(SUM(EXTRACT(EPOCH FROM (t.approved_at - t.created_at))), 0)
+FROM tasks t
+LEFT JOIN (SELECT DISTINCT task_id FROM task_comments) ct ON ct.task_id = t.id
+WHERE t.assigned_to IS NOT NULL
+GROUP BY t.project_id, t.team_id, t.assigned_to, CAST(t.created_at AS DATE);
+
+-- Adds (delta = 1) or removes (delta = -1) the contribution of one task to the counters of its creation day.
+-- Unassigned tasks are not counted. Rows of a project, team or user that is being deleted are skipped,
+-- as they cascade away with it.
+CREATE OR REPLACE FUNCTION apply_task_daily_stats(task task_list.tasks, commented BOOLEAN, delta INTEGER)
+    RETURNS VOID AS
+'
+    DECLARE
+        approved BOOLEAN := task.task_status = ''APPROVED'';
+        critical BOOLEAN := task.priority = ''CRITICAL'';
+    BEGIN
+        IF task.assigned_to IS NULL THEN
+            RETURN;
+        END IF;
+        INSERT INTO task_list.task_daily_stats AS s
+            (project_id, team_id, user_id, stat_date, created_count, approved_count, on_time_count, critical_count,
+             critical_approved_count, bug_count, bug_approved_count, duration_count, duration_seconds)
+        SELECT p.id,
+               tm.id,
+               u.id,
+               CAST(task.created_at AS DATE),
+               delta,
+               CASE WHEN approved THEN delta ELSE 0 END,
+               CASE WHEN approved AND task.expiration_date >= task.approved_at THEN delta ELSE 0 END,
+               CASE WHEN critical THEN delta ELSE 0 END,
+               CASE WHEN critical AND approved THEN delta ELSE 0 END,
+               CASE WHEN commented THEN delta ELSE 0 END,
+               CASE WHEN commented AND approved THEN delta ELSE 0 END,
+               CASE WHEN task.approved_at IS NOT NULL THEN delta ELSE 0 END,
+               COALESCE(delta * EXTRACT(EPOCH FROM (task.approved_at - task.created_at)), 0)
+        FROM task_list.projects p, task_list.teams tm, task_list.users u
+        WHERE p.id = task.project_id
+          AND tm.id = task.team_id
+          AND u.id = task.assigned_to
+        ON CONFLICT (project_id, team_id, user_id, stat_date) DO UPDATE
+            SET created_count           = s.created_count + EXCLUDED.created_count,
+                approved_count          = s.approved_count + EXCLUDED.approved_count,
+                on_time_count           = s.on_time_count + EXCLUDED.on_time_count,
+                critical_count          = s.critical_count + EXCLUDED.critical_count,
+                critical_approved_count = s.critical_approved_count + EXCLUDED.critical_approved_count,
+                bug_count               = s.bug_count + EXCLUDED.bug_count,
+                bug_approved_count      = s.bug_approved_count + EXCLUDED.bug_approved_count,
+                duration_count          = s.duration_count + EXCLUDED.duration_count,
+                duration_seconds        = s.duration_seconds + EXCLUDED.duration_seconds;
+    END;
+' LANGUAGE plpgsql;
+
+-- Moves the contribution of a written task from its old to its new values.
+-- Deletes run before the row is removed, while the comments of the task still exist.
+CREATE OR REPLACE FUNCTION refresh_task_daily_stats()
+    RETURNS TRIGGER AS
+'
+    DECLARE
+        commented BOOLEAN;
+    BEGIN
+        IF TG_OP = ''DELETE'' THEN
+            commented := EXISTS (SELECT 1 FROM task_list.task_comments tc WHERE tc.task_id = OLD.id);
+            PERFORM task_list.apply_task_daily_stats(OLD, commented, -1);
+            RETURN OLD;
+        END IF;
+        IF TG_OP = ''UPDATE''
+            AND (OLD.project_id, OLD.team_id, OLD.assigned_to, OLD.created_at, OLD.task_status, OLD.priority,
+                 OLD.expiration_date, OLD.approved_at)
+            IS NOT DISTINCT FROM
+                (NEW.project_id, NEW.team_id, NEW.assigned_to, NEW.created_at, NEW.task_status, NEW.priority,
+                 NEW.expiration_date, NEW.approved_at) THEN
+            RETURN NULL;
+        END IF;
+        commented := EXISTS (SELECT 1 FROM task_list.task_comments tc WHERE tc.task_id = NEW.id);
+        IF TG_OP = ''UPDATE'' THEN
+            PERFORM task_list.apply_task_daily_stats(OLD, commented, -1);
+        END IF;
+        PERFORM task_list.apply_task_daily_stats(NEW, commented, 1);
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+-- Recounts a task as commented or uncommented. Tasks that are being deleted are skipped.
+CREATE OR REPLACE FUNCTION toggle_task_daily_stats_comment(commented_task_id BIGINT, commented BOOLEAN)
+    RETURNS VOID AS
+'
+    DECLARE
+        task task_list.tasks;
+    BEGIN
+        SELECT * INTO task FROM task_list.tasks t WHERE t.id = commented_task_id;
+        IF FOUND THEN
+            PERFORM task_list.apply_task_daily_stats(task, NOT commented, -1);
+            PERFORM task_list.apply_task_daily_stats(task, commented, 1);
+        END IF;
+    END;
+' LANGUAGE plpgsql;
+
+-- Counts a task as a bug when it receives its first comment and stops when its last comment is removed.
+-- First comments written concurrently to the same task can count it twice until the next rebuild.
+CREATE OR REPLACE FUNCTION refresh_comment_task_daily_stats()
+    RETURNS TRIGGER AS
+'
+    BEGIN
+        IF TG_OP = ''UPDATE'' AND OLD.task_id IS NOT DISTINCT FROM NEW.task_id THEN
+            RETURN NULL;
+        END IF;
+        IF TG_OP IN (''INSERT'', ''UPDATE'')
+            AND (SELECT COUNT(*) FROM task_list.task_comments tc WHERE tc.task_id = NEW.task_id) = 1 THEN
+            PERFORM task_list.toggle_task_daily_stats_comment(NEW.task_id, TRUE);
+        END IF;
+        IF TG_OP IN (''DELETE'', ''UPDATE'')
+            AND NOT EXISTS (SELECT 1 FROM task_list.task_comments tc WHERE tc.task_id = OLD.task_id) THEN
+            PERFORM task_list.toggle_task_daily_stats_comment(OLD.task_id, FALSE);
+        END IF;
+        RETURN NULL;
+    END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER task_daily_stats_write_trigger
+    AFTER INSERT OR UPDATE
+    ON task_list.tasks
+    FOR EACH ROW
+EXECUTE FUNCTION refresh_task_daily_stats();
+
+CREATE TRIGGER task_daily_stats_delete_trigger
+    BEFORE DELETE
+    ON task_list.tasks
+    FOR EACH ROW
+EXECUTE FUNCTION refresh_task_daily_stats();
+
+CREATE TRIGGER comment_task_daily_stats_trigger
+    AFTER INSERT OR UPDATE OF task_id OR DELETE
+    ON task_list.task_comments
+    FOR EACH ROW
+EXECUTE FUNCTION refresh_comment_task_daily_stats();
@@ -1,16 +1,32 @@
 package com.example.taskmanagerproject.controllers;
 
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_BACKFILL_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_BACKFILL_SUCCESS_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_DLT_REDRIVE_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_DLT_REDRIVE_SUCCESS_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_STATS_REBUILD_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.ACHIEVEMENT_STATS_REBUILD_SUCCESS_MESSAGE;
 import static com.example.taskmanagerproject.utils.MessageUtil.DATA_INITIALIZATION_FAIL_MESSAGE;
 import static com.example.taskmanagerproject.utils.MessageUtil.DATA_INITIALIZATION_SUCCESS_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.TASK_DAILY_STATS_REBUILD_FAIL_MESSAGE;
+import static com.example.taskmanagerproject.utils.MessageUtil.TASK_DAILY_STATS_REBUILD_SUCCESS_MESSAGE;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.taskmanagerproject.configurations.initializers.DataInitializer;
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
+import com.example.taskmanagerproject.services.AchievementRetryService;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,6 +51,9 @@ class DataInitializationControllerTest {
   @MockBean
   private DataInitializer dataInitializer;
 
+  @MockBean
+  private AchievementRetryService achievementRetryService;
+
   @BeforeEach
   void setUp() {
     mockMvc = MockMvcBuilders
@@ -148,4 +167,190 @@ class DataInitializationControllerTest {
       verifyNoMoreInteractions(dataInitializer);
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("Rebuild Achievement Stats Tests")
+  class RebuildAchievementStatsTests {
+
+    @Test
+    void shouldReturn200AndSuccessMessage() throws Exception {
+      doNothing().when(dataInitializer).rebuildAchievementStats();
+
+      mockMvc.perform(post("/api/v2/data-initialization/rebuild-achievement-stats"))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+          .andExpect(content().string(ACHIEVEMENT_STATS_REBUILD_SUCCESS_MESSAGE));
+
+      verify(dataInitializer).rebuildAchievementStats();
+      verifyNoMoreInteractions(dataInitializer);
+    }
+
+    @Test
+    void shouldReturn500WhenRebuildFails() throws Exception {
+      doThrow(new RuntimeException("Rebuild failed")).when(dataInitializer).rebuildAchievementStats();
+
+      mockMvc.perform(post("/api/v2/data-initialization/rebuild-achievement-stats"))
+          .andExpect(status().isInternalServerError())
+          .andExpect(content().string(ACHIEVEMENT_STATS_REBUILD_FAIL_MESSAGE));
+
+      verify(dataInitializer).rebuildAchievementStats();
+      verifyNoMoreInteractions(dataInitializer);
+    }
+  }
+
+  @Nested
+  @DisplayName("Rebuild Task Daily Stats Tests")
+  class RebuildTaskDailyStatsTests {
+
+    @Test
+    void shouldReturn200AndSuccessMessage() throws Exception {
+      doNothing().when(dataInitializer).rebuildTaskDailyStats();
+
+      mockMvc.perform(post("/api/v2/data-initialization/rebuild-task-daily-stats"))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+          .andExpect(content().string(TASK_DAILY_STATS_REBUILD_SUCCESS_MESSAGE));
+
+      verify(dataInitializer).rebuildTaskDailyStats();
+      verifyNoMoreInteractions(dataInitializer);
+    }
+
+    @Test
+    void shouldReturn500WhenRebuildFails() throws Exception {
+      doThrow(new RuntimeException("Rebuild failed")).when(dataInitializer).rebuildTaskDailyStats();
+
+      mockMvc.perform(post("/api/v2/data-initialization/rebuild-task-daily-stats"))
+          .andExpect(status().isInternalServerError())
+          .andExpect(content().string(TASK_DAILY_STATS_REBUILD_FAIL_MESSAGE));
+
+      verify(dataInitializer).rebuildTaskDailyStats();
+      verifyNoMoreInteractions(dataInitializer);
+    }
+  }
+
+  @Nested
+  @DisplayName("Backfill Achievements Tests")
+  class BackfillAchievementsTests {
+
+    @Test
+    void shouldResumeByDefaultAndReturn200() throws Exception {
+      doNothing().when(dataInitializer).backfillAchievements(true);
+
+      mockMvc.perform(post("/api/v2/data-initialization/backfill-achievements"))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+          .andExpect(content().string(ACHIEVEMENT_BACKFILL_SUCCESS_MESSAGE));
+
+      verify(dataInitializer).backfillAchievements(true);
+      verifyNoMoreInteractions(dataInitializer);
+    }
+
+    @Test
+    void shouldStartOverWhenResumeIsDisabled() throws Exception {
+      doNothing().when(dataInitializer).backfillAchievements(false);
+
+      mockMvc.perform(post("/api/v2/data-initialization/backfill-achievements").param("resume", "false"))
+          .andExpect(status().isOk())
+          .andExpect(content().string(ACHIEVEMENT_BACKFILL_SUCCESS_MESSAGE));
+
+      verify(dataInitializer).backfillAchievements(false);
+      verifyNoMoreInteractions(dataInitializer);
+    }
+
+    @Test
+    void shouldReturn500WhenBackfillFails() throws Exception {
+      doThrow(new RuntimeException("Backfill failed")).when(dataInitializer).backfillAchievements(true);
+
+      mockMvc.perform(post("/api/v2/data-initialization/backfill-achievements"))
+          .andExpect(status().isInternalServerError())
+          .andExpect(content().string(ACHIEVEMENT_BACKFILL_FAIL_MESSAGE));
+
+      verify(dataInitializer).backfillAchievements(true);
+      verifyNoMoreInteractions(dataInitializer);
+    }
+
+    @Test
+    void shouldReturnProgress() throws Exception {
+      LocalDateTime startedAt = LocalDateTime.of(2025, 3, 14, 12, 0);
+      when(dataInitializer.getAchievementBackfillProgress())
+          .thenReturn(Optional.of(new AchievementBackfillProgress(5, 2, 3, 120, 40, startedAt, startedAt, null)));
+
+      mockMvc.perform(get("/api/v2/data-initialization/backfill-achievements"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.lastUserId").value(5))
+          .andExpect(jsonPath("$.groupsProcessed").value(120))
+          .andExpect(jsonPath("$.achievementsAwarded").value(40));
+
+      verify(dataInitializer).getAchievementBackfillProgress();
+      verifyNoMoreInteractions(dataInitializer);
+    }
+
+    @Test
+    void shouldReturn404WhenBackfillNeverRan() throws Exception {
+      when(dataInitializer.getAchievementBackfillProgress()).thenReturn(Optional.empty());
+
+      mockMvc.perform(get("/api/v2/data-initialization/backfill-achievements"))
+          .andExpect(status().isNotFound());
+
+      verify(dataInitializer).getAchievementBackfillProgress();
+      verifyNoMoreInteractions(dataInitializer);
+    }
+  }
+
+  @Nested
+  @DisplayName("Re-drive Achievement Dead Letters Tests")
+  class RedriveAchievementDeadLettersTests {
+
+    @Test
+    void shouldReturn200AndRedrivenCount() throws Exception {
+      when(achievementRetryService.redriveDeadLetters(50)).thenReturn(12);
+
+      mockMvc.perform(post("/api/v2/data-initialization/redrive-achievement-dlt").param("batchSize", "50"))
+          .andExpect(status().isOk())
+          .andExpect(content().string(ACHIEVEMENT_DLT_REDRIVE_SUCCESS_MESSAGE + 12));
+
+      verify(achievementRetryService).redriveDeadLetters(50);
+      verifyNoMoreInteractions(achievementRetryService, dataInitializer);
+    }
+
+    @Test
+    void shouldUseDefaultBatchSize() throws Exception {
+      when(achievementRetryService.redriveDeadLetters(100)).thenReturn(0);
+
+      mockMvc.perform(post("/api/v2/data-initialization/redrive-achievement-dlt"))
+          .andExpect(status().isOk())
+          .andExpect(content().string(ACHIEVEMENT_DLT_REDRIVE_SUCCESS_MESSAGE + 0));
+
+      verify(achievementRetryService).redriveDeadLetters(100);
+      verifyNoMoreInteractions(achievementRetryService);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchSizeIsNotPositive() throws Exception {
+      mockMvc.perform(post("/api/v2/data-initialization/redrive-achievement-dlt").param("batchSize", "0"))
+          .andExpect(status().isBadRequest());
+
+      verifyNoInteractions(achievementRetryService);
+    }
+
+    @Test
+    void shouldReturn400WhenBatchSizeExceedsLimit() throws Exception {
+      mockMvc.perform(post("/api/v2/data-initialization/redrive-achievement-dlt").param("batchSize", "1001"))
+          .andExpect(status().isBadRequest());
+
+      verifyNoInteractions(achievementRetryService);
+    }
+
+    @Test
+    void shouldReturn500WhenRedriveFails() throws Exception {
+      when(achievementRetryService.redriveDeadLetters(100)).thenThrow(new IllegalStateException("broker down"));
+
+      mockMvc.perform(post("/api/v2/data-initialization/redrive-achievement-dlt"))
+          .andExpect(status().isInternalServerError())
+          .andExpect(content().string(ACHIEVEMENT_DLT_REDRIVE_FAIL_MESSAGE));
+
+      verify(achievementRetryService).redriveDeadLetters(100);
+      verifyNoMoreInteractions(achievementRetryService);
+    }
+  }
+}
@@ -1,20 +1,40 @@
 package com.example.taskmanagerproject.controllers;
 
+import static com.example.taskmanagerproject.dtos.reports.ReportType.PROJECT;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TASK_PROGRESS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TEAM;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TOP_PERFORMERS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.USER;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
 import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import com.example.taskmanagerproject.dtos.reports.ReportDataVersion;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.services.ReportCacheService;
+import com.example.taskmanagerproject.services.ReportExportService;
+import com.example.taskmanagerproject.services.ReportMetricsService;
 import com.example.taskmanagerproject.services.ReportService;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +44,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -34,9 +55,11 @@ import org.springframework.web.context.WebApplicationContext;
  * <ul>
  *   <li>User-specific reports</li>
  *   <li>Team-wide reports</li>
+ *   <li>Reports of all team members as a ZIP archive</li>
  *   <li>Project-wide reports</li>
  *   <li>Top performers within a team</li>
  *   <li>User task progress tracking</li>
+ *   <li>Metrics of every report type as JSON, NDJSON or CSV</li>
  * </ul>
  *
  * <p>Reports are generated in PDF format and delivered via HTTP responses with appropriate headers. The tests
@@ -76,6 +99,15 @@ class ReportControllerTest {
   @MockBean
   private ReportService reportService;
 
+  @MockBean
+  private ReportCacheService reportCacheService;
+
+  @MockBean
+  private ReportExportService reportExportService;
+
+  @MockBean
+  private ReportMetricsService reportMetricsService;
+
   private String username;
   private String teamName;
   private String projectName;
@@ -104,28 +136,32 @@ class ReportControllerTest {
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn200AndPdf() throws Exception {
-      when(reportService.buildUserReport(username, teamName, projectName, startDate, endDate)).thenReturn(pdfData);
+      when(reportService.buildReport(new ReportRequest(USER, username, teamName, projectName, startDate, endDate))).thenReturn(outputStream -> outputStream.write(pdfData));
 
-      mockMvc.perform(get("/api/v2/reports/user")
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/user")
           .param("username", username)
           .param("teamName", teamName)
           .param("projectName", projectName)
           .param("startDate", startDate)
           .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
           .andExpect(status().isOk())
           .andExpect(header().string(CONTENT_TYPE, APPLICATION_PDF_VALUE))
           .andExpect(header().string(CONTENT_DISPOSITION,
             is("attachment; filename=\"user_report_alice12345@gmail.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.pdf\"")))
           .andExpect(content().bytes(pdfData));
 
-      verify(reportService).buildUserReport(username, teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(USER, username, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
 
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn500ForAdminUser() throws Exception {
-      when(reportService.buildUserReport(username, teamName, projectName, startDate, endDate)).thenThrow(new RuntimeException("Report not generated for Admin"));
+      when(reportService.buildReport(new ReportRequest(USER, username, teamName, projectName, startDate, endDate))).thenThrow(new RuntimeException("Report not generated for Admin"));
 
       mockMvc.perform(get("/api/v2/reports/user")
           .param("username", username)
@@ -138,7 +174,7 @@ class ReportControllerTest {
           .andExpect(jsonPath("$.status", is("500")))
           .andExpect(jsonPath("$.error", is("Internal Server Error")));
 
-      verify(reportService).buildUserReport(username, teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(USER, username, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
   }
@@ -150,27 +186,31 @@ class ReportControllerTest {
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn200AndPdf() throws Exception {
-      when(reportService.buildTeamReport(teamName, projectName, startDate, endDate)).thenReturn(pdfData);
+      when(reportService.buildReport(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate))).thenReturn(outputStream -> outputStream.write(pdfData));
 
-      mockMvc.perform(get("/api/v2/reports/team-report")
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/team-report")
           .param("teamName", teamName)
           .param("projectName", projectName)
           .param("startDate", startDate)
           .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
           .andExpect(status().isOk())
           .andExpect(header().string(CONTENT_TYPE, APPLICATION_PDF_VALUE))
           .andExpect(header().string(CONTENT_DISPOSITION,
             is("attachment; filename=\"team_report_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.pdf\"")))
           .andExpect(content().bytes(pdfData));
 
-      verify(reportService).buildTeamReport(teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
 
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn500WhenServiceFails() throws Exception {
-      when(reportService.buildTeamReport(teamName, projectName, startDate, endDate)).thenThrow(new RuntimeException("Report generation failed"));
+      when(reportService.buildReport(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate))).thenThrow(new RuntimeException("Report generation failed"));
 
       mockMvc.perform(get("/api/v2/reports/team-report")
           .param("teamName", teamName)
@@ -182,11 +222,58 @@ class ReportControllerTest {
           .andExpect(jsonPath("$.status", is("500")))
           .andExpect(jsonPath("$.error", is("Internal Server Error")));
 
-      verify(reportService).buildTeamReport(teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
   }
 
+  @Nested
+  @DisplayName("Generate Team Member Reports Tests")
+  class GenerateTeamMemberReportsTests {
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturn200AndZip() throws Exception {
+      when(reportExportService.buildTeamMemberReports(teamName, projectName, startDate, endDate)).thenReturn(outputStream -> outputStream.write(pdfData));
+
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/team-report/members")
+          .param("teamName", teamName)
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(header().string(CONTENT_TYPE, "application/zip"))
+          .andExpect(header().string(CONTENT_DISPOSITION,
+            is("attachment; filename=\"team_member_reports_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.zip\"")))
+          .andExpect(content().bytes(pdfData));
+
+      verify(reportExportService).buildTeamMemberReports(teamName, projectName, startDate, endDate);
+      verifyNoMoreInteractions(reportExportService);
+      verifyNoInteractions(reportService);
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturn500WhenNoMemberHasMetrics() throws Exception {
+      when(reportExportService.buildTeamMemberReports(teamName, projectName, startDate, endDate)).thenThrow(new RuntimeException("No team performance metrics"));
+
+      mockMvc.perform(get("/api/v2/reports/team-report/members")
+          .param("teamName", teamName)
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate))
+          .andExpect(status().isInternalServerError())
+          .andExpect(jsonPath("$.message", is("No team performance metrics")));
+
+      verify(reportExportService).buildTeamMemberReports(teamName, projectName, startDate, endDate);
+      verifyNoMoreInteractions(reportExportService);
+    }
+  }
+
   @Nested
   @DisplayName("Generate Project Report Tests")
   class GenerateProjectReportTests {
@@ -194,26 +281,30 @@ class ReportControllerTest {
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn200AndPdf() throws Exception {
-      when(reportService.buildProjectReport(projectName, startDate, endDate)).thenReturn(pdfData);
+      when(reportService.buildReport(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate))).thenReturn(outputStream -> outputStream.write(pdfData));
 
-      mockMvc.perform(get("/api/v2/reports/project-report")
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/project-report")
           .param("projectName", projectName)
           .param("startDate", startDate)
           .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
           .andExpect(status().isOk())
           .andExpect(header().string(CONTENT_TYPE, APPLICATION_PDF_VALUE))
           .andExpect(header().string(CONTENT_DISPOSITION,
             is("attachment; filename=\"project_report_Project_Alpha_2025-01-01_2025-12-01.pdf\"")))
           .andExpect(content().bytes(pdfData));
 
-      verify(reportService).buildProjectReport(projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
 
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn500WhenServiceFails() throws Exception {
-      when(reportService.buildProjectReport(projectName, startDate, endDate)).thenThrow(new RuntimeException("Report generation failed"));
+      when(reportService.buildReport(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate))).thenThrow(new RuntimeException("Report generation failed"));
 
       mockMvc.perform(get("/api/v2/reports/project-report")
           .param("projectName", projectName)
@@ -224,7 +315,7 @@ class ReportControllerTest {
           .andExpect(jsonPath("$.status", is("500")))
           .andExpect(jsonPath("$.error", is("Internal Server Error")));
 
-      verify(reportService).buildProjectReport(projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(PROJECT, null, null, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
   }
@@ -236,27 +327,31 @@ class ReportControllerTest {
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn200AndPdf() throws Exception {
-      when(reportService.buildTopPerformersInTeamReport(teamName, projectName, startDate, endDate)).thenReturn(pdfData);
+      when(reportService.buildReport(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate))).thenReturn(outputStream -> outputStream.write(pdfData));
 
-      mockMvc.perform(get("/api/v2/reports/top-performers")
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/top-performers")
           .param("teamName", teamName)
           .param("projectName", projectName)
           .param("startDate", startDate)
           .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
           .andExpect(status().isOk())
           .andExpect(header().string(CONTENT_TYPE, APPLICATION_PDF_VALUE))
           .andExpect(header().string(CONTENT_DISPOSITION,
             is("attachment; filename=\"top_performers_report_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.pdf\"")))
           .andExpect(content().bytes(pdfData));
 
-      verify(reportService).buildTopPerformersInTeamReport(teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
 
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn500WhenServiceFails() throws Exception {
-      when(reportService.buildTopPerformersInTeamReport(teamName, projectName, startDate, endDate)).thenThrow(new RuntimeException("Report generation failed"));
+      when(reportService.buildReport(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate))).thenThrow(new RuntimeException("Report generation failed"));
 
       mockMvc.perform(get("/api/v2/reports/top-performers")
           .param("teamName", teamName)
@@ -268,7 +363,7 @@ class ReportControllerTest {
           .andExpect(jsonPath("$.status", is("500")))
           .andExpect(jsonPath("$.error", is("Internal Server Error")));
 
-      verify(reportService).buildTopPerformersInTeamReport(teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(TOP_PERFORMERS, null, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
   }
@@ -280,28 +375,32 @@ class ReportControllerTest {
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn200AndPdf() throws Exception {
-      when(reportService.buildTaskProgressReport(username, teamName, projectName, startDate, endDate)).thenReturn(pdfData);
+      when(reportService.buildReport(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate))).thenReturn(outputStream -> outputStream.write(pdfData));
 
-      mockMvc.perform(get("/api/v2/reports/task-progress")
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/task-progress")
           .param("username", username)
           .param("teamName", teamName)
           .param("projectName", projectName)
           .param("startDate", startDate)
           .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
           .andExpect(status().isOk())
           .andExpect(header().string(CONTENT_TYPE, APPLICATION_PDF_VALUE))
           .andExpect(header().string(CONTENT_DISPOSITION,
             is("attachment; filename=\"task_progress_report_alice12345@gmail.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.pdf\"")))
           .andExpect(content().bytes(pdfData));
 
-      verify(reportService).buildTaskProgressReport(username, teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
 
     @Test
     @WithMockUser(username = "user@example.com")
     void shouldReturn500ForSoleProductOwner() throws Exception {
-      when(reportService.buildTaskProgressReport(username, teamName, projectName, startDate, endDate)).thenThrow(new RuntimeException("Report not allowed for sole Product Owner"));
+      when(reportService.buildReport(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate))).thenThrow(new RuntimeException("Report not allowed for sole Product Owner"));
 
       mockMvc.perform(get("/api/v2/reports/task-progress")
           .param("username", username)
@@ -314,8 +413,162 @@ class ReportControllerTest {
           .andExpect(jsonPath("$.status", is("500")))
           .andExpect(jsonPath("$.error", is("Internal Server Error")));
 
-      verify(reportService).buildTaskProgressReport(username, teamName, projectName, startDate, endDate);
+      verify(reportService).buildReport(new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate));
       verifyNoMoreInteractions(reportService);
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("Conditional Report Tests")
+  class ConditionalReportTests {
+
+    private final ReportRequest projectRequest = new ReportRequest(PROJECT, null, null, "Project Alpha", "2025-01-01", "2025-12-01");
+    private final ReportDataVersion version = new ReportDataVersion(7L, 42L, LocalDateTime.of(2025, 6, 1, 10, 15, 30));
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturnCachedReportWithEtagAndLastModified() throws Exception {
+      when(reportCacheService.findDataVersion(projectRequest)).thenReturn(Optional.of(version));
+      when(reportCacheService.getReport(projectRequest, version)).thenReturn(outputStream -> outputStream.write(pdfData));
+
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/project-report")
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(header().string(ETAG, "W/\"7-42\""))
+          .andExpect(header().exists(LAST_MODIFIED))
+          .andExpect(content().bytes(pdfData));
+
+      verify(reportCacheService).findDataVersion(projectRequest);
+      verify(reportCacheService).getReport(projectRequest, version);
+      verifyNoMoreInteractions(reportCacheService);
+      verifyNoInteractions(reportService);
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturn304WhenClientHoldsCurrentVersion() throws Exception {
+      when(reportCacheService.findDataVersion(projectRequest)).thenReturn(Optional.of(version));
+
+      mockMvc.perform(get("/api/v2/reports/project-report")
+          .header(IF_NONE_MATCH, "W/\"7-42\"")
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string(ETAG, "W/\"7-42\""))
+          .andExpect(content().bytes(new byte[0]));
+
+      verify(reportCacheService).findDataVersion(projectRequest);
+      verifyNoMoreInteractions(reportCacheService);
+      verifyNoInteractions(reportService);
+    }
+  }
+
+  @Nested
+  @DisplayName("Generate Metrics Tests")
+  class GenerateMetricsTests {
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturn200AndCsvOfUserMetrics() throws Exception {
+      byte[] csv = "alltasks,taskscompleted\r\n10,8\r\n".getBytes(StandardCharsets.UTF_8);
+      ReportRequest userRequest = new ReportRequest(USER, username, teamName, projectName, startDate, endDate);
+      when(reportMetricsService.buildMetricsExport(userRequest, MetricsFormat.CSV)).thenReturn(outputStream -> outputStream.write(csv));
+
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/user/metrics")
+          .param("username", username)
+          .param("teamName", teamName)
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate)
+          .param("format", "CSV"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(header().string(CONTENT_TYPE, "text/csv"))
+          .andExpect(header().string(CONTENT_DISPOSITION,
+            is("attachment; filename=\"user_report_alice12345@gmail.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.csv\"")))
+          .andExpect(content().bytes(csv));
+
+      verify(reportMetricsService).buildMetricsExport(userRequest, MetricsFormat.CSV);
+      verifyNoMoreInteractions(reportMetricsService);
+      verifyNoInteractions(reportService, reportCacheService);
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldDefaultToJson() throws Exception {
+      byte[] json = "[{\"team_name\":\"Team Alpha\"}]".getBytes(StandardCharsets.UTF_8);
+      ReportRequest projectRequest = new ReportRequest(PROJECT, null, null, projectName, startDate, endDate);
+      when(reportMetricsService.buildMetricsExport(projectRequest, MetricsFormat.JSON)).thenReturn(outputStream -> outputStream.write(json));
+
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/project-report/metrics")
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(header().string(CONTENT_TYPE, "application/json"))
+          .andExpect(jsonPath("$[0].team_name", is("Team Alpha")));
+
+      verify(reportMetricsService).buildMetricsExport(projectRequest, MetricsFormat.JSON);
+      verifyNoMoreInteractions(reportMetricsService);
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturn200AndNdjsonOfTaskProgress() throws Exception {
+      byte[] ndjson = "{\"bucket\":\"2025-Jan\",\"taskCompletionRate\":75.00}\n".getBytes(StandardCharsets.UTF_8);
+      ReportRequest progressRequest = new ReportRequest(TASK_PROGRESS, username, teamName, projectName, startDate, endDate);
+      when(reportMetricsService.buildMetricsExport(progressRequest, MetricsFormat.NDJSON)).thenReturn(outputStream -> outputStream.write(ndjson));
+
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/task-progress/metrics")
+          .param("username", username)
+          .param("teamName", teamName)
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate)
+          .param("format", "NDJSON"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(header().string(CONTENT_TYPE, "application/x-ndjson"))
+          .andExpect(content().bytes(ndjson));
+
+      verify(reportMetricsService).buildMetricsExport(progressRequest, MetricsFormat.NDJSON);
+      verifyNoMoreInteractions(reportMetricsService);
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    void shouldReturn500WhenValidationFails() throws Exception {
+      ReportRequest teamRequest = new ReportRequest(TEAM, null, teamName, projectName, startDate, endDate);
+      when(reportMetricsService.buildMetricsExport(teamRequest, MetricsFormat.CSV)).thenThrow(new RuntimeException("Team not found"));
+
+      mockMvc.perform(get("/api/v2/reports/team-report/metrics")
+          .param("teamName", teamName)
+          .param("projectName", projectName)
+          .param("startDate", startDate)
+          .param("endDate", endDate)
+          .param("format", "CSV"))
+          .andExpect(status().isInternalServerError())
+          .andExpect(jsonPath("$.message", is("Team not found")));
+
+      verify(reportMetricsService).buildMetricsExport(teamRequest, MetricsFormat.CSV);
+      verifyNoMoreInteractions(reportMetricsService);
+    }
+  }
+}
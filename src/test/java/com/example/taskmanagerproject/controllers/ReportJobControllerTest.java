@@ -0,0 +1,189 @@
+package com.example.taskmanagerproject.controllers;
+
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TEAM;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.taskmanagerproject.dtos.reports.ReportJobDto;
+import com.example.taskmanagerproject.dtos.reports.ReportJobStatus;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.exceptions.RateLimitExceededException;
+import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
+import com.example.taskmanagerproject.services.ReportJobService;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for {@link ReportJobController}, covering job submission, polling and download.
+ * The job service is mocked to isolate the controller behavior.
+ */
+@WebMvcTest(controllers = ReportJobController.class)
+class ReportJobControllerTest {
+
+  private static final String REQUESTER = "user@example.com";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @MockBean
+  private ReportJobService reportJobService;
+
+  private ReportRequest teamRequest;
+  private UUID jobId;
+  private byte[] pdfData;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+      .webAppContextSetup(webApplicationContext)
+      .apply(springSecurity())
+      .build();
+    teamRequest = new ReportRequest(TEAM, null, "Team Alpha", "Project Alpha", "2025-01-01", "2025-12-01");
+    jobId = UUID.randomUUID();
+    pdfData = new byte[]{1, 2, 3};
+  }
+
+  private ReportJobDto job(ReportJobStatus status) {
+    return new ReportJobDto(jobId, status, TEAM, teamRequest.fileName(), LocalDateTime.now(), null, null);
+  }
+
+  @Nested
+  @DisplayName("Submit Report Job Tests")
+  class SubmitReportJobTests {
+
+    @Test
+    @WithMockUser(username = REQUESTER)
+    void shouldReturn202AndQueuedJob() throws Exception {
+      when(reportJobService.submit(teamRequest, REQUESTER)).thenReturn(job(ReportJobStatus.QUEUED));
+
+      mockMvc.perform(post("/api/v2/reports/jobs/team-report")
+          .param("teamName", "Team Alpha")
+          .param("projectName", "Project Alpha")
+          .param("startDate", "2025-01-01")
+          .param("endDate", "2025-12-01"))
+          .andExpect(status().isAccepted())
+          .andExpect(jsonPath("$.id", is(jobId.toString())))
+          .andExpect(jsonPath("$.status", is("QUEUED")))
+          .andExpect(jsonPath("$.fileName", is("team_report_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.pdf")));
+
+      verify(reportJobService).submit(teamRequest, REQUESTER);
+      verifyNoMoreInteractions(reportJobService);
+    }
+
+    @Test
+    @WithMockUser(username = REQUESTER)
+    void shouldReturn429WhenQueueIsFull() throws Exception {
+      when(reportJobService.submit(teamRequest, REQUESTER)).thenThrow(new RateLimitExceededException("Queue full"));
+
+      mockMvc.perform(post("/api/v2/reports/jobs/team-report")
+          .param("teamName", "Team Alpha")
+          .param("projectName", "Project Alpha")
+          .param("startDate", "2025-01-01")
+          .param("endDate", "2025-12-01"))
+          .andExpect(status().isTooManyRequests());
+
+      verify(reportJobService).submit(teamRequest, REQUESTER);
+      verifyNoMoreInteractions(reportJobService);
+    }
+  }
+
+  @Nested
+  @DisplayName("Get Report Job Tests")
+  class GetReportJobTests {
+
+    @Test
+    @WithMockUser(username = REQUESTER)
+    void shouldReturn200AndJob() throws Exception {
+      when(reportJobService.getJob(jobId, REQUESTER)).thenReturn(job(ReportJobStatus.RUNNING));
+
+      mockMvc.perform(get("/api/v2/reports/jobs/{jobId}", jobId))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.status", is("RUNNING")));
+
+      verify(reportJobService).getJob(jobId, REQUESTER);
+      verifyNoMoreInteractions(reportJobService);
+    }
+
+    @Test
+    @WithMockUser(username = REQUESTER)
+    void shouldReturn404WhenJobIsUnknown() throws Exception {
+      when(reportJobService.getJob(jobId, REQUESTER)).thenThrow(new ResourceNotFoundException("Report job not found: " + jobId));
+
+      mockMvc.perform(get("/api/v2/reports/jobs/{jobId}", jobId))
+          .andExpect(status().isNotFound());
+
+      verify(reportJobService).getJob(jobId, REQUESTER);
+      verifyNoMoreInteractions(reportJobService);
+    }
+  }
+
+  @Nested
+  @DisplayName("Download Report Tests")
+  class DownloadReportTests {
+
+    @Test
+    @WithMockUser(username = REQUESTER)
+    void shouldReturn200AndPdf() throws Exception {
+      when(reportJobService.getJob(jobId, REQUESTER)).thenReturn(job(ReportJobStatus.COMPLETED));
+      when(reportJobService.getResult(jobId, REQUESTER)).thenReturn(outputStream -> outputStream.write(pdfData));
+
+      MvcResult result = mockMvc.perform(get("/api/v2/reports/jobs/{jobId}/download", jobId))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+      mockMvc.perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(header().string(CONTENT_TYPE, APPLICATION_PDF_VALUE))
+          .andExpect(header().string(CONTENT_DISPOSITION,
+            is("attachment; filename=\"team_report_Team_Alpha_Project_Alpha_2025-01-01_2025-12-01.pdf\"")))
+          .andExpect(content().bytes(pdfData));
+
+      verify(reportJobService).getJob(jobId, REQUESTER);
+      verify(reportJobService).getResult(jobId, REQUESTER);
+      verifyNoMoreInteractions(reportJobService);
+    }
+
+    @Test
+    @WithMockUser(username = REQUESTER)
+    void shouldReturn400WhenJobHasNotCompleted() throws Exception {
+      when(reportJobService.getJob(jobId, REQUESTER)).thenReturn(job(ReportJobStatus.RUNNING));
+      when(reportJobService.getResult(jobId, REQUESTER)).thenThrow(new IllegalStateException("Report job is RUNNING"));
+
+      mockMvc.perform(get("/api/v2/reports/jobs/{jobId}/download", jobId))
+          .andExpect(status().isBadRequest());
+
+      verify(reportJobService).getJob(jobId, REQUESTER);
+      verify(reportJobService).getResult(jobId, REQUESTER);
+      verifyNoMoreInteractions(reportJobService);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package com.example.taskmanagerproject.repositories;
+
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.CRITICAL;
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.APPROVED;
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.CANCELLED;
+import static java.time.LocalDateTime.now;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import com.example.taskmanagerproject.entities.projects.Project;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.entities.tasks.TaskComment;
+import com.example.taskmanagerproject.entities.tasks.TaskHistory;
+import com.example.taskmanagerproject.entities.teams.Team;
+import com.example.taskmanagerproject.entities.users.User;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillAward;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillRow;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link AchievementBackfillRepository} class.
+ *
+ * <p>Tests cover:
+ * <ul>
+ *   <li>Streaming approved tasks with their cancellation and comment flags</li>
+ *   <li>Resuming the stream after a checkpointed group</li>
+ *   <li>Inserting awards in bulk while skipping existing ones</li>
+ *   <li>Storing and reading the job checkpoint</li>
+ * </ul>
+ * </p>
+ */
+@Testcontainers
+@DataJpaTest
+@Import(AchievementBackfillRepository.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
+    "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+public class AchievementBackfillRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private AchievementBackfillRepository achievementBackfillRepository;
+
+  private User user;
+  private Team team;
+  private Project project;
+  private Task cancelledTask;
+  private Task commentedTask;
+
+  @BeforeEach
+  void setUp() {
+    user = createUser();
+    team = createTeam(user);
+    project = createProject(user);
+
+    cancelledTask = createApprovedTask();
+    commentedTask = createApprovedTask();
+    entityManager.persist(createTaskHistory(cancelledTask));
+    entityManager.persist(createTaskComment(commentedTask));
+    entityManager.flush();
+  }
+
+  @Test
+  public void streamApprovedTasks_shouldReturnTasksWithFlags() {
+    List<AchievementBackfillRow> rows = new ArrayList<>();
+    achievementBackfillRepository.streamApprovedTasks(AchievementBackfillProgress.start(now()), 10, rows::add);
+
+    List<AchievementBackfillRow> userRows = rows.stream().filter(row -> row.userId() == user.getId()).toList();
+    assertEquals(2, userRows.size());
+    assertEquals(cancelledTask.getId(), userRows.get(0).task().getId());
+    assertTrue(userRows.get(0).cancelled());
+    assertFalse(userRows.get(0).commented());
+    assertFalse(userRows.get(1).cancelled());
+    assertTrue(userRows.get(1).commented());
+    assertEquals(team.getId(), userRows.get(0).teamId());
+    assertEquals(project.getId(), userRows.get(0).projectId());
+    assertEquals(CRITICAL, userRows.get(0).task().getPriority());
+  }
+
+  @Test
+  public void streamApprovedTasks_shouldSkipCheckpointedGroups() {
+    var progress = new AchievementBackfillProgress(user.getId(), team.getId(), project.getId(), 1, 0, now(), now(), null);
+    List<AchievementBackfillRow> rows = new ArrayList<>();
+    achievementBackfillRepository.streamApprovedTasks(progress, 10, rows::add);
+
+    assertTrue(rows.stream().noneMatch(row -> row.userId() == user.getId()));
+  }
+
+  @Test
+  public void insertAwards_shouldSkipExistingAwards() {
+    Achievement achievement = createAchievement();
+    var award = new AchievementBackfillAward(user.getId(), achievement.getId(), team.getId(), project.getId());
+
+    assertEquals(1, achievementBackfillRepository.insertAwards(List.of(award)));
+    assertEquals(0, achievementBackfillRepository.insertAwards(List.of(award)));
+    assertEquals(Set.of(achievement.getId()), achievementBackfillRepository.findAwardedAchievementIds(user.getId()));
+  }
+
+  @Test
+  public void saveProgress_shouldUpsertCheckpoint() {
+    LocalDateTime startedAt = now().withNano(0);
+    achievementBackfillRepository.saveProgress(new AchievementBackfillProgress(1, 2, 3, 4, 5, startedAt, startedAt, null));
+    achievementBackfillRepository.saveProgress(new AchievementBackfillProgress(6, 7, 8, 9, 10, startedAt, startedAt, startedAt));
+
+    AchievementBackfillProgress progress = achievementBackfillRepository.findProgress().orElseThrow();
+    assertEquals(6, progress.lastUserId());
+    assertEquals(9, progress.groupsProcessed());
+    assertEquals(10, progress.achievementsAwarded());
+    assertTrue(progress.isCompleted());
+  }
+
+  private Task createApprovedTask() {
+    Task task = new Task();
+    task.setTitle("Test Task " + System.nanoTime());
+    task.setDescription("Test description");
+    task.setCreatedAt(now().minusDays(2));
+    task.setApprovedAt(now().minusDays(1));
+    task.setExpirationDate(now());
+    task.setTaskStatus(APPROVED);
+    task.setPriority(CRITICAL);
+    task.setTeam(team);
+    task.setProject(project);
+    task.setAssignedBy(user);
+    task.setAssignedTo(user);
+    entityManager.persist(task);
+    return task;
+  }
+
+  private TaskHistory createTaskHistory(Task task) {
+    TaskHistory th = new TaskHistory();
+    th.setTask(task);
+    th.setPreviousValue(CANCELLED);
+    th.setUpdatedAt(now());
+    return th;
+  }
+
+  private TaskComment createTaskComment(Task task) {
+    TaskComment tc = new TaskComment();
+    tc.setReceiver(user);
+    tc.setSender(user);
+    tc.setTask(task);
+    tc.setMessage("Some message " + System.nanoTime());
+    tc.setSlug("task-slug-" + System.nanoTime());
+    return tc;
+  }
+
+  private Achievement createAchievement() {
+    Achievement a = new Achievement();
+    a.setTitle("Backfill Achievement " + System.nanoTime());
+    a.setDescription("Some description");
+    a.setImageUrl("https://example.com/achievement.png");
+    entityManager.persist(a);
+    entityManager.flush();
+    return a;
+  }
+
+  private User createUser() {
+    User u = new User();
+    u.setUsername("testuser" + System.nanoTime() + "@gmail.com");
+    u.setFullName("Test User");
+    u.setSlug("slug-" + System.nanoTime());
+    entityManager.persist(u);
+    return u;
+  }
+
+  private Team createTeam(User creator) {
+    Team t = new Team();
+    t.setName("My Team Name" + System.nanoTime());
+    t.setDescription("Some description");
+    t.setCreator(creator);
+    t.setCreatedAt(now());
+    entityManager.persist(t);
+    return t;
+  }
+
+  private Project createProject(User creator) {
+    Project p = new Project();
+    p.setName("My Project Name" + System.nanoTime());
+    p.setDescription("Some description");
+    p.setCreator(creator);
+    p.setCreatedAt(now());
+    entityManager.persist(p);
+    return p;
+  }
+}
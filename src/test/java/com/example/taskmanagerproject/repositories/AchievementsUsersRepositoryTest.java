@@ -32,6 +32,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
  *   <li>Deletion by composite ID and idempotency of deletion operations</li>
  *   <li>Existence checks based on user, team, project, and achievement IDs</li>
  *   <li>Retrieving all achievements linked to a specific user</li>
+ *   <li>Retrieving only the achievement IDs earned by a specific user</li>
+ *   <li>Awarding achievements while skipping the ones a user already holds</li>
  *   <li>Handling queries involving non-existent IDs gracefully</li>
  * </ul>
  * </p>
@@ -134,6 +136,37 @@ public class AchievementsUsersRepositoryTest {
     assertTrue(res.isEmpty());
   }
 
+  @Test
+  public void findAchievementIdsByUserId_shouldReturnAchievementIds() {
+    List<Long> res = achievementsUsersRepository.findAchievementIdsByUserId(userId);
+    assertEquals(List.of(achievementId), res);
+  }
+
+  @Test
+  public void insertIfAbsent_shouldSkipAchievementAlreadyHeld() {
+    int inserted = achievementsUsersRepository.insertIfAbsent(userId, achievementId, teamId, projectId);
+    assertEquals(0, inserted);
+  }
+
+  @Test
+  public void insertIfAbsent_shouldAwardNewAchievement() {
+    Achievement otherAchievement = new Achievement();
+    otherAchievement.setTitle("Other Achievement");
+    otherAchievement.setDescription("Other Description");
+    otherAchievement.setImageUrl("img_url");
+    Long otherAchievementId = entityManager.persistAndFlush(otherAchievement).getId();
+
+    int inserted = achievementsUsersRepository.insertIfAbsent(userId, otherAchievementId, teamId, projectId);
+
+    assertEquals(1, inserted);
+    assertEquals(2, achievementsUsersRepository.findAchievementIdsByUserId(userId).size());
+  }
+
+  @Test
+  public void findAchievementIdsByUserId_shouldReturnEmpty() {
+    assertTrue(achievementsUsersRepository.findAchievementIdsByUserId(999L).isEmpty());
+  }
+
   private User createUser() {
     User user = new User();
     user.setUsername("testuser" + System.nanoTime() + "@gmail.com");
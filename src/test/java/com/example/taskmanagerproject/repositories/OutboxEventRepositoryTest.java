@@ -0,0 +1,85 @@
+package com.example.taskmanagerproject.repositories;
+
+import static com.example.taskmanagerproject.entities.outbox.OutboxEventStatus.PARKED;
+import static java.time.LocalDateTime.now;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagerproject.entities.outbox.OutboxEvent;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link OutboxEventRepository} interface.
+ *
+ * <p>Tests cover:
+ * <ul>
+ *   <li>Locking pending events in insertion order</li>
+ *   <li>Limiting the locked batch to the requested size</li>
+ *   <li>Skipping parked events and events waiting for their retry</li>
+ *   <li>Handling an empty outbox gracefully</li>
+ * </ul>
+ * </p>
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
+    "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+public class OutboxEventRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @Test
+  public void lockNextBatch_shouldReturnOldestEventsUpToBatchSize() {
+    OutboxEvent first = createEvent("{\"taskId\":1}");
+    OutboxEvent second = createEvent("{\"taskId\":2}");
+    createEvent("{\"taskId\":3}");
+    entityManager.flush();
+
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(2);
+
+    assertEquals(List.of(first.getId(), second.getId()), batch.stream().map(OutboxEvent::getId).toList());
+  }
+
+  @Test
+  public void lockNextBatch_shouldSkipParkedAndNotYetDueEvents() {
+    OutboxEvent due = createEvent("{\"taskId\":1}");
+    OutboxEvent parked = createEvent("{\"taskId\":2}");
+    parked.setStatus(PARKED);
+    OutboxEvent retrying = createEvent("{\"taskId\":3}");
+    retrying.setAttempts(1);
+    retrying.setNextAttemptAt(now().plusMinutes(5));
+    entityManager.flush();
+
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(10);
+
+    assertEquals(List.of(due.getId()), batch.stream().map(OutboxEvent::getId).toList());
+  }
+
+  @Test
+  public void lockNextBatch_shouldReturnEmptyListWhenOutboxIsEmpty() {
+    assertTrue(outboxEventRepository.lockNextBatch(10).isEmpty());
+  }
+
+  private OutboxEvent createEvent(String payload) {
+    return entityManager.persist(OutboxEvent.builder()
+        .topic("achievement-topic")
+        .payload(payload)
+        .createdAt(now())
+        .nextAttemptAt(now().minusSeconds(1))
+        .build());
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanagerproject.repositories;
+
+import static java.time.LocalDateTime.now;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link ProcessedEventRepository} class.
+ *
+ * <p>Tests cover:
+ * <ul>
+ *   <li>Finding which events were already processed</li>
+ *   <li>Recording events more than once without failing</li>
+ *   <li>Deleting events older than a cutoff</li>
+ * </ul>
+ * </p>
+ */
+@Testcontainers
+@DataJpaTest
+@Import(ProcessedEventRepository.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
+    "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+public class ProcessedEventRepositoryTest {
+
+  @Autowired
+  private ProcessedEventRepository processedEventRepository;
+
+  private final UUID processedEvent = UUID.randomUUID();
+  private final UUID newEvent = UUID.randomUUID();
+
+  @Test
+  public void findProcessed_shouldReturnOnlyRecordedEvents() {
+    processedEventRepository.markProcessed(List.of(processedEvent), now());
+
+    assertEquals(Set.of(processedEvent), processedEventRepository.findProcessed(List.of(processedEvent, newEvent)));
+  }
+
+  @Test
+  public void markProcessed_shouldIgnoreRecordedEvents() {
+    processedEventRepository.markProcessed(List.of(processedEvent), now());
+    processedEventRepository.markProcessed(List.of(processedEvent, newEvent), now());
+
+    assertEquals(Set.of(processedEvent, newEvent), processedEventRepository.findProcessed(List.of(processedEvent, newEvent)));
+  }
+
+  @Test
+  public void deleteProcessedBefore_shouldDeleteExpiredEvents() {
+    processedEventRepository.markProcessed(List.of(processedEvent), now().minusDays(8));
+    processedEventRepository.markProcessed(List.of(newEvent), now());
+
+    int deleted = processedEventRepository.deleteProcessedBefore(now().minusDays(7));
+
+    assertEquals(1, deleted);
+    assertEquals(Set.of(newEvent), processedEventRepository.findProcessed(List.of(processedEvent, newEvent)));
+  }
+
+  @Test
+  public void findProcessed_shouldReturnEmptyForNoEvents() {
+    assertTrue(processedEventRepository.findProcessed(List.of()).isEmpty());
+  }
+}
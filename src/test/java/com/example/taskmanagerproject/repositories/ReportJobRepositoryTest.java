@@ -0,0 +1,93 @@
+package com.example.taskmanagerproject.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagerproject.dtos.reports.ReportJobStatus;
+import com.example.taskmanagerproject.entities.reports.ReportJob;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link ReportJobRepository} interface.
+ *
+ * <p>Tests cover:
+ * <ul>
+ *   <li>Queuing at most one job in flight per request</li>
+ *   <li>Showing jobs only to the users who submitted or joined them</li>
+ *   <li>Failing abandoned jobs and deleting expired ones</li>
+ * </ul>
+ * </p>
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
+    "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+public class ReportJobRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private ReportJobRepository reportJobRepository;
+
+  @Test
+  public void insertQueued_shouldSkipRequestWithJobInFlight() {
+    UUID first = UUID.randomUUID();
+
+    assertEquals(1, insertQueued(first, "hash", 900));
+    assertEquals(0, insertQueued(UUID.randomUUID(), "hash", 900));
+    assertEquals(first, reportJobRepository.findInFlightByRequestHash("hash").orElseThrow().getId());
+  }
+
+  @Test
+  public void insertQueued_shouldQueueRequestAgainOnceItsJobFinished() {
+    UUID first = UUID.randomUUID();
+    insertQueued(first, "hash", 900);
+    reportJobRepository.finish(first, ReportJobStatus.COMPLETED.name(), null, 3600);
+
+    assertEquals(1, insertQueued(UUID.randomUUID(), "hash", 900));
+  }
+
+  @Test
+  public void findByIdAndRequester_shouldReturnJobOnlyToItsRequesters() {
+    UUID jobId = UUID.randomUUID();
+    insertQueued(jobId, "hash", 900);
+    reportJobRepository.addRequester(jobId, "alice");
+    reportJobRepository.addRequester(jobId, "alice");
+
+    assertTrue(reportJobRepository.findByIdAndRequester(jobId, "alice").isPresent());
+    assertTrue(reportJobRepository.findByIdAndRequester(jobId, "mallory").isEmpty());
+  }
+
+  @Test
+  public void failAbandoned_shouldFailExpiredJobsInFlightAndLetThemExpire() {
+    UUID abandoned = UUID.randomUUID();
+    insertQueued(abandoned, "hash", 0);
+
+    assertTrue(reportJobRepository.findInFlightByRequestHash("hash").isEmpty());
+    assertEquals(1, reportJobRepository.failAbandoned(0));
+    entityManager.clear();
+    assertEquals(ReportJobStatus.FAILED, reportJobRepository.findById(abandoned).orElseThrow().getStatus());
+
+    assertEquals(List.of("reports/" + abandoned + ".pdf"), reportJobRepository.findExpiredObjectKeys());
+    assertEquals(1, reportJobRepository.deleteExpired());
+    entityManager.clear();
+    assertTrue(reportJobRepository.findById(abandoned).isEmpty());
+  }
+
+  private int insertQueued(UUID jobId, String requestHash, long timeoutSeconds) {
+    return reportJobRepository.insertQueued(jobId, requestHash, "PROJECT", "project_report.pdf",
+        "reports/" + jobId + ".pdf", timeoutSeconds);
+  }
+}
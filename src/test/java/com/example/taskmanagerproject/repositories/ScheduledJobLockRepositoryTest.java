@@ -0,0 +1,62 @@
+package com.example.taskmanagerproject.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link ScheduledJobLockRepository} class.
+ *
+ * <p>Tests cover:
+ * <ul>
+ *   <li>Taking a free lease and refusing a held one</li>
+ *   <li>Keeping a released lease for its minimum hold time</li>
+ *   <li>Taking over a released lease without a minimum hold time</li>
+ * </ul>
+ * </p>
+ */
+@Testcontainers
+@DataJpaTest
+@Import(ScheduledJobLockRepository.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
+    "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+public class ScheduledJobLockRepositoryTest {
+
+  private static final String JOB = "test-job";
+
+  @Autowired
+  private ScheduledJobLockRepository scheduledJobLockRepository;
+
+  @Test
+  public void tryLock_shouldRefuseLeaseHeldByAnotherNode() {
+    assertTrue(scheduledJobLockRepository.tryLock(JOB, "node-1", Duration.ofHours(1)));
+    assertFalse(scheduledJobLockRepository.tryLock(JOB, "node-2", Duration.ofHours(1)));
+  }
+
+  @Test
+  public void unlock_shouldKeepLeaseForItsMinimumHoldTime() {
+    scheduledJobLockRepository.tryLock(JOB, "node-1", Duration.ofHours(1));
+    scheduledJobLockRepository.unlock(JOB, "node-1", Duration.ofMinutes(5));
+
+    assertFalse(scheduledJobLockRepository.tryLock(JOB, "node-2", Duration.ofHours(1)));
+  }
+
+  @Test
+  public void unlock_shouldFreeLeaseWithoutMinimumHoldTime() {
+    scheduledJobLockRepository.tryLock(JOB, "node-1", Duration.ofHours(1));
+    scheduledJobLockRepository.unlock(JOB, "node-1", Duration.ZERO);
+
+    assertTrue(scheduledJobLockRepository.tryLock(JOB, "node-2", Duration.ofHours(1)));
+  }
+}
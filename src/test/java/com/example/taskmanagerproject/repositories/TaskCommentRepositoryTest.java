@@ -1,5 +1,6 @@
 package com.example.taskmanagerproject.repositories;
 
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.APPROVED;
 import static java.time.LocalDateTime.now;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -14,6 +15,7 @@ import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.users.User;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -144,6 +146,26 @@ public class TaskCommentRepositoryTest {
     assertFalse(exists);
   }
 
+  @Test
+  public void findCommentedTaskIds_shouldReturnApprovedCommentedTasks() {
+    task.setTaskStatus(APPROVED);
+    entityManager.persist(task);
+    entityManager.flush();
+
+    Set<Long> res = taskCommentRepository.findCommentedTaskIds(receiver.getId(), task.getProject().getId(), task.getTeam().getId());
+    assertEquals(Set.of(taskId), res);
+  }
+
+  @Test
+  public void findCommentedTaskIds_shouldReturnEmptyForOtherUser() {
+    task.setTaskStatus(APPROVED);
+    entityManager.persist(task);
+    entityManager.flush();
+
+    Set<Long> res = taskCommentRepository.findCommentedTaskIds(userId, task.getProject().getId(), task.getTeam().getId());
+    assertTrue(res.isEmpty());
+  }
+
   @Test
   public void findDistinctTaskIdBySlug_shouldReturnTaskId() {
     Long res = taskCommentRepository.findDistinctTaskIdBySlug(taskSlug);
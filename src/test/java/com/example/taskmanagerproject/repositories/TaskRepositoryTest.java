@@ -9,6 +9,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.example.taskmanagerproject.dtos.reports.CompletionRate;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
 import com.example.taskmanagerproject.entities.projects.Project;
 import com.example.taskmanagerproject.entities.projects.ProjectTeam;
 import com.example.taskmanagerproject.entities.projects.ProjectTeamId;
@@ -19,15 +24,18 @@ import com.example.taskmanagerproject.entities.tasks.TaskHistory;
 import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.teams.TeamUser;
 import com.example.taskmanagerproject.entities.users.User;
-import java.math.BigDecimal;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,15 +43,18 @@ import org.springframework.test.context.TestPropertySource;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 /**
- * Integration tests for the {@link TaskRepository} interface.
+ * Integration tests for the {@link TaskRepository} interface and the report queries of {@link ReportMetricsRepository}.
  *
  * <p>Tests cover:
  * <ul>
- *   <li>Retrieving task metrics by assigned user, including edge cases with no tasks</li>
+ *   <li>Retrieving task metrics by assigned user and by team member, including edge cases with no tasks</li>
  *   <li>Getting top performer metrics by team and project</li>
  *   <li>Fetching project metrics by project name</li>
  *   <li>Retrieving all team member metrics by team and project</li>
- *   <li>Obtaining daily and monthly task completion rates</li>
+ *   <li>Obtaining task completion rates grouped by day, week or month</li>
+ *   <li>Keeping the daily task statistics current on task and comment writes, and rebuilding them</li>
+ *   <li>Versioning the project data on task and team member writes, and compacting the change log</li>
+ *   <li>Streaming the report queries through a JDBC cursor</li>
  *   <li>Finding tasks assigned to or assigned by a user, including pagination and empty results</li>
  *   <li>Getting all completed tasks assigned to a user</li>
  *   <li>Finding random approved tasks for user by team and project</li>
@@ -54,6 +65,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
  */
 @Testcontainers
 @DataJpaTest
+@Import({TaskDailyStatsRepository.class, ReportMetricsRepository.class, ProjectDataVersionRepository.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @TestPropertySource(properties = {
     "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
@@ -67,6 +79,15 @@ public class TaskRepositoryTest {
   @Autowired
   private TaskRepository taskRepository;
 
+  @Autowired
+  private TaskDailyStatsRepository taskDailyStatsRepository;
+
+  @Autowired
+  private ReportMetricsRepository reportMetricsRepository;
+
+  @Autowired
+  private ProjectDataVersionRepository projectDataVersionRepository;
+
   private Task task;
 
   private Long firstUserId;
@@ -124,116 +145,222 @@ public class TaskRepositoryTest {
   }
 
   @Test
-  public void getTaskMetricsByAssignedUser_shouldReturnMetrics() {
-    List<Object[]> res = taskRepository.getTaskMetricsByAssignedUser(firstUserId, startDate, endDate, projectName, teamName);
+  public void findUserMetrics_shouldReturnMetrics() {
+    List<UserMetrics> res = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName);
     assertEquals(1, res.size());
-    Object[] metrics = res.get(0);
-    assertEquals(projectId, metrics[0]);
-    assertEquals(teamId, metrics[1]);
-    assertEquals("MEMBER", metrics[2]);
-    assertEquals(1L, metrics[3]); // allTasks
-    assertEquals(1L, metrics[4]); // tasksCompleted
-    assertEquals(100.0, ((BigDecimal) metrics[5]).doubleValue(), 0.01); // taskCompletionRate
-    assertEquals(1L, metrics[6]); // onTimeTasks
-    assertEquals(1L, metrics[7]); // allBugs
-    assertEquals(1L, metrics[8]); // bugFixesResolved
-    assertEquals(1L, metrics[9]); // allCriticalTasks
-    assertEquals(1L, metrics[10]); // criticalTasksSolved
+    UserMetrics metrics = res.get(0);
+    assertEquals(projectId.longValue(), metrics.projectId());
+    assertEquals(teamId.longValue(), metrics.teamId());
+    assertEquals("MEMBER", metrics.role());
+    assertEquals(1L, metrics.allTasks());
+    assertEquals(1L, metrics.tasksCompleted());
+    assertEquals(100.0, metrics.taskCompletionRate(), 0.01);
+    assertEquals(1L, metrics.onTimeTasks());
+    assertEquals(1L, metrics.allBugs());
+    assertEquals(1L, metrics.bugFixesResolved());
+    assertEquals(1L, metrics.allCriticalTasks());
+    assertEquals(1L, metrics.criticalTasksSolved());
+    assertEquals(firstUserId.longValue(), metrics.userId());
   }
 
   @Test
-  public void getTaskMetricsByAssignedUser_shouldReturnEmpty() {
-    List<Object[]> res = taskRepository.getTaskMetricsByAssignedUser(999L, startDate, endDate, projectName, teamName);
-    assertTrue(res.isEmpty());
+  public void findUserMetrics_shouldFollowTaskUpdates() {
+    task.setTaskStatus(CANCELLED);
+    task.setApprovedAt(null);
+    entityManager.flush();
+
+    UserMetrics metrics = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+    assertEquals(1L, metrics.allTasks());
+    assertEquals(0L, metrics.tasksCompleted());
+    assertEquals(0.0, metrics.taskCompletionRate(), 0.01);
+    assertEquals(0L, metrics.onTimeTasks());
+    assertEquals(1L, metrics.allBugs());
+    assertEquals(0L, metrics.bugFixesResolved());
+    assertEquals(1L, metrics.allCriticalTasks());
+    assertEquals(0L, metrics.criticalTasksSolved());
   }
 
   @Test
-  public void getTopPerformerMetricsByTeamName_shouldReturnMetrics() {
-    List<Object[]> res = taskRepository.getTopPerformerMetricsByTeamName(teamName, projectName, startDate.minusHours(1), endDate);
-    Object[] metrics = res.get(0);
-    assertEquals(firstUser.getFullName(), metrics[0]);
-    assertEquals(1L, metrics[3]); // all_tasks
-    assertEquals(1L, metrics[4]); // tasks_completed
-    assertEquals(100.0, ((BigDecimal) metrics[5]).doubleValue(), 0.01); // task_completion_rate
+  public void findUserMetrics_shouldFollowCommentRemoval() {
+    entityManager.getEntityManager().createQuery("DELETE FROM TaskComment").executeUpdate();
+    entityManager.flush();
+
+    UserMetrics metrics = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+    assertEquals(0L, metrics.allBugs());
+    assertEquals(0L, metrics.bugFixesResolved());
   }
 
   @Test
-  public void getProjectMetricsByProjectName_shouldReturnMetrics() {
-    List<Object[]> res = taskRepository.getProjectMetricsByProjectName(projectName, startDate, endDate);
-    assertEquals(1, res.size());
-    Object[] metrics = res.get(0);
-    assertEquals(teamName, metrics[0]);
-    assertEquals(0L, metrics[1]); // achievement_count
-    assertEquals(1L, metrics[2]); // total_tasks
-    assertEquals(1L, metrics[3]); // completed_tasks
-    assertEquals(1L, metrics[4]); // on_time_tasks
-    assertEquals(1L, metrics[5]); // total_critical_tasks
-    assertEquals(1L, metrics[6]); // critical_tasks_completed
-    assertEquals(1L, metrics[7]); // total_bugs
-    assertEquals(1L, metrics[8]); // bugs_completed
+  public void rebuildProject_shouldLeaveIncrementalStatsUntouched() {
+    UserMetrics incremental = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+
+    assertEquals(0, taskDailyStatsRepository.rebuildProject(projectId));
+
+    UserMetrics rebuilt = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+    assertEquals(incremental, rebuilt);
+  }
+
+  @Test
+  public void rebuildProject_shouldCorrectDriftedAndStaleRows() {
+    UserMetrics incremental = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+    entityManager.getEntityManager().createNativeQuery(
+        "UPDATE task_list.task_daily_stats SET bug_count = bug_count + 1 WHERE project_id = :projectId")
+        .setParameter("projectId", projectId)
+        .executeUpdate();
+    entityManager.getEntityManager().createNativeQuery("""
+        INSERT INTO task_list.task_daily_stats (project_id, team_id, user_id, stat_date, created_count)
+        VALUES (:projectId, :teamId, :userId, DATE '2000-01-01', 0)
+        """)
+        .setParameter("projectId", projectId)
+        .setParameter("teamId", teamId)
+        .setParameter("userId", firstUserId)
+        .executeUpdate();
+
+    assertEquals(2, taskDailyStatsRepository.rebuildProject(projectId));
+
+    UserMetrics rebuilt = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+    assertEquals(incremental, rebuilt);
+    assertTrue(taskDailyStatsRepository.findProjectIds().contains(projectId));
+  }
+
+  @Test
+  public void findByProjectName_shouldGrowWithTaskAndTeamMemberWrites() {
+    long initial = projectDataVersionRepository.findByProjectName(projectName).orElseThrow().version();
+
+    entityManager.getEntityManager().createNativeQuery("UPDATE task_list.tasks SET title = 'Renamed' WHERE id = :taskId")
+        .setParameter("taskId", taskId)
+        .executeUpdate();
+    long afterTaskWrite = projectDataVersionRepository.findByProjectName(projectName).orElseThrow().version();
+
+    entityManager.getEntityManager().createNativeQuery("UPDATE task_list.teams_users SET role_id = role_id WHERE team_id = :teamId")
+        .setParameter("teamId", teamId)
+        .executeUpdate();
+    long afterRoleWrite = projectDataVersionRepository.findByProjectName(projectName).orElseThrow().version();
+
+    assertTrue(afterTaskWrite > initial);
+    assertTrue(afterRoleWrite > afterTaskWrite);
+  }
+
+  @Test
+  public void compactChanges_shouldKeepDataVersions() {
+    projectDataVersionRepository.recordChange(projectId);
+    long version = projectDataVersionRepository.findByProjectName(projectName).orElseThrow().version();
+
+    assertEquals(1, projectDataVersionRepository.compactChanges());
+
+    assertEquals(version, projectDataVersionRepository.findByProjectName(projectName).orElseThrow().version());
+    Number rows = (Number) entityManager.getEntityManager()
+        .createNativeQuery("SELECT COUNT(*) FROM task_list.project_data_changes WHERE project_id = :projectId")
+        .setParameter("projectId", projectId)
+        .getSingleResult();
+    assertEquals(1L, rows.longValue());
   }
 
   @Test
-  public void getProjectMetricsByProjectName_shouldReturnEmpty() {
-    List<Object[]> res = taskRepository.getProjectMetricsByProjectName("NonExistent", startDate, endDate);
+  public void streamUserMetrics_shouldStreamTheRowsOfTheListQuery() {
+    UserMetrics listed = reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0);
+    List<String> columns = new ArrayList<>();
+    List<Object[]> streamed = new ArrayList<>();
+
+    reportMetricsRepository.streamUserMetrics(firstUserId, startDate, endDate, projectName, teamName, 10, new MetricsWriter() {
+      @Override
+      public void writeColumns(List<String> names) {
+        columns.addAll(names);
+      }
+
+      @Override
+      public void writeRow(Object[] row) {
+        streamed.add(row);
+      }
+
+      @Override
+      public void finish() {
+      }
+    });
+
+    assertEquals(13, columns.size());
+    assertEquals("user_role", columns.get(2));
+    assertEquals(1, streamed.size());
+    assertEquals(listed.role(), streamed.get(0)[2]);
+    assertEquals(listed.allTasks(), streamed.get(0)[3]);
+    assertEquals(listed.userId(), streamed.get(0)[12]);
+  }
+
+  @Test
+  public void findUserMetrics_shouldReturnEmpty() {
+    List<UserMetrics> res = reportMetricsRepository.findUserMetrics(999L, startDate, endDate, projectName, teamName);
     assertTrue(res.isEmpty());
   }
 
   @Test
-  public void getAllTeamMemberMetricsByTeamName_shouldReturnMetrics() {
-    List<Object[]> res = taskRepository.getAllTeamMemberMetricsByTeamName(teamName, projectName, startDate, endDate);
-    assertEquals(1, res.size());
-    Object[] metrics = res.get(0);
-    assertEquals(secondUser.getFullName(), metrics[0]);
-    assertEquals(1L, metrics[3]); // all_tasks
-    assertEquals(1L, metrics[4]); // tasks_completed
-    assertEquals(1L, metrics[5]); // onTimeTasks
-    assertEquals(100.0, ((BigDecimal) metrics[7]).doubleValue(), 0.01); // task_completion_rate
-    assertEquals(100.0, ((BigDecimal) metrics[8]).doubleValue(), 0.01); // bugFixResolutionRate
-    assertEquals(100.0, ((BigDecimal) metrics[9]).doubleValue(), 0.01); // criticalTaskResolutionRate
+  public void findTeamUserMetrics_shouldReturnMetricsOfMembersWithTasks() {
+    List<UserMetrics> res = reportMetricsRepository.findTeamUserMetrics(startDate, endDate, projectName, teamName);
+    assertEquals(List.of(reportMetricsRepository.findUserMetrics(firstUserId, startDate, endDate, projectName, teamName).get(0)), res);
   }
 
   @Test
-  public void getAllTeamMemberMetricsByTeamName_shouldHandleNoTasks() {
-    entityManager.getEntityManager().createQuery("DELETE FROM Task").executeUpdate();
-    entityManager.flush();
-    List<Object[]> res = taskRepository.getAllTeamMemberMetricsByTeamName(teamName, projectName, startDate, endDate);
-    assertEquals(1, res.size());
-    assertEquals(0L, res.get(0)[3]); // all_tasks
+  public void findTopPerformerMetrics_shouldReturnMetrics() {
+    List<TopPerformerMetrics> res = reportMetricsRepository.findTopPerformerMetrics(teamName, projectName, startDate.minusHours(1), endDate);
+    TopPerformerMetrics metrics = res.get(0);
+    assertEquals(firstUser.getFullName(), metrics.name());
+    assertEquals(1L, metrics.allTasks());
+    assertEquals(1L, metrics.tasksCompleted());
+    assertEquals(100.0, metrics.taskCompletionRate(), 0.01);
   }
 
   @Test
-  public void getDailyCompletionRates_shouldReturnRates() {
-    List<Object[]> res = taskRepository.getDailyCompletionRates(startDate.plusDays(29), endDate.minusHours(1), firstUserId, projectName, teamName);
-    assertFalse(res.isEmpty());
-    Object[] rate = res.get(res.size() - 1);
-    assertEquals(100.0, ((BigDecimal) rate[1]).doubleValue(), 0.01);
+  public void findProjectMetrics_shouldReturnMetrics() {
+    List<ProjectTeamMetrics> res = reportMetricsRepository.findProjectMetrics(projectName, startDate, endDate);
+    assertEquals(List.of(new ProjectTeamMetrics(teamName, 0L, 1L, 1L, 1L, 1L, 1L, 1L, 1L)), res);
   }
 
   @Test
-  public void getDailyCompletionRates_shouldReturnZeroRate() {
+  public void findProjectMetrics_shouldReturnEmpty() {
+    List<ProjectTeamMetrics> res = reportMetricsRepository.findProjectMetrics("NonExistent", startDate, endDate);
+    assertTrue(res.isEmpty());
+  }
+
+  @Test
+  public void findTeamMemberMetrics_shouldReturnMetrics() {
+    List<TeamMemberMetrics> res = reportMetricsRepository.findTeamMemberMetrics(teamName, projectName, startDate, endDate);
+    assertEquals(1, res.size());
+    TeamMemberMetrics metrics = res.get(0);
+    assertEquals(secondUser.getFullName(), metrics.name());
+    assertEquals(1L, metrics.allTasks());
+    assertEquals(1L, metrics.tasksCompleted());
+    assertEquals(1L, metrics.onTimeTasks());
+    assertEquals(100.0, metrics.taskCompletionRate(), 0.01);
+    assertEquals(100.0, metrics.bugFixResolutionRate(), 0.01);
+    assertEquals(100.0, metrics.criticalTaskResolutionRate(), 0.01);
+  }
+
+  @Test
+  public void findTeamMemberMetrics_shouldHandleNoTasks() {
     entityManager.getEntityManager().createQuery("DELETE FROM Task").executeUpdate();
     entityManager.flush();
-    List<Object[]> res = taskRepository.getDailyCompletionRates(startDate, endDate, firstUserId, projectName, teamName);
-    assertFalse(res.isEmpty());
-    assertEquals(0.0, ((BigDecimal) res.get(0)[1]).doubleValue(), 0.01);
+    List<TeamMemberMetrics> res = reportMetricsRepository.findTeamMemberMetrics(teamName, projectName, startDate, endDate);
+    assertEquals(1, res.size());
+    assertEquals(0L, res.get(0).allTasks());
+  }
+
+  @Test
+  public void findCompletionRates_shouldReturnDailyRates() {
+    List<CompletionRate> res = reportMetricsRepository.findCompletionRates("day", startDate, endDate, firstUserId, projectName, teamName);
+    assertEquals(List.of(new CompletionRate(task.getCreatedAt().toLocalDate(), 100.0)), res);
   }
 
   @Test
-  public void getMonthlyCompletionRates_shouldReturnRates() {
-    List<Object[]> res = taskRepository.getMonthlyCompletionRates(startDate.plusDays(29), endDate, firstUserId, projectName, teamName);
-    assertFalse(res.isEmpty());
-    Object[] rate = res.get(res.size() - 1);
-    assertEquals(100.0, ((BigDecimal) rate[1]).doubleValue(), 0.01);
+  public void findCompletionRates_shouldReturnMonthlyRates() {
+    List<CompletionRate> res = reportMetricsRepository.findCompletionRates("month", startDate, endDate, firstUserId, projectName, teamName);
+    assertEquals(List.of(new CompletionRate(task.getCreatedAt().toLocalDate().withDayOfMonth(1), 100.0)), res);
   }
 
   @Test
-  public void getMonthlyCompletionRates_shouldReturnZeroRate() {
+  public void findCompletionRates_shouldSkipBucketsWithoutTasks() {
     entityManager.getEntityManager().createQuery("DELETE FROM Task").executeUpdate();
     entityManager.flush();
-    List<Object[]> res = taskRepository.getMonthlyCompletionRates(startDate, endDate, firstUserId, projectName, teamName);
-    assertFalse(res.isEmpty());
-    assertEquals(0.0, ((BigDecimal) res.get(0)[1]).doubleValue(), 0.01);
+    List<CompletionRate> res = reportMetricsRepository.findCompletionRates("week", startDate, endDate, firstUserId, projectName, teamName);
+    assertTrue(res.isEmpty());
   }
 
   @Test
@@ -280,22 +407,6 @@ public class TaskRepositoryTest {
     assertTrue(res.isEmpty());
   }
 
-  @Test
-  public void findRandomApprovedTasksForUserByTeamAndProject_shouldReturnTasks() {
-    List<Task> res = taskRepository.findRandomApprovedTasksForUserByTeamAndProject();
-    assertEquals(1, res.size());
-    assertEquals(taskId, res.get(0).getId());
-    assertEquals(APPROVED, res.get(0).getTaskStatus());
-  }
-
-  @Test
-  public void findRandomApprovedTasksForUserByTeamAndProject_shouldReturnEmpty() {
-    entityManager.getEntityManager().createQuery("DELETE FROM Task").executeUpdate();
-    entityManager.flush();
-    List<Task> res = taskRepository.findRandomApprovedTasksForUserByTeamAndProject();
-    assertTrue(res.isEmpty());
-  }
-
   @Test
   public void findExpiringTasksForUser_shouldReturnTasks() {
     List<Task> res = taskRepository.findExpiringTasksForUser(now().minusDays(1), now().plusDays(1), projectName, teamName, firstUserId);
@@ -326,6 +437,22 @@ public class TaskRepositoryTest {
     assertFalse(res);
   }
 
+  @Test
+  public void findCancelledTaskIds_shouldReturnCancelledTasks() {
+    TaskHistory history = createTaskHistory(task);
+    entityManager.persist(history);
+    entityManager.flush();
+
+    Set<Long> res = taskRepository.findCancelledTaskIds(firstUserId, projectId, teamId);
+    assertEquals(Set.of(taskId), res);
+  }
+
+  @Test
+  public void findCancelledTaskIds_shouldReturnEmpty() {
+    Set<Long> res = taskRepository.findCancelledTaskIds(firstUserId, projectId, teamId);
+    assertTrue(res.isEmpty());
+  }
+
   private User createUser() {
     User u = new User();
     u.setUsername("testuser" + System.nanoTime() + "@gmail.com");
@@ -408,4 +535,4 @@ public class TaskRepositoryTest {
     pt.setTeam(team);
     return pt;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,257 @@
+package com.example.taskmanagerproject.repositories;
+
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.CRITICAL;
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.APPROVED;
+import static com.example.taskmanagerproject.services.impl.AchievementStatsServiceImpl.DAY_BUCKET;
+import static com.example.taskmanagerproject.services.impl.AchievementStatsServiceImpl.MONTH_BUCKET;
+import static java.time.LocalDateTime.now;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStats;
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStatsId;
+import com.example.taskmanagerproject.entities.projects.Project;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.entities.tasks.TaskComment;
+import com.example.taskmanagerproject.entities.teams.Team;
+import com.example.taskmanagerproject.entities.users.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link UserAchievementStatsRepository} interface.
+ *
+ * <p>Tests cover:
+ * <ul>
+ *   <li>Creating and incrementing counters for a user, team and project</li>
+ *   <li>Maintaining day and month approval buckets</li>
+ *   <li>Removing tasks that left APPROVED and tracking comments added after approval</li>
+ *   <li>Correcting drifted counters and buckets of a project from its approved tasks</li>
+ *   <li>Handling queries without buckets gracefully</li>
+ * </ul>
+ * </p>
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:tc:postgresql:15:///testdb?TC_INITSCRIPT=init-schema.sql",
+    "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver"
+})
+public class UserAchievementStatsRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private UserAchievementStatsRepository userAchievementStatsRepository;
+
+  private User user;
+  private Team team;
+  private Project project;
+
+  private Long userId;
+  private Long teamId;
+  private Long projectId;
+
+  @BeforeEach
+  void setUp() {
+    user = createUser();
+    userId = user.getId();
+
+    team = createTeam(user);
+    teamId = team.getId();
+
+    project = createProject(user);
+    projectId = project.getId();
+
+    entityManager.flush();
+  }
+
+  @Test
+  public void incrementApprovedTask_shouldCreateAndIncrementCounters() {
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 1, 1, 0, 1, 1, 1, 0);
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 0, 1, 1, 0, 0, 0, 1);
+    entityManager.clear();
+
+    UserAchievementStats stats = userAchievementStatsRepository.findById(new UserAchievementStatsId(userId, teamId, projectId)).orElseThrow();
+    assertEquals(2, stats.getApprovedCount());
+    assertEquals(1, stats.getBeforeDeadlineCount());
+    assertEquals(2, stats.getOnTimeCount());
+    assertEquals(1, stats.getHighPriorityCount());
+    assertEquals(1, stats.getCriticalCount());
+    assertEquals(1, stats.getCommentedCount());
+    assertEquals(1, stats.getCriticalCommentedCount());
+    assertEquals(1, stats.getLongDurationCount());
+  }
+
+  @Test
+  public void incrementBucket_shouldTrackMaximumPerBucket() {
+    LocalDate today = LocalDate.now();
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 0, 0, 0, 0, 0, 0, 0);
+    userAchievementStatsRepository.incrementBucket(userId, teamId, projectId, DAY_BUCKET, today, 1);
+    userAchievementStatsRepository.incrementBucket(userId, teamId, projectId, DAY_BUCKET, today, 1);
+    userAchievementStatsRepository.incrementBucket(userId, teamId, projectId, DAY_BUCKET, today.minusDays(1), 0);
+
+    assertEquals(2, userAchievementStatsRepository.findMaxApprovedCount(userId, teamId, projectId, DAY_BUCKET));
+    assertEquals(2, userAchievementStatsRepository.findMaxCriticalCount(userId, teamId, projectId, DAY_BUCKET));
+  }
+
+  @Test
+  public void findMaxApprovedCount_shouldReturnZeroWithoutBuckets() {
+    assertEquals(0, userAchievementStatsRepository.findMaxApprovedCount(userId, teamId, projectId, MONTH_BUCKET));
+    assertEquals(0, userAchievementStatsRepository.findMaxCriticalCount(userId, teamId, projectId, MONTH_BUCKET));
+  }
+
+  @Test
+  public void decrementApprovedTask_shouldRemoveTaskFromCountersAndBuckets() {
+    LocalDate today = LocalDate.now();
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 1, 1, 0, 1, 1, 1, 0);
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 0, 1, 1, 0, 0, 0, 1);
+    userAchievementStatsRepository.incrementBucket(userId, teamId, projectId, DAY_BUCKET, today, 1);
+    userAchievementStatsRepository.decrementApprovedTask(userId, teamId, projectId, 1, 1, 0, 1, 1, 1, 0);
+    userAchievementStatsRepository.decrementBucket(userId, teamId, projectId, DAY_BUCKET, today, 1);
+    entityManager.clear();
+
+    UserAchievementStats stats = userAchievementStatsRepository.findById(new UserAchievementStatsId(userId, teamId, projectId)).orElseThrow();
+    assertEquals(1, stats.getApprovedCount());
+    assertEquals(0, stats.getBeforeDeadlineCount());
+    assertEquals(1, stats.getOnTimeCount());
+    assertEquals(1, stats.getHighPriorityCount());
+    assertEquals(0, stats.getCriticalCount());
+    assertEquals(0, stats.getCommentedCount());
+    assertEquals(1, stats.getLongDurationCount());
+    assertEquals(0, userAchievementStatsRepository.findMaxApprovedCount(userId, teamId, projectId, DAY_BUCKET));
+  }
+
+  @Test
+  public void updateCommentedCount_shouldCountAndUncountCommentedTask() {
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 0, 0, 0, 1, 0, 0, 0);
+    userAchievementStatsRepository.updateCommentedCount(userId, teamId, projectId, 1, 1);
+    entityManager.clear();
+
+    UserAchievementStats stats = userAchievementStatsRepository.findById(new UserAchievementStatsId(userId, teamId, projectId)).orElseThrow();
+    assertEquals(1, stats.getCommentedCount());
+    assertEquals(1, stats.getCriticalCommentedCount());
+
+    userAchievementStatsRepository.updateCommentedCount(userId, teamId, projectId, -1, 1);
+    entityManager.clear();
+
+    stats = userAchievementStatsRepository.findById(new UserAchievementStatsId(userId, teamId, projectId)).orElseThrow();
+    assertEquals(0, stats.getCommentedCount());
+    assertEquals(0, stats.getCriticalCommentedCount());
+  }
+
+  @Test
+  public void rebuildProjectStats_shouldRecomputeCountersFromApprovedTasks() {
+    Task commented = createApprovedTask(now().minusDays(10), now().minusDays(1), now());
+    createApprovedTask(now().minusDays(2), now().minusDays(1), now().minusDays(2));
+    entityManager.persist(createTaskComment(commented));
+    entityManager.flush();
+
+    int statsRows = userAchievementStatsRepository.rebuildProjectStats(projectId);
+    int bucketRows = userAchievementStatsRepository.rebuildProjectBuckets(projectId);
+    entityManager.clear();
+
+    assertEquals(1, statsRows);
+    assertTrue(bucketRows >= 2);
+    UserAchievementStats stats = userAchievementStatsRepository.findById(new UserAchievementStatsId(userId, teamId, projectId)).orElseThrow();
+    assertEquals(2, stats.getApprovedCount());
+    assertEquals(1, stats.getBeforeDeadlineCount());
+    assertEquals(1, stats.getOnTimeCount());
+    assertEquals(2, stats.getCriticalCount());
+    assertEquals(1, stats.getCommentedCount());
+    assertEquals(1, stats.getCriticalCommentedCount());
+    assertEquals(1, stats.getLongDurationCount());
+    assertEquals(2, userAchievementStatsRepository.findMaxApprovedCount(userId, teamId, projectId, DAY_BUCKET));
+    assertTrue(userAchievementStatsRepository.findProjectIds().contains(projectId));
+  }
+
+  @Test
+  public void rebuildProjectStats_shouldOnlyCorrectDriftedCounters() {
+    LocalDate staleDay = LocalDate.now().minusYears(1);
+    createApprovedTask(now().minusDays(2), now().minusDays(1), now());
+    entityManager.flush();
+    userAchievementStatsRepository.rebuildProjectStats(projectId);
+    userAchievementStatsRepository.rebuildProjectBuckets(projectId);
+
+    assertEquals(0, userAchievementStatsRepository.rebuildProjectStats(projectId));
+    assertEquals(0, userAchievementStatsRepository.rebuildProjectBuckets(projectId));
+
+    userAchievementStatsRepository.incrementApprovedTask(userId, teamId, projectId, 0, 0, 0, 0, 0, 0, 0);
+    userAchievementStatsRepository.incrementBucket(userId, teamId, projectId, DAY_BUCKET, staleDay, 0);
+
+    assertEquals(1, userAchievementStatsRepository.rebuildProjectStats(projectId));
+    assertEquals(1, userAchievementStatsRepository.rebuildProjectBuckets(projectId));
+    assertEquals(1, userAchievementStatsRepository.deleteEmptyProjectBuckets(projectId));
+    entityManager.clear();
+
+    UserAchievementStats stats = userAchievementStatsRepository.findById(new UserAchievementStatsId(userId, teamId, projectId)).orElseThrow();
+    assertEquals(1, stats.getApprovedCount());
+    assertEquals(1, userAchievementStatsRepository.findMaxApprovedCount(userId, teamId, projectId, DAY_BUCKET));
+  }
+
+  private Task createApprovedTask(LocalDateTime createdAt, LocalDateTime approvedAt, LocalDateTime expirationDate) {
+    Task task = new Task();
+    task.setTitle("Test Task " + System.nanoTime());
+    task.setDescription("Test description");
+    task.setCreatedAt(createdAt);
+    task.setApprovedAt(approvedAt);
+    task.setExpirationDate(expirationDate);
+    task.setTaskStatus(APPROVED);
+    task.setPriority(CRITICAL);
+    task.setTeam(team);
+    task.setProject(project);
+    task.setAssignedBy(user);
+    task.setAssignedTo(user);
+    entityManager.persist(task);
+    return task;
+  }
+
+  private TaskComment createTaskComment(Task task) {
+    TaskComment tc = new TaskComment();
+    tc.setReceiver(user);
+    tc.setSender(user);
+    tc.setTask(task);
+    tc.setMessage("Some message " + System.nanoTime());
+    tc.setSlug("task-slug-" + System.nanoTime());
+    return tc;
+  }
+
+  private User createUser() {
+    User u = new User();
+    u.setUsername("testuser" + System.nanoTime() + "@gmail.com");
+    u.setFullName("Test User");
+    u.setSlug("slug-" + System.nanoTime());
+    entityManager.persist(u);
+    return u;
+  }
+
+  private Team createTeam(User creator) {
+    Team t = new Team();
+    t.setName("My Team Name" + System.nanoTime());
+    t.setDescription("Some description");
+    t.setCreator(creator);
+    t.setCreatedAt(now());
+    entityManager.persist(t);
+    return t;
+  }
+
+  private Project createProject(User creator) {
+    Project p = new Project();
+    p.setName("My Project Name" + System.nanoTime());
+    p.setDescription("Some description");
+    p.setCreator(creator);
+    p.setCreatedAt(now());
+    entityManager.persist(p);
+    return p;
+  }
+}
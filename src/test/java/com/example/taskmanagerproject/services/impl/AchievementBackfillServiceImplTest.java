@@ -0,0 +1,180 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.LOW;
+import static java.time.LocalDateTime.now;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementBackfillProperties;
+import com.example.taskmanagerproject.configurations.achievements.AchievementEvaluationProperties;
+import com.example.taskmanagerproject.dtos.achievements.AchievementBackfillProgress;
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.entities.teams.Team;
+import com.example.taskmanagerproject.repositories.AchievementBackfillRepository;
+import com.example.taskmanagerproject.repositories.AchievementRepository;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillAward;
+import com.example.taskmanagerproject.utils.achievements.AchievementBackfillRow;
+import com.example.taskmanagerproject.utils.achievements.AchievementCatalog;
+import com.example.taskmanagerproject.utils.achievements.AchievementRuleExecutor;
+import com.example.taskmanagerproject.utils.achievements.AchievementRuleRegistry;
+import com.example.taskmanagerproject.utils.achievements.EarnedAchievementCache;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AchievementBackfillServiceImplTest {
+
+  private static final long FIRST_MILESTONE_ID = 1L;
+  private static final long TASK_WARRIOR_ID = 2L;
+
+  @Mock
+  private AchievementRepository achievementRepository;
+
+  @Mock
+  private AchievementBackfillRepository achievementBackfillRepository;
+
+  @Mock
+  private EarnedAchievementCache earnedAchievementCache;
+
+  @Captor
+  private ArgumentCaptor<List<AchievementBackfillAward>> awards;
+
+  private AchievementBackfillServiceImpl service;
+
+  private final LocalDateTime approvedAt = now().minusDays(1);
+
+  @BeforeEach
+  void setUp() {
+    var executor = new AchievementRuleExecutor(mock(ExecutorService.class), new AchievementEvaluationProperties());
+    service = new AchievementBackfillServiceImpl(
+      new AchievementCatalog(achievementRepository, new AchievementRuleRegistry()),
+      executor,
+      earnedAchievementCache,
+      new AchievementBackfillProperties(),
+      achievementBackfillRepository,
+      mock(PlatformTransactionManager.class)
+    );
+    when(achievementRepository.findAll()).thenReturn(List.of(
+      achievement(FIRST_MILESTONE_ID, "First Milestone"),
+      achievement(TASK_WARRIOR_ID, "Task Warrior")
+    ));
+  }
+
+  @Test
+  void backfillAchievements_shouldEvaluateEachGroupAndAwardUnlockedAchievements() {
+    List<AchievementBackfillRow> rows = new ArrayList<>();
+    rows.addAll(rows(1L, 10));
+    rows.addAll(rows(2L, 3));
+    stubStream(rows);
+    when(achievementBackfillRepository.findAwardedAchievementIds(1L)).thenReturn(new HashSet<>());
+    when(achievementBackfillRepository.findAwardedAchievementIds(2L)).thenReturn(new HashSet<>());
+    when(achievementBackfillRepository.insertAwards(anyList())).thenReturn(2);
+
+    AchievementBackfillProgress progress = service.backfillAchievements(false);
+
+    verify(achievementBackfillRepository).insertAwards(awards.capture());
+    assertEquals(2, awards.getValue().size());
+    assertEquals(new AchievementBackfillAward(1L, FIRST_MILESTONE_ID, 3L, 4L), awards.getValue().get(0));
+    assertEquals(new AchievementBackfillAward(1L, TASK_WARRIOR_ID, 3L, 4L), awards.getValue().get(1));
+
+    assertEquals(2, progress.groupsProcessed());
+    assertEquals(2, progress.achievementsAwarded());
+    assertEquals(2L, progress.lastUserId());
+    assertTrue(progress.isCompleted());
+    verify(achievementBackfillRepository).saveProgress(progress);
+    verify(earnedAchievementCache).invalidateAll();
+  }
+
+  @Test
+  void backfillAchievements_shouldSkipAchievementsAlreadyEarned() {
+    stubStream(rows(1L, 10));
+    when(achievementBackfillRepository.findAwardedAchievementIds(1L))
+        .thenReturn(new HashSet<>(Set.of(FIRST_MILESTONE_ID, TASK_WARRIOR_ID)));
+
+    AchievementBackfillProgress progress = service.backfillAchievements(false);
+
+    verify(achievementBackfillRepository).insertAwards(List.of());
+    assertEquals(0, progress.achievementsAwarded());
+  }
+
+  @Test
+  void backfillAchievements_shouldResumeAfterLastCheckpoint() {
+    var checkpoint = new AchievementBackfillProgress(1L, 3L, 4L, 7, 5, now(), now(), null);
+    when(achievementBackfillRepository.findProgress()).thenReturn(Optional.of(checkpoint));
+    when(achievementBackfillRepository.findAwardedAchievementIds(1L)).thenReturn(new HashSet<>());
+    stubStream(List.of());
+
+    AchievementBackfillProgress progress = service.backfillAchievements(true);
+
+    verify(achievementBackfillRepository).streamApprovedTasks(eq(checkpoint), eq(1000), any());
+    assertEquals(7, progress.groupsProcessed());
+    assertEquals(5, progress.achievementsAwarded());
+    assertTrue(progress.isCompleted());
+  }
+
+  @Test
+  void backfillAchievements_shouldStartOverWhenLastRunCompleted() {
+    var completed = new AchievementBackfillProgress(9L, 9L, 9L, 7, 5, now(), now(), now());
+    when(achievementBackfillRepository.findProgress()).thenReturn(Optional.of(completed));
+    stubStream(List.of());
+
+    AchievementBackfillProgress progress = service.backfillAchievements(true);
+
+    assertEquals(0, progress.groupsProcessed());
+    assertEquals(0L, progress.lastUserId());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubStream(List<AchievementBackfillRow> rows) {
+    doAnswer(invocation -> {
+      rows.forEach(invocation.<Consumer<AchievementBackfillRow>>getArgument(2));
+      return null;
+    }).when(achievementBackfillRepository).streamApprovedTasks(any(), eq(1000), any(Consumer.class));
+  }
+
+  private List<AchievementBackfillRow> rows(long userId, int count) {
+    Team team = new Team();
+    team.setId(3L);
+    List<AchievementBackfillRow> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Task task = new Task();
+      task.setId(userId * 100 + i);
+      task.setTeam(team);
+      task.setPriority(LOW);
+      task.setCreatedAt(approvedAt.minusHours(2));
+      task.setApprovedAt(approvedAt);
+      task.setExpirationDate(approvedAt.plusDays(1));
+      rows.add(new AchievementBackfillRow(userId, 3L, 4L, task, false, false));
+    }
+    return rows;
+  }
+
+  private Achievement achievement(long id, String title) {
+    Achievement achievement = new Achievement();
+    achievement.setId(id);
+    achievement.setTitle(title);
+    return achievement;
+  }
+}
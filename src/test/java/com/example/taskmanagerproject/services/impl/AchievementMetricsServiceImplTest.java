@@ -13,11 +13,15 @@ import com.example.taskmanagerproject.entities.tasks.TaskPriority;
 import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.repositories.TaskCommentRepository;
 import com.example.taskmanagerproject.repositories.TaskRepository;
+import com.example.taskmanagerproject.repositories.UserAchievementStatsRepository;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +40,9 @@ class AchievementMetricsServiceImplTest {
   @Mock
   private TaskCommentRepository taskCommentRepository;
 
+  @Mock
+  private UserAchievementStatsRepository userAchievementStatsRepository;
+
   @InjectMocks
   private AchievementMetricsServiceImpl service;
 
@@ -48,7 +55,7 @@ class AchievementMetricsServiceImplTest {
 
   @BeforeEach
   void setUp() {
-    event = new KafkaTaskCompletionDto(taskId, userId, teamId, projectId);
+    event = new KafkaTaskCompletionDto(taskId, userId, teamId, projectId, UUID.randomUUID());
   }
 
   private Task createTask(LocalDateTime createdAt, LocalDateTime approvedAt, LocalDateTime expirationDate, TaskPriority taskPriority, Long teamId) {
@@ -64,6 +71,10 @@ class AchievementMetricsServiceImplTest {
     return task;
   }
 
+  private Set<Long> taskIds(List<Task> tasks) {
+    return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+  }
+
   @Test
   void countApprovedTasks_shouldReturnCorrectCountWhenMultipleTasksExist() {
     var now = LocalDateTime.now();
@@ -73,7 +84,7 @@ class AchievementMetricsServiceImplTest {
         createTask(now.minusDays(3), now, now.plusDays(5), TaskPriority.MEDIUM, teamId)
     );
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    long result = service.countApprovedTasks(event);
+    long result = service.createEvaluationContext(event).approvedCount();
     assertEquals(3, result);
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
@@ -85,7 +96,7 @@ class AchievementMetricsServiceImplTest {
         createTask(now.minusDays(1), now, now.plusDays(5), TaskPriority.MEDIUM, teamId)
     );
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    long result = service.countApprovedTasks(event);
+    long result = service.createEvaluationContext(event).approvedCount();
     assertEquals(1, result);
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
@@ -93,11 +104,31 @@ class AchievementMetricsServiceImplTest {
   @Test
   void countApprovedTasks_shouldReturnZeroWhenNoTasksExist() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    long result = service.countApprovedTasks(event);
+    long result = service.createEvaluationContext(event).approvedCount();
     assertEquals(0, result);
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
+  @Test
+  void createEvaluationContext_shouldLoadCompletedTasksOnceForAllRules() {
+    var now = LocalDateTime.now();
+    var tasks = IntStream.range(0, 12)
+        .mapToObj(i -> createTask(now.minusDays(i + 1), now, now.plusDays(5), TaskPriority.CRITICAL, teamId))
+        .toList();
+    when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
+
+    var context = service.createEvaluationContext(event);
+
+    assertEquals(12, context.approvedCount());
+    assertTrue(context.hasApprovedTasksDaily());
+    assertTrue(context.hasApprovedCriticalTaskWithin24Hours());
+    assertFalse(context.hasApprovedHighPriorityTasks());
+    assertFalse(context.hasFixedBugs());
+    assertFalse(context.hasReportedBugs());
+    verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
+  }
+
   @Test
   void hasApprovedTasksInLast30Days_shouldReturnTrueWhenEnoughRecentTasks() {
     var now = LocalDateTime.now();
@@ -111,7 +142,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksInLast30Days(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -128,7 +159,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksInLast30Days(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -145,7 +176,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksInLast30Days(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -162,14 +193,14 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksInLast30Days(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
   @Test
   void hasApprovedTasksInLast30Days_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasApprovedTasksInLast30Days(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -187,7 +218,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksInLast30Days(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -214,7 +245,7 @@ class AchievementMetricsServiceImplTest {
           teamId
         )));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksInLast30Days(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksInLast30Days());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -231,7 +262,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksBeforeDeadline(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -248,7 +279,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksBeforeDeadline(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -265,7 +296,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksBeforeDeadline(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -282,7 +313,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksBeforeDeadline(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -299,14 +330,14 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksBeforeDeadline(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
   @Test
   void hasApprovedTasksBeforeDeadline_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasApprovedTasksBeforeDeadline(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -333,7 +364,7 @@ class AchievementMetricsServiceImplTest {
           teamId
         )));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksBeforeDeadline(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksBeforeDeadline());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -350,7 +381,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedHighPriorityTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedHighPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -367,7 +398,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedHighPriorityTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedHighPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -384,7 +415,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedHighPriorityTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedHighPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -401,14 +432,14 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedHighPriorityTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedHighPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
   @Test
   void hasApprovedHighPriorityTasks_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasApprovedHighPriorityTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedHighPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -435,7 +466,7 @@ class AchievementMetricsServiceImplTest {
           teamId
         )));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedHighPriorityTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedHighPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -452,7 +483,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedCriticalPriorityTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedCriticalPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -469,7 +500,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedCriticalPriorityTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedCriticalPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -486,7 +517,7 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedCriticalPriorityTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedCriticalPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -503,14 +534,14 @@ class AchievementMetricsServiceImplTest {
         ))
         .toList();
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedCriticalPriorityTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedCriticalPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
   @Test
   void hasApprovedCriticalPriorityTasks_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasApprovedCriticalPriorityTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedCriticalPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -537,7 +568,7 @@ class AchievementMetricsServiceImplTest {
           teamId
         )));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedCriticalPriorityTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedCriticalPriorityTasks());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -557,7 +588,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksDaily(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -577,7 +608,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksDaily(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -599,14 +630,14 @@ class AchievementMetricsServiceImplTest {
       }
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksDaily(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
   @Test
   void hasApprovedTasksDaily_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasApprovedTasksDaily(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -637,7 +668,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksDaily(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -655,7 +686,7 @@ class AchievementMetricsServiceImplTest {
     // 1 task on next day (different date)
     tasks.add(createTask(targetDay, targetDay.plusDays(1).plusMinutes(1), targetDay.plusDays(6), TaskPriority.MEDIUM, teamId));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasksDaily(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -675,7 +706,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasksDaily(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasksDaily());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -691,11 +722,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskRepository.hasTaskBeenCancelled(task.getId())).thenReturn(true));
+    when(taskRepository.findCancelledTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasTasksApprovedAfterRejection(event));
+    assertTrue(service.createEvaluationContext(event).hasTasksApprovedAfterRejection());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskRepository).hasTaskBeenCancelled(task.getId()));
+    verify(taskRepository).findCancelledTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -710,11 +741,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskRepository.hasTaskBeenCancelled(task.getId())).thenReturn(true));
+    when(taskRepository.findCancelledTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasTasksApprovedAfterRejection(event));
+    assertTrue(service.createEvaluationContext(event).hasTasksApprovedAfterRejection());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskRepository).hasTaskBeenCancelled(task.getId()));
+    verify(taskRepository).findCancelledTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -729,11 +760,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskRepository.hasTaskBeenCancelled(task.getId())).thenReturn(true));
+    when(taskRepository.findCancelledTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasTasksApprovedAfterRejection(event));
+    assertFalse(service.createEvaluationContext(event).hasTasksApprovedAfterRejection());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskRepository).hasTaskBeenCancelled(task.getId()));
+    verify(taskRepository).findCancelledTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -748,17 +779,17 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskRepository.hasTaskBeenCancelled(task.getId())).thenReturn(false));
+    when(taskRepository.findCancelledTaskIds(userId, projectId, teamId)).thenReturn(Set.of());
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasTasksApprovedAfterRejection(event));
+    assertFalse(service.createEvaluationContext(event).hasTasksApprovedAfterRejection());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskRepository).hasTaskBeenCancelled(task.getId()));
+    verify(taskRepository).findCancelledTaskIds(userId, projectId, teamId);
   }
 
   @Test
   void hasTasksApprovedAfterRejection_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasTasksApprovedAfterRejection(event));
+    assertFalse(service.createEvaluationContext(event).hasTasksApprovedAfterRejection());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -787,13 +818,11 @@ class AchievementMetricsServiceImplTest {
         ))
         .forEach(tasks::add);
     // Mock cancellation status
-    IntStream.range(0, tasks.size()).forEach(i ->
-        when(taskRepository.hasTaskBeenCancelled(tasks.get(i).getId())).thenReturn(i < 10)
-    );
+    when(taskRepository.findCancelledTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks.subList(0, 10)));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasTasksApprovedAfterRejection(event));
+    assertTrue(service.createEvaluationContext(event).hasTasksApprovedAfterRejection());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskRepository).hasTaskBeenCancelled(task.getId()));
+    verify(taskRepository).findCancelledTaskIds(userId, projectId, teamId);
   }
 
 
@@ -815,7 +844,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedCriticalBugsInOneMonth(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -835,7 +864,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedCriticalBugsInOneMonth(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -855,7 +884,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasFixedCriticalBugsInOneMonth(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -875,14 +904,14 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasFixedCriticalBugsInOneMonth(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
   @Test
   void hasFixedCriticalBugsInOneMonth_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasFixedCriticalBugsInOneMonth(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -914,7 +943,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedCriticalBugsInOneMonth(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -946,7 +975,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedCriticalBugsInOneMonth(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -966,7 +995,7 @@ class AchievementMetricsServiceImplTest {
       ));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasFixedCriticalBugsInOneMonth(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedCriticalBugsInOneMonth());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -982,11 +1011,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedBugs(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1001,11 +1030,11 @@ class AchievementMetricsServiceImplTest {
             teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedBugs(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1020,11 +1049,11 @@ class AchievementMetricsServiceImplTest {
             teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasFixedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1039,17 +1068,17 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(false));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(Set.of());
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasFixedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
   void hasFixedBugs_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasFixedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasFixedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -1078,13 +1107,11 @@ class AchievementMetricsServiceImplTest {
         ))
         .forEach(tasks::add);
     // Mock comment status
-    IntStream.range(0, tasks.size()).forEach(i ->
-        when(taskCommentRepository.existsByTaskId(tasks.get(i).getId())).thenReturn(i < 100)
-    );
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks.subList(0, 100)));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasFixedBugs(event));
+    assertTrue(service.createEvaluationContext(event).hasFixedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1099,11 +1126,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasReportedBugs(event));
+    assertTrue(service.createEvaluationContext(event).hasReportedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1118,11 +1145,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasReportedBugs(event));
+    assertTrue(service.createEvaluationContext(event).hasReportedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1137,11 +1164,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasReportedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasReportedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1156,17 +1183,17 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(false));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(Set.of());
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasReportedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasReportedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
   void hasReportedBugs_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasReportedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasReportedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -1182,11 +1209,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(false));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(Set.of());
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasReportedBugs(event));
+    assertFalse(service.createEvaluationContext(event).hasReportedBugs());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1201,11 +1228,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasResolvedReviewComments(event));
+    assertTrue(service.createEvaluationContext(event).hasResolvedReviewComments());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1220,11 +1247,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasResolvedReviewComments(event));
+    assertTrue(service.createEvaluationContext(event).hasResolvedReviewComments());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1239,11 +1266,11 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(true));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasResolvedReviewComments(event));
+    assertFalse(service.createEvaluationContext(event).hasResolvedReviewComments());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
@@ -1258,17 +1285,17 @@ class AchievementMetricsServiceImplTest {
           teamId
         ))
         .toList();
-    tasks.forEach(task -> when(taskCommentRepository.existsByTaskId(task.getId())).thenReturn(false));
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(Set.of());
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasResolvedReviewComments(event));
+    assertFalse(service.createEvaluationContext(event).hasResolvedReviewComments());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
   @Test
   void hasResolvedReviewComments_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(new ArrayList<>());
-    assertFalse(service.hasResolvedReviewComments(event));
+    assertFalse(service.createEvaluationContext(event).hasResolvedReviewComments());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
   }
 
@@ -1297,13 +1324,11 @@ class AchievementMetricsServiceImplTest {
         ))
         .forEach(tasks::add);
     // Mock comment status
-    IntStream.range(0, tasks.size()).forEach(i ->
-        when(taskCommentRepository.existsByTaskId(tasks.get(i).getId())).thenReturn(i < 30)
-    );
+    when(taskCommentRepository.findCommentedTaskIds(userId, projectId, teamId)).thenReturn(taskIds(tasks.subList(0, 30)));
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasResolvedReviewComments(event));
+    assertTrue(service.createEvaluationContext(event).hasResolvedReviewComments());
     verify(taskRepository).findAllCompletedTasksAssignedToUser(userId, projectId, teamId);
-    tasks.forEach(task -> verify(taskCommentRepository).existsByTaskId(task.getId()));
+    verify(taskCommentRepository).findCommentedTaskIds(userId, projectId, teamId);
   }
 
 
@@ -1325,7 +1350,7 @@ class AchievementMetricsServiceImplTest {
       tasks.add(createTask(created, approved, approved.plusDays(1), TaskPriority.MEDIUM, teamId));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasks10PercentFaster(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasks10PercentFaster());
   }
 
   @Test
@@ -1344,7 +1369,7 @@ class AchievementMetricsServiceImplTest {
       tasks.add(createTask(created, approved, approved.plusDays(1), TaskPriority.MEDIUM, teamId));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertTrue(service.hasApprovedTasks10PercentFaster(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedTasks10PercentFaster());
   }
 
   @Test
@@ -1357,14 +1382,14 @@ class AchievementMetricsServiceImplTest {
       tasks.add(createTask(created, approved, approved.plusDays(1), TaskPriority.MEDIUM, teamId));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasks10PercentFaster(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasks10PercentFaster());
   }
 
   @Test
   void hasApprovedTasks10PercentFaster_shouldReturnFalseWhenNoTasks() {
     var tasks = new ArrayList<Task>();
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasks10PercentFaster(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasks10PercentFaster());
   }
 
   @Test
@@ -1374,7 +1399,7 @@ class AchievementMetricsServiceImplTest {
     var approved = created.plusHours(1);
     tasks.add(createTask(created, approved, approved.plusDays(1), TaskPriority.MEDIUM, teamId));
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasApprovedTasks10PercentFaster(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedTasks10PercentFaster());
   }
 
   @Test
@@ -1399,7 +1424,7 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasMaintained90PercentOnTimeApprovalRate(event));
+    assertTrue(service.createEvaluationContext(event).hasMaintained90PercentOnTimeApprovalRate());
   }
 
   @Test
@@ -1424,7 +1449,7 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasMaintained90PercentOnTimeApprovalRate(event));
+    assertFalse(service.createEvaluationContext(event).hasMaintained90PercentOnTimeApprovalRate());
   }
 
   @Test
@@ -1440,7 +1465,7 @@ class AchievementMetricsServiceImplTest {
         .toList();
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasMaintained90PercentOnTimeApprovalRate(event));
+    assertTrue(service.createEvaluationContext(event).hasMaintained90PercentOnTimeApprovalRate());
   }
 
   @Test
@@ -1456,7 +1481,7 @@ class AchievementMetricsServiceImplTest {
         .toList();
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasMaintained90PercentOnTimeApprovalRate(event));
+    assertFalse(service.createEvaluationContext(event).hasMaintained90PercentOnTimeApprovalRate());
   }
 
   @Test
@@ -1468,7 +1493,7 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(task);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedCriticalTaskWithin24Hours(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedCriticalTaskWithin24Hours());
   }
 
   @Test
@@ -1480,7 +1505,7 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(task);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedCriticalTaskWithin24Hours(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedCriticalTaskWithin24Hours());
   }
 
   @Test
@@ -1490,13 +1515,13 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(task);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasApprovedCriticalTaskWithin24Hours(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedCriticalTaskWithin24Hours());
   }
 
   @Test
   void hasApprovedCriticalTaskWithin24Hours_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(List.of());
-    assertFalse(service.hasApprovedCriticalTaskWithin24Hours(event));
+    assertFalse(service.createEvaluationContext(event).hasApprovedCriticalTaskWithin24Hours());
   }
 
   @Test
@@ -1510,7 +1535,7 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(slowCritical, nonCritical, fastCritical);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasApprovedCriticalTaskWithin24Hours(event));
+    assertTrue(service.createEvaluationContext(event).hasApprovedCriticalTaskWithin24Hours());
   }
 
   @Test
@@ -1522,7 +1547,7 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(task);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasSavedProjectByApprovingTaskJustBeforeDeadline(event));
+    assertTrue(service.createEvaluationContext(event).hasSavedProjectByApprovingTaskJustBeforeDeadline());
   }
 
   @Test
@@ -1534,13 +1559,13 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(task);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertFalse(service.hasSavedProjectByApprovingTaskJustBeforeDeadline(event));
+    assertFalse(service.createEvaluationContext(event).hasSavedProjectByApprovingTaskJustBeforeDeadline());
   }
 
   @Test
   void hasSavedProjectByApprovingTaskJustBeforeDeadline_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(List.of());
-    assertFalse(service.hasSavedProjectByApprovingTaskJustBeforeDeadline(event));
+    assertFalse(service.createEvaluationContext(event).hasSavedProjectByApprovingTaskJustBeforeDeadline());
   }
 
   @Test
@@ -1554,7 +1579,7 @@ class AchievementMetricsServiceImplTest {
     var tasks = List.of(regularTask, lateTask, edgeTask);
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(userId, projectId, teamId)).thenReturn(tasks);
-    assertTrue(service.hasSavedProjectByApprovingTaskJustBeforeDeadline(event));
+    assertTrue(service.createEvaluationContext(event).hasSavedProjectByApprovingTaskJustBeforeDeadline());
   }
 
 
@@ -1567,7 +1592,7 @@ class AchievementMetricsServiceImplTest {
       tasks.add(createTask(now, now, now.plusDays(1), TaskPriority.MEDIUM, i));
     }
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertTrue(service.hasCollaboratedWithMultipleTeams(event));
+    assertTrue(service.createEvaluationContext(event).hasCollaboratedWithMultipleTeams());
   }
 
   @Test
@@ -1579,7 +1604,7 @@ class AchievementMetricsServiceImplTest {
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
 
-    assertFalse(service.hasCollaboratedWithMultipleTeams(event));
+    assertFalse(service.createEvaluationContext(event).hasCollaboratedWithMultipleTeams());
   }
 
   @Test
@@ -1591,14 +1616,14 @@ class AchievementMetricsServiceImplTest {
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
 
-    assertFalse(service.hasCollaboratedWithMultipleTeams(event));
+    assertFalse(service.createEvaluationContext(event).hasCollaboratedWithMultipleTeams());
   }
 
   @Test
   void hasCollaboratedWithMultipleTeams_shouldReturnFalseIfNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(List.of());
 
-    assertFalse(service.hasCollaboratedWithMultipleTeams(event));
+    assertFalse(service.createEvaluationContext(event).hasCollaboratedWithMultipleTeams());
   }
 
   @Test
@@ -1620,7 +1645,7 @@ class AchievementMetricsServiceImplTest {
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
 
-    assertFalse(service.hasWorkedContinuouslyFor6Months(event));
+    assertFalse(service.createEvaluationContext(event).hasWorkedContinuouslyFor6Months());
   }
 
   @Test
@@ -1638,14 +1663,14 @@ class AchievementMetricsServiceImplTest {
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
 
-    assertFalse(service.hasWorkedContinuouslyFor6Months(event));
+    assertFalse(service.createEvaluationContext(event).hasWorkedContinuouslyFor6Months());
   }
 
   @Test
   void hasWorkedContinuouslyFor6Months_shouldReturnFalseWhenNoTasksExist() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(List.of());
 
-    assertFalse(service.hasWorkedContinuouslyFor6Months(event));
+    assertFalse(service.createEvaluationContext(event).hasWorkedContinuouslyFor6Months());
   }
 
   @Test
@@ -1667,7 +1692,7 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertTrue(service.hasCompletedLongDurationTasks(event));
+    assertTrue(service.createEvaluationContext(event).hasCompletedLongDurationTasks());
   }
 
   @Test
@@ -1689,13 +1714,13 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasCompletedLongDurationTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasCompletedLongDurationTasks());
   }
 
   @Test
   void hasCompletedLongDurationTasks_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(new ArrayList<>());
-    assertFalse(service.hasCompletedLongDurationTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasCompletedLongDurationTasks());
   }
 
   @Test
@@ -1711,13 +1736,13 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasCompletedLongDurationTasks(event));
+    assertFalse(service.createEvaluationContext(event).hasCompletedLongDurationTasks());
   }
 
   @Test
   void hasMaintained90PercentCompletionFor12Months_shouldReturnFalseWhenNoTasks() {
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(new ArrayList<>());
-    assertFalse(service.hasMaintained90PercentCompletionFor12Months(event));
+    assertFalse(service.createEvaluationContext(event).hasMaintained90PercentCompletionFor12Months());
   }
 
   @Test
@@ -1733,7 +1758,7 @@ class AchievementMetricsServiceImplTest {
     tasks.add(createTask(now.minusMonths(13).plusDays(1), now, now.plusDays(5), TaskPriority.MEDIUM, teamId));
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasMaintained90PercentCompletionFor12Months(event));
+    assertFalse(service.createEvaluationContext(event).hasMaintained90PercentCompletionFor12Months());
   }
 
   @Test
@@ -1750,7 +1775,7 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertFalse(service.hasMaintained90PercentCompletionFor12Months(event));
+    assertFalse(service.createEvaluationContext(event).hasMaintained90PercentCompletionFor12Months());
   }
 
   @Test
@@ -1763,6 +1788,6 @@ class AchievementMetricsServiceImplTest {
     }
 
     when(taskRepository.findAllCompletedTasksAssignedToUser(any(), any(), any())).thenReturn(tasks);
-    assertTrue(service.hasMaintained90PercentCompletionFor12Months(event));
+    assertTrue(service.createEvaluationContext(event).hasMaintained90PercentCompletionFor12Months());
   }
 }
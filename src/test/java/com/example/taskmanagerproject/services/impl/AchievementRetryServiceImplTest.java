@@ -0,0 +1,137 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.ACHIEVEMENT_DLT;
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.ACHIEVEMENT_RETRY_TOPIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.kafka.KafkaRetryProperties;
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class AchievementRetryServiceImplTest {
+
+  @Mock
+  private KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
+
+  @Mock
+  private ConsumerFactory<String, KafkaTaskCompletionDto> consumerFactory;
+
+  @Mock
+  private Consumer<String, KafkaTaskCompletionDto> consumer;
+
+  private final KafkaRetryProperties retryProperties = new KafkaRetryProperties();
+  private final KafkaTaskCompletionDto event = new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, UUID.randomUUID());
+  private final TopicPartition partition = new TopicPartition(ACHIEVEMENT_DLT, 0);
+
+  private SimpleMeterRegistry meterRegistry;
+  private AchievementRetryServiceImpl retryService;
+
+  @BeforeEach
+  void setUp() {
+    retryProperties.setRedrivePollTimeout(Duration.ofMillis(10));
+    meterRegistry = new SimpleMeterRegistry();
+    retryService = new AchievementRetryServiceImpl(kafkaTemplate, consumerFactory, retryProperties, meterRegistry);
+  }
+
+  @Test
+  void scheduleRetry_shouldPublishEventsKeyedByUser() {
+    when(kafkaTemplate.send(ACHIEVEMENT_RETRY_TOPIC, "2", event)).thenReturn(CompletableFuture.completedFuture(null));
+
+    retryService.scheduleRetry(List.of(event));
+
+    verify(kafkaTemplate).flush();
+    assertEquals(1.0, meterRegistry.counter("achievement.events.failed").count());
+  }
+
+  @Test
+  void scheduleRetry_shouldDoNothingForNoEvents() {
+    retryService.scheduleRetry(List.of());
+
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  @Test
+  void scheduleRetry_shouldFailWhenBrokerRejectsSend() {
+    when(kafkaTemplate.send(ACHIEVEMENT_RETRY_TOPIC, "2", event))
+        .thenReturn(CompletableFuture.<SendResult<String, KafkaTaskCompletionDto>>failedFuture(new IllegalStateException("broker down")));
+
+    assertThrows(IllegalStateException.class, () -> retryService.scheduleRetry(List.of(event)));
+    assertEquals(0.0, meterRegistry.counter("achievement.events.failed").count());
+  }
+
+  @Test
+  void redriveDeadLetters_shouldMoveBatchAndCommitOffsets() {
+    var otherEvent = new KafkaTaskCompletionDto(5L, 2L, 3L, 4L, UUID.randomUUID());
+    var skippedEvent = new KafkaTaskCompletionDto(6L, 2L, 3L, 4L, UUID.randomUUID());
+    mockDeadLetters(List.of(
+        new ConsumerRecord<>(ACHIEVEMENT_DLT, 0, 7L, "2", event),
+        new ConsumerRecord<>(ACHIEVEMENT_DLT, 0, 8L, "2", otherEvent),
+        new ConsumerRecord<>(ACHIEVEMENT_DLT, 0, 9L, "2", skippedEvent)
+    ));
+    when(kafkaTemplate.send(eq(ACHIEVEMENT_RETRY_TOPIC), eq("2"), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    int redriven = retryService.redriveDeadLetters(2);
+
+    assertEquals(2, redriven);
+    verify(kafkaTemplate).send(ACHIEVEMENT_RETRY_TOPIC, "2", event);
+    verify(kafkaTemplate).send(ACHIEVEMENT_RETRY_TOPIC, "2", otherEvent);
+    verify(kafkaTemplate, never()).send(ACHIEVEMENT_RETRY_TOPIC, "2", skippedEvent);
+    verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(9L)));
+    assertEquals(2.0, meterRegistry.counter("achievement.events.redriven").count());
+  }
+
+  @Test
+  void redriveDeadLetters_shouldNotCommitWhenPublishingFails() {
+    mockDeadLetters(List.of(new ConsumerRecord<>(ACHIEVEMENT_DLT, 0, 7L, "2", event)));
+    when(kafkaTemplate.send(ACHIEVEMENT_RETRY_TOPIC, "2", event))
+        .thenReturn(CompletableFuture.<SendResult<String, KafkaTaskCompletionDto>>failedFuture(new IllegalStateException("broker down")));
+
+    assertThrows(IllegalStateException.class, () -> retryService.redriveDeadLetters(10));
+    verify(consumer, never()).commitSync(any(Map.class));
+    verify(consumer).close();
+  }
+
+  @Test
+  void redriveDeadLetters_shouldReturnZeroWhenTopicIsEmpty() {
+    mockDeadLetters(List.of());
+
+    assertEquals(0, retryService.redriveDeadLetters(10));
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  private void mockDeadLetters(List<ConsumerRecord<String, KafkaTaskCompletionDto>> records) {
+    when(consumerFactory.createConsumer(eq("achievement-dlt-redrive"), isNull(), isNull(), any())).thenReturn(consumer);
+    when(consumer.partitionsFor(ACHIEVEMENT_DLT)).thenReturn(List.of(new PartitionInfo(ACHIEVEMENT_DLT, 0, null, null, null)));
+    when(consumer.poll(any(Duration.class)))
+        .thenReturn(new ConsumerRecords<>(Map.of(partition, records)))
+        .thenReturn(ConsumerRecords.empty());
+  }
+}
@@ -0,0 +1,216 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.CRITICAL;
+import static com.example.taskmanagerproject.entities.tasks.TaskPriority.LOW;
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.APPROVED;
+import static com.example.taskmanagerproject.entities.tasks.TaskStatus.IN_PROGRESS;
+import static com.example.taskmanagerproject.services.impl.AchievementStatsServiceImpl.DAY_BUCKET;
+import static com.example.taskmanagerproject.services.impl.AchievementStatsServiceImpl.MONTH_BUCKET;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.entities.projects.Project;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import com.example.taskmanagerproject.entities.teams.Team;
+import com.example.taskmanagerproject.entities.users.User;
+import com.example.taskmanagerproject.repositories.TaskCommentRepository;
+import com.example.taskmanagerproject.repositories.UserAchievementStatsRepository;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AchievementStatsServiceImplTest {
+
+  @Mock
+  private TaskCommentRepository taskCommentRepository;
+
+  @Mock
+  private UserAchievementStatsRepository userAchievementStatsRepository;
+
+  @Mock
+  private ScheduledJobLock scheduledJobLock;
+
+  private AchievementStatsServiceImpl service;
+
+  private final Long taskId = 1L;
+  private final Long userId = 1L;
+  private final Long teamId = 3L;
+  private final Long projectId = 2L;
+
+  private final LocalDateTime approvedAt = LocalDateTime.of(2025, 3, 14, 12, 0);
+
+  private Task task;
+
+  @BeforeEach
+  void setUp() {
+    service = new AchievementStatsServiceImpl(
+        taskCommentRepository, userAchievementStatsRepository, scheduledJobLock, mock(PlatformTransactionManager.class)
+    );
+
+    User user = new User();
+    user.setId(userId);
+    Team team = new Team();
+    team.setId(teamId);
+    Project project = new Project();
+    project.setId(projectId);
+
+    task = new Task();
+    task.setId(taskId);
+    task.setAssignedTo(user);
+    task.setTeam(team);
+    task.setProject(project);
+    task.setApprovedAt(approvedAt);
+    task.setTaskStatus(APPROVED);
+  }
+
+  @Test
+  void recordApprovedTask_shouldIncrementCountersAndBuckets() {
+    task.setPriority(CRITICAL);
+    task.setCreatedAt(approvedAt.minusDays(10));
+    task.setExpirationDate(approvedAt.plusDays(1));
+    when(taskCommentRepository.existsByTaskId(taskId)).thenReturn(true);
+
+    service.recordApprovedTask(task);
+
+    verify(userAchievementStatsRepository).incrementApprovedTask(userId, teamId, projectId, 1, 1, 0, 1, 1, 1, 1);
+    verify(userAchievementStatsRepository).incrementBucket(userId, teamId, projectId, DAY_BUCKET, approvedAt.toLocalDate(), 1);
+    verify(userAchievementStatsRepository).incrementBucket(userId, teamId, projectId, MONTH_BUCKET, approvedAt.toLocalDate().withDayOfMonth(1), 1);
+  }
+
+  @Test
+  void recordApprovedTask_shouldNotCountLateUncommentedTask() {
+    task.setPriority(LOW);
+    task.setCreatedAt(approvedAt.minusDays(2));
+    task.setExpirationDate(approvedAt.minusHours(1));
+    when(taskCommentRepository.existsByTaskId(taskId)).thenReturn(false);
+
+    service.recordApprovedTask(task);
+
+    verify(userAchievementStatsRepository).incrementApprovedTask(userId, teamId, projectId, 0, 0, 0, 0, 0, 0, 0);
+    verify(userAchievementStatsRepository).incrementBucket(userId, teamId, projectId, DAY_BUCKET, approvedAt.toLocalDate(), 0);
+  }
+
+  @Test
+  void recordApprovedTask_shouldSkipTaskWithoutApprovalDate() {
+    task.setApprovedAt(null);
+
+    service.recordApprovedTask(task);
+
+    verifyNoInteractions(taskCommentRepository, userAchievementStatsRepository);
+  }
+
+  @Test
+  void recordApprovedTask_shouldSkipTaskThatIsNotApproved() {
+    task.setTaskStatus(IN_PROGRESS);
+
+    service.recordApprovedTask(task);
+
+    verifyNoInteractions(taskCommentRepository, userAchievementStatsRepository);
+  }
+
+  @Test
+  void removeApprovedTask_shouldDecrementCountersAndBucketsItWasCountedIn() {
+    task.setPriority(CRITICAL);
+    task.setCreatedAt(approvedAt.minusDays(10));
+    task.setExpirationDate(approvedAt.plusDays(1));
+    when(taskCommentRepository.existsByTaskId(taskId)).thenReturn(true);
+
+    service.removeApprovedTask(task);
+
+    verify(userAchievementStatsRepository).decrementApprovedTask(userId, teamId, projectId, 1, 1, 0, 1, 1, 1, 1);
+    verify(userAchievementStatsRepository).decrementBucket(userId, teamId, projectId, DAY_BUCKET, approvedAt.toLocalDate(), 1);
+    verify(userAchievementStatsRepository).decrementBucket(userId, teamId, projectId, MONTH_BUCKET, approvedAt.toLocalDate().withDayOfMonth(1), 1);
+  }
+
+  @Test
+  void removeApprovedTask_shouldSkipTaskThatIsNotApproved() {
+    task.setTaskStatus(IN_PROGRESS);
+
+    service.removeApprovedTask(task);
+
+    verifyNoInteractions(taskCommentRepository, userAchievementStatsRepository);
+  }
+
+  @Test
+  void recordCommentAdded_shouldCountFirstCommentOfApprovedTask() {
+    task.setPriority(CRITICAL);
+    when(taskCommentRepository.countByTaskId(taskId)).thenReturn(1L);
+
+    service.recordCommentAdded(task);
+
+    verify(userAchievementStatsRepository).updateCommentedCount(userId, teamId, projectId, 1, 1);
+  }
+
+  @Test
+  void recordCommentAdded_shouldIgnoreFurtherComments() {
+    when(taskCommentRepository.countByTaskId(taskId)).thenReturn(2L);
+
+    service.recordCommentAdded(task);
+
+    verify(userAchievementStatsRepository, never()).updateCommentedCount(anyLong(), anyLong(), anyLong(), anyInt(), anyInt());
+  }
+
+  @Test
+  void recordCommentRemoved_shouldUncountTaskWithoutComments() {
+    task.setPriority(LOW);
+    when(taskCommentRepository.existsByTaskId(taskId)).thenReturn(false);
+
+    service.recordCommentRemoved(task);
+
+    verify(userAchievementStatsRepository).updateCommentedCount(userId, teamId, projectId, -1, 0);
+  }
+
+  @Test
+  void recordCommentRemoved_shouldKeepTaskWithRemainingComments() {
+    when(taskCommentRepository.existsByTaskId(taskId)).thenReturn(true);
+
+    service.recordCommentRemoved(task);
+
+    verify(userAchievementStatsRepository, never()).updateCommentedCount(anyLong(), anyLong(), anyLong(), anyInt(), anyInt());
+  }
+
+  @Test
+  void rebuildStats_shouldCorrectEachProject() {
+    when(userAchievementStatsRepository.findProjectIds()).thenReturn(List.of(projectId, 5L));
+    when(userAchievementStatsRepository.rebuildProjectStats(projectId)).thenReturn(4);
+    when(userAchievementStatsRepository.rebuildProjectStats(5L)).thenReturn(1);
+
+    int result = service.rebuildStats();
+
+    assertEquals(5, result);
+    verify(userAchievementStatsRepository).rebuildProjectBuckets(projectId);
+    verify(userAchievementStatsRepository).deleteEmptyProjectBuckets(projectId);
+    verify(userAchievementStatsRepository).rebuildProjectBuckets(5L);
+    verify(userAchievementStatsRepository).deleteEmptyProjectBuckets(5L);
+  }
+
+  @Test
+  void rebuildStatsOnSchedule_shouldRebuildUnderTheJobLock() {
+    when(userAchievementStatsRepository.findProjectIds()).thenReturn(List.of(projectId));
+    when(scheduledJobLock.runExclusively(eq("achievement-stats-rebuild"), any(Duration.class), any(Duration.class), any(Runnable.class)))
+        .thenAnswer(invocation -> {
+          invocation.<Runnable>getArgument(3).run();
+          return true;
+        });
+
+    service.rebuildStatsOnSchedule();
+
+    verify(userAchievementStatsRepository).rebuildProjectStats(projectId);
+  }
+}
@@ -0,0 +1,148 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.entities.outbox.OutboxEventStatus.PARKED;
+import static com.example.taskmanagerproject.entities.outbox.OutboxEventStatus.PENDING;
+import static com.example.taskmanagerproject.services.impl.OutboxServiceImpl.ACHIEVEMENT_TOPIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.outbox.OutboxProperties;
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.entities.outbox.OutboxEvent;
+import com.example.taskmanagerproject.repositories.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final OutboxProperties outboxProperties = new OutboxProperties();
+  private final KafkaTaskCompletionDto event = new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, UUID.randomUUID());
+
+  private OutboxServiceImpl outboxService;
+
+  @BeforeEach
+  void setUp() {
+    outboxProperties.setBatchSize(2);
+    outboxService = new OutboxServiceImpl(objectMapper, outboxProperties, outboxEventRepository, kafkaTemplate);
+  }
+
+  @Test
+  void enqueueAchievementEvent_shouldStoreSerializedEventKeyedByUser() throws Exception {
+    outboxService.enqueueAchievementEvent(event);
+
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxEventRepository).save(captor.capture());
+    assertEquals(ACHIEVEMENT_TOPIC, captor.getValue().getTopic());
+    assertEquals("2", captor.getValue().getMessageKey());
+    assertEquals(event, objectMapper.readValue(captor.getValue().getPayload(), KafkaTaskCompletionDto.class));
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  @Test
+  void publishNextBatch_shouldPublishAndDeleteLockedEvents() throws Exception {
+    List<OutboxEvent> batch = List.of(outboxEvent(1L), outboxEvent(2L));
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(batch);
+    when(kafkaTemplate.send(ACHIEVEMENT_TOPIC, "2", event))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    int published = outboxService.publishNextBatch();
+
+    assertEquals(2, published);
+    verify(kafkaTemplate).flush();
+    verify(outboxEventRepository).deleteAllInBatch(batch);
+    verify(outboxEventRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void publishNextBatch_shouldReturnZeroWhenOutboxIsEmpty() {
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of());
+
+    assertEquals(0, outboxService.publishNextBatch());
+    verifyNoInteractions(kafkaTemplate);
+    verify(outboxEventRepository, never()).deleteAllInBatch(any());
+  }
+
+  @Test
+  void publishNextBatch_shouldDeleteAcknowledgedEventsAndRetryFailedOnes() throws Exception {
+    OutboxEvent acknowledged = outboxEvent(1L);
+    OutboxEvent rejected = outboxEvent(2L);
+    rejected.setMessageKey("3");
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(acknowledged, rejected));
+    when(kafkaTemplate.send(ACHIEVEMENT_TOPIC, "2", event))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    when(kafkaTemplate.send(ACHIEVEMENT_TOPIC, "3", event))
+        .thenReturn(CompletableFuture.<SendResult<String, KafkaTaskCompletionDto>>failedFuture(new IllegalStateException("broker down")));
+
+    int published = outboxService.publishNextBatch();
+
+    assertEquals(1, published);
+    verify(outboxEventRepository).deleteAllInBatch(List.of(acknowledged));
+    verify(outboxEventRepository).saveAll(List.of(rejected));
+    assertEquals(1, rejected.getAttempts());
+    assertEquals(PENDING, rejected.getStatus());
+    assertEquals("IllegalStateException: broker down", rejected.getLastError());
+    assertTrue(rejected.getNextAttemptAt().isAfter(LocalDateTime.now()));
+  }
+
+  @Test
+  void publishNextBatch_shouldRecordFailureOfUnreadablePayload() throws Exception {
+    OutboxEvent unreadable = outboxEvent(1L);
+    unreadable.setPayload("not json");
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(unreadable));
+
+    assertEquals(0, outboxService.publishNextBatch());
+    verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    verify(outboxEventRepository).saveAll(List.of(unreadable));
+    assertEquals(1, unreadable.getAttempts());
+  }
+
+  @Test
+  void publishNextBatch_shouldParkEventThatRanOutOfAttempts() throws Exception {
+    outboxProperties.setMaxAttempts(3);
+    OutboxEvent failing = outboxEvent(1L);
+    failing.setAttempts(2);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(failing));
+    when(kafkaTemplate.send(ACHIEVEMENT_TOPIC, "2", event))
+        .thenReturn(CompletableFuture.<SendResult<String, KafkaTaskCompletionDto>>failedFuture(new IllegalStateException("too large")));
+
+    assertEquals(0, outboxService.publishNextBatch());
+    assertEquals(PARKED, failing.getStatus());
+    assertEquals(3, failing.getAttempts());
+    verify(outboxEventRepository).saveAll(List.of(failing));
+  }
+
+  private OutboxEvent outboxEvent(Long id) throws Exception {
+    return OutboxEvent.builder()
+        .id(id)
+        .topic(ACHIEVEMENT_TOPIC)
+        .messageKey("2")
+        .payload(objectMapper.writeValueAsString(event))
+        .createdAt(LocalDateTime.now())
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+  }
+}
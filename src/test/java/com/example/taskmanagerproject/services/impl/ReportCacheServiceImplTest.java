@@ -0,0 +1,175 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.dtos.reports.ReportType.PROJECT;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TEAM;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.reports.ReportCacheProperties;
+import com.example.taskmanagerproject.dtos.reports.ReportDataVersion;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.repositories.ProjectDataVersionRepository;
+import com.example.taskmanagerproject.services.ReportService;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCacheServiceImplTest {
+
+  private static final byte[] PDF = {'%', 'P', 'D', 'F'};
+
+  @Mock
+  private ReportService reportService;
+
+  @Mock
+  private ProjectDataVersionRepository projectDataVersionRepository;
+
+  @Mock
+  private ScheduledJobLock scheduledJobLock;
+
+  private final ReportRequest projectRequest = new ReportRequest(PROJECT, null, null, "Project Alpha", "2025-01-01", "2025-12-31");
+  private final ReportRequest teamRequest = new ReportRequest(TEAM, null, "Team Alpha", "Project Alpha", "2025-01-01", "2025-12-31");
+  private final ReportDataVersion version = new ReportDataVersion(1L, 5L, LocalDateTime.of(2025, 6, 1, 10, 0));
+
+  private ReportCacheProperties cacheProperties;
+  private SimpleMeterRegistry meterRegistry;
+  private ReportCacheServiceImpl cacheService;
+
+  @BeforeEach
+  void setUp() {
+    cacheProperties = new ReportCacheProperties();
+    meterRegistry = new SimpleMeterRegistry();
+    cacheService = new ReportCacheServiceImpl(
+        reportService, projectDataVersionRepository, cacheProperties, scheduledJobLock, meterRegistry
+    );
+  }
+
+  @Test
+  void findDataVersion_shouldLookUpVersionOfReportProject() {
+    when(projectDataVersionRepository.findByProjectName("Project Alpha")).thenReturn(Optional.of(version));
+
+    assertEquals(Optional.of(version), cacheService.findDataVersion(projectRequest));
+  }
+
+  @Test
+  void findDataVersion_shouldReturnEmptyWhenCacheIsDisabled() {
+    cacheProperties.setEnabled(false);
+
+    assertTrue(cacheService.findDataVersion(projectRequest).isEmpty());
+    verifyNoInteractions(projectDataVersionRepository);
+  }
+
+  @Test
+  void getReport_shouldRenderOncePerDataVersion() {
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+
+    assertArrayEquals(PDF, cacheService.getReport(projectRequest, version).toByteArray());
+    assertArrayEquals(PDF, cacheService.getReport(projectRequest, version).toByteArray());
+
+    verify(reportService, times(1)).buildReport(projectRequest);
+    assertEquals(1.0, meterRegistry.get("report.cache.requests").tag("result", "hit").counter().count());
+    assertEquals(1.0, meterRegistry.get("report.cache.requests").tag("result", "miss").counter().count());
+  }
+
+  @Test
+  void getReport_shouldRenderAgainOnceDataVersionChanges() {
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+    ReportDataVersion changed = new ReportDataVersion(1L, 6L, LocalDateTime.of(2025, 6, 1, 11, 0));
+
+    cacheService.getReport(projectRequest, version).toByteArray();
+    cacheService.getReport(projectRequest, changed).toByteArray();
+    cacheService.getReport(projectRequest, changed).toByteArray();
+
+    verify(reportService, times(2)).buildReport(projectRequest);
+    assertEquals(PDF.length, meterRegistry.get("report.cache.size").gauge().value());
+  }
+
+  @Test
+  void getReport_shouldEvictLeastRecentlyUsedReportsOverLimit() {
+    cacheProperties.setMaxCachedReports(1);
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+    when(reportService.buildReport(teamRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+
+    cacheService.getReport(projectRequest, version).toByteArray();
+    cacheService.getReport(teamRequest, version).toByteArray();
+    cacheService.getReport(projectRequest, version).toByteArray();
+
+    verify(reportService, times(2)).buildReport(projectRequest);
+    verify(reportService, times(1)).buildReport(teamRequest);
+  }
+
+  @Test
+  void getReport_shouldRenderConcurrentMissesOnce() {
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+
+    PdfReport first = cacheService.getReport(projectRequest, version);
+    PdfReport second = cacheService.getReport(projectRequest, version);
+    assertArrayEquals(PDF, first.toByteArray());
+    assertArrayEquals(PDF, second.toByteArray());
+
+    verify(reportService, times(1)).buildReport(projectRequest);
+    assertEquals(1.0, meterRegistry.get("report.cache.requests").tag("result", "miss").counter().count());
+    assertEquals(1.0, meterRegistry.get("report.cache.requests").tag("result", "coalesced").counter().count());
+  }
+
+  @Test
+  void getReport_shouldRenderAgainWhenSharedRenderFails() {
+    when(reportService.buildReport(projectRequest))
+        .thenReturn(outputStream -> {
+          throw new IOException("renderer failed");
+        })
+        .thenReturn(outputStream -> outputStream.write(PDF));
+
+    PdfReport first = cacheService.getReport(projectRequest, version);
+    PdfReport second = cacheService.getReport(projectRequest, version);
+    assertThrows(UncheckedIOException.class, first::toByteArray);
+    assertArrayEquals(PDF, second.toByteArray());
+
+    verify(reportService, times(2)).buildReport(projectRequest);
+  }
+
+  @Test
+  void getReport_shouldStreamReportWhileCachingIt() throws Exception {
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+    ByteArrayOutputStream client = new ByteArrayOutputStream();
+
+    cacheService.getReport(projectRequest, version).writeTo(client);
+
+    assertArrayEquals(PDF, client.toByteArray());
+    assertArrayEquals(PDF, cacheService.getReport(projectRequest, version).toByteArray());
+    verify(reportService, times(1)).buildReport(projectRequest);
+  }
+
+  @Test
+  void compactDataVersionsOnSchedule_shouldCompactUnderTheJobLock() {
+    when(scheduledJobLock.runExclusively(eq("project-data-changes-compaction"), any(Duration.class), any(Duration.class), any(Runnable.class)))
+        .thenAnswer(invocation -> {
+          invocation.<Runnable>getArgument(3).run();
+          return true;
+        });
+
+    cacheService.compactDataVersionsOnSchedule();
+
+    verify(projectDataVersionRepository).compactChanges();
+  }
+}
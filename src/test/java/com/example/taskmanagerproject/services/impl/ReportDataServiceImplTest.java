@@ -1,7 +1,7 @@
 package com.example.taskmanagerproject.services.impl;
 
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -10,28 +10,54 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.example.taskmanagerproject.configurations.reports.ReportMetricsProperties;
+import com.example.taskmanagerproject.dtos.reports.CompletionRate;
+import com.example.taskmanagerproject.dtos.reports.MemberAchievement;
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportType;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
 import com.example.taskmanagerproject.entities.projects.Project;
 import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.users.User;
 import com.example.taskmanagerproject.repositories.AchievementRepository;
-import com.example.taskmanagerproject.repositories.TaskRepository;
+import com.example.taskmanagerproject.repositories.AchievementsUsersRepository;
+import com.example.taskmanagerproject.repositories.ReportMetricsRepository;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
+import com.example.taskmanagerproject.utils.reports.SeriesGranularity;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 class ReportDataServiceImplTest {
 
   @Mock
-  private TaskRepository taskRepository;
+  private AchievementRepository achievementRepository;
 
   @Mock
-  private AchievementRepository achievementRepository;
+  private AchievementsUsersRepository achievementsUsersRepository;
+
+  @Mock
+  private ReportMetricsRepository reportMetricsRepository;
+
+  @Spy
+  private ReportMetricsProperties metricsProperties = new ReportMetricsProperties();
+
+  @Mock
+  private MetricsWriter metricsWriter;
 
   @InjectMocks
   private ReportDataServiceImpl reportDataService;
@@ -39,7 +65,10 @@ class ReportDataServiceImplTest {
   private User user;
   private Team team;
   private Project project;
-  private Object[] metrics;
+  private UserMetrics metrics;
+  private TopPerformerMetrics topPerformerMetrics;
+  private TeamMemberMetrics teamMemberMetrics;
+  private ProjectTeamMetrics projectMetrics;
   private Achievement achievement;
 
   private LocalDateTime startDate;
@@ -52,7 +81,10 @@ class ReportDataServiceImplTest {
     team = mock(Team.class);
     project = mock(Project.class);
     achievement = mock(Achievement.class);
-    metrics = new Object[]{1L, "data"};
+    metrics = userMetrics(1L);
+    topPerformerMetrics = new TopPerformerMetrics("Alice", "alice.png", "MEMBER", 10L, 8L, 80.0, 2L);
+    teamMemberMetrics = new TeamMemberMetrics("Alice", "alice.png", "MEMBER", 10L, 8L, 6L, 120.0, 80.0, 50.0, 100.0, 2L);
+    projectMetrics = new ProjectTeamMetrics("TestTeam", 2L, 10L, 8L, 6L, 4L, 3L, 2L, 1L);
     startDate = LocalDateTime.of(2025, 1, 1, 0, 0);
     endDate = LocalDateTime.of(2025, 1, 31, 23, 59);
 
@@ -65,16 +97,16 @@ class ReportDataServiceImplTest {
 
   @Test
   void fetchUserPerformanceMetrics_shouldReturnMetricsWhenDataExists() {
-    when(taskRepository.getTaskMetricsByAssignedUser(1L, startDate, endDate, "TestProject", "TestTeam")).thenReturn(Collections.singletonList(metrics));
-    Object[] result = reportDataService.fetchUserPerformanceMetrics(user, team, project, startDate, endDate);
+    when(reportMetricsRepository.findUserMetrics(1L, startDate, endDate, "TestProject", "TestTeam")).thenReturn(Collections.singletonList(metrics));
+    UserMetrics result = reportDataService.fetchUserPerformanceMetrics(user, team, project, startDate, endDate);
     assertNotNull(result);
-    assertArrayEquals(metrics, result);
-    verify(taskRepository).getTaskMetricsByAssignedUser(1L, startDate, endDate, "TestProject", "TestTeam");
+    assertEquals(metrics, result);
+    verify(reportMetricsRepository).findUserMetrics(1L, startDate, endDate, "TestProject", "TestTeam");
   }
 
   @Test
   void fetchUserPerformanceMetrics_shouldThrowExceptionWhenRepositoryFails() {
-    when(taskRepository.getTaskMetricsByAssignedUser(1L, startDate, endDate, "TestProject", "TestTeam")).thenThrow(new RuntimeException("DB failure"));
+    when(reportMetricsRepository.findUserMetrics(1L, startDate, endDate, "TestProject", "TestTeam")).thenThrow(new RuntimeException("DB failure"));
     RuntimeException thrown = assertThrows(RuntimeException.class, () -> reportDataService.fetchUserPerformanceMetrics(user, team, project, startDate, endDate));
     assertEquals("DB failure", thrown.getMessage());
   }
@@ -122,120 +154,174 @@ class ReportDataServiceImplTest {
     verify(achievementRepository).findAchievementsByUserTeamAndProject(0L, 0L, 0L);
   }
 
+  @Test
+  void fetchTeamMemberPerformanceMetrics_shouldReturnMetricsOfAllMembers() {
+    UserMetrics otherMetrics = userMetrics(2L);
+    when(reportMetricsRepository.findTeamUserMetrics(startDate, endDate, "TestProject", "TestTeam")).thenReturn(List.of(metrics, otherMetrics));
+    List<UserMetrics> result = reportDataService.fetchTeamMemberPerformanceMetrics(team, project, startDate, endDate);
+    assertEquals(List.of(metrics, otherMetrics), result);
+    verify(reportMetricsRepository).findTeamUserMetrics(startDate, endDate, "TestProject", "TestTeam");
+    verifyNoMoreInteractions(reportMetricsRepository);
+  }
+
+  @Test
+  void fetchTeamMemberAchievements_shouldGroupAchievementsByUser() {
+    Achievement other = mock(Achievement.class);
+    when(achievementsUsersRepository.findAchievementsByTeamIdAndProjectId(1L, 1L)).thenReturn(List.of(
+        new MemberAchievement(1L, achievement),
+        new MemberAchievement(2L, other),
+        new MemberAchievement(1L, other)
+    ));
+    Map<Long, List<Achievement>> result = reportDataService.fetchTeamMemberAchievements(team, project);
+    assertEquals(Map.of(1L, List.of(achievement, other), 2L, List.of(other)), result);
+    verify(achievementsUsersRepository).findAchievementsByTeamIdAndProjectId(1L, 1L);
+  }
+
+  @Test
+  void fetchTeamMemberAchievements_shouldReturnEmptyMapWhenNoAchievements() {
+    when(achievementsUsersRepository.findAchievementsByTeamIdAndProjectId(1L, 1L)).thenReturn(Collections.emptyList());
+    Map<Long, List<Achievement>> result = reportDataService.fetchTeamMemberAchievements(team, project);
+    assertTrue(result.isEmpty());
+  }
+
   @Test
   void fetchTopPerformersInTeamMetrics_shouldReturnMetricsWhenDataExists() {
-    when(taskRepository.getTopPerformerMetricsByTeamName("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.singletonList(metrics));
-    List<Object[]> result = reportDataService.fetchTopPerformersInTeamMetrics(team, project, startDate, endDate);
+    when(reportMetricsRepository.findTopPerformerMetrics("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.singletonList(topPerformerMetrics));
+    List<TopPerformerMetrics> result = reportDataService.fetchTopPerformersInTeamMetrics(team, project, startDate, endDate);
     assertNotNull(result);
     assertEquals(1, result.size());
-    assertArrayEquals(metrics, result.get(0));
-    verify(taskRepository).getTopPerformerMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
+    assertEquals(topPerformerMetrics, result.get(0));
+    verify(reportMetricsRepository).findTopPerformerMetrics("TestTeam", "TestProject", startDate, endDate);
   }
 
   @Test
   void fetchTopPerformersInTeamMetrics_shouldReturnEmptyListWhenNoData() {
-    when(taskRepository.getTopPerformerMetricsByTeamName("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
-    List<Object[]> result = reportDataService.fetchTopPerformersInTeamMetrics(team, project, startDate, endDate);
+    when(reportMetricsRepository.findTopPerformerMetrics("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
+    List<TopPerformerMetrics> result = reportDataService.fetchTopPerformersInTeamMetrics(team, project, startDate, endDate);
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(taskRepository).getTopPerformerMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
+    verify(reportMetricsRepository).findTopPerformerMetrics("TestTeam", "TestProject", startDate, endDate);
   }
 
   @Test
   void fetchProgressMetrics_shouldReturnDailyRatesWhenPeriodIsShort() {
     LocalDateTime shortEndDate = startDate.plusDays(30);
-    when(taskRepository.getDailyCompletionRates(startDate, shortEndDate, 1L, "TestProject", "TestTeam")).thenReturn(Collections.singletonList(metrics));
-    List<Object[]> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, shortEndDate);
-    assertNotNull(result);
-    assertEquals(1, result.size());
-    assertArrayEquals(metrics, result.get(0));
-    verify(taskRepository).getDailyCompletionRates(startDate, shortEndDate, 1L, "TestProject", "TestTeam");
+    when(reportMetricsRepository.findCompletionRates("day", startDate, shortEndDate, 1L, "TestProject", "TestTeam"))
+        .thenReturn(Collections.singletonList(new CompletionRate(startDate.toLocalDate().plusDays(1), 50.0)));
+    List<ProgressMetrics> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, shortEndDate);
+    assertEquals(31, result.size());
+    assertEquals(new ProgressMetrics(startDate.toLocalDate().toString(), 0.0), result.get(0));
+    assertEquals(new ProgressMetrics(startDate.toLocalDate().plusDays(1).toString(), 50.0), result.get(1));
+    verify(reportMetricsRepository).findCompletionRates("day", startDate, shortEndDate, 1L, "TestProject", "TestTeam");
+  }
+
+  @Test
+  void fetchProgressMetrics_shouldReturnWeeklyRatesWhenPeriodIsQuarter() {
+    LocalDateTime quarterEndDate = startDate.plusDays(60);
+    when(reportMetricsRepository.findCompletionRates("week", startDate, quarterEndDate, 1L, "TestProject", "TestTeam"))
+        .thenReturn(Collections.emptyList());
+    List<ProgressMetrics> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, quarterEndDate);
+    assertEquals(SeriesGranularity.WEEK.truncate(startDate.toLocalDate()).toString(), result.get(0).label());
+    verify(reportMetricsRepository).findCompletionRates("week", startDate, quarterEndDate, 1L, "TestProject", "TestTeam");
   }
 
   @Test
   void fetchProgressMetrics_shouldReturnMonthlyRatesWhenPeriodIsLong() {
-    LocalDateTime longEndDate = startDate.plusDays(32);
-    when(taskRepository.getMonthlyCompletionRates(startDate, longEndDate, 1L, "TestProject", "TestTeam")).thenReturn(Collections.singletonList(metrics));
-    List<Object[]> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, longEndDate);
-    assertNotNull(result);
-    assertEquals(1, result.size());
-    assertArrayEquals(metrics, result.get(0));
-    verify(taskRepository).getMonthlyCompletionRates(startDate, longEndDate, 1L, "TestProject", "TestTeam");
+    LocalDateTime longEndDate = LocalDateTime.of(2025, 12, 31, 23, 59, 59);
+    LocalDateTime yearStartDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+    when(reportMetricsRepository.findCompletionRates("month", yearStartDate, longEndDate, 1L, "TestProject", "TestTeam"))
+        .thenReturn(Collections.singletonList(new CompletionRate(LocalDate.of(2025, 3, 1), 75.0)));
+    List<ProgressMetrics> result = reportDataService.fetchProgressMetrics(user, team, project, yearStartDate, longEndDate);
+    assertEquals(12, result.size());
+    assertEquals(new ProgressMetrics("2025-Jan", 0.0), result.get(0));
+    assertEquals(new ProgressMetrics("2025-Mar", 75.0), result.get(2));
+    verify(reportMetricsRepository).findCompletionRates("month", yearStartDate, longEndDate, 1L, "TestProject", "TestTeam");
+  }
+
+  @Test
+  void fetchProgressMetrics_shouldUseRequestedGranularity() {
+    LocalDateTime longEndDate = startDate.plusDays(365);
+    when(reportMetricsRepository.findCompletionRates("day", startDate, longEndDate, 1L, "TestProject", "TestTeam"))
+        .thenReturn(Collections.emptyList());
+    List<ProgressMetrics> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, longEndDate, SeriesGranularity.DAY);
+    assertEquals(366, result.size());
+    verify(reportMetricsRepository).findCompletionRates("day", startDate, longEndDate, 1L, "TestProject", "TestTeam");
   }
 
   @Test
-  void fetchProgressMetrics_shouldReturnEmptyListWhenNoData() {
-    when(taskRepository.getDailyCompletionRates(startDate, endDate, 1L, "TestProject", "TestTeam")).thenReturn(Collections.emptyList());
-    List<Object[]> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, endDate);
+  void fetchProgressMetrics_shouldReturnZeroRatesWhenNoData() {
+    when(reportMetricsRepository.findCompletionRates("day", startDate, endDate, 1L, "TestProject", "TestTeam")).thenReturn(Collections.emptyList());
+    List<ProgressMetrics> result = reportDataService.fetchProgressMetrics(user, team, project, startDate, endDate);
     assertNotNull(result);
-    assertTrue(result.isEmpty());
-    verify(taskRepository).getDailyCompletionRates(startDate, endDate, 1L, "TestProject", "TestTeam");
+    assertFalse(result.isEmpty());
+    assertTrue(result.stream().allMatch(rate -> rate.taskCompletionRate() == 0.0));
+    verify(reportMetricsRepository).findCompletionRates("day", startDate, endDate, 1L, "TestProject", "TestTeam");
   }
 
   @Test
   void fetchTeamPerformanceMetrics_shouldReturnMetricsWhenDataExists() {
-    when(taskRepository.getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.singletonList(metrics));
-    List<Object[]> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
+    when(reportMetricsRepository.findTeamMemberMetrics("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.singletonList(teamMemberMetrics));
+    List<TeamMemberMetrics> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
     assertNotNull(result);
     assertEquals(1, result.size());
-    assertArrayEquals(metrics, result.get(0));
-    verify(taskRepository).getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
+    assertEquals(teamMemberMetrics, result.get(0));
+    verify(reportMetricsRepository).getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
   }
 
   @Test
   void fetchTeamPerformanceMetrics_shouldReturnEmptyListWhenNoData() {
-    when(taskRepository.getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
-    List<Object[]> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
+    when(reportMetricsRepository.findTeamMemberMetrics("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
+    List<TeamMemberMetrics> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(taskRepository).getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
+    verify(reportMetricsRepository).getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
   }
 
   @Test
   void fetchTeamPerformanceMetrics_shouldReturnEmptyListWhenNoData_verifyNoMoreInteractions() {
-    when(taskRepository.getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
-    List<Object[]> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
+    when(reportMetricsRepository.findTeamMemberMetrics("TestTeam", "TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
+    List<TeamMemberMetrics> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(taskRepository).getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
-    verifyNoMoreInteractions(taskRepository);
+    verify(reportMetricsRepository).getAllTeamMemberMetricsByTeamName("TestTeam", "TestProject", startDate, endDate);
+    verifyNoMoreInteractions(reportMetricsRepository);
   }
 
   @Test
   void fetchTeamPerformanceMetrics_shouldHandleEmptyProjectOrTeamNames() {
     when(team.getName()).thenReturn("");
     when(project.getName()).thenReturn(" ");
-    when(taskRepository.getAllTeamMemberMetricsByTeamName("", " ", startDate, endDate)).thenReturn(Collections.emptyList());
-    List<Object[]> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
+    when(reportMetricsRepository.findTeamMemberMetrics("", " ", startDate, endDate)).thenReturn(Collections.emptyList());
+    List<TeamMemberMetrics> result = reportDataService.fetchTeamPerformanceMetrics(team, project, startDate, endDate);
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(taskRepository).getAllTeamMemberMetricsByTeamName("", " ", startDate, endDate);
+    verify(reportMetricsRepository).getAllTeamMemberMetricsByTeamName("", " ", startDate, endDate);
   }
 
   @Test
   void fetchProjectPerformanceMetrics_shouldReturnMetricsWhenDataExists() {
-    when(taskRepository.getProjectMetricsByProjectName("TestProject", startDate, endDate)).thenReturn(Collections.singletonList(metrics));
-    List<Object[]> result = reportDataService.fetchProjectPerformanceMetrics(project, startDate, endDate);
+    when(reportMetricsRepository.findProjectMetrics("TestProject", startDate, endDate)).thenReturn(Collections.singletonList(projectMetrics));
+    List<ProjectTeamMetrics> result = reportDataService.fetchProjectPerformanceMetrics(project, startDate, endDate);
     assertNotNull(result);
     assertEquals(1, result.size());
-    assertArrayEquals(metrics, result.get(0));
-    verify(taskRepository).getProjectMetricsByProjectName("TestProject", startDate, endDate);
+    assertEquals(projectMetrics, result.get(0));
+    verify(reportMetricsRepository).getProjectMetricsByProjectName("TestProject", startDate, endDate);
   }
 
   @Test
   void fetchProjectPerformanceMetrics_shouldReturnEmptyListWhenNoData() {
-    when(taskRepository.getProjectMetricsByProjectName("TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
-    List<Object[]> result = reportDataService.fetchProjectPerformanceMetrics(project, startDate, endDate);
+    when(reportMetricsRepository.findProjectMetrics("TestProject", startDate, endDate)).thenReturn(Collections.emptyList());
+    List<ProjectTeamMetrics> result = reportDataService.fetchProjectPerformanceMetrics(project, startDate, endDate);
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(taskRepository).getProjectMetricsByProjectName("TestProject", startDate, endDate);
+    verify(reportMetricsRepository).getProjectMetricsByProjectName("TestProject", startDate, endDate);
   }
 
   @Test
   void fetchProgressMetrics_shouldReturnEmptyWhenStartDateAfterEndDate() {
     LocalDateTime invalidStart = LocalDateTime.of(2025, 2, 1, 0, 0);
     LocalDateTime invalidEnd = LocalDateTime.of(2025, 1, 1, 0, 0);
-    List<Object[]> result = reportDataService.fetchProgressMetrics(user, team, project, invalidStart, invalidEnd);
+    List<ProgressMetrics> result = reportDataService.fetchProgressMetrics(user, team, project, invalidStart, invalidEnd);
     assertNotNull(result);
     assertTrue(result.isEmpty(), "Expected empty list when startDate is after endDate");
   }
@@ -243,11 +329,51 @@ class ReportDataServiceImplTest {
   @Test
   void fetchProjectPerformanceMetrics_shouldHandleSingleInstantDateRange() {
     LocalDateTime instant = LocalDateTime.of(2025, 1, 15, 12, 0);
-    when(taskRepository.getProjectMetricsByProjectName("TestProject", instant, instant)).thenReturn(Collections.singletonList(metrics));
-    List<Object[]> result = reportDataService.fetchProjectPerformanceMetrics(project, instant, instant);
+    when(reportMetricsRepository.findProjectMetrics("TestProject", instant, instant)).thenReturn(Collections.singletonList(projectMetrics));
+    List<ProjectTeamMetrics> result = reportDataService.fetchProjectPerformanceMetrics(project, instant, instant);
     assertNotNull(result);
     assertEquals(1, result.size());
-    assertArrayEquals(metrics, result.get(0));
-    verify(taskRepository).getProjectMetricsByProjectName("TestProject", instant, instant);
+    assertEquals(projectMetrics, result.get(0));
+    verify(reportMetricsRepository).getProjectMetricsByProjectName("TestProject", instant, instant);
+  }
+
+  @Test
+  void streamMetrics_shouldStreamUserMetricsThroughCursor() {
+    ReportData reportData = new ReportData(user, team, project, startDate, endDate);
+    reportDataService.streamMetrics(ReportType.USER, reportData, metricsWriter);
+    verify(reportMetricsRepository).streamUserMetrics(1L, startDate, endDate, "TestProject", "TestTeam", 500, metricsWriter);
+    verifyNoMoreInteractions(reportMetricsRepository);
+  }
+
+  @Test
+  void streamMetrics_shouldStreamProjectMetricsThroughCursor() {
+    ReportData reportData = new ReportData(null, null, project, startDate, endDate);
+    reportDataService.streamMetrics(ReportType.PROJECT, reportData, metricsWriter);
+    verify(reportMetricsRepository).streamProjectMetrics("TestProject", startDate, endDate, 500, metricsWriter);
+  }
+
+  @Test
+  void streamMetrics_shouldStreamTopPerformerMetricsThroughCursor() {
+    ReportData reportData = new ReportData(null, team, project, startDate, endDate);
+    reportDataService.streamMetrics(ReportType.TOP_PERFORMERS, reportData, metricsWriter);
+    verify(reportMetricsRepository).streamTopPerformerMetrics("TestTeam", "TestProject", startDate, endDate, 500, metricsWriter);
+    verifyNoMoreInteractions(reportMetricsRepository);
+  }
+
+  @Test
+  void streamMetrics_shouldWriteGapFilledProgressSeries() throws IOException {
+    ReportData reportData = new ReportData(user, team, project, startDate, startDate.plusDays(1));
+    when(reportMetricsRepository.findCompletionRates("day", startDate, startDate.plusDays(1), 1L, "TestProject", "TestTeam"))
+        .thenReturn(Collections.emptyList());
+    reportDataService.streamMetrics(ReportType.TASK_PROGRESS, reportData, metricsWriter);
+    verify(metricsWriter).writeColumns(List.of("bucket", "taskCompletionRate"));
+    verify(metricsWriter).writeRow(new Object[]{"2025-01-01", 0.0});
+    verify(metricsWriter).writeRow(new Object[]{"2025-01-02", 0.0});
+    verify(reportMetricsRepository).findCompletionRates("day", startDate, startDate.plusDays(1), 1L, "TestProject", "TestTeam");
+    verifyNoMoreInteractions(reportMetricsRepository);
+  }
+
+  private static UserMetrics userMetrics(long userId) {
+    return new UserMetrics(1L, 1L, "MEMBER", 10L, 8L, 80.0, 6L, 2L, 1L, 1L, 1L, 120.0, userId);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,207 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.USER_PERFORMANCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.reports.ReportExportProperties;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import com.example.taskmanagerproject.entities.projects.Project;
+import com.example.taskmanagerproject.entities.teams.Team;
+import com.example.taskmanagerproject.entities.users.User;
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import com.example.taskmanagerproject.repositories.UserRepository;
+import com.example.taskmanagerproject.services.ReportDataService;
+import com.example.taskmanagerproject.utils.reports.ReportArchive;
+import com.example.taskmanagerproject.utils.reports.ReportRendererPool;
+import com.example.taskmanagerproject.utils.reports.ReportTemplate;
+import com.example.taskmanagerproject.utils.reports.ReportTemplateProcessor;
+import com.example.taskmanagerproject.utils.reports.ReportTemplateRegistry;
+import com.example.taskmanagerproject.utils.validators.ReportValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportExportServiceImplTest {
+
+  private static final String TEAM = "Team Alpha";
+  private static final String PROJECT = "Project Alpha";
+  private static final String START = "2025-01-01";
+  private static final String END = "2025-12-31";
+
+  @Mock
+  private ReportValidator reportValidator;
+
+  @Mock
+  private ReportDataService reportDataService;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ReportTemplateProcessor htmlProcessor;
+
+  @Mock
+  private ReportTemplateRegistry reportTemplateRegistry;
+
+  @Mock
+  private ReportRendererPool reportRendererPool;
+
+  private final ReportTemplate template = ReportTemplate.compile("user", "{fullName}");
+
+  private ThreadPoolExecutor executor;
+  private SimpleMeterRegistry meterRegistry;
+  private ReportExportServiceImpl exportService;
+  private ReportData teamData;
+
+  @BeforeEach
+  void setUp() {
+    Team team = new Team();
+    team.setId(1L);
+    team.setName(TEAM);
+    Project project = new Project();
+    project.setId(2L);
+    project.setName(PROJECT);
+    teamData = new ReportData(null, team, project, LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59));
+
+    ReportExportProperties exportProperties = new ReportExportProperties();
+    exportProperties.setWorkers(2);
+    executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(4));
+    meterRegistry = new SimpleMeterRegistry();
+    exportService = new ReportExportServiceImpl(reportValidator, reportDataService, userRepository, htmlProcessor,
+        reportTemplateRegistry, reportRendererPool, exportProperties, executor, meterRegistry);
+
+    when(reportValidator.validateTeamData(TEAM, PROJECT, START, END)).thenReturn(teamData);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void buildTeamMemberReports_shouldStreamOnePdfPerMember() throws IOException {
+    List<UserMetrics> metrics = List.of(memberMetrics(10L), memberMetrics(11L), memberMetrics(12L));
+    Achievement achievement = new Achievement(101L, "Task Master", "Completed 100 tasks", null);
+    stubMembers(metrics, user(10L, "alice@example.com"), user(11L, "bob@example.com"), user(12L, "carol@example.com"));
+    when(reportDataService.fetchTeamMemberAchievements(teamData.team(), teamData.project())).thenReturn(Map.of(10L, List.of(achievement)));
+    when(htmlProcessor.populateUserPerformanceTemplate(same(template), any(ReportData.class), any(UserMetrics.class), anyList()))
+        .thenAnswer(invocation -> ((ReportData) invocation.getArgument(1)).user().getUsername());
+    doAnswer(invocation -> {
+      ((OutputStream) invocation.getArgument(1)).write(((String) invocation.getArgument(0)).getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(reportRendererPool).writePdf(anyString(), any(OutputStream.class));
+
+    ReportArchive archive = exportService.buildTeamMemberReports(TEAM, PROJECT, START, END);
+
+    Map<String, String> entries = unzip(archive);
+    assertEquals(Map.of(
+        "user_report_alice@example.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-31.pdf", "alice@example.com",
+        "user_report_bob@example.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-31.pdf", "bob@example.com",
+        "user_report_carol@example.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-31.pdf", "carol@example.com"
+    ), entries);
+    assertEquals(3.0, meterRegistry.get("report.export.reports").counter().count());
+  }
+
+  @Test
+  void buildTeamMemberReports_shouldSkipMetricsOfUnknownUsers() throws IOException {
+    List<UserMetrics> metrics = List.of(memberMetrics(10L), memberMetrics(99L));
+    stubMembers(metrics, user(10L, "alice@example.com"));
+    when(reportDataService.fetchTeamMemberAchievements(teamData.team(), teamData.project())).thenReturn(Map.of());
+    when(htmlProcessor.populateUserPerformanceTemplate(same(template), any(ReportData.class), eq(metrics.get(0)), eq(List.of())))
+        .thenReturn("alice");
+    doAnswer(invocation -> {
+      ((OutputStream) invocation.getArgument(1)).write('%');
+      return null;
+    }).when(reportRendererPool).writePdf(eq("alice"), any(OutputStream.class));
+
+    Map<String, String> entries = unzip(exportService.buildTeamMemberReports(TEAM, PROJECT, START, END));
+
+    assertEquals(List.of("user_report_alice@example.com_Team_Alpha_Project_Alpha_2025-01-01_2025-12-31.pdf"),
+        List.copyOf(entries.keySet()));
+  }
+
+  @Test
+  void buildTeamMemberReports_shouldThrowWhenNoMemberHasMetrics() {
+    when(reportDataService.fetchTeamMemberPerformanceMetrics(teamData.team(), teamData.project(), teamData.startDate(), teamData.endDate()))
+        .thenReturn(List.of());
+
+    assertThrows(PdfGenerationException.class, () -> exportService.buildTeamMemberReports(TEAM, PROJECT, START, END));
+    verifyNoInteractions(userRepository, htmlProcessor, reportRendererPool);
+  }
+
+  @Test
+  void buildTeamMemberReports_shouldPropagateRenderFailures() {
+    List<UserMetrics> metrics = List.of(memberMetrics(10L));
+    stubMembers(metrics, user(10L, "alice@example.com"));
+    when(reportDataService.fetchTeamMemberAchievements(teamData.team(), teamData.project())).thenReturn(Map.of());
+    when(htmlProcessor.populateUserPerformanceTemplate(same(template), any(ReportData.class), any(UserMetrics.class), anyList()))
+        .thenReturn("alice");
+    doThrow(new PdfGenerationException("Failed to generate PDF."))
+        .when(reportRendererPool).writePdf(eq("alice"), any(OutputStream.class));
+
+    ReportArchive archive = exportService.buildTeamMemberReports(TEAM, PROJECT, START, END);
+
+    assertThrows(PdfGenerationException.class, () -> archive.writeTo(new ByteArrayOutputStream()));
+  }
+
+  private void stubMembers(List<UserMetrics> metrics, User... users) {
+    when(reportDataService.fetchTeamMemberPerformanceMetrics(teamData.team(), teamData.project(), teamData.startDate(), teamData.endDate()))
+        .thenReturn(metrics);
+    when(userRepository.findAllById(metrics.stream().map(UserMetrics::userId).toList())).thenReturn(List.of(users));
+    when(reportTemplateRegistry.get(USER_PERFORMANCE)).thenReturn(template);
+  }
+
+  private static UserMetrics memberMetrics(long userId) {
+    return new UserMetrics(2L, 1L, "DEVELOPER", 10L, 8L, 80.0, 6L, 2L, 1L, 1L, 1L, 120.0, userId);
+  }
+
+  private static User user(long id, String username) {
+    User user = new User();
+    user.setId(id);
+    user.setUsername(username);
+    return user;
+  }
+
+  private static Map<String, String> unzip(ReportArchive archive) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    archive.writeTo(outputStream);
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+      for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    return entries;
+  }
+}
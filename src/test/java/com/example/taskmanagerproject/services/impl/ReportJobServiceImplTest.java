@@ -0,0 +1,298 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.dtos.reports.ReportType.PROJECT;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TEAM;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.minio.MinioProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportJobProperties;
+import com.example.taskmanagerproject.dtos.reports.ReportJobDto;
+import com.example.taskmanagerproject.dtos.reports.ReportJobStatus;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.entities.reports.ReportJob;
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import com.example.taskmanagerproject.exceptions.RateLimitExceededException;
+import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
+import com.example.taskmanagerproject.repositories.ReportJobRepository;
+import com.example.taskmanagerproject.services.ReportService;
+import com.example.taskmanagerproject.utils.reports.PdfReport;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.BucketExistsArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceImplTest {
+
+  private static final byte[] PDF = {'%', 'P', 'D', 'F'};
+  private static final long RESULT_TTL_SECONDS = 3600L;
+
+  @Mock
+  private ReportService reportService;
+
+  @Mock
+  private ReportJobRepository reportJobRepository;
+
+  @Mock
+  private MinioClient minioClient;
+
+  @Mock
+  private ScheduledJobLock scheduledJobLock;
+
+  private final ReportRequest projectRequest = new ReportRequest(PROJECT, null, null, "Project Alpha", "2025-01-01", "2025-12-31");
+  private final ReportRequest teamRequest = new ReportRequest(TEAM, null, "Team Alpha", "Project Alpha", "2025-01-01", "2025-12-31");
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private ThreadPoolExecutor executor;
+  private ThreadPoolExecutor uploadExecutor;
+  private SimpleMeterRegistry meterRegistry;
+  private ReportJobServiceImpl jobService;
+
+  @BeforeEach
+  void setUp() {
+    MinioProperties minioProperties = new MinioProperties();
+    minioProperties.setBucket("images");
+    executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    uploadExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    meterRegistry = new SimpleMeterRegistry();
+    jobService = new ReportJobServiceImpl(reportService, reportJobRepository, minioClient, minioProperties,
+        new ReportJobProperties(), scheduledJobLock, executor, uploadExecutor, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+    uploadExecutor.shutdownNow();
+  }
+
+  @Test
+  void submit_shouldRenderReportAndStreamItIntoMinio() throws Exception {
+    queueNewJobs();
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> outputStream.write(PDF));
+    when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+    byte[][] uploaded = new byte[1][];
+    when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+      uploaded[0] = invocation.<PutObjectArgs>getArgument(0).stream().readAllBytes();
+      return null;
+    });
+
+    ReportJobDto submitted = jobService.submit(projectRequest, "alice");
+    awaitWorkers();
+
+    assertEquals(ReportJobStatus.QUEUED, submitted.status());
+    assertEquals("project_report_Project_Alpha_2025-01-01_2025-12-31.pdf", submitted.fileName());
+    verify(reportJobRepository).addRequester(submitted.id(), "alice");
+    verify(reportJobRepository).markRunning(submitted.id());
+    verify(reportJobRepository).finish(submitted.id(), "COMPLETED", null, RESULT_TTL_SECONDS);
+    ArgumentCaptor<PutObjectArgs> args = ArgumentCaptor.forClass(PutObjectArgs.class);
+    verify(minioClient).putObject(args.capture());
+    assertEquals("images", args.getValue().bucket());
+    assertEquals("reports/" + submitted.id() + ".pdf", args.getValue().object());
+    assertArrayEquals(PDF, uploaded[0]);
+    assertEquals(1, meterRegistry.get("report.jobs.render").tag("type", "project").timer().count());
+    assertEquals(1, meterRegistry.get("report.jobs.wait").tag("type", "project").timer().count());
+  }
+
+  @Test
+  void submit_shouldJoinIdenticalJobInFlight() {
+    ReportJob inFlight = job(UUID.randomUUID(), ReportJobStatus.RUNNING);
+    when(reportJobRepository.insertQueued(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyLong()))
+        .thenReturn(0);
+    when(reportJobRepository.findInFlightByRequestHash(anyString())).thenReturn(Optional.of(inFlight));
+
+    ReportJobDto joined = jobService.submit(projectRequest, "bob");
+
+    assertEquals(inFlight.getId(), joined.id());
+    verify(reportJobRepository).addRequester(inFlight.getId(), "bob");
+    verifyNoInteractions(reportService);
+    assertEquals(1.0, meterRegistry.get("report.jobs.deduplicated").counter().count());
+  }
+
+  @Test
+  void submit_shouldIdentifyRequestsByTheirParameters() {
+    when(reportJobRepository.insertQueued(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyLong()))
+        .thenReturn(0);
+    when(reportJobRepository.findInFlightByRequestHash(anyString())).thenReturn(Optional.of(job(UUID.randomUUID(), ReportJobStatus.QUEUED)));
+
+    jobService.submit(projectRequest, "alice");
+    jobService.submit(new ReportRequest(PROJECT, null, null, "Project Alpha", "2025-01-01", "2025-12-31"), "bob");
+    jobService.submit(teamRequest, "alice");
+
+    ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+    verify(reportJobRepository, times(3)).findInFlightByRequestHash(hashes.capture());
+    assertEquals(hashes.getAllValues().get(0), hashes.getAllValues().get(1));
+    assertNotEquals(hashes.getAllValues().get(0), hashes.getAllValues().get(2));
+  }
+
+  @Test
+  void submit_shouldRequeueRequestWhoseJobWasAbandoned() {
+    when(reportJobRepository.insertQueued(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyLong()))
+        .thenReturn(0, 1);
+    when(reportJobRepository.findInFlightByRequestHash(anyString())).thenReturn(Optional.empty());
+    when(reportJobRepository.findByIdAndRequester(any(UUID.class), eq("alice")))
+        .thenAnswer(invocation -> Optional.of(job(invocation.getArgument(0), ReportJobStatus.QUEUED)));
+
+    jobService.submit(projectRequest, "alice");
+
+    verify(reportJobRepository).failAbandoned(RESULT_TTL_SECONDS);
+    verify(reportJobRepository, times(2))
+        .insertQueued(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyLong());
+  }
+
+  @Test
+  void submit_shouldRejectJobsBeyondQueueCapacity() {
+    queueNewJobs();
+    when(reportService.buildReport(any(ReportRequest.class))).thenReturn(blockingReport());
+    ReportRequest otherProject = new ReportRequest(PROJECT, null, null, "Project Beta", "2025-01-01", "2025-12-31");
+
+    jobService.submit(projectRequest, "alice");
+    awaitRunning();
+    jobService.submit(teamRequest, "alice");
+
+    assertThrows(RateLimitExceededException.class, () -> jobService.submit(otherProject, "alice"));
+    verify(reportJobRepository).deleteById(any(UUID.class));
+    assertEquals(1.0, meterRegistry.get("report.jobs.queue.depth").gauge().value());
+  }
+
+  @Test
+  void submit_shouldMarkJobFailedWhenRenderingFails() throws Exception {
+    queueNewJobs();
+    when(reportService.buildReport(projectRequest)).thenThrow(new PdfGenerationException("No data"));
+
+    ReportJobDto submitted = jobService.submit(projectRequest, "alice");
+    awaitWorkers();
+
+    verify(reportJobRepository).finish(submitted.id(), "FAILED", "No data", RESULT_TTL_SECONDS);
+    verify(minioClient, never()).putObject(any(PutObjectArgs.class));
+  }
+
+  @Test
+  void submit_shouldAbortUploadWhenRenderingFailsMidway() throws Exception {
+    queueNewJobs();
+    when(reportService.buildReport(projectRequest)).thenReturn(outputStream -> {
+      outputStream.write(PDF);
+      throw new IOException("renderer failed");
+    });
+    when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+    lenient().when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+      invocation.<PutObjectArgs>getArgument(0).stream().readAllBytes();
+      return null;
+    });
+
+    ReportJobDto submitted = jobService.submit(projectRequest, "alice");
+    awaitWorkers();
+
+    verify(reportJobRepository).finish(submitted.id(), "FAILED", "renderer failed", RESULT_TTL_SECONDS);
+    verify(reportJobRepository, never()).finish(submitted.id(), "COMPLETED", null, RESULT_TTL_SECONDS);
+  }
+
+  @Test
+  void getJob_shouldHideJobsSubmittedByOtherUsers() {
+    UUID jobId = UUID.randomUUID();
+    when(reportJobRepository.findByIdAndRequester(jobId, "mallory")).thenReturn(Optional.empty());
+
+    assertThrows(ResourceNotFoundException.class, () -> jobService.getJob(jobId, "mallory"));
+  }
+
+  @Test
+  void getResult_shouldRejectJobsThatHaveNotCompleted() {
+    ReportJob running = job(UUID.randomUUID(), ReportJobStatus.RUNNING);
+    when(reportJobRepository.findByIdAndRequester(running.getId(), "alice")).thenReturn(Optional.of(running));
+
+    assertThrows(IllegalStateException.class, () -> jobService.getResult(running.getId(), "alice"));
+  }
+
+  @Test
+  void deleteExpired_shouldFailAbandonedJobsAndDeleteExpiredResults() throws Exception {
+    when(scheduledJobLock.runExclusively(eq("report-jobs-cleanup"), any(Duration.class), any(Duration.class), any(Runnable.class)))
+        .thenAnswer(invocation -> {
+          invocation.<Runnable>getArgument(3).run();
+          return true;
+        });
+    when(reportJobRepository.findExpiredObjectKeys()).thenReturn(List.of("reports/expired.pdf"));
+
+    jobService.deleteExpired();
+
+    verify(reportJobRepository).failAbandoned(RESULT_TTL_SECONDS);
+    ArgumentCaptor<RemoveObjectArgs> args = ArgumentCaptor.forClass(RemoveObjectArgs.class);
+    verify(minioClient).removeObject(args.capture());
+    assertEquals("reports/expired.pdf", args.getValue().object());
+    verify(reportJobRepository).deleteExpired();
+  }
+
+  private void queueNewJobs() {
+    when(reportJobRepository.insertQueued(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyLong()))
+        .thenReturn(1);
+    when(reportJobRepository.findByIdAndRequester(any(UUID.class), eq("alice")))
+        .thenAnswer(invocation -> Optional.of(job(invocation.getArgument(0), ReportJobStatus.QUEUED)));
+  }
+
+  private ReportJob job(UUID id, ReportJobStatus status) {
+    return ReportJob.builder()
+        .id(id)
+        .requestHash("hash")
+        .type(PROJECT)
+        .fileName(projectRequest.fileName())
+        .status(status)
+        .objectKey("reports/" + id + ".pdf")
+        .submittedAt(LocalDateTime.now())
+        .expiresAt(LocalDateTime.now().plusMinutes(15))
+        .build();
+  }
+
+  private PdfReport blockingReport() {
+    return outputStream -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  private void awaitRunning() {
+    while (executor.getActiveCount() == 0 || !executor.getQueue().isEmpty()) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private void awaitWorkers() throws InterruptedException {
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+}
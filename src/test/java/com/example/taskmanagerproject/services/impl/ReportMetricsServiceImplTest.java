@@ -0,0 +1,131 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static com.example.taskmanagerproject.dtos.reports.ReportType.PROJECT;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TASK_PROGRESS;
+import static com.example.taskmanagerproject.dtos.reports.ReportType.TOP_PERFORMERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.ReportRequest;
+import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
+import com.example.taskmanagerproject.services.ReportDataService;
+import com.example.taskmanagerproject.utils.reports.MetricsExport;
+import com.example.taskmanagerproject.utils.reports.MetricsWriter;
+import com.example.taskmanagerproject.utils.validators.ReportValidator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class ReportMetricsServiceImplTest {
+
+  private static final String USER = "alice@example.com";
+  private static final String TEAM = "Team Alpha";
+  private static final String PROJECT_NAME = "Project Alpha";
+  private static final String START = "2025-01-01";
+  private static final String END = "2025-12-31";
+
+  @Mock
+  private ReportValidator reportValidator;
+
+  @Mock
+  private ReportDataService reportDataService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final ReportData reportData = new ReportData(null, null, null,
+      LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 12, 31, 23, 59, 59));
+
+  private ReportMetricsServiceImpl metricsService;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = new ReportMetricsServiceImpl(reportValidator, reportDataService, transactionManager);
+  }
+
+  @Test
+  void buildMetricsExport_shouldStreamRowsInsideReadOnlyTransaction() throws IOException {
+    ReportRequest request = new ReportRequest(TOP_PERFORMERS, null, TEAM, PROJECT_NAME, START, END);
+    when(reportValidator.validateTeamData(TEAM, PROJECT_NAME, START, END)).thenReturn(reportData);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    doAnswer(invocation -> {
+      MetricsWriter writer = invocation.getArgument(2);
+      writer.writeColumns(List.of("user_name", "tasks_completed"));
+      writer.writeRow(new Object[]{"Alice", 8L});
+      return null;
+    }).when(reportDataService).streamMetrics(eq(TOP_PERFORMERS), eq(reportData), any(MetricsWriter.class));
+
+    MetricsExport export = metricsService.buildMetricsExport(request, MetricsFormat.CSV);
+
+    assertEquals("user_name,tasks_completed\r\nAlice,8\r\n", write(export));
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void buildMetricsExport_shouldValidateUserOfTaskProgress() throws IOException {
+    ReportRequest request = new ReportRequest(TASK_PROGRESS, USER, TEAM, PROJECT_NAME, START, END);
+    when(reportValidator.validateUserData(USER, TEAM, PROJECT_NAME, START, END)).thenReturn(reportData);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    doAnswer(invocation -> {
+      MetricsWriter writer = invocation.getArgument(2);
+      writer.writeColumns(List.of("bucket", "taskCompletionRate"));
+      writer.writeRow(new Object[]{"2025-Jan", new BigDecimal("75.00")});
+      return null;
+    }).when(reportDataService).streamMetrics(eq(TASK_PROGRESS), eq(reportData), any(MetricsWriter.class));
+
+    String json = write(metricsService.buildMetricsExport(request, MetricsFormat.JSON));
+
+    assertEquals("[{\"bucket\":\"2025-Jan\",\"taskCompletionRate\":75.00}]", json);
+  }
+
+  @Test
+  void buildMetricsExport_shouldFailBeforeStreamingWhenValidationFails() {
+    ReportRequest request = new ReportRequest(PROJECT, null, null, PROJECT_NAME, START, END);
+    when(reportValidator.validateProjectData(PROJECT_NAME, START, END)).thenThrow(new ResourceNotFoundException("Project not found"));
+
+    assertThrows(ResourceNotFoundException.class, () -> metricsService.buildMetricsExport(request, MetricsFormat.CSV));
+    verifyNoInteractions(reportDataService, transactionManager);
+  }
+
+  @Test
+  void buildMetricsExport_shouldRethrowWriteFailures() {
+    ReportRequest request = new ReportRequest(PROJECT, null, null, PROJECT_NAME, START, END);
+    when(reportValidator.validateProjectData(PROJECT_NAME, START, END)).thenReturn(reportData);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    doThrow(new UncheckedIOException(new IOException("Broken pipe")))
+        .when(reportDataService).streamMetrics(eq(PROJECT), eq(reportData), any(MetricsWriter.class));
+
+    MetricsExport export = metricsService.buildMetricsExport(request, MetricsFormat.NDJSON);
+
+    IOException exception = assertThrows(IOException.class, () -> export.writeTo(new ByteArrayOutputStream()));
+    assertEquals("Broken pipe", exception.getMessage());
+  }
+
+  private static String write(MetricsExport export) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    export.writeTo(outputStream);
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+}
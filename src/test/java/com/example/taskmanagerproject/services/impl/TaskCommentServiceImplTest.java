@@ -8,14 +8,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.taskmanagerproject.dtos.tasks.TaskCommentDto;
+import com.example.taskmanagerproject.entities.tasks.Task;
 import com.example.taskmanagerproject.entities.tasks.TaskComment;
 import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
 import com.example.taskmanagerproject.repositories.TaskCommentRepository;
+import com.example.taskmanagerproject.services.AchievementStatsService;
 import com.example.taskmanagerproject.utils.factories.TaskCommentFactory;
 import com.example.taskmanagerproject.utils.mappers.TaskCommentMapper;
 import com.example.taskmanagerproject.utils.validators.TaskCommentValidator;
@@ -24,6 +27,7 @@ import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -47,6 +51,9 @@ class TaskCommentServiceImplTest {
   @Mock
   private TaskCommentValidator taskCommentValidator;
 
+  @Mock
+  private AchievementStatsService achievementStatsService;
+
   @InjectMocks
   private TaskCommentServiceImpl taskCommentService;
 
@@ -85,6 +92,17 @@ class TaskCommentServiceImplTest {
     verify(taskCommentMapper).toDto(taskComment);
   }
 
+  @Test
+  void createComment_shouldRecordCommentInAchievementStats() {
+    Task task = mock(Task.class);
+    when(taskComment.getTask()).thenReturn(task);
+    when(taskCommentRepository.save(taskComment)).thenReturn(taskComment);
+    taskCommentService.createComment(taskCommentDto);
+    InOrder order = inOrder(taskCommentRepository, achievementStatsService);
+    order.verify(taskCommentRepository).save(taskComment);
+    order.verify(achievementStatsService).recordCommentAdded(task);
+  }
+
   @Test
   void createComment_shouldThrowIllegalArgumentExceptionWhenDtoInvalid() {
     doThrow(new IllegalArgumentException("Invalid comment")).when(taskCommentValidator).validateTaskCommentDto(taskCommentDto);
@@ -173,6 +191,17 @@ class TaskCommentServiceImplTest {
     verify(taskCommentRepository).deleteById(commentId);
   }
 
+  @Test
+  void deleteTaskComment_shouldRecordRemovalInAchievementStats() {
+    Task task = mock(Task.class);
+    when(taskComment.getTask()).thenReturn(task);
+    when(taskCommentRepository.findById(commentId)).thenReturn(Optional.of(taskComment));
+    taskCommentService.deleteTaskComment(commentId);
+    InOrder order = inOrder(taskCommentRepository, achievementStatsService);
+    order.verify(taskCommentRepository).deleteById(commentId);
+    order.verify(achievementStatsService).recordCommentRemoved(task);
+  }
+
   @Test
   void deleteTaskComment_shouldThrowResourceNotFoundExceptionWhenCommentNotFound() {
     when(taskCommentRepository.findById(commentId)).thenReturn(Optional.empty());
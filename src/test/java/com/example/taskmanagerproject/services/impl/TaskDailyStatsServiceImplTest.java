@@ -0,0 +1,90 @@
+package com.example.taskmanagerproject.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.repositories.ProjectDataVersionRepository;
+import com.example.taskmanagerproject.repositories.TaskDailyStatsRepository;
+import com.example.taskmanagerproject.utils.scheduling.ScheduledJobLock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDailyStatsServiceImplTest {
+
+  @Mock
+  private TaskDailyStatsRepository taskDailyStatsRepository;
+
+  @Mock
+  private ProjectDataVersionRepository projectDataVersionRepository;
+
+  @Mock
+  private ScheduledJobLock scheduledJobLock;
+
+  private TaskDailyStatsServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new TaskDailyStatsServiceImpl(
+        taskDailyStatsRepository, projectDataVersionRepository, scheduledJobLock, mock(PlatformTransactionManager.class));
+  }
+
+  @Test
+  void rebuildStats_shouldRebuildEachProjectAndReturnRowCount() {
+    when(taskDailyStatsRepository.findProjectIds()).thenReturn(List.of(1L, 2L));
+    when(taskDailyStatsRepository.rebuildProject(1L)).thenReturn(3);
+    when(taskDailyStatsRepository.rebuildProject(2L)).thenReturn(4);
+
+    assertEquals(7, service.rebuildStats());
+    verify(taskDailyStatsRepository).rebuildProject(1L);
+    verify(taskDailyStatsRepository).rebuildProject(2L);
+  }
+
+  @Test
+  void rebuildStats_shouldRecordDataChangeOnlyForCorrectedProjects() {
+    when(taskDailyStatsRepository.findProjectIds()).thenReturn(List.of(1L, 2L));
+    when(taskDailyStatsRepository.rebuildProject(1L)).thenReturn(0);
+    when(taskDailyStatsRepository.rebuildProject(2L)).thenReturn(4);
+
+    service.rebuildStats();
+
+    verify(projectDataVersionRepository, never()).recordChange(1L);
+    verify(projectDataVersionRepository).recordChange(2L);
+  }
+
+  @Test
+  void rebuildStatsOnSchedule_shouldRebuildUnderTheJobLock() {
+    when(taskDailyStatsRepository.findProjectIds()).thenReturn(List.of(1L));
+    when(scheduledJobLock.runExclusively(eq("task-daily-stats-rebuild"), any(Duration.class), any(Duration.class), any(Runnable.class)))
+        .thenAnswer(invocation -> {
+          invocation.<Runnable>getArgument(3).run();
+          return true;
+        });
+
+    service.rebuildStatsOnSchedule();
+
+    verify(taskDailyStatsRepository).rebuildProject(1L);
+  }
+
+  @Test
+  void rebuildStatsOnSchedule_shouldSkipWhenAnotherNodeHoldsTheLock() {
+    when(scheduledJobLock.runExclusively(eq("task-daily-stats-rebuild"), any(Duration.class), any(Duration.class), any(Runnable.class)))
+        .thenReturn(false);
+
+    service.rebuildStatsOnSchedule();
+
+    verify(taskDailyStatsRepository, never()).rebuildProject(anyLong());
+  }
+}
@@ -13,9 +13,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
-import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -33,7 +33,9 @@ import com.example.taskmanagerproject.entities.users.User;
 import com.example.taskmanagerproject.exceptions.ImageProcessingException;
 import com.example.taskmanagerproject.exceptions.ResourceNotFoundException;
 import com.example.taskmanagerproject.repositories.TaskRepository;
+import com.example.taskmanagerproject.services.AchievementStatsService;
 import com.example.taskmanagerproject.services.ImageService;
+import com.example.taskmanagerproject.services.OutboxService;
 import com.example.taskmanagerproject.services.UserService;
 import com.example.taskmanagerproject.utils.factories.TaskFactory;
 import com.example.taskmanagerproject.utils.mappers.TaskMapper;
@@ -46,6 +48,7 @@ import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -55,7 +58,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 
 class TaskServiceImplTest {
 
@@ -72,7 +74,7 @@ class TaskServiceImplTest {
   private TaskValidator taskValidator;
 
   @Mock
-  private KafkaTemplate<String, KafkaTaskCompletionDto> kafkaTemplate;
+  private OutboxService outboxService;
 
   @Mock
   private UserService userService;
@@ -80,11 +82,12 @@ class TaskServiceImplTest {
   @Mock
   private ImageService imageService;
 
+  @Mock
+  private AchievementStatsService achievementStatsService;
+
   @InjectMocks
   private TaskServiceImpl taskService;
 
-  private static final String ACHIEVEMENT_TOPIC = "achievement-topic";
-
   private Pageable pageable;
 
   private Task task;
@@ -185,10 +188,52 @@ class TaskServiceImplTest {
     verify(task).setTaskStatus(status);
     verify(task).setPriority(HIGH);
     verify(task).setExpirationDate(expirationDate);
-    verify(task).setApprovedAt(any(LocalDateTime.class));
-    verify(kafkaTemplate).send(eq(ACHIEVEMENT_TOPIC), any(KafkaTaskCompletionDto.class));
+    verify(task, never()).setApprovedAt(any());
+    verify(outboxService).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
+    InOrder order = inOrder(achievementStatsService);
+    order.verify(achievementStatsService).removeApprovedTask(task);
+    order.verify(achievementStatsService).recordApprovedTask(task);
+  }
+
+  @Test
+  void updateTask_shouldRecordAchievementStatsWhenTaskBecomesApproved() {
+    when(task.getTaskStatus()).thenReturn(TaskStatus.IN_PROGRESS, APPROVED);
+    doNothing().when(taskValidator).validateTaskDto(taskDto);
+    when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+    when(taskRepository.save(task)).thenReturn(task);
+    TaskDto result = taskService.updateTask(taskDto, taskId);
+    assertEquals(taskDto, result);
+    verify(outboxService).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
+    verify(achievementStatsService, never()).removeApprovedTask(task);
+    verify(achievementStatsService).recordApprovedTask(task);
+  }
+
+  @Test
+  void updateTask_shouldKeepApprovalDateAndRecountWhenApprovedTaskKeepsItsStatus() {
+    when(taskDto.taskStatus()).thenReturn(null);
+    doNothing().when(taskValidator).validateTaskDto(taskDto);
+    when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+    when(taskRepository.save(task)).thenReturn(task);
+    taskService.updateTask(taskDto, taskId);
+    verify(task).setTaskStatus(APPROVED);
+    verify(task, never()).setApprovedAt(any());
+    InOrder order = inOrder(achievementStatsService);
+    order.verify(achievementStatsService).removeApprovedTask(task);
+    order.verify(achievementStatsService).recordApprovedTask(task);
+  }
+
+  @Test
+  void updateTask_shouldRemoveAchievementStatsWhenTaskLeavesApproved() {
+    when(taskDto.taskStatus()).thenReturn(TaskStatus.IN_PROGRESS);
+    when(task.getTaskStatus()).thenReturn(APPROVED, TaskStatus.IN_PROGRESS);
+    doNothing().when(taskValidator).validateTaskDto(taskDto);
+    when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+    when(taskRepository.save(task)).thenReturn(task);
+    taskService.updateTask(taskDto, taskId);
+    verify(achievementStatsService).removeApprovedTask(task);
+    verify(achievementStatsService, never()).recordApprovedTask(task);
   }
 
   @Test
@@ -208,8 +253,8 @@ class TaskServiceImplTest {
     verify(task).setTaskStatus(TaskStatus.IN_PROGRESS);
     verify(task).setPriority(HIGH);
     verify(task).setExpirationDate(expirationDate);
-    verify(task).setApprovedAt(null);
-    verify(kafkaTemplate, never()).send(anyString(), any(KafkaTaskCompletionDto.class));
+    verify(task, never()).setApprovedAt(any());
+    verify(outboxService, never()).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
   }
@@ -230,8 +275,8 @@ class TaskServiceImplTest {
     verify(task).setDescription(description);
     verify(task).setPriority(HIGH);
     verify(task).setExpirationDate(expirationDate);
-    verify(task).setApprovedAt(null);
-    verify(kafkaTemplate, never()).send(anyString(), any(KafkaTaskCompletionDto.class));
+    verify(task, never()).setApprovedAt(any());
+    verify(outboxService, never()).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
   }
@@ -253,8 +298,8 @@ class TaskServiceImplTest {
     verify(task).setTaskStatus(status);
     verify(task).setPriority(HIGH);
     verify(task).setExpirationDate(expirationDate);
-    verify(task).setApprovedAt(any(LocalDateTime.class));
-    verify(kafkaTemplate).send(eq(ACHIEVEMENT_TOPIC), any(KafkaTaskCompletionDto.class));
+    verify(task, never()).setApprovedAt(any());
+    verify(outboxService).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
   }
@@ -267,7 +312,7 @@ class TaskServiceImplTest {
     assertEquals(TASK_NOT_FOUND_WITH_ID + taskId, exception.getMessage());
     verify(taskValidator).validateTaskDto(taskDto);
     verify(taskRepository).findById(taskId);
-    verifyNoInteractions(kafkaTemplate);
+    verifyNoInteractions(outboxService);
   }
 
   @Test
@@ -276,7 +321,7 @@ class TaskServiceImplTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(taskDto, taskId));
     assertEquals("Invalid task title", exception.getMessage());
     verify(taskValidator).validateTaskDto(taskDto);
-    verifyNoInteractions(taskRepository, kafkaTemplate);
+    verifyNoInteractions(taskRepository, outboxService);
   }
 
   @Test
@@ -293,8 +338,8 @@ class TaskServiceImplTest {
     verify(task).setTaskStatus(status);
     verify(task).setPriority(HIGH);
     verify(task).setExpirationDate(expirationDate);
-    verify(task).setApprovedAt(any(LocalDateTime.class));
-    verify(kafkaTemplate).send(eq(ACHIEVEMENT_TOPIC), any(KafkaTaskCompletionDto.class));
+    verify(task, never()).setApprovedAt(any());
+    verify(outboxService).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
     verify(taskRepository).save(task);
   }
 
@@ -315,8 +360,8 @@ class TaskServiceImplTest {
     verify(task).setTaskStatus(status);
     verify(task).setPriority(HIGH);
     verify(task).setExpirationDate(expirationDate);
-    verify(task).setApprovedAt(any(LocalDateTime.class));
-    verify(kafkaTemplate).send(eq(ACHIEVEMENT_TOPIC), any(KafkaTaskCompletionDto.class));
+    verify(task, never()).setApprovedAt(any());
+    verify(outboxService).enqueueAchievementEvent(any(KafkaTaskCompletionDto.class));
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
   }
@@ -333,7 +378,7 @@ class TaskServiceImplTest {
     verify(taskFactory).createTaskFromDto(taskDto);
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
-    verifyNoInteractions(kafkaTemplate);
+    verifyNoInteractions(outboxService);
   }
 
   @Test
@@ -342,7 +387,7 @@ class TaskServiceImplTest {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> taskService.createTaskForUser(taskDto));
     assertEquals("Invalid task title", exception.getMessage());
     verify(taskValidator).validateTaskDto(taskDto);
-    verifyNoInteractions(taskFactory, taskRepository, kafkaTemplate);
+    verifyNoInteractions(taskFactory, taskRepository, outboxService);
   }
 
   @Test
@@ -355,7 +400,7 @@ class TaskServiceImplTest {
     verify(taskValidator).validateTaskDto(taskDto);
     verify(taskFactory).createTaskFromDto(taskDto);
     verify(taskRepository).save(task);
-    verifyNoInteractions(kafkaTemplate);
+    verifyNoInteractions(outboxService);
   }
 
   @Test
@@ -372,7 +417,7 @@ class TaskServiceImplTest {
     verify(taskFactory).createTaskFromDto(taskDto);
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
-    verifyNoInteractions(kafkaTemplate);
+    verifyNoInteractions(outboxService);
   }
 
   @Test
@@ -388,7 +433,7 @@ class TaskServiceImplTest {
     verify(taskFactory).createTaskFromDto(taskDto);
     verify(taskRepository).save(task);
     verify(taskMapper).toDto(task);
-    verifyNoInteractions(kafkaTemplate);
+    verifyNoInteractions(outboxService);
   }
 
   @Test
@@ -397,8 +442,10 @@ class TaskServiceImplTest {
     doNothing().when(taskRepository).delete(task);
     taskService.deleteTaskById(taskId);
     verify(taskRepository).findById(taskId);
-    verify(taskRepository).delete(task);
-    verifyNoInteractions(taskMapper, kafkaTemplate);
+    InOrder order = inOrder(achievementStatsService, taskRepository);
+    order.verify(achievementStatsService).removeApprovedTask(task);
+    order.verify(taskRepository).delete(task);
+    verifyNoInteractions(taskMapper, outboxService);
   }
 
   @Test
@@ -407,7 +454,7 @@ class TaskServiceImplTest {
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTaskById(taskId));
     assertEquals(TASK_NOT_FOUND_WITH_ID + taskId, exception.getMessage());
     verify(taskRepository).findById(taskId);
-    verifyNoInteractions(taskMapper, kafkaTemplate);
+    verifyNoInteractions(taskMapper, outboxService);
   }
 
   @Test
@@ -416,7 +463,7 @@ class TaskServiceImplTest {
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTaskById(0L));
     assertEquals(TASK_NOT_FOUND_WITH_ID + 0L, exception.getMessage());
     verify(taskRepository).findById(0L);
-    verifyNoInteractions(taskMapper, kafkaTemplate);
+    verifyNoInteractions(taskMapper, outboxService);
   }
 
   @Test
@@ -425,7 +472,7 @@ class TaskServiceImplTest {
     ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTaskById(-1L));
     assertEquals(TASK_NOT_FOUND_WITH_ID + -1L, exception.getMessage());
     verify(taskRepository).findById(-1L);
-    verifyNoInteractions(taskMapper, kafkaTemplate);
+    verifyNoInteractions(taskMapper, outboxService);
   }
 
   @Test
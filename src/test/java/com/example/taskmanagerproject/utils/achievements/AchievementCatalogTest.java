@@ -0,0 +1,63 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.BUCKETS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.entities.achievements.Achievement;
+import com.example.taskmanagerproject.repositories.AchievementRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AchievementCatalogTest {
+
+  private AchievementRepository achievementRepository;
+  private AchievementCatalog catalog;
+
+  @BeforeEach
+  void setUp() {
+    achievementRepository = mock(AchievementRepository.class);
+    catalog = new AchievementCatalog(achievementRepository, new AchievementRuleRegistry());
+    when(achievementRepository.findAll()).thenReturn(List.of(
+        achievement(1L, "Task Warrior"),
+        achievement(2L, "Unknown Achievement"),
+        achievement(3L, "First Milestone")
+    ));
+  }
+
+  @Test
+  void getEntries_shouldBindRulesAndOrderByCost() {
+    List<AchievementCatalog.Entry> entries = catalog.getEntries();
+
+    assertEquals(List.of("First Milestone", "Task Warrior"), entries.stream().map(AchievementCatalog.Entry::title).toList());
+    assertEquals(BUCKETS, entries.get(1).rule().costliestData());
+  }
+
+  @Test
+  void getEntries_shouldLoadOnlyOnce() {
+    catalog.getEntries();
+    catalog.getEntries();
+
+    verify(achievementRepository, times(1)).findAll();
+  }
+
+  @Test
+  void invalidate_shouldReloadOnNextUse() {
+    catalog.getEntries();
+    catalog.invalidate();
+    catalog.getEntries();
+
+    verify(achievementRepository, times(2)).findAll();
+  }
+
+  private static Achievement achievement(Long id, String title) {
+    Achievement achievement = new Achievement();
+    achievement.setId(id);
+    achievement.setTitle(title);
+    return achievement;
+  }
+}
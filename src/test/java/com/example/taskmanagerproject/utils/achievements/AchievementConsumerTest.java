@@ -0,0 +1,115 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.services.AchievementRetryService;
+import com.example.taskmanagerproject.utils.factories.AchievementFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AchievementConsumerTest {
+
+  @Mock
+  private AchievementFactory achievementFactory;
+
+  @Mock
+  private ProcessedEventStore processedEventStore;
+
+  @Mock
+  private AchievementRetryService achievementRetryService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AchievementConsumer consumer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    consumer = new AchievementConsumer(achievementFactory, processedEventStore, achievementRetryService, meterRegistry);
+  }
+
+  @Test
+  void processTaskCompletions_shouldEvaluateEachUserTeamProjectOnce() {
+    var first = event(1L, 1L, 2L, 3L);
+    var second = event(2L, 1L, 2L, 3L);
+    var otherProject = event(3L, 1L, 2L, 4L);
+    var otherUser = event(4L, 5L, 2L, 3L);
+    when(processedEventStore.findProcessed(anyCollection())).thenReturn(Set.of());
+
+    consumer.processTaskCompletions(List.of(first, second, otherProject, otherUser));
+
+    verify(achievementFactory).evaluateAchievements(second);
+    verify(achievementFactory).evaluateAchievements(otherProject);
+    verify(achievementFactory).evaluateAchievements(otherUser);
+    verifyNoMoreInteractions(achievementFactory);
+    assertEquals(4.0, meterRegistry.counter("achievement.events.received").count());
+    assertEquals(3.0, meterRegistry.counter("achievement.events.evaluated").count());
+    assertEquals(4.0 / 3.0, meterRegistry.summary("achievement.events.coalescing.ratio").mean(), 1e-9);
+    verify(processedEventStore).markProcessed(Set.of(first.eventId(), second.eventId(), otherProject.eventId(), otherUser.eventId()));
+  }
+
+  @Test
+  void processTaskCompletions_shouldDropProcessedEvents() {
+    var replayed = event(1L, 1L, 2L, 3L);
+    var fresh = event(2L, 5L, 2L, 3L);
+    when(processedEventStore.findProcessed(Set.of(replayed.eventId(), fresh.eventId()))).thenReturn(Set.of(replayed.eventId()));
+
+    consumer.processTaskCompletions(List.of(replayed, fresh));
+
+    verify(achievementFactory, never()).evaluateAchievements(replayed);
+    verify(achievementFactory).evaluateAchievements(fresh);
+    verify(processedEventStore).markProcessed(Set.of(fresh.eventId()));
+    assertEquals(1.0, meterRegistry.counter("achievement.events.duplicates").count());
+  }
+
+  @Test
+  void processTaskCompletions_shouldScheduleRetryForFailedEvaluationsOnly() {
+    var failing = event(1L, 1L, 2L, 3L);
+    var succeeding = event(2L, 5L, 2L, 3L);
+    when(processedEventStore.findProcessed(anyCollection())).thenReturn(Set.of());
+    doThrow(new IllegalStateException("database down")).when(achievementFactory).evaluateAchievements(failing);
+
+    consumer.processTaskCompletions(List.of(failing, succeeding));
+
+    verify(achievementFactory).evaluateAchievements(succeeding);
+    verify(achievementRetryService).scheduleRetry(List.of(failing));
+    verify(processedEventStore).markProcessed(Set.of(failing.eventId(), succeeding.eventId()));
+  }
+
+  @Test
+  void processTaskCompletions_shouldEvaluateEventsWithoutId() {
+    var legacy = new KafkaTaskCompletionDto(1L, 1L, 2L, 3L, null);
+
+    consumer.processTaskCompletions(List.of(legacy));
+
+    verify(achievementFactory).evaluateAchievements(legacy);
+    verify(processedEventStore, never()).findProcessed(anyCollection());
+  }
+
+  @Test
+  void processTaskCompletions_shouldIgnoreEmptyBatch() {
+    consumer.processTaskCompletions(List.of());
+
+    verifyNoInteractions(achievementFactory);
+    assertEquals(0, meterRegistry.summary("achievement.events.coalescing.ratio").count());
+  }
+
+  private static KafkaTaskCompletionDto event(Long taskId, Long userId, Long teamId, Long projectId) {
+    return new KafkaTaskCompletionDto(taskId, userId, teamId, projectId, UUID.randomUUID());
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementRetryConsumer.ACHIEVEMENT_DLT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import com.example.taskmanagerproject.utils.factories.AchievementFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AchievementRetryConsumerTest {
+
+  @Mock
+  private AchievementFactory achievementFactory;
+
+  private final KafkaTaskCompletionDto event = new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, UUID.randomUUID());
+
+  private SimpleMeterRegistry meterRegistry;
+  private AchievementRetryConsumer consumer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    consumer = new AchievementRetryConsumer(achievementFactory, meterRegistry);
+  }
+
+  @Test
+  void retryTaskCompletion_shouldCountRecoveredEvent() {
+    consumer.retryTaskCompletion(event);
+
+    verify(achievementFactory).evaluateAchievements(event);
+    assertEquals(1.0, meterRegistry.counter("achievement.events.retries").count());
+    assertEquals(1.0, meterRegistry.counter("achievement.events.recovered").count());
+  }
+
+  @Test
+  void retryTaskCompletion_shouldRethrowSoEventMovesToNextRetryTopic() {
+    doThrow(new IllegalStateException("database down")).when(achievementFactory).evaluateAchievements(event);
+
+    assertThrows(IllegalStateException.class, () -> consumer.retryTaskCompletion(event));
+    assertEquals(1.0, meterRegistry.counter("achievement.events.retries").count());
+    assertEquals(0.0, meterRegistry.counter("achievement.events.recovered").count());
+  }
+
+  @Test
+  void handleDeadLetter_shouldCountDeadLetteredEvent() {
+    consumer.handleDeadLetter(event, ACHIEVEMENT_DLT);
+
+    assertEquals(1.0, meterRegistry.counter("achievement.events.dead.lettered").count());
+  }
+}
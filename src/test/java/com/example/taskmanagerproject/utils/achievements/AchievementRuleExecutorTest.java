@@ -0,0 +1,180 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.BUCKETS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.COUNTERS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.HISTORY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementEvaluationProperties;
+import com.example.taskmanagerproject.entities.achievements.UserAchievementStats;
+import com.example.taskmanagerproject.entities.tasks.Task;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AchievementRuleExecutorTest {
+
+  private final AchievementRule dailyRule = AchievementRule.threshold("Daily", 5, AchievementEvaluationContext::maxApprovedPerDay, BUCKETS);
+  private final AchievementRule rejectionRule = AchievementRule.threshold("Rejection", 10, AchievementEvaluationContext::cancelledCount, HISTORY);
+  private final AchievementRule milestoneRule = AchievementRule.of("Milestone", 100, context -> true);
+
+  private ExecutorService executorService;
+  private AchievementEvaluationProperties properties;
+  private AchievementEvaluationContext context;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(4);
+    properties = new AchievementEvaluationProperties();
+    context = mock(AchievementEvaluationContext.class);
+    when(context.approvedCount()).thenReturn(20L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void findUnlocked_shouldEvaluateOnCallingThreadWhenSequential() {
+    ExecutorService unusedExecutor = mock(ExecutorService.class);
+    when(context.maxApprovedPerDay()).thenReturn(6L);
+    when(context.cancelledCount()).thenReturn(3L);
+
+    var executor = new AchievementRuleExecutor(unusedExecutor, properties);
+    Set<String> unlocked = executor.findUnlocked(context, List.of(dailyRule, rejectionRule, milestoneRule));
+
+    assertEquals(Set.of("Daily"), unlocked);
+    verifyNoInteractions(unusedExecutor);
+  }
+
+  @Test
+  void findUnlocked_shouldPrefetchThenEvaluateOnCallingThreadWhenParallel() {
+    properties.setParallel(true);
+    when(context.prefetch(eq(EnumSet.of(COUNTERS, BUCKETS, HISTORY)), any(Executor.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    when(context.maxApprovedPerDay()).thenReturn(6L);
+    when(context.cancelledCount()).thenReturn(12L);
+
+    var executor = new AchievementRuleExecutor(executorService, properties);
+    Set<String> unlocked = executor.findUnlocked(context, List.of(dailyRule, rejectionRule, milestoneRule));
+
+    assertEquals(Set.of("Daily", "Rejection"), unlocked);
+  }
+
+  @Test
+  void findUnlocked_shouldFailWhenDataIsNotLoadedInTime() {
+    properties.setParallel(true);
+    properties.setTimeout(Duration.ofMillis(200));
+    when(context.prefetch(any(), any(Executor.class))).thenReturn(new CompletableFuture<>());
+
+    var executor = new AchievementRuleExecutor(executorService, properties);
+
+    assertThrows(IllegalStateException.class, () -> executor.findUnlocked(context, List.of(dailyRule, rejectionRule)));
+    verify(context, never()).maxApprovedPerDay();
+  }
+
+  @Test
+  void findUnlocked_shouldPrefetchOnlyForApplicableRules() {
+    properties.setParallel(true);
+    var expensiveRule = AchievementRule.threshold("Expensive", 50, AchievementEvaluationContext::cancelledCount, HISTORY);
+    when(context.prefetch(eq(EnumSet.of(COUNTERS, BUCKETS)), any(Executor.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    when(context.maxApprovedPerDay()).thenReturn(6L);
+
+    var executor = new AchievementRuleExecutor(executorService, properties);
+    Set<String> unlocked = executor.findUnlocked(context, List.of(dailyRule, expensiveRule));
+
+    assertEquals(Set.of("Daily"), unlocked);
+    verify(context, never()).cancelledCount();
+  }
+
+  @Test
+  void findUnlocked_shouldLoadIndependentSlicesConcurrentlyWhenParallel() {
+    properties.setParallel(true);
+    CountDownLatch allLoading = new CountDownLatch(2);
+    var loader = new BlockingLoader(allLoading);
+    var tasksRule = AchievementRule.of("Tasks", 1, ctx -> ctx.approvedInLast30DaysCount() == 0, AchievementData.TASKS);
+
+    var executor = new AchievementRuleExecutor(executorService, properties);
+    Set<String> unlocked = executor.findUnlocked(
+        new AchievementEvaluationContext(loader, loader), List.of(rejectionRule, tasksRule));
+
+    assertEquals(Set.of("Tasks"), unlocked);
+    assertTrue(loader.concurrent);
+  }
+
+  /**
+   * Loads the tasks and the task history only once both loads have started.
+   */
+  private static final class BlockingLoader implements AchievementDataLoader, AchievementCounterLoader {
+
+    private final CountDownLatch allLoading;
+    private volatile boolean concurrent = true;
+
+    private BlockingLoader(CountDownLatch allLoading) {
+      this.allLoading = allLoading;
+    }
+
+    @Override
+    public Optional<UserAchievementStats> loadStats() {
+      return Optional.of(UserAchievementStats.builder().approvedCount(20).build());
+    }
+
+    @Override
+    public long loadMaxDailyApprovedCount() {
+      return 0;
+    }
+
+    @Override
+    public long loadMaxMonthlyCriticalCount() {
+      return 0;
+    }
+
+    @Override
+    public List<Task> loadApprovedTasks() {
+      awaitOtherLoads();
+      return List.of();
+    }
+
+    @Override
+    public Set<Long> loadCancelledTaskIds() {
+      awaitOtherLoads();
+      return Set.of();
+    }
+
+    @Override
+    public Set<Long> loadCommentedTaskIds() {
+      return Set.of();
+    }
+
+    private void awaitOtherLoads() {
+      allLoading.countDown();
+      try {
+        concurrent &= allLoading.await(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
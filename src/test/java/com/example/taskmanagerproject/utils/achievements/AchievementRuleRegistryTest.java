@@ -0,0 +1,64 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.BUCKETS;
+import static com.example.taskmanagerproject.utils.achievements.AchievementData.COUNTERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AchievementRuleRegistryTest {
+
+  private final AchievementRuleRegistry registry = new AchievementRuleRegistry();
+
+  @Test
+  void findRule_shouldBindEverySeededAchievement() {
+    List.of(
+      "First Milestone", "Second Milestone", "Third Milestone", "Master of Tasks", "Legendary Contributor",
+      "Consistent Closer", "Deadline Crusher", "Critical Thinker", "Stability Savior", "Task Warrior",
+      "Rejection Survivor", "Bug Slayer", "Code Doctor", "Bug Bounty Hunter", "Quality Champion",
+      "Time Wizard", "On-Time Achiever", "Deadline Hero", "Last-Minute Savior", "Team Player",
+      "Long-Term Strategist", "Marathon Worker", "Task Champion"
+    ).forEach(title -> assertTrue(registry.findRule(title).isPresent(), title));
+    assertEquals(23, registry.getRules().size());
+  }
+
+  @Test
+  void findRule_shouldReturnEmptyForUnknownAchievement() {
+    assertTrue(registry.findRule("Unknown Achievement").isEmpty());
+  }
+
+  @Test
+  void thresholdRule_shouldDeclareThresholdAsPrecondition() {
+    var rule = registry.findRule("Task Warrior").orElseThrow();
+
+    assertEquals(5, rule.minApprovedTasks());
+    assertEquals(Set.of(COUNTERS, BUCKETS), rule.requiredData());
+    assertEquals(BUCKETS, rule.costliestData());
+  }
+
+  @Test
+  void isUnlocked_shouldNotReadMetricWhenPreconditionFails() {
+    var context = mock(AchievementEvaluationContext.class);
+    when(context.approvedCount()).thenReturn(4L);
+
+    assertFalse(registry.findRule("Task Warrior").orElseThrow().isUnlocked(context));
+    verify(context, never()).maxApprovedPerDay();
+  }
+
+  @Test
+  void isUnlocked_shouldReadMetricWhenPreconditionHolds() {
+    var context = mock(AchievementEvaluationContext.class);
+    when(context.approvedCount()).thenReturn(40L);
+    when(context.criticalCount()).thenReturn(40L);
+
+    assertTrue(registry.findRule("Stability Savior").orElseThrow().isUnlocked(context));
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementCacheProperties;
+import com.example.taskmanagerproject.repositories.AchievementsUsersRepository;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EarnedAchievementCacheTest {
+
+  private AchievementsUsersRepository achievementsUsersRepository;
+  private EarnedAchievementCache cache;
+
+  @BeforeEach
+  void setUp() {
+    achievementsUsersRepository = mock(AchievementsUsersRepository.class);
+    AchievementCacheProperties properties = new AchievementCacheProperties();
+    properties.setMaxCachedUsers(2);
+    cache = new EarnedAchievementCache(achievementsUsersRepository, properties);
+  }
+
+  @Test
+  void getEarned_shouldLoadOnceAndReturnCopies() {
+    when(achievementsUsersRepository.findAchievementIdsByUserId(1L)).thenReturn(List.of(3L));
+
+    BitSet first = cache.getEarned(1L);
+    first.set(7);
+    BitSet second = cache.getEarned(1L);
+
+    assertTrue(second.get(3));
+    assertFalse(second.get(7));
+    verify(achievementsUsersRepository, times(1)).findAchievementIdsByUserId(1L);
+  }
+
+  @Test
+  void markEarned_shouldUpdateCachedUser() {
+    when(achievementsUsersRepository.findAchievementIdsByUserId(1L)).thenReturn(List.of());
+
+    cache.getEarned(1L);
+    cache.markEarned(1L, 5L);
+
+    assertTrue(cache.getEarned(1L).get(5));
+  }
+
+  @Test
+  void getEarned_shouldEvictLeastRecentlyUsedUser() {
+    when(achievementsUsersRepository.findAchievementIdsByUserId(1L)).thenReturn(List.of());
+    when(achievementsUsersRepository.findAchievementIdsByUserId(2L)).thenReturn(List.of());
+    when(achievementsUsersRepository.findAchievementIdsByUserId(3L)).thenReturn(List.of());
+
+    cache.getEarned(1L);
+    cache.getEarned(2L);
+    cache.getEarned(1L);
+    cache.getEarned(3L);
+    cache.getEarned(1L);
+    cache.getEarned(2L);
+
+    verify(achievementsUsersRepository, times(1)).findAchievementIdsByUserId(1L);
+    verify(achievementsUsersRepository, times(2)).findAchievementIdsByUserId(2L);
+  }
+
+  @Test
+  void invalidateAll_shouldReloadUsers() {
+    when(achievementsUsersRepository.findAchievementIdsByUserId(1L)).thenReturn(List.of());
+
+    cache.getEarned(1L);
+    cache.invalidateAll();
+    cache.getEarned(1L);
+
+    verify(achievementsUsersRepository, times(2)).findAchievementIdsByUserId(1L);
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanagerproject.utils.achievements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.achievements.AchievementDeduplicationProperties;
+import com.example.taskmanagerproject.repositories.ProcessedEventRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessedEventStoreTest {
+
+  private final UUID processedEvent = UUID.randomUUID();
+  private final UUID newEvent = UUID.randomUUID();
+
+  private ProcessedEventRepository processedEventRepository;
+  private ProcessedEventStore store;
+
+  @BeforeEach
+  void setUp() {
+    processedEventRepository = mock(ProcessedEventRepository.class);
+    store = new ProcessedEventStore(processedEventRepository, new AchievementDeduplicationProperties());
+  }
+
+  @Test
+  void findProcessed_shouldQueryOnlyEventsMissingFromCache() {
+    store.markProcessed(List.of(processedEvent));
+    when(processedEventRepository.findProcessed(List.of(newEvent))).thenReturn(Set.of());
+
+    Set<UUID> processed = store.findProcessed(List.of(processedEvent, newEvent));
+
+    assertEquals(Set.of(processedEvent), processed);
+    verify(processedEventRepository).findProcessed(List.of(newEvent));
+  }
+
+  @Test
+  void findProcessed_shouldCacheEventsFoundInDatabase() {
+    when(processedEventRepository.findProcessed(List.of(processedEvent))).thenReturn(Set.of(processedEvent));
+
+    store.findProcessed(List.of(processedEvent));
+    Set<UUID> processed = store.findProcessed(List.of(processedEvent));
+
+    assertEquals(Set.of(processedEvent), processed);
+    verify(processedEventRepository).findProcessed(List.of(processedEvent));
+    verifyNoMoreInteractions(processedEventRepository);
+  }
+
+  @Test
+  void deleteExpired_shouldDeleteEventsOlderThanRetention() {
+    store.deleteExpired();
+
+    verify(processedEventRepository).deleteProcessedBefore(any(LocalDateTime.class));
+  }
+}
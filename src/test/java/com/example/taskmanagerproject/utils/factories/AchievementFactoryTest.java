@@ -1,29 +1,34 @@
 package com.example.taskmanagerproject.utils.factories;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.taskmanagerproject.configurations.achievements.AchievementEvaluationProperties;
 import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
-import com.example.taskmanagerproject.entities.achievements.AchievementsUsers;
-import com.example.taskmanagerproject.entities.projects.Project;
-import com.example.taskmanagerproject.entities.teams.Team;
-import com.example.taskmanagerproject.entities.users.User;
-import com.example.taskmanagerproject.repositories.AchievementRepository;
 import com.example.taskmanagerproject.repositories.AchievementsUsersRepository;
 import com.example.taskmanagerproject.repositories.ProjectRepository;
 import com.example.taskmanagerproject.repositories.TeamRepository;
 import com.example.taskmanagerproject.repositories.UserRepository;
 import com.example.taskmanagerproject.services.AchievementMetricsService;
+import com.example.taskmanagerproject.utils.achievements.AchievementCatalog;
+import com.example.taskmanagerproject.utils.achievements.AchievementEvaluationContext;
+import com.example.taskmanagerproject.utils.achievements.AchievementRuleExecutor;
+import com.example.taskmanagerproject.utils.achievements.AchievementRuleRegistry;
+import com.example.taskmanagerproject.utils.achievements.EarnedAchievementCache;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,36 +43,36 @@ class AchievementFactoryTest {
   @Mock
   private ProjectRepository projectRepository;
 
-  @Mock
-  private AchievementRepository achievementRepository;
-
   @Mock
   private AchievementMetricsService achievementMetricsService;
 
   @Mock
   private AchievementsUsersRepository achievementsUsersRepository;
 
+  @Mock
+  private AchievementEvaluationContext evaluationContext;
+
+  @Mock
+  private AchievementCatalog achievementCatalog;
+
+  @Mock
+  private EarnedAchievementCache earnedAchievementCache;
+
+  @Spy
+  private AchievementRuleExecutor achievementRuleExecutor =
+      new AchievementRuleExecutor(mock(ExecutorService.class), new AchievementEvaluationProperties());
+
   @InjectMocks
   private AchievementFactory achievementFactory;
 
-  private User user;
-  private Team team;
-  private Project project;
   private Achievement achievement;
   private KafkaTaskCompletionDto event;
 
+  private final AchievementRuleRegistry achievementRuleRegistry = new AchievementRuleRegistry();
+
   @BeforeEach
   void setUp() {
-    event = new KafkaTaskCompletionDto(1L, 1L, 1L, 1L);
-
-    user = new User();
-    user.setId(1L);
-
-    team = new Team();
-    team.setId(1L);
-
-    project = new Project();
-    project.setId(1L);
+    event = new KafkaTaskCompletionDto(1L, 1L, 1L, 1L, UUID.randomUUID());
 
     achievement = new Achievement();
     achievement.setId(1L);
@@ -76,99 +81,139 @@ class AchievementFactoryTest {
 
   @Test
   void evaluateAchievements_shouldDoNothingIfUserNotFound() {
-    when(userRepository.findById(1L)).thenReturn(Optional.empty());
+    when(userRepository.existsById(1L)).thenReturn(false);
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository, never()).save(any());
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
   }
 
   @Test
   void evaluateAchievements_shouldDoNothingIfTeamNotFound() {
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(teamRepository.findById(1L)).thenReturn(Optional.empty());
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(false);
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository, never()).save(any());
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
   }
 
   @Test
   void evaluateAchievements_shouldDoNothingIfProjectNotFound() {
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
-    when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(false);
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository, never()).save(any());
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
   }
 
   @Test
   void evaluateAchievements_shouldAwardFirstMilestone() {
-    AchievementsUsers existingAchievement = new AchievementsUsers();
-    existingAchievement.setAchievement(new Achievement());
-    existingAchievement.getAchievement().setTitle("Other Achievement");
-
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
-    when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-    when(achievementsUsersRepository.findAllByUserId(1L)).thenReturn(List.of(existingAchievement));
-    when(achievementRepository.findAll()).thenReturn(List.of(achievement));
-    when(achievementMetricsService.countApprovedTasks(event)).thenReturn(10L);
-    when(achievementsUsersRepository.existsByUserIdAndTeamIdAndProjectIdAndAchievementId(1L, 1L, 1L, 1L)).thenReturn(false);
+    BitSet earned = new BitSet();
+    earned.set(2);
+
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(earnedAchievementCache.getEarned(1L)).thenReturn(earned);
+    when(achievementCatalog.getEntries()).thenReturn(List.of(catalogEntry()));
+    when(achievementMetricsService.createEvaluationContext(event)).thenReturn(evaluationContext);
+    when(evaluationContext.approvedCount()).thenReturn(10L);
+    when(achievementsUsersRepository.insertIfAbsent(1L, 1L, 1L, 1L)).thenReturn(1);
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository).save(any(AchievementsUsers.class));
+    verify(achievementsUsersRepository).insertIfAbsent(1L, 1L, 1L, 1L);
+    verify(earnedAchievementCache).markEarned(1L, 1L);
   }
 
   @Test
   void evaluateAchievements_shouldNotAwardIfAlreadyAwarded() {
-    AchievementsUsers existingAchievement = new AchievementsUsers();
-    existingAchievement.setAchievement(achievement);
+    BitSet earned = new BitSet();
+    earned.set(1);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
-    when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-    when(achievementsUsersRepository.findAllByUserId(1L)).thenReturn(List.of(existingAchievement));
-    when(achievementRepository.findAll()).thenReturn(List.of(achievement));
-    when(achievementMetricsService.countApprovedTasks(event)).thenReturn(10L);
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(earnedAchievementCache.getEarned(1L)).thenReturn(earned);
+    when(achievementCatalog.getEntries()).thenReturn(List.of(catalogEntry()));
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository, never()).save(any());
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
+    verify(achievementMetricsService, never()).createEvaluationContext(any());
+  }
+
+  @Test
+  void evaluateAchievements_shouldNotReadEarnedAchievementsFromDatabase() {
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(earnedAchievementCache.getEarned(1L)).thenReturn(new BitSet());
+    when(achievementCatalog.getEntries()).thenReturn(List.of(catalogEntry()));
+    when(achievementMetricsService.createEvaluationContext(event)).thenReturn(evaluationContext);
+    when(evaluationContext.approvedCount()).thenReturn(1L);
+
+    achievementFactory.evaluateAchievements(event);
+
+    verify(achievementsUsersRepository, never()).findAllByUserId(any());
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
   }
 
   @Test
   void evaluateAchievements_shouldAwardTaskWarrior() {
     achievement.setTitle("Task Warrior");
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
-    when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-    when(achievementsUsersRepository.findAllByUserId(1L)).thenReturn(List.of());
-    when(achievementRepository.findAll()).thenReturn(List.of(achievement));
-    when(achievementMetricsService.hasApprovedTasksDaily(event)).thenReturn(true);
-    when(achievementsUsersRepository.existsByUserIdAndTeamIdAndProjectIdAndAchievementId(1L, 1L, 1L, 1L)).thenReturn(false);
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(earnedAchievementCache.getEarned(1L)).thenReturn(new BitSet());
+    when(achievementCatalog.getEntries()).thenReturn(List.of(catalogEntry()));
+    when(achievementMetricsService.createEvaluationContext(event)).thenReturn(evaluationContext);
+    when(evaluationContext.approvedCount()).thenReturn(5L);
+    when(evaluationContext.maxApprovedPerDay()).thenReturn(5L);
+    when(achievementsUsersRepository.insertIfAbsent(1L, 1L, 1L, 1L)).thenReturn(1);
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository).save(any(AchievementsUsers.class));
+    verify(achievementsUsersRepository).insertIfAbsent(1L, 1L, 1L, 1L);
   }
 
   @Test
-  void evaluateAchievements_shouldNotAwardUnknownAchievement() {
-    achievement.setTitle("Unknown Achievement");
+  void evaluateAchievements_shouldNotAwardWhenCatalogIsEmpty() {
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(earnedAchievementCache.getEarned(1L)).thenReturn(new BitSet());
+    when(achievementCatalog.getEntries()).thenReturn(List.of());
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-    when(teamRepository.findById(1L)).thenReturn(Optional.of(team));
-    when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-    when(achievementsUsersRepository.findAllByUserId(1L)).thenReturn(List.of());
-    when(achievementRepository.findAll()).thenReturn(List.of(achievement));
+    achievementFactory.evaluateAchievements(event);
+
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
+    verify(achievementMetricsService, never()).createEvaluationContext(any());
+  }
+
+  @Test
+  void evaluateAchievements_shouldSkipRuleWhenPreconditionFails() {
+    achievement.setTitle("Code Doctor");
+
+    when(userRepository.existsById(1L)).thenReturn(true);
+    when(teamRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(earnedAchievementCache.getEarned(1L)).thenReturn(new BitSet());
+    when(achievementCatalog.getEntries()).thenReturn(List.of(catalogEntry()));
+    when(achievementMetricsService.createEvaluationContext(event)).thenReturn(evaluationContext);
+    when(evaluationContext.approvedCount()).thenReturn(50L);
 
     achievementFactory.evaluateAchievements(event);
 
-    verify(achievementsUsersRepository, never()).save(any());
+    verify(evaluationContext, never()).commentedCount();
+    verify(achievementsUsersRepository, never()).insertIfAbsent(any(), any(), any(), any());
+  }
+
+  private AchievementCatalog.Entry catalogEntry() {
+    return AchievementCatalog.Entry.of(achievement, achievementRuleRegistry.findRule(achievement.getTitle()).orElseThrow());
   }
-}
\ No newline at end of file
+}
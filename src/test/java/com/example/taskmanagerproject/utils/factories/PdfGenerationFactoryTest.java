@@ -1,6 +1,7 @@
 package com.example.taskmanagerproject.utils.factories;
 
 import static com.example.taskmanagerproject.utils.MessageUtil.TEMPLATE_LOAD_ERROR;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -8,12 +9,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.xhtmlrenderer.pdf.ITextRenderer;
 
 class PdfGenerationFactoryTest {
 
@@ -68,4 +73,20 @@ class PdfGenerationFactoryTest {
     // Purpose: Ensure robustness and integration sanity for well-formed inputs.
     assertDoesNotThrow(() -> PdfGenerationFactory.generatePdfFromHtml("<html><body><p>Test</p></body></html>"), "PDF generation should not throw for well-formed HTML input");
   }
+
+  @Test
+  void writePdf_shouldWritePdfAndLeaveStreamOpen() {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    OutputStream outputStream = new FilterOutputStream(target) {
+      @Override
+      public void close() {
+        throw new IllegalStateException("The stream must stay open");
+      }
+    };
+
+    var document = PdfGenerationFactory.parseHtml("<html><body><p>Stream</p></body></html>");
+    PdfGenerationFactory.writePdf(new ITextRenderer(), document, outputStream);
+
+    assertEquals("%PDF-", new String(target.toByteArray(), 0, 5, US_ASCII));
+  }
 }
@@ -0,0 +1,93 @@
+package com.example.taskmanagerproject.utils.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.kafka.support.mapping.AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME;
+
+import com.example.taskmanagerproject.dtos.tasks.KafkaTaskCompletionDto;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+class BinaryEventSerializerTest {
+
+  private static final String TOPIC = "achievement-topic";
+
+  private final BinaryEventSerializer serializer = new BinaryEventSerializer();
+  private final BinaryEventDeserializer deserializer = new BinaryEventDeserializer();
+
+  @Test
+  void serialize_shouldRoundTripTaskCompletionEvent() {
+    var event = new KafkaTaskCompletionDto(98765L, 12345L, 5678L, 91011L, UUID.randomUUID());
+
+    byte[] payload = serializer.serialize(TOPIC, event);
+
+    assertEquals(51, payload.length);
+    assertEquals(event, deserializer.deserialize(TOPIC, payload));
+  }
+
+  @Test
+  void serialize_shouldPreserveNullIdentifiers() {
+    var event = new KafkaTaskCompletionDto(1L, null, 0L, null, null);
+
+    assertEquals(event, deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event)));
+  }
+
+  @Test
+  void deserialize_shouldReadRecordsWithoutEventId() {
+    byte[] payload = serializer.serialize(TOPIC, new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, UUID.randomUUID()));
+    byte[] legacy = Arrays.copyOf(payload, 35);
+
+    assertEquals(new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, null), deserializer.deserialize(TOPIC, legacy));
+  }
+
+  @Test
+  void serialize_shouldRejectEventWithoutCodec() {
+    assertThrows(SerializationException.class, () -> serializer.serialize(TOPIC, "not an event"));
+  }
+
+  @Test
+  void deserialize_shouldRejectUnknownFormatVersion() {
+    byte[] payload = serializer.serialize(TOPIC, new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, null));
+    payload[0] = 42;
+
+    assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, payload));
+  }
+
+  @Test
+  void deserialize_shouldRejectTruncatedPayload() {
+    byte[] payload = serializer.serialize(TOPIC, new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, null));
+    byte[] truncated = Arrays.copyOf(payload, 10);
+
+    assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, truncated));
+  }
+
+  @Test
+  void deserialize_shouldFallBackToJsonForLegacyRecords() {
+    deserializer.configure(Map.of(JsonDeserializer.VALUE_DEFAULT_TYPE, KafkaTaskCompletionDto.class.getName()), false);
+    byte[] payload = "{\"taskId\":1,\"userId\":2,\"teamId\":3,\"projectId\":4}".getBytes(UTF_8);
+
+    assertEquals(new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, null), deserializer.deserialize(TOPIC, payload));
+  }
+
+  @Test
+  void deserialize_shouldTrustTaskEventTypeHeaderOfLegacyRecords() {
+    deserializer.configure(Map.of(), false);
+    var headers = new RecordHeaders();
+    headers.add(DEFAULT_CLASSID_FIELD_NAME, KafkaTaskCompletionDto.class.getName().getBytes(UTF_8));
+    byte[] payload = "{\"taskId\":1,\"userId\":2,\"teamId\":3,\"projectId\":4}".getBytes(UTF_8);
+
+    assertEquals(new KafkaTaskCompletionDto(1L, 2L, 3L, 4L, null), deserializer.deserialize(TOPIC, headers, payload));
+  }
+
+  @Test
+  void deserialize_shouldReturnNullForTombstone() {
+    assertNull(deserializer.deserialize(TOPIC, null));
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static com.example.taskmanagerproject.utils.reports.SeriesGranularity.DAY;
+import static com.example.taskmanagerproject.utils.reports.SeriesGranularity.MONTH;
+import static com.example.taskmanagerproject.utils.reports.SeriesGranularity.WEEK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagerproject.dtos.reports.CompletionRate;
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompletionRateSeriesTest {
+
+  @Test
+  void shouldFillDaysWithoutTasksWithZero() {
+    List<CompletionRate> rows = List.of(new CompletionRate(LocalDate.of(2025, 1, 2), 50.0));
+
+    List<ProgressMetrics> series = CompletionRateSeries.fill(rows, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), DAY);
+
+    assertEquals(List.of(
+        new ProgressMetrics("2025-01-01", 0.0),
+        new ProgressMetrics("2025-01-02", 50.0),
+        new ProgressMetrics("2025-01-03", 0.0)
+    ), series);
+  }
+
+  @Test
+  void shouldStartWeeksOnMonday() {
+    List<CompletionRate> rows = List.of(new CompletionRate(LocalDate.of(2025, 1, 6), 100.0));
+
+    List<ProgressMetrics> series = CompletionRateSeries.fill(rows, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 13), WEEK);
+
+    assertEquals(List.of(
+        new ProgressMetrics("2024-12-30", 0.0),
+        new ProgressMetrics("2025-01-06", 100.0),
+        new ProgressMetrics("2025-01-13", 0.0)
+    ), series);
+  }
+
+  @Test
+  void shouldFillConsecutiveBucketsFromOrderedRows() {
+    List<CompletionRate> rows = List.of(
+        new CompletionRate(LocalDate.of(2025, 1, 1), 25.0),
+        new CompletionRate(LocalDate.of(2025, 1, 2), 75.0)
+    );
+
+    List<ProgressMetrics> series = CompletionRateSeries.fill(rows, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2), DAY);
+
+    assertEquals(List.of(new ProgressMetrics("2025-01-01", 25.0), new ProgressMetrics("2025-01-02", 75.0)), series);
+  }
+
+  @Test
+  void shouldLabelMonthsAcrossYears() {
+    List<ProgressMetrics> series = CompletionRateSeries.fill(List.of(), LocalDate.of(2024, 11, 15), LocalDate.of(2025, 2, 10), MONTH);
+
+    assertEquals(List.of("2024-Nov", "2024-Dec", "2025-Jan", "2025-Feb"), series.stream().map(ProgressMetrics::label).toList());
+    assertTrue(series.stream().allMatch(point -> point.taskCompletionRate() == 0.0));
+  }
+
+  @Test
+  void shouldReturnEmptyWhenRangeEndsBeforeItStarts() {
+    assertTrue(CompletionRateSeries.fill(List.of(), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), MONTH).isEmpty());
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.taskmanagerproject.dtos.reports.MetricsFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MetricsWriterTest {
+
+  private static final List<String> COLUMNS = List.of("user_name", "all_tasks", "task_completion_rate", "bucket");
+
+  private static final List<Object[]> ROWS = List.of(
+      new Object[]{"Alice, \"Ace\" Smith", 10L, new BigDecimal("80.00"), Date.valueOf("2025-01-06")},
+      new Object[]{"Bob", 0L, null, Date.valueOf("2025-01-13")}
+  );
+
+  @Test
+  void shouldWriteCsvWithHeaderAndEscapedFields() throws IOException {
+    assertEquals("""
+        user_name,all_tasks,task_completion_rate,bucket\r
+        "Alice, ""Ace"" Smith",10,80.00,2025-01-06\r
+        Bob,0,,2025-01-13\r
+        """, write(MetricsFormat.CSV, ROWS));
+  }
+
+  @Test
+  void shouldWriteJsonArrayOfObjects() throws IOException {
+    assertEquals("[{\"user_name\":\"Alice, \\\"Ace\\\" Smith\",\"all_tasks\":10,\"task_completion_rate\":80.00,\"bucket\":\"2025-01-06\"},"
+        + "{\"user_name\":\"Bob\",\"all_tasks\":0,\"task_completion_rate\":null,\"bucket\":\"2025-01-13\"}]",
+        write(MetricsFormat.JSON, ROWS));
+  }
+
+  @Test
+  void shouldWriteOneJsonObjectPerLine() throws IOException {
+    assertEquals("{\"user_name\":\"Alice, \\\"Ace\\\" Smith\",\"all_tasks\":10,\"task_completion_rate\":80.00,\"bucket\":\"2025-01-06\"}\n"
+        + "{\"user_name\":\"Bob\",\"all_tasks\":0,\"task_completion_rate\":null,\"bucket\":\"2025-01-13\"}\n",
+        write(MetricsFormat.NDJSON, ROWS));
+  }
+
+  @Test
+  void shouldWriteEmptyDocumentsWithoutRows() throws IOException {
+    assertEquals("user_name,all_tasks,task_completion_rate,bucket\r\n", write(MetricsFormat.CSV, List.of()));
+    assertEquals("[]", write(MetricsFormat.JSON, List.of()));
+    assertEquals("", write(MetricsFormat.NDJSON, List.of()));
+  }
+
+  private static String write(MetricsFormat format, List<Object[]> rows) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    MetricsWriter writer = MetricsWriter.create(format, outputStream);
+    writer.writeColumns(COLUMNS);
+    for (Object[] row : rows) {
+      writer.writeRow(row);
+    }
+    writer.finish();
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+}
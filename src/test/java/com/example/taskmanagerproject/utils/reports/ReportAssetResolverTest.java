@@ -0,0 +1,137 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.configurations.minio.MinioProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportAssetProperties;
+import com.lowagie.text.Image;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+class ReportAssetResolverTest {
+
+  private static final String BUNDLED_ICON = "https://img.icons8.com/?id=7856";
+
+  private MinioClient minioClient;
+  private ReportAssetProperties assetProperties;
+  private ReportAssetResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    minioClient = mock(MinioClient.class);
+    MinioProperties minioProperties = new MinioProperties();
+    minioProperties.setBucket("images");
+    assetProperties = new ReportAssetProperties();
+    resolver = new ReportAssetResolver(minioClient, minioProperties, assetProperties);
+  }
+
+  @Test
+  void bundledLocation_shouldAppendSanitizedQueryToHostAndPath() {
+    assertEquals("report_assets/img.icons8.com/id_7856", ReportAssetResolver.bundledLocation(URI.create(BUNDLED_ICON)));
+    assertEquals("report_assets/img.icons8.com/id_40318_format_png",
+        ReportAssetResolver.bundledLocation(URI.create("https://img.icons8.com/?id=40318&format=png")));
+    assertEquals("report_assets/img.icons8.com/ios/452/star.png",
+        ReportAssetResolver.bundledLocation(URI.create("https://img.icons8.com/ios/452/star.png")));
+  }
+
+  @Test
+  void supports_shouldAcceptHttpUrlsOnly() {
+    assertTrue(resolver.supports("http://minio:9000/images/user.png"));
+    assertTrue(resolver.supports(BUNDLED_ICON));
+    assertFalse(resolver.supports("data:image/png;base64,AAAA"));
+    assertFalse(resolver.supports(null));
+  }
+
+  @Test
+  void getImage_shouldDecodeBundledIconOnceAndReturnCopies() {
+    Image first = resolver.getImage(BUNDLED_ICON);
+    Image second = resolver.getImage(BUNDLED_ICON);
+
+    assertNotNull(first);
+    assertNotSame(first, second);
+    assertEquals(2f, second.getPlainWidth());
+    verifyNoInteractions(minioClient);
+  }
+
+  @Test
+  void getBytes_shouldReadUserImagesFromMinioOnce() throws Exception {
+    byte[] content = {1, 2, 3};
+    mockMinioObject(content);
+
+    assertArrayEquals(content, resolver.getBytes("http://minio:9000/images/user.png"));
+    assertArrayEquals(content, resolver.getBytes("http://minio:9000/images/user.png"));
+
+    ArgumentCaptor<GetObjectArgs> args = ArgumentCaptor.forClass(GetObjectArgs.class);
+    verify(minioClient).getObject(args.capture());
+    assertEquals("images", args.getValue().bucket());
+    assertEquals("user.png", args.getValue().object());
+  }
+
+  @Test
+  void getBytes_shouldEvictLeastRecentlyUsedEntriesOverByteLimit() throws Exception {
+    assetProperties.setMaxCachedBytes(DataSize.ofBytes(5));
+    mockMinioObject(new byte[3]);
+
+    resolver.getBytes("http://minio:9000/images/a.png");
+    resolver.getBytes("http://minio:9000/images/b.png");
+    resolver.getBytes("http://minio:9000/images/b.png");
+    resolver.getBytes("http://minio:9000/images/a.png");
+
+    verify(minioClient, times(3)).getObject(any(GetObjectArgs.class));
+  }
+
+  @Test
+  void getBytes_shouldNotRetryFailedLoadWithinFailureTtl() throws Exception {
+    when(minioClient.getObject(any(GetObjectArgs.class))).thenThrow(new IllegalStateException("unreachable"));
+
+    assertNull(resolver.getBytes("http://minio:9000/images/missing.png"));
+    assertNull(resolver.getBytes("http://minio:9000/images/missing.png"));
+
+    verify(minioClient).getObject(any(GetObjectArgs.class));
+  }
+
+  @Test
+  void getBytes_shouldRetryFailedLoadOnceFailureTtlExpired() throws Exception {
+    assetProperties.setFailureTtl(Duration.ZERO);
+    when(minioClient.getObject(any(GetObjectArgs.class))).thenThrow(new IllegalStateException("unreachable"));
+
+    assertNull(resolver.getBytes("http://minio:9000/images/missing.png"));
+    assertNull(resolver.getBytes("http://minio:9000/images/missing.png"));
+
+    verify(minioClient, times(2)).getObject(any(GetObjectArgs.class));
+  }
+
+  @Test
+  void getImage_shouldReturnNullWhenContentIsNotAnImage() throws Exception {
+    mockMinioObject(new byte[]{1, 2, 3});
+
+    assertNull(resolver.getImage("http://minio:9000/images/broken.png"));
+  }
+
+  private void mockMinioObject(byte[] content) throws Exception {
+    when(minioClient.getObject(any(GetObjectArgs.class))).thenAnswer(invocation -> {
+      GetObjectResponse response = mock(GetObjectResponse.class);
+      when(response.readAllBytes()).thenReturn(content);
+      return response;
+    });
+  }
+}
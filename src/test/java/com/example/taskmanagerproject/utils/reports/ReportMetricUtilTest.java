@@ -29,19 +29,15 @@ class ReportMetricUtilTest {
   }
 
   @Test
-  void shouldCalculatePercentageWithStringInputs() {
-    double result = ReportMetricUtil.calculatePercentage("75", "100");
-    assertEquals(75.0, result, 0.001);
+  void shouldCalculatePercentageWithoutIntegerDivision() {
+    double result = ReportMetricUtil.calculatePercentage(1L, 3L);
+    assertEquals(33.333, result, 0.001);
   }
 
   @Test
-  void shouldThrowNumberFormatExceptionForInvalidNumerator() {
-    assertThrows(NumberFormatException.class, () -> ReportMetricUtil.calculatePercentage("invalid", 100));
-  }
-
-  @Test
-  void shouldThrowNumberFormatExceptionForInvalidDenominator() {
-    assertThrows(NumberFormatException.class, () -> ReportMetricUtil.calculatePercentage(100, "invalid"));
+  void shouldCalculatePercentageAboveOneHundred() {
+    double result = ReportMetricUtil.calculatePercentage(3L, 2L);
+    assertEquals(150.0, result, 0.001);
   }
 
   @Test
@@ -142,6 +138,12 @@ class ReportMetricUtilTest {
     assertEquals("0.0", result);
   }
 
+  @Test
+  void shouldFormatRateWithTwoDecimals() {
+    String result = ReportMetricUtil.formatRate(80.0);
+    assertEquals("80.00", result);
+  }
+
   @Test
   void shouldFormatDurationInHoursAndMinutes() {
     String result = ReportMetricUtil.formatDuration(125.5);
@@ -155,9 +157,9 @@ class ReportMetricUtilTest {
   }
 
   @Test
-  void shouldFormatDurationWithStringInput() {
-    String result = ReportMetricUtil.formatDuration("90");
-    assertEquals("1.0 hours, 30.0 minutes", result);
+  void shouldFormatDurationUnderOneHour() {
+    String result = ReportMetricUtil.formatDuration(45.0);
+    assertEquals("0.0 hours, 45.0 minutes", result);
   }
 
   @Test
@@ -196,11 +198,6 @@ class ReportMetricUtilTest {
     assertEquals("25.0 hours, 0.0 minutes", result);
   }
 
-  @Test
-  void shouldThrowNumberFormatExceptionForInvalidDuration() {
-    assertThrows(NumberFormatException.class, () -> ReportMetricUtil.formatDuration("invalid"));
-  }
-
   @Test
   void shouldFormatRoleNameWithUnderscores() {
     String result = ReportMetricUtil.formatRoleName("team_leader");
@@ -249,14 +246,9 @@ class ReportMetricUtilTest {
   }
 
   @Test
-  void shouldFormatChartDateWithObjectInput() {
-    String result = ReportMetricUtil.formatChartDate(new Object() {
-      @Override
-      public String toString() {
-        return "2025-06-24";
-      }
-    });
-    assertEquals("06-24", result);
+  void shouldFormatChartDateOfMonthLabel() {
+    String result = ReportMetricUtil.formatChartDate("2025-Jun");
+    assertEquals("Jun", result);
   }
 
   @Test
@@ -0,0 +1,68 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.example.taskmanagerproject.configurations.minio.MinioProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportAssetProperties;
+import com.example.taskmanagerproject.configurations.reports.ReportRenderingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReportRendererPoolTest {
+
+  private ReportStylesheets stylesheets;
+  private SimpleMeterRegistry meterRegistry;
+  private ReportRendererPool pool;
+  private String html;
+
+  @BeforeEach
+  void setUp() {
+    MinioProperties minioProperties = new MinioProperties();
+    minioProperties.setBucket("images");
+    var assetResolver = new ReportAssetResolver(mock(MinioClient.class), minioProperties, new ReportAssetProperties());
+    stylesheets = new ReportStylesheets();
+    meterRegistry = new SimpleMeterRegistry();
+    pool = new ReportRendererPool(assetResolver, stylesheets, new ReportRenderingProperties(), meterRegistry);
+    html = stylesheets.externalize("template.html",
+        "<html><head><style>p { font-size: 14px; color: #333333; }</style></head><body><p>Report</p></body></html>");
+  }
+
+  @Test
+  void writePdf_shouldRenderLinkedStylesheetsAndReuseRenderer() {
+    ByteArrayOutputStream first = new ByteArrayOutputStream();
+    ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+    pool.writePdf(html, first);
+    pool.writePdf(html, second);
+
+    assertTrue(first.toString(StandardCharsets.ISO_8859_1).startsWith("%PDF"));
+    assertTrue(second.toString(StandardCharsets.ISO_8859_1).startsWith("%PDF"));
+    assertEquals(1.0, meterRegistry.get("report.renderer.created").counter().count());
+    assertEquals(1.0, meterRegistry.get("report.renderer.idle").gauge().value());
+  }
+
+  @Test
+  void writePdf_shouldDiscardRendererWhenRenderFails() {
+    OutputStream failing = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Client went away");
+      }
+    };
+
+    assertThrows(RuntimeException.class, () -> pool.writePdf(html, failing));
+    assertEquals(0.0, meterRegistry.get("report.renderer.idle").gauge().value());
+
+    pool.writePdf(html, new ByteArrayOutputStream());
+    assertEquals(2.0, meterRegistry.get("report.renderer.created").counter().count());
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReportStylesheetsTest {
+
+  private static final Pattern LINK = Pattern.compile("<link rel=\"stylesheet\" type=\"text/css\" href=\"([^\"]+)\" />");
+
+  private ReportStylesheets stylesheets;
+
+  @BeforeEach
+  void setUp() {
+    stylesheets = new ReportStylesheets();
+  }
+
+  @Test
+  void externalize_shouldReplaceStyleElementsWithLinks() {
+    String source = "<head><style type=\"text/css\">p { color: red; }</style></head><body>{name}</body>";
+
+    String externalized = stylesheets.externalize("report_templates/user_performance_template.html", source);
+    Matcher link = LINK.matcher(externalized);
+
+    assertTrue(link.find());
+    assertTrue(link.group(1).startsWith("report-css:user_performance_template-0-"));
+    assertEquals("<head>" + link.group() + "</head><body>{name}</body>", externalized);
+    assertEquals("p { color: red; }", stylesheets.find(link.group(1)));
+    assertTrue(ReportStylesheets.isStylesheetUri(link.group(1)));
+  }
+
+  @Test
+  void externalize_shouldGiveChangedCssNewUri() {
+    String first = stylesheets.externalize("template.html", "<style>p { color: red; }</style>");
+    String second = stylesheets.externalize("template.html", "<style>p { color: blue; }</style>");
+
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  void externalize_shouldKeepSourcesWithoutStyleElements() {
+    assertEquals("<p>{name}</p>", stylesheets.externalize("template.html", "<p>{name}</p>"));
+  }
+
+  @Test
+  void find_shouldReturnNullForUnknownUris() {
+    assertNull(stylesheets.find("report-css:unknown.css"));
+    assertFalse(ReportStylesheets.isStylesheetUri("https://img.icons8.com/?id=7856"));
+  }
+}
@@ -3,14 +3,18 @@ package com.example.taskmanagerproject.utils.reports;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.anyDouble;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyList;
-import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
 import com.example.taskmanagerproject.dtos.reports.ReportData;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
+import com.example.taskmanagerproject.dtos.reports.TopPerformerMetrics;
+import com.example.taskmanagerproject.dtos.reports.UserMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
 import com.example.taskmanagerproject.entities.projects.Project;
 import com.example.taskmanagerproject.entities.roles.Role;
@@ -18,11 +22,9 @@ import com.example.taskmanagerproject.entities.teams.Team;
 import com.example.taskmanagerproject.entities.users.User;
 import com.example.taskmanagerproject.repositories.TeamUserRepository;
 import com.example.taskmanagerproject.services.ReportDataService;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -91,7 +93,7 @@ class ReportTemplateProcessorTest {
         + "{onTimeTasks}|{averageTaskDuration}|{bugFixesResolved}|{criticalTasksSolved}|{achievements}|"
         + "{taskCompletionProgress}|{bugFixProgress}|{criticalTaskResolution}|{onTimeApprovalRate}|{userLevelName}|"
         + "{performanceStars}";
-    Object[] metrics = new Object[]{null, null, "TEAM_LEADER", 100L, 80L, "80%", 60L, 50L, 40L, 30L, 20L, 7200.0};
+    UserMetrics metrics = new UserMetrics(1L, 1L, "TEAM_LEADER", 100L, 80L, 80.0, 60L, 50L, 40L, 30L, 20L, 7200.0, 1L);
     List<Achievement> achievements = List.of(new Achievement(101L, "Task Master", "Completed 100 tasks", null));
 
     when(reportDataService.fetchAchievements(user, team, project)).thenReturn(achievements);
@@ -103,16 +105,17 @@ class ReportTemplateProcessorTest {
     metricUtilMock.when(() -> ReportMetricUtil.getUserLevelName(4)).thenReturn("Elite");
     metricUtilMock.when(() -> ReportMetricUtil.formatRoleName("TEAM_LEADER")).thenReturn("Team Leader");
     metricUtilMock.when(() -> ReportMetricUtil.formatDuration(7200.0)).thenReturn("120.0 hours, 0.0 minutes");
+    metricUtilMock.when(() -> ReportMetricUtil.formatRate(80.0)).thenReturn("80.00");
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(80.0)).thenReturn("80.0");
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(75.0)).thenReturn("75.0");
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(66.67)).thenReturn("66.7");
     templateUtilMock.when(() -> ReportTemplateUtil.generateAchievementsHtml(achievements)).thenReturn("<div>Task Master</div>");
     templateUtilMock.when(() -> ReportTemplateUtil.generateStarsHtml(4)).thenReturn("★★★★☆");
 
-    String result = processor.populateUserPerformanceTemplate(template, reportData, metrics);
+    String result = processor.populateUserPerformanceTemplate(ReportTemplate.compile("test", template), reportData, metrics);
 
     String expected = "2025-06-01|2025-06-30|Test User|user@gmail.com|Team Leader|Test Team|"
-        + "Team Description|Test Project|Project Description|80/100|80%|60/80|120.0 hours, 0.0 minutes|40/50|20/30|"
+        + "Team Description|Test Project|Project Description|80/100|80.00|60/80|120.0 hours, 0.0 minutes|40/50|20/30|"
         + "<div>Task Master</div>|80.0|80.0|66.7|75.0|Elite|★★★★☆";
     assertEquals(expected, result);
   }
@@ -120,26 +123,27 @@ class ReportTemplateProcessorTest {
   @Test
   void shouldHandleEmptyAchievementsInUserPerformanceTemplate() {
     String template = "{achievements}";
-    Object[] metrics = new Object[]{null, null, "MEMBER", 100L, 80L, "80%", 60L, 50L, 40L, 30L, 20L, 7200.0};
+    UserMetrics metrics = new UserMetrics(1L, 1L, "MEMBER", 100L, 80L, 80.0, 60L, 50L, 40L, 30L, 20L, 7200.0, 1L);
 
     when(reportDataService.fetchAchievements(user, team, project)).thenReturn(Collections.emptyList());
     templateUtilMock.when(() -> ReportTemplateUtil.generateAchievementsHtml(anyList())).thenReturn("");
-    metricUtilMock.when(() -> ReportMetricUtil.calculatePercentage(any(), any())).thenReturn(0.0);
+    metricUtilMock.when(() -> ReportMetricUtil.calculatePercentage(anyLong(), anyLong())).thenReturn(0.0);
     metricUtilMock.when(() -> ReportMetricUtil.determineUserLevel(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(1);
     templateUtilMock.when(() -> ReportTemplateUtil.generateStarsHtml(1)).thenReturn("★☆☆☆☆");
     metricUtilMock.when(() -> ReportMetricUtil.getUserLevelName(1)).thenReturn("Beginner");
     metricUtilMock.when(() -> ReportMetricUtil.formatRoleName("MEMBER")).thenReturn("Member");
     metricUtilMock.when(() -> ReportMetricUtil.formatDuration(anyDouble())).thenReturn("0.0 hours, 0.0 minutes");
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(anyDouble())).thenReturn("0.0");
+    metricUtilMock.when(() -> ReportMetricUtil.formatRate(anyDouble())).thenReturn("0.00");
 
-    String result = processor.populateUserPerformanceTemplate(template, reportData, metrics);
+    String result = processor.populateUserPerformanceTemplate(ReportTemplate.compile("test", template), reportData, metrics);
     assertEquals("", result);
   }
 
   @Test
   void shouldThrowNullPointerExceptionForNullMetricsInUserPerformanceTemplate() {
     String template = "{tasksCompleted}";
-    assertThrows(NullPointerException.class, () -> processor.populateUserPerformanceTemplate(template, reportData, null));
+    assertThrows(NullPointerException.class, () -> processor.populateUserPerformanceTemplate(ReportTemplate.compile("test", template), reportData, null));
   }
 
   @Test
@@ -147,9 +151,9 @@ class ReportTemplateProcessorTest {
     String template = "{startDate}|{endDate}|{team_name}|{top1_name}|{top1_role}|"
         + "{top1_image}|{top1_tasks}|{top1_xp}|{top1_achievements}|{top2_name}|{top2_role}|{top2_image}|{top2_tasks}|"
         + "{top2_xp}|{top2_achievements}";
-    List<Object[]> metrics = List.of(
-      new Object[]{"User1", "user1.jpg", "TEAM_LEADER", 100L, 80L, new BigDecimal("90.0"), 5L},
-      new Object[]{"User2", "user2.jpg", "MEMBER", 50L, 40L, new BigDecimal("85.0"), 3L}
+    List<TopPerformerMetrics> metrics = List.of(
+      new TopPerformerMetrics("User1", "user1.jpg", "TEAM_LEADER", 100L, 80L, 90.0, 5L),
+      new TopPerformerMetrics("User2", "user2.jpg", "MEMBER", 50L, 40L, 85.0, 3L)
     );
 
     metricUtilMock.when(() -> ReportMetricUtil.formatRoleName("TEAM_LEADER")).thenReturn("Team Leader");
@@ -158,24 +162,30 @@ class ReportTemplateProcessorTest {
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(85.0)).thenReturn("85.0");
     templateUtilMock.when(() -> ReportTemplateUtil.generateImageUser("user1.jpg")).thenReturn("<img src='user1.jpg'/>");
     templateUtilMock.when(() -> ReportTemplateUtil.generateImageUser("user2.jpg")).thenReturn("<img src='user2.jpg'/>");
-    templateUtilMock.when(() -> ReportTemplateUtil.replacePlaceholders(any(String.class), anyMap())).thenAnswer(invocation -> {
-      String t = invocation.getArgument(0);
-      Map<String, String> p = invocation.getArgument(1);
-      for (Map.Entry<String, String> entry : p.entrySet()) {
-        t = t.replace(entry.getKey(), entry.getValue());
-      }
-      return t;
-    });
 
-    String result = processor.populateTopPerformersInTeamTemplate(template, reportData, metrics);
+    String result = processor.populateTopPerformersInTeamTemplate(ReportTemplate.compile("test", template), reportData, metrics);
 
     String expected = "2025-06-01|2025-06-30|Test Team|User1|Team Leader|<img src='user1.jpg'/>|80/100|90.0|5|User2|Member|<img src='user2.jpg'/>|40/50|85.0|3";
     assertEquals(expected, result);
   }
 
+  @Test
+  void shouldLeaveMissingRanksEmptyInTopPerformersInTeamTemplate() {
+    String template = "{team_name}|{top1_name}|{top2_name}|{top3_xp}";
+    List<TopPerformerMetrics> metrics = List.of(new TopPerformerMetrics("User1", "user1.jpg", "TEAM_LEADER", 100L, 80L, 90.0, 5L));
+
+    metricUtilMock.when(() -> ReportMetricUtil.formatRoleName("TEAM_LEADER")).thenReturn("Team Leader");
+    metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(90.0)).thenReturn("90.0");
+    templateUtilMock.when(() -> ReportTemplateUtil.generateImageUser("user1.jpg")).thenReturn("<img src='user1.jpg'/>");
+
+    String result = processor.populateTopPerformersInTeamTemplate(ReportTemplate.compile("test", template), reportData, metrics);
+
+    assertEquals("Test Team|User1||", result);
+  }
+
   @Test
   void shouldPopulateTaskProgressTemplate() {
-    final List<Object[]> metrics = List.<Object[]>of(new Object[]{"2025-06-01", 10L});
+    final List<ProgressMetrics> metrics = List.of(new ProgressMetrics("2025-06-01", 10.0));
 
     Role role = new Role();
     role.setName("TEAM_LEADER");
@@ -183,17 +193,9 @@ class ReportTemplateProcessorTest {
     when(teamUserRepository.findRoleByTeamNameAndUsername("Test Team", "user@gmail.com")).thenReturn(role);
     metricUtilMock.when(() -> ReportMetricUtil.formatRoleName("TEAM_LEADER")).thenReturn("Team Leader");
     templateUtilMock.when(() -> ReportTemplateUtil.generateChartHtml(metrics)).thenReturn("<div>Chart</div>");
-    templateUtilMock.when(() -> ReportTemplateUtil.replacePlaceholders(any(String.class), anyMap())).thenAnswer(invocation -> {
-      String t = invocation.getArgument(0);
-      Map<String, String> p = invocation.getArgument(1);
-      for (Map.Entry<String, String> entry : p.entrySet()) {
-        t = t.replace(entry.getKey(), entry.getValue());
-      }
-      return t;
-    });
 
     String template = "{startDate}|{endDate}|{teamName}|{projectName}|{fullName}|{email}|{role}|{chart_bars}";
-    String result = processor.populateTaskProgressTemplate(template, reportData, metrics);
+    String result = processor.populateTaskProgressTemplate(ReportTemplate.compile("test", template), reportData, metrics);
 
     String expected = "2025-06-01|2025-06-30|Test Team|Test Project|Test User|user@gmail.com|Team Leader|<div>Chart</div>";
     assertEquals(expected, result);
@@ -202,29 +204,23 @@ class ReportTemplateProcessorTest {
   @Test
   void shouldThrowNullPointerExceptionForNullRoleInTaskProgressTemplate() {
     String template = "{role}";
-    List<Object[]> metrics = List.<Object[]>of(new Object[]{"2025-06-01", 10L});
+    List<ProgressMetrics> metrics = List.of(new ProgressMetrics("2025-06-01", 10.0));
 
     when(teamUserRepository.findRoleByTeamNameAndUsername("Test Team", "user@gmail.com")).thenReturn(null);
 
-    assertThrows(NullPointerException.class, () -> processor.populateTaskProgressTemplate(template, reportData, metrics));
+    assertThrows(NullPointerException.class, () -> processor.populateTaskProgressTemplate(ReportTemplate.compile("test", template), reportData, metrics));
   }
 
   @Test
   void shouldPopulateTeamPerformanceTemplate() {
     String template = "{startDate}|{endDate}|{teamName}|{team_members}";
-    List<Object[]> metrics = List.<Object[]>of(new Object[]{"User1", "user1@gmail.com", "TEAM_LEADER", 80L, 100L});
+    List<TeamMemberMetrics> metrics = List.of(
+      new TeamMemberMetrics("User1", "user1.jpg", "TEAM_LEADER", 100L, 80L, 60L, 120.0, 80.0, 70.0, 90.0, 5L)
+    );
 
-    templateUtilMock.when(() -> ReportTemplateUtil.generateTeamMemberHtml(any(Object[].class))).thenReturn("<div>User1</div>");
-    templateUtilMock.when(() -> ReportTemplateUtil.replacePlaceholders(any(String.class), anyMap())).thenAnswer(invocation -> {
-      String t = invocation.getArgument(0);
-      Map<String, String> p = invocation.getArgument(1);
-      for (Map.Entry<String, String> entry : p.entrySet()) {
-        t = t.replace(entry.getKey(), entry.getValue());
-      }
-      return t;
-    });
+    templateUtilMock.when(() -> ReportTemplateUtil.generateTeamMemberHtml(any(TeamMemberMetrics.class))).thenReturn("<div>User1</div>");
 
-    String result = processor.populateTeamPerformanceTemplate(template, reportData, metrics);
+    String result = processor.populateTeamPerformanceTemplate(ReportTemplate.compile("test", template), reportData, metrics);
 
     String expected = "2025-06-01|2025-06-30|Test Team|<div>User1</div>";
     assertEquals(expected, result);
@@ -233,19 +229,11 @@ class ReportTemplateProcessorTest {
   @Test
   void shouldPopulateProjectPerformanceTemplate() {
     String template = "{startDate}|{endDate}|{projectName}|{project_data}";
-    List<Object[]> metrics = List.<Object[]>of(new Object[]{"User1", "user1@gmail.com", 80L, 100L});
+    List<ProjectTeamMetrics> metrics = List.of(new ProjectTeamMetrics("Team1", 5L, 100L, 80L, 60L, 30L, 20L, 50L, 40L));
 
     templateUtilMock.when(() -> ReportTemplateUtil.generateProjectMemberHtml(metrics)).thenReturn("<div>Project Data</div>");
-    templateUtilMock.when(() -> ReportTemplateUtil.replacePlaceholders(any(String.class), anyMap())).thenAnswer(invocation -> {
-      String t = invocation.getArgument(0);
-      Map<String, String> p = invocation.getArgument(1);
-      for (Map.Entry<String, String> entry : p.entrySet()) {
-        t = t.replace(entry.getKey(), entry.getValue());
-      }
-      return t;
-    });
 
-    String result = processor.populateProjectPerformanceTemplate(template, reportData, metrics);
+    String result = processor.populateProjectPerformanceTemplate(ReportTemplate.compile("test", template), reportData, metrics);
 
     String expected = "2025-06-01|2025-06-30|Test Project|<div>Project Data</div>";
     assertEquals(expected, result);
@@ -253,22 +241,10 @@ class ReportTemplateProcessorTest {
 
   @Test
   void shouldHandleEmptyMetricsInProjectPerformanceTemplate() {
-    List<Object[]> metrics = Collections.emptyList();
+    List<ProjectTeamMetrics> metrics = Collections.emptyList();
     templateUtilMock.when(() -> ReportTemplateUtil.generateProjectMemberHtml(metrics)).thenReturn("");
 
-    templateUtilMock.when(() ->
-      ReportTemplateUtil.replacePlaceholders(
-        eq("{projectName}"),
-        eq(Map.of(
-          "{startDate}", "2025-06-01",
-          "{endDate}", "2025-06-30",
-          "{projectName}", "Test Project",
-          "{project_data}", ""
-        ))
-      )
-    ).thenReturn("Test Project");
-
-    String result = processor.populateProjectPerformanceTemplate("{projectName}", reportData, metrics);
+    String result = processor.populateProjectPerformanceTemplate(ReportTemplate.compile("test", "{projectName}"), reportData, metrics);
     assertEquals("Test Project", result);
   }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.PROJECT_PERFORMANCE;
+import static com.example.taskmanagerproject.utils.reports.ReportTemplateType.TEAM_PERFORMANCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagerproject.configurations.reports.ReportTemplateProperties;
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReportTemplateRegistryTest {
+
+  private static final Map<String, String> PROJECT_VALUES = Map.of(
+      "startDate", "2025-06-01", "endDate", "2025-06-30", "projectName", "Test Project", "project_data", "<div/>"
+  );
+
+  private SimpleMeterRegistry meterRegistry;
+  private ReportTemplateProperties properties;
+  private ReportStylesheets stylesheets;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new ReportTemplateProperties();
+    stylesheets = new ReportStylesheets();
+  }
+
+  @Test
+  void get_shouldServePackagedTemplatesAndCountRenders() {
+    var registry = new ReportTemplateRegistry(properties, meterRegistry, stylesheets);
+
+    for (ReportTemplateType type : ReportTemplateType.values()) {
+      assertEquals(type.getPlaceholders(), registry.get(type).getPlaceholders());
+    }
+    ReportTemplate first = registry.get(TEAM_PERFORMANCE);
+
+    assertSame(first, registry.get(TEAM_PERFORMANCE));
+    assertEquals(3.0, meterRegistry.get("report.template.renders").tag("template", "team_performance").counter().count());
+    assertEquals(1.0, meterRegistry.get("report.template.renders").tag("template", "project_performance").counter().count());
+  }
+
+  @Test
+  void get_shouldLinkTemplateStylesheetsInsteadOfEmbeddingThem() {
+    var registry = new ReportTemplateRegistry(properties, meterRegistry, stylesheets);
+
+    String html = registry.get(PROJECT_PERFORMANCE).render(PROJECT_VALUES);
+    Matcher link = Pattern.compile("href=\"(report-css:[^\"]+)\"").matcher(html);
+
+    assertFalse(html.contains("<style"));
+    assertTrue(link.find());
+    assertTrue(stylesheets.find(link.group(1)).contains("font-family"));
+  }
+
+  @Test
+  void get_shouldReloadModifiedOverrideFile(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("project_performance_template.html");
+    Files.writeString(file, "{startDate}-{endDate}|{projectName}|{project_data}");
+    properties.setReloadDirectory(directory.toString());
+    var registry = new ReportTemplateRegistry(properties, meterRegistry, stylesheets);
+
+    assertEquals("2025-06-01-2025-06-30|Test Project|<div/>", registry.get(PROJECT_PERFORMANCE).render(PROJECT_VALUES));
+
+    Files.writeString(file, "<h1>{projectName}</h1>{project_data}{startDate}{endDate}");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+    assertEquals("<h1>Test Project</h1><div/>2025-06-012025-06-30", registry.get(PROJECT_PERFORMANCE).render(PROJECT_VALUES));
+  }
+
+  @Test
+  void get_shouldKeepPreviousTemplateWhenReloadedFileIsInvalid(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("project_performance_template.html");
+    Files.writeString(file, "{startDate}-{endDate}|{projectName}|{project_data}");
+    properties.setReloadDirectory(directory.toString());
+    var registry = new ReportTemplateRegistry(properties, meterRegistry, stylesheets);
+    ReportTemplate valid = registry.get(PROJECT_PERFORMANCE);
+
+    Files.writeString(file, "{startDate}|{projectNme}");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+    assertSame(valid, registry.get(PROJECT_PERFORMANCE));
+  }
+
+  @Test
+  void constructor_shouldFailOnInvalidOverrideFile(@TempDir Path directory) throws IOException {
+    Files.writeString(directory.resolve("team_performance_template.html"), "{teamName}");
+    properties.setReloadDirectory(directory.toString());
+
+    assertThrows(PdfGenerationException.class, () -> new ReportTemplateRegistry(properties, meterRegistry, stylesheets));
+  }
+}
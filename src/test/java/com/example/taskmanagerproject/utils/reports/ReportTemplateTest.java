@@ -0,0 +1,54 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.taskmanagerproject.exceptions.PdfGenerationException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ReportTemplateTest {
+
+  @Test
+  void compile_shouldKeepCssBracesAsLiterals() {
+    ReportTemplate template = ReportTemplate.compile("test", "<style>.a { color: red; }</style><p>{name}</p>{}{ name}");
+
+    assertEquals(Set.of("name"), template.getPlaceholders());
+    assertEquals("<style>.a { color: red; }</style><p>User1</p>{}{ name}", template.render(Map.of("name", "User1")));
+  }
+
+  @Test
+  void render_shouldReplaceRepeatedAndAdjacentPlaceholders() {
+    ReportTemplate template = ReportTemplate.compile("test", "{xp}% of {xp}%{name}{role}");
+
+    String result = template.render(Map.of("xp", "90.0", "name", "User1", "role", "Member", "unused", "ignored"));
+
+    assertEquals("90.0% of 90.0%User1Member", result);
+    assertEquals(List.of("xp", "name", "role"), List.copyOf(template.getPlaceholders()));
+  }
+
+  @Test
+  void render_shouldNotReplacePlaceholdersInsideValues() {
+    ReportTemplate template = ReportTemplate.compile("test", "{first}|{second}");
+
+    assertEquals("{second}|2", template.render(Map.of("first", "{second}", "second", "2")));
+  }
+
+  @Test
+  void render_shouldThrowWhenValueIsMissing() {
+    ReportTemplate template = ReportTemplate.compile("test", "Hello {name}!");
+
+    PdfGenerationException exception = assertThrows(PdfGenerationException.class, () -> template.render(Map.of()));
+    assertEquals("No value for placeholder {name} in template test.", exception.getMessage());
+  }
+
+  @Test
+  void compile_shouldRejectUnknownAndMissingPlaceholders() {
+    PdfGenerationException exception = assertThrows(PdfGenerationException.class,
+        () -> ReportTemplate.compile("test", "{name} {typo}", Set.of("name", "role")));
+
+    assertEquals("Template test has unknown placeholders [typo] and is missing placeholders [role].", exception.getMessage());
+  }
+}
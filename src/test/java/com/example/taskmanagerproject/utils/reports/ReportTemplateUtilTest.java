@@ -5,11 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mockStatic;
 
+import com.example.taskmanagerproject.dtos.reports.ProgressMetrics;
+import com.example.taskmanagerproject.dtos.reports.ProjectTeamMetrics;
+import com.example.taskmanagerproject.dtos.reports.TeamMemberMetrics;
 import com.example.taskmanagerproject.entities.achievements.Achievement;
-import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,10 +104,10 @@ class ReportTemplateUtilTest {
 
   @Test
   void shouldGenerateChartHtmlWithMetrics() {
-    List<Object[]> metrics = List.of(
-        new Object[]{"2025-06-01", 80.0},
-        new Object[]{"2025-06-02", 50.0},
-        new Object[]{"2025-06-03", 0.0}
+    List<ProgressMetrics> metrics = List.of(
+        new ProgressMetrics("2025-06-01", 80.0),
+        new ProgressMetrics("2025-06-02", 50.0),
+        new ProgressMetrics("2025-06-03", 0.0)
     );
     metricUtilMock.when(() -> ReportMetricUtil.formatChartDate("2025-06-01")).thenReturn("06-01");
     metricUtilMock.when(() -> ReportMetricUtil.formatChartDate("2025-06-02")).thenReturn("06-02");
@@ -138,7 +139,7 @@ class ReportTemplateUtilTest {
 
   @Test
   void shouldGenerateChartHtmlWithMultipleContainers() {
-    List<Object[]> metrics = Collections.nCopies(13, new Object[]{"2025-06-01", 50.0});
+    List<ProgressMetrics> metrics = Collections.nCopies(13, new ProgressMetrics("2025-06-01", 50.0));
     metricUtilMock.when(() -> ReportMetricUtil.formatChartDate("2025-06-01")).thenReturn("06-01");
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(50.0)).thenReturn("50.0");
 
@@ -149,10 +150,7 @@ class ReportTemplateUtilTest {
 
   @Test
   void shouldGenerateTeamMemberHtml() {
-    Object[] data = new Object[]{
-        "User1", "user1.jpg", "TEAM_LEADER", 100L, 80L, 60L, 7200.0,
-        new BigDecimal("80.0"), new BigDecimal("70.0"), new BigDecimal("90.0"), 5L
-    };
+    TeamMemberMetrics data = new TeamMemberMetrics("User1", "user1.jpg", "TEAM_LEADER", 100L, 80L, 60L, 7200.0, 80.0, 70.0, 90.0, 5L);
     metricUtilMock.when(() -> ReportMetricUtil.formatRoleName("TEAM_LEADER")).thenReturn("Team Leader");
     metricUtilMock.when(() -> ReportMetricUtil.formatDuration(7200.0)).thenReturn("120.0 hours, 0.0 minutes");
     metricUtilMock.when(() -> ReportMetricUtil.formatPercentage(80.0)).thenReturn("80.0");
@@ -211,9 +209,7 @@ class ReportTemplateUtilTest {
 
   @Test
   void shouldGenerateProjectMemberHtml() {
-    List<Object[]> memberData = List.<Object[]>of(
-      new Object[]{"User1", 5L, 100L, 80L, 60L, 30L, 20L, 50L, 40L}
-    );
+    List<ProjectTeamMetrics> memberData = List.of(new ProjectTeamMetrics("User1", 5L, 100L, 80L, 60L, 30L, 20L, 50L, 40L));
     String result = ReportTemplateUtil.generateProjectMemberHtml(memberData);
     String expected = """
         <tr>
@@ -237,26 +233,4 @@ class ReportTemplateUtilTest {
     String result = ReportTemplateUtil.generateProjectMemberHtml(Collections.emptyList());
     assertEquals("", result);
   }
-
-  @Test
-  void shouldReplacePlaceholders() {
-    String template = "Hello {name}, you are {role}!";
-    Map<String, String> placeholders = Map.of("{name}", "User1", "{role}", "Team Leader");
-    String result = ReportTemplateUtil.replacePlaceholders(template, placeholders);
-    assertEquals("Hello User1, you are Team Leader!", result);
-  }
-
-  @Test
-  void shouldHandleEmptyPlaceholders() {
-    String template = "Hello {name}!";
-    Map<String, String> placeholders = Collections.emptyMap();
-    String result = ReportTemplateUtil.replacePlaceholders(template, placeholders);
-    assertEquals("Hello {name}!", result);
-  }
-
-  @Test
-  void shouldHandleNullTemplateInReplacePlaceholders() {
-    Map<String, String> placeholders = Map.of("{name}", "User1");
-    assertThrows(NullPointerException.class, () -> ReportTemplateUtil.replacePlaceholders(null, placeholders));
-  }
-}
\ No newline at end of file
+}
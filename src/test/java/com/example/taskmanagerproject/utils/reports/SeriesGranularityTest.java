@@ -0,0 +1,38 @@
+package com.example.taskmanagerproject.utils.reports;
+
+import static com.example.taskmanagerproject.utils.reports.SeriesGranularity.DAY;
+import static com.example.taskmanagerproject.utils.reports.SeriesGranularity.MONTH;
+import static com.example.taskmanagerproject.utils.reports.SeriesGranularity.WEEK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class SeriesGranularityTest {
+
+  private final LocalDate start = LocalDate.of(2025, 1, 1);
+
+  @Test
+  void shouldChooseGranularityByRangeLength() {
+    assertEquals(DAY, SeriesGranularity.forRange(start, start));
+    assertEquals(DAY, SeriesGranularity.forRange(start, start.plusDays(31)));
+    assertEquals(WEEK, SeriesGranularity.forRange(start, start.plusDays(32)));
+    assertEquals(WEEK, SeriesGranularity.forRange(start, start.plusDays(91)));
+    assertEquals(MONTH, SeriesGranularity.forRange(start, start.plusDays(92)));
+  }
+
+  @Test
+  void shouldTruncateLikeDateTrunc() {
+    LocalDate sunday = LocalDate.of(2025, 3, 16);
+    assertEquals(sunday, DAY.truncate(sunday));
+    assertEquals(LocalDate.of(2025, 3, 10), WEEK.truncate(sunday));
+    assertEquals(LocalDate.of(2025, 3, 1), MONTH.truncate(sunday));
+  }
+
+  @Test
+  void shouldAdvanceToNextBucket() {
+    assertEquals(LocalDate.of(2025, 1, 2), DAY.next(start));
+    assertEquals(LocalDate.of(2025, 1, 8), WEEK.next(start));
+    assertEquals(LocalDate.of(2025, 2, 1), MONTH.next(start));
+  }
+}
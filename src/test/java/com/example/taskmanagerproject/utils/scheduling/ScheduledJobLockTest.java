@@ -0,0 +1,66 @@
+package com.example.taskmanagerproject.utils.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagerproject.repositories.ScheduledJobLockRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobLockTest {
+
+  private static final String JOB = "job";
+  private static final Duration AT_MOST = Duration.ofHours(1);
+  private static final Duration AT_LEAST = Duration.ofMinutes(5);
+
+  @Mock
+  private ScheduledJobLockRepository scheduledJobLockRepository;
+
+  @InjectMocks
+  private ScheduledJobLock scheduledJobLock;
+
+  @Test
+  void runExclusively_shouldRunAndReleaseWhenLockIsTaken() {
+    when(scheduledJobLockRepository.tryLock(eq(JOB), anyString(), eq(AT_MOST))).thenReturn(true);
+    AtomicBoolean ran = new AtomicBoolean();
+
+    assertTrue(scheduledJobLock.runExclusively(JOB, AT_MOST, AT_LEAST, () -> ran.set(true)));
+
+    assertTrue(ran.get());
+    verify(scheduledJobLockRepository).unlock(eq(JOB), anyString(), eq(AT_LEAST));
+  }
+
+  @Test
+  void runExclusively_shouldSkipWhenAnotherNodeHoldsTheLock() {
+    when(scheduledJobLockRepository.tryLock(eq(JOB), anyString(), eq(AT_MOST))).thenReturn(false);
+    AtomicBoolean ran = new AtomicBoolean();
+
+    assertFalse(scheduledJobLock.runExclusively(JOB, AT_MOST, AT_LEAST, () -> ran.set(true)));
+
+    assertFalse(ran.get());
+    verify(scheduledJobLockRepository, never()).unlock(anyString(), anyString(), eq(AT_LEAST));
+  }
+
+  @Test
+  void runExclusively_shouldReleaseWhenJobFails() {
+    when(scheduledJobLockRepository.tryLock(eq(JOB), anyString(), eq(AT_MOST))).thenReturn(true);
+
+    assertThrows(IllegalStateException.class, () -> scheduledJobLock.runExclusively(JOB, AT_MOST, AT_LEAST, () -> {
+      throw new IllegalStateException("Job failed");
+    }));
+
+    verify(scheduledJobLockRepository).unlock(eq(JOB), anyString(), eq(AT_LEAST));
+  }
+}